@@ -0,0 +1,61 @@
+-- Room tasks and items as entities (one-off, run by an operator, MySQL)
+--
+-- Tasks and items used to be element collections stored in room_checklist
+-- and room_inventory. The application now reads room_tasks and room_items,
+-- which Hibernate creates on the first start of the new version. Run this
+-- script once after that start, before rooms are edited, then restart the
+-- application so the spend totals are summed from the copied items.
+--
+-- The old tables are renamed, not dropped, and can be removed by hand once
+-- the copy has been checked.
+
+-- Step 1: Copy the rows. Rooms that already have rows in the new tables are
+-- skipped, so the step can be run again after an interruption.
+START TRANSACTION;
+
+-- Tasks keep their checklist order
+INSERT INTO room_tasks (room_id, position, task_name, task, date, completed, created_at, updated_at)
+SELECT c.room_id, c.checklist_key, c.task_name, c.task, c.date, c.completed, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM room_checklist c
+WHERE NOT EXISTS (SELECT 1 FROM room_tasks t WHERE t.room_id = c.room_id);
+
+-- The inventory was stored without an order column, so its order was never
+-- defined. Items are numbered by name and then by their other columns, so
+-- the same rows always get the same positions.
+INSERT INTO room_items (room_id, position, image_url, item_name, description, price, quantity, dimensions, link,
+        ordered, created_at, updated_at)
+SELECT i.room_id,
+        ROW_NUMBER() OVER (PARTITION BY i.room_id
+                ORDER BY i.item_name, i.description, i.link, i.dimensions, i.price, i.quantity, i.ordered,
+                        i.image_url) - 1,
+        i.image_url, i.item_name, i.description, i.price, i.quantity, i.dimensions, i.link, i.ordered,
+        CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM room_inventory i
+WHERE NOT EXISTS (SELECT 1 FROM room_items n WHERE n.room_id = i.room_id);
+
+-- The first start summed the spend totals before the items were copied.
+-- Clearing them for rooms with copied items, and for their projects, has
+-- the next start sum them again.
+UPDATE rooms r
+SET r.planned_cost = NULL, r.ordered_cost = NULL, r.item_count = NULL
+WHERE EXISTS (SELECT 1 FROM room_inventory i WHERE i.room_id = r.id);
+
+UPDATE projects p
+SET p.planned_cost = NULL, p.ordered_cost = NULL, p.item_count = NULL, p.over_budget = NULL
+WHERE EXISTS (SELECT 1 FROM rooms r WHERE r.project_id = p.id AND r.planned_cost IS NULL);
+
+COMMIT;
+
+-- Step 2: Check the copy. Both queries must return no rows before step 3.
+SELECT c.room_id, c.legacy, t.copied
+FROM (SELECT room_id, COUNT(*) AS legacy FROM room_checklist GROUP BY room_id) c
+LEFT JOIN (SELECT room_id, COUNT(*) AS copied FROM room_tasks GROUP BY room_id) t ON t.room_id = c.room_id
+WHERE t.copied IS NULL OR t.copied < c.legacy;
+
+SELECT i.room_id, i.legacy, n.copied
+FROM (SELECT room_id, COUNT(*) AS legacy FROM room_inventory GROUP BY room_id) i
+LEFT JOIN (SELECT room_id, COUNT(*) AS copied FROM room_items GROUP BY room_id) n ON n.room_id = i.room_id
+WHERE n.copied IS NULL OR n.copied < i.legacy;
+
+-- Step 3: Keep the old tables under a new name
+-- RENAME TABLE room_checklist TO room_checklist_legacy, room_inventory TO room_inventory_legacy;
@@ -2,23 +2,27 @@ package com.interiordesignplanner;
 
 import java.time.Instant;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
 /**
  * Provides shared properties for all entities. Stores the unique
- * identifier (long) and timestamps for creation and updates.
+ * identifier (long), timestamps for creation and updates and a version
+ * used for optimistic locking.
  * This entity is extended by Client, Project and Room entities
  * to help with consistent auditing and reduce repetetive code.
  */
@@ -44,4 +48,12 @@ public abstract class AbstractEntity {
     @LastModifiedDate
     private Instant updatedAt;
 
+    // Incremented on every update, a stale write fails instead of overwriting.
+    // Rows inserted outside JPA start at 0
+    @JsonIgnore
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
 }
@@ -0,0 +1,13 @@
+package com.interiordesignplanner;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * A page of a cursor listing and the cursor of the next page, which is
+ * null on the last page.
+ */
+@Schema(description = "Response body for a page of a cursor listing")
+public record CursorPage<T>(List<T> content, String next) {
+}
@@ -0,0 +1,164 @@
+package com.interiordesignplanner;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interiordesignplanner.exceptions.InvalidFilterException;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.RSQLParserException;
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.NoArgRSQLVisitorAdapter;
+import cz.jirutka.rsql.parser.ast.Node;
+import cz.jirutka.rsql.parser.ast.OrNode;
+import io.github.perplexhub.rsql.RSQLJPAPredicateConverter;
+import io.github.perplexhub.rsql.RSQLOperators;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * FilterSpecifications (Admin list filters)
+ *
+ * <p>
+ * Turns the RSQL filter of an admin listing into a JPA specification. Each
+ * entity lists the fields it can be filtered and sorted on, all of them
+ * backed by an index. A filter or sort on any other field, such as notes or
+ * a joined table, is rejected before a query is built, so it cannot scan
+ * the whole table.
+ * </p>
+ *
+ * <p>
+ * Dashboards send the same filters again and again, so each filter is
+ * parsed and checked once. Its specification, which builds the predicate
+ * from the parsed tree on every query, is kept in a size bounded cache
+ * keyed by entity and filter. Leading and trailing whitespace is ignored.
+ * </p>
+ */
+@Component
+public class FilterSpecifications {
+
+    // Parser for the operators the predicate converter supports
+    private static final RSQLParser PARSER = new RSQLParser(RSQLOperators.supportedOperators());
+
+    // Checked specifications per entity and filter
+    private final Cache<Key, Specification<?>> specifications;
+
+    public FilterSpecifications(MeterRegistry meterRegistry, @Value("${filter.cache.size:1000}") long cacheSize) {
+        specifications = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+
+        // Publishes hit, miss and eviction metrics as cache.* with cache=filters
+        CaffeineCacheMetrics.monitor(meterRegistry, specifications, "filters");
+    }
+
+    /**
+     * Returns the specification of an RSQL filter.
+     *
+     * @param entity the entity the filter is applied to
+     * @param filter the RSQL filter, or null for every row
+     * @param fields the fields the entity can be filtered on
+     * @throws InvalidFilterException if the filter uses any other field
+     * @return the specification, or null if there is no filter
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Specification<T> toSpecification(Class<T> entity, String filter, List<String> fields) {
+
+        if (filter == null || filter.isBlank()) {
+            return null;
+        }
+
+        // A rejected filter throws and is not cached
+        return (Specification<T>) specifications.get(new Key(entity, filter.strip()), key -> {
+            Node node = parse(key.filter());
+            check(selectors(node), fields);
+            return (Specification<T>) (root, query, builder) -> node
+                    .accept(new RSQLJPAPredicateConverter(builder, Map.of()), root);
+        });
+    }
+
+    /**
+     * Checks a listing is only sorted on the entity's fields.
+     *
+     * @param sort   the requested sort
+     * @param fields the fields the entity can be sorted on
+     * @throws InvalidFilterException if the sort uses any other field
+     */
+    public void checkSort(Sort sort, List<String> fields) {
+        for (Sort.Order order : sort) {
+            if (!fields.contains(order.getProperty())) {
+                throw new InvalidFilterException("Listing can be sorted by " + String.join(", ", fields));
+            }
+        }
+    }
+
+    // The parsed filter
+    static Node parse(String filter) {
+
+        try {
+            return PARSER.parse(filter);
+        } catch (RSQLParserException e) {
+            throw new InvalidFilterException("Filter is not valid");
+        }
+    }
+
+    // The fields a filter compares, in the order they appear
+    static Set<String> selectors(Node node) {
+        return node.accept(new SelectorVisitor());
+    }
+
+    private static void check(Set<String> selectors, List<String> fields) {
+
+        for (String selector : selectors) {
+            if (!fields.contains(selector)) {
+                throw new InvalidFilterException("Listing can be filtered by " + String.join(", ", fields));
+            }
+        }
+    }
+
+    private record Key(Class<?> entity, String filter) {
+    }
+
+    // Collects the selectors of every comparison in the tree
+    private static class SelectorVisitor extends NoArgRSQLVisitorAdapter<Set<String>> {
+
+        private final Set<String> selectors = new LinkedHashSet<>();
+
+        @Override
+        public Set<String> visit(AndNode node) {
+            return visitChildren(node);
+        }
+
+        @Override
+        public Set<String> visit(OrNode node) {
+            return visitChildren(node);
+        }
+
+        @Override
+        public Set<String> visit(ComparisonNode node) {
+            selectors.add(node.getSelector());
+            return selectors;
+        }
+
+        private Set<String> visitChildren(LogicalNode node) {
+            for (Node child : node) {
+                child.accept(this);
+            }
+            return selectors;
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.interiordesignplanner;
+
+import org.springframework.http.ETag;
+
+import com.interiordesignplanner.exceptions.PreconditionFailedException;
+import com.interiordesignplanner.exceptions.PreconditionRequiredException;
+
+/**
+ * IfMatch (Conditional writes)
+ *
+ * <p>
+ * Entity versions are sent as strong ETags, so a client can send the ETag
+ * it last read back in an If-Match header. A write is only applied if one
+ * of the listed tags, or "*", matches the current version. The comparison
+ * is strong, a weak tag never matches.
+ * </p>
+ *
+ * <p>
+ * Requests without an If-Match header are not checked, concurrent writes
+ * to the same row are still detected by the version column when they are
+ * flushed. Writes addressed by a list index have no stable identity, an
+ * index can point at another row after a delete, so they require the
+ * header.
+ * </p>
+ */
+public final class IfMatch {
+
+    private IfMatch() {
+    }
+
+    /**
+     * Checks the If-Match header against the entity's current version.
+     *
+     * @param ifMatch the If-Match header, or null if it was not sent
+     * @param version the entity's current version
+     * @throws PreconditionFailedException if no tag matches the version
+     */
+    public static void check(String ifMatch, Long version) {
+
+        if (ifMatch == null) {
+            return;
+        }
+
+        ETag current = ETag.create(String.valueOf(version));
+        for (ETag tag : ETag.parse(ifMatch)) {
+            if (tag.isWildcard() || tag.compare(current, true)) {
+                return;
+            }
+        }
+        throw new PreconditionFailedException("The resource was changed, the current version is " + version);
+    }
+
+    /**
+     * Checks an If-Match header was sent.
+     *
+     * @param ifMatch the If-Match header, or null if it was not sent
+     * @throws PreconditionRequiredException if the header is missing
+     */
+    public static void require(String ifMatch) {
+
+        if (ifMatch == null) {
+            throw new PreconditionRequiredException("An If-Match header with the current ETag is required");
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.interiordesignplanner;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+
+import com.interiordesignplanner.exceptions.InvalidCursorException;
+
+/**
+ * Keyset (Cursor position)
+ *
+ * <p>
+ * The sort order of a cursor listing and the sort key and id of the last
+ * row read. The next page is read with a seek on (sort key, id) from that
+ * row, so it does not matter how deep the page is. The id breaks ties
+ * between rows with the same sort key.
+ * </p>
+ *
+ * <p>
+ * The position is sent to the client as an opaque cursor and carries its
+ * own sort, so only the cursor is needed to continue a listing. A cursor
+ * that cannot be read, or names a property that cannot be sorted on, is
+ * rejected.
+ * </p>
+ */
+public final class Keyset {
+
+    // Sorted on when a listing does not ask for a sort
+    public static final String DEFAULT_PROPERTY = "createdAt";
+
+    private final String property;
+
+    private final Sort.Direction direction;
+
+    // Null before the first page
+    private final Long id;
+
+    // The last row's sort key as text, null if the row had none
+    private final String value;
+
+    private Keyset(String property, Sort.Direction direction, Long id, String value) {
+        this.property = property;
+        this.direction = direction;
+        this.id = id;
+        this.value = value;
+    }
+
+    /**
+     * Returns the position of a listing, from its cursor or from the start.
+     *
+     * @param sort       the requested sort, used when there is no cursor
+     * @param cursor     the cursor of the previous page, or null for the first
+     * @param properties the properties the listing can be sorted on
+     * @throws InvalidCursorException if the cursor or sort is not supported
+     * @return the position to read the page from
+     */
+    public static Keyset of(Sort sort, String cursor, List<String> properties) {
+        Keyset keyset = cursor != null ? decode(cursor) : first(sort);
+        if (!properties.contains(keyset.property)) {
+            throw new InvalidCursorException("Cursor listings can be sorted by " + String.join(", ", properties));
+        }
+        return keyset;
+    }
+
+    private static Keyset first(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return new Keyset(DEFAULT_PROPERTY, Sort.Direction.ASC, null, null);
+        }
+        if (sort.stream().count() > 1) {
+            throw new InvalidCursorException("Cursor listings are sorted by one property");
+        }
+        Sort.Order order = sort.iterator().next();
+        return new Keyset(order.getProperty(), order.getDirection(), null, null);
+    }
+
+    // property,direction,id[,value], the value is last as it may contain commas
+    private static Keyset decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",", 4);
+            if (parts.length < 3) {
+                throw new InvalidCursorException("Cursor is not valid");
+            }
+            return new Keyset(parts[0], Sort.Direction.fromString(parts[1]), Long.valueOf(parts[2]),
+                    parts.length == 4 ? parts[3] : null);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor is not valid");
+        }
+    }
+
+    /**
+     * Returns the cursor of the page after a row.
+     *
+     * @param value the row's sort key, or null
+     * @param id    the row's id
+     * @return the opaque cursor
+     */
+    public String after(Object value, Long id) {
+        String position = property + "," + direction + "," + id + (value == null ? "" : "," + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the last row's sort key as the property's type.
+     *
+     * @param type the type of the sort property
+     * @throws InvalidCursorException if the key cannot be read as that type
+     * @return the sort key, or null if the row had none
+     */
+    public Comparable<?> value(Class<?> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (type == LocalDate.class) {
+                return LocalDate.parse(value);
+            }
+            if (type == Instant.class) {
+                return Instant.parse(value);
+            }
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("Cursor is not valid");
+        }
+        return value;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+}
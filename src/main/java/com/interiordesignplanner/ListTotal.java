@@ -0,0 +1,11 @@
+package com.interiordesignplanner;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * The number of rows in a listing, returned apart from its pages so a page
+ * is read without counting the listing.
+ */
+@Schema(description = "Response body for the number of rows in a listing")
+public record ListTotal(@Schema(description = "Number of rows", example = "42") long total) {
+}
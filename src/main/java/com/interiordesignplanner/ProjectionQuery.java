@@ -0,0 +1,195 @@
+package com.interiordesignplanner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * ProjectionQuery (Paged column projections)
+ *
+ * <p>
+ * Reads a page of selected columns instead of entities, so a listing does
+ * not load the entities' associations or collections. Values from other
+ * tables are selected through joins and subqueries in the same statement.
+ * </p>
+ *
+ * <p>
+ * A page is read with one query and its total with a count query, which is
+ * skipped when the page already shows the total. The optional filter, an
+ * RSQL specification, is applied to both.
+ * </p>
+ *
+ * <p>
+ * A cursor listing is read with a seek from a {@link Keyset} instead of an
+ * offset, so every page takes the same time however deep it is, and no
+ * count query is run.
+ * </p>
+ */
+public final class ProjectionQuery {
+
+    private ProjectionQuery() {
+    }
+
+    /**
+     * Selects the columns of a page, adding any joins they need to the root.
+     */
+    @FunctionalInterface
+    public interface Columns<E> {
+
+        List<Selection<?>> select(Root<E> root, CriteriaQuery<?> query, CriteriaBuilder builder);
+
+    }
+
+    /**
+     * Reads a page of the selected columns.
+     *
+     * @param entityManager the entity manager to query with
+     * @param entity        the entity class to select from
+     * @param filter        the filter, or null for every row
+     * @param pageable      the page and sort order
+     * @param columns       the columns to select, each with an alias
+     * @param mapper        converts a row to its DTO
+     * @return the page of DTOs
+     */
+    public static <E, D> Page<D> page(EntityManager entityManager, Class<E> entity, Specification<E> filter,
+            Pageable pageable, Columns<E> columns, Function<Tuple, D> mapper) {
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<E> root = query.from(entity);
+
+        query.multiselect(columns.select(root, query, builder));
+        where(query, root, builder, filter);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        TypedQuery<Tuple> page = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            page.setFirstResult((int) pageable.getOffset());
+            page.setMaxResults(pageable.getPageSize());
+        }
+        List<D> content = page.getResultList().stream().map(mapper).toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityManager, entity, filter));
+    }
+
+    /**
+     * Reads the page of the selected columns after a keyset position.
+     *
+     * <p>
+     * Rows are read in (sort key, id) order from the row after the
+     * position. One row more than the page is read, to tell whether another
+     * page follows.
+     * </p>
+     *
+     * @param entityManager the entity manager to query with
+     * @param entity        the entity class to select from
+     * @param filter        the filter, or null for every row
+     * @param keyset        the sort order and the last row read
+     * @param size          the number of rows in a page
+     * @param columns       the columns to select, each with an alias
+     * @param mapper        converts a row to its DTO
+     * @return the page of DTOs and the cursor of the next page
+     */
+    public static <E, D> CursorPage<D> seek(EntityManager entityManager, Class<E> entity, Specification<E> filter,
+            Keyset keyset, int size, Columns<E> columns, Function<Tuple, D> mapper) {
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<E> root = query.from(entity);
+        Path<Comparable<?>> key = root.get(keyset.getProperty());
+        Path<Long> id = root.get("id");
+
+        // The key and id are read from the last row, a listing may already
+        // select them
+        List<Selection<?>> selections = new ArrayList<>(columns.select(root, query, builder));
+        if (!selections.contains(key)) {
+            selections.add(key);
+        }
+        if (!selections.contains(id)) {
+            selections.add(id);
+        }
+        query.multiselect(selections);
+
+        where(query, root, builder, filter);
+        if (!keyset.isFirst()) {
+            Predicate after = after(builder, key, id, keyset);
+            query.where(query.getRestriction() == null ? after : builder.and(query.getRestriction(), after));
+        }
+
+        boolean ascending = keyset.getDirection().isAscending();
+        query.orderBy(ascending ? builder.asc(key) : builder.desc(key), ascending ? builder.asc(id) : builder.desc(id));
+
+        List<Tuple> rows = entityManager.createQuery(query).setMaxResults(size + 1).getResultList();
+
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            Tuple last = rows.get(size - 1);
+            next = keyset.after(last.get(key), last.get(id));
+        }
+        return new CursorPage<>(rows.stream().map(mapper).toList(), next);
+    }
+
+    // The rows after (key, id) in the keyset's order. NULL sorts lowest in
+    // MySQL and H2, so rows without a key come first ascending and last
+    // descending
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Predicate after(CriteriaBuilder builder, Path key, Path<Long> id, Keyset keyset) {
+
+        boolean ascending = keyset.getDirection().isAscending();
+        Comparable value = keyset.value(key.getJavaType());
+        Predicate nextId = ascending ? builder.greaterThan(id, keyset.getId()) : builder.lessThan(id, keyset.getId());
+
+        if (value == null) {
+            Predicate sameKey = builder.and(builder.isNull(key), nextId);
+            return ascending ? builder.or(sameKey, builder.isNotNull(key)) : sameKey;
+        }
+
+        Predicate sameKey = builder.and(builder.equal(key, value), nextId);
+        Predicate nextKey = ascending ? builder.greaterThan(key, value) : builder.lessThan(key, value);
+        return ascending ? builder.or(nextKey, sameKey) : builder.or(nextKey, sameKey, builder.isNull(key));
+    }
+
+    private static <E> long count(EntityManager entityManager, Class<E> entity, Specification<E> filter) {
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<E> root = query.from(entity);
+
+        where(query, root, builder, filter);
+        // The filter makes the query distinct if it joins a collection
+        query.select(query.isDistinct() ? builder.countDistinct(root) : builder.count(root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <E> void where(CriteriaQuery<?> query, Root<E> root, CriteriaBuilder builder,
+            Specification<E> filter) {
+
+        if (filter == null) {
+            return;
+        }
+
+        Predicate predicate = filter.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.interiordesignplanner;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * A page of a listing that is not counted, and whether another page
+ * follows. The total is read from the listing's count endpoint.
+ */
+@Schema(description = "Response body for a page of a listing without a total")
+public record SliceModel<T>(List<T> content, int number, int size, boolean hasNext) {
+
+    /**
+     * Returns the response body of a slice.
+     *
+     * @param slice the slice read by the repository
+     * @return the slice's rows, position and whether another page follows
+     */
+    public static <T> SliceModel<T> of(Slice<T> slice) {
+        return new SliceModel<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+
+}
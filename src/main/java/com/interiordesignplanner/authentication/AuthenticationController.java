@@ -3,13 +3,21 @@ package com.interiordesignplanner.authentication;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.interiordesignplanner.security.ApplicationUserDetails;
+import com.interiordesignplanner.security.JwtFilter;
+import com.interiordesignplanner.security.JwtToken;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 import org.springframework.web.bind.annotation.PostMapping;
@@ -40,10 +48,50 @@ public class AuthenticationController {
     @ApiResponse(responseCode = "401", description = "Invalid username or password")
     @ResponseStatus(HttpStatus.OK)
     @PostMapping("/login")
-    public ResponseEntity<UserLoginResponse> login(@RequestBody @Valid UserLoginDTO userLoginDTO) {
+    public ResponseEntity<UserLoginResponse> login(@RequestBody @Valid UserLoginDTO userLoginDTO,
+            HttpServletRequest request) {
+
+        TokenPair tokens = authenticationService.login(userLoginDTO, request.getRemoteAddr());
+        return ResponseEntity
+                .ok(new UserLoginResponse("Successfully logged in", tokens.accessToken(), tokens.refreshToken()));
+    }
+
+    /**
+     * POST: Refresh Token
+     * 
+     * @return a new jwttoken and refresh token
+     * @response 200 if the refresh token is valid
+     */
+    @Operation(summary = "Refresh", description = "Exchanges a refresh token for a new JWT token and refresh token")
+    @ApiResponse(responseCode = "200", description = "New JWT token returned")
+    @ApiResponse(responseCode = "401", description = "Invalid, used or expired refresh token")
+    @ResponseStatus(HttpStatus.OK)
+    @PostMapping("/refresh")
+    public ResponseEntity<UserLoginResponse> refresh(@RequestBody @Valid RefreshTokenDTO refreshTokenDTO) {
+
+        TokenPair tokens = authenticationService.refresh(refreshTokenDTO.getRefreshToken());
+        return ResponseEntity
+                .ok(new UserLoginResponse("Successfully refreshed", tokens.accessToken(), tokens.refreshToken()));
+    }
+
+    /**
+     * POST: Logout User
+     * 
+     * 
+     * @return Successful logout message
+     * @response 200 if the token was revoked
+     */
+    @Operation(summary = "Logout", description = "Revokes the current JWT token and the given refresh token")
+    @ApiResponse(responseCode = "200", description = "Logged out")
+    @ApiResponse(responseCode = "403", description = "User is not logged in")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(@RequestAttribute(JwtFilter.TOKEN_ATTRIBUTE) JwtToken jwtToken,
+            @RequestBody(required = false) RefreshTokenDTO refreshTokenDTO) {
 
-        String jwtToken = authenticationService.login(userLoginDTO);
-        return ResponseEntity.ok(new UserLoginResponse("Successfully logged in", jwtToken));
+        authenticationService.logout(jwtToken, refreshTokenDTO == null ? null : refreshTokenDTO.getRefreshToken());
+        return ResponseEntity.ok("Successfully logged out");
     }
 
     /**
@@ -65,4 +113,24 @@ public class AuthenticationController {
         return ResponseEntity.status(HttpStatus.CREATED).body("Registration successful");
     }
 
+    /**
+     * POST: Revoke Tokens
+     * 
+     * 
+     * @return Successful revocation message
+     * @response 200 if every token of the user was revoked
+     */
+    @Operation(summary = "Revoke tokens", description = "Revokes every JWT token issued to the logged in user")
+    @ApiResponse(responseCode = "200", description = "Tokens revoked")
+    @ApiResponse(responseCode = "403", description = "User is not logged in")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/revoke")
+    public ResponseEntity<String> revokeTokens(
+            @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
+
+        authenticationService.revokeTokens(applicationUserDetails.getUsername());
+        return ResponseEntity.ok("Tokens revoked");
+    }
+
 }
@@ -1,25 +1,33 @@
 package com.interiordesignplanner.authentication;
 
+import java.util.Locale;
 import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.authentication.password.CompromisedPasswordChecker;
 import org.springframework.security.authentication.password.CompromisedPasswordDecision;
 import org.springframework.security.authentication.password.CompromisedPasswordException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.interiordesignplanner.designer.Designer;
 import com.interiordesignplanner.designer.DesignerRepository;
+import com.interiordesignplanner.exceptions.RateLimitExceededException;
 import com.interiordesignplanner.exceptions.UserExistsException;
 import com.interiordesignplanner.exceptions.UserNotFoundException;
 import com.interiordesignplanner.mapper.UserMapper;
 import com.interiordesignplanner.security.ApplicationUserDetails;
 import com.interiordesignplanner.security.ApplicationUserDetailsService;
 import com.interiordesignplanner.security.JwtService;
+import com.interiordesignplanner.security.JwtToken;
+import com.interiordesignplanner.security.RateLimiter;
+import com.interiordesignplanner.security.TokenDenylist;
+import com.interiordesignplanner.security.TokenVersionCache;
 
 import jakarta.transaction.Transactional;
 
@@ -53,10 +61,20 @@ public class AuthenticationService {
 
     private final CompromisedPasswordChecker compromisedPasswordChecker;
 
+    private final TokenVersionCache tokenVersionCache;
+
+    private final RateLimiter usernameRateLimiter;
+
+    private final RefreshTokenService refreshTokenService;
+
+    private final TokenDenylist tokenDenylist;
+
     public AuthenticationService(AuthenticationManager authenticationManager, JwtService jwtService,
             UserRepository userRepository, UserMapper userMapper, DesignerRepository designerRepository,
             ApplicationUserDetailsService applicationUserDetailsService, PasswordEncoder passwordEncoder,
-            CompromisedPasswordChecker compromisedPasswordChecker) {
+            CompromisedPasswordChecker compromisedPasswordChecker, TokenVersionCache tokenVersionCache,
+            @Qualifier("usernameRateLimiter") RateLimiter usernameRateLimiter, RefreshTokenService refreshTokenService,
+            TokenDenylist tokenDenylist) {
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
         this.userRepository = userRepository;
@@ -65,6 +83,10 @@ public class AuthenticationService {
         this.applicationUserDetailsService = applicationUserDetailsService;
         this.passwordEncoder = passwordEncoder;
         this.compromisedPasswordChecker = compromisedPasswordChecker;
+        this.tokenVersionCache = tokenVersionCache;
+        this.usernameRateLimiter = usernameRateLimiter;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenDenylist = tokenDenylist;
     }
 
     /**
@@ -74,28 +96,87 @@ public class AuthenticationService {
      * <p>
      * Used to login a existing user on the system.
      * 
-     * Generates a new token each time.
-     * Is stateless, session ends when token is expired.
-     * 
-     * Will need to add logout function.
+     * Generates a new short-lived access token and a refresh token
+     * each time. The access token is stateless and ends when it expires,
+     * the refresh token is used to get a new one.
      * </p>
      * 
+     * <p>
+     * Failed attempts are limited per username and client address, so
+     * guessing from one address is slowed down without locking the user
+     * out everywhere else. A successful login refills the bucket.
+     * </p>
      * 
-     * @param userLoginDTO user login request
+     * @param userLoginDTO  user login request
+     * @param clientAddress the address of the client logging in
      * @throws BadCredentialsException if the user login is invalid
-     * @return a new jwttoken
+     * @throws RateLimitExceededException if the username has too many failed
+     *                                    attempts from the address
+     * @return a new access and refresh token
+     */
+    public TokenPair login(UserLoginDTO userLoginDTO, String clientAddress) {
+
+        String key = String.valueOf(userLoginDTO.getUsername()).toLowerCase(Locale.ROOT) + "@" + clientAddress;
+
+        // Checks the failed attempts before any password work
+        long wait = usernameRateLimiter.peek(key);
+
+        if (wait > 0) {
+            throw new RateLimitExceededException(RateLimiter.retryAfterSeconds(wait));
+        }
+
+        // Checks users login details are correct, only failures are charged
+        try {
+            authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(userLoginDTO.getUsername(), userLoginDTO.getPassword()));
+        } catch (AuthenticationException e) {
+            usernameRateLimiter.tryAcquire(key);
+            throw e;
+        }
+
+        usernameRateLimiter.reset(key);
+        return issueTokens(userLoginDTO.getUsername());
+
+    }
+
+    /**
+     * Refresh Tokens
+     * 
+     * <p>
+     * Exchanges a refresh token for a new access and refresh token.
+     * The refresh token can only be used once.
+     * </p>
+     * 
+     * @param refreshToken the refresh token returned on login
+     * @throws BadCredentialsException if the refresh token is invalid
+     * @return a new access and refresh token
      */
-    public String login(UserLoginDTO userLoginDTO) {
+    @Transactional
+    public TokenPair refresh(String refreshToken) {
+
+        User user = refreshTokenService.consume(refreshToken);
+        return issueTokens(user.getUsername());
+
+    }
 
-        // Checks users login details are correct
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(userLoginDTO.getUsername(), userLoginDTO.getPassword()));
+    /**
+     * User Logout
+     * 
+     * <p>
+     * Revokes the access token until it expires and removes
+     * the refresh token, if given.
+     * </p>
+     * 
+     * @param accessToken  the verified access token of the request
+     * @param refreshToken the refresh token returned on login, may be null
+     */
+    public void logout(JwtToken accessToken, String refreshToken) {
 
-        ApplicationUserDetails applicationUserDetails = applicationUserDetailsService
-                .loadUserByUsername(userLoginDTO.getUsername());
+        tokenDenylist.revoke(accessToken.id(), accessToken.expiration());
 
-        // A new token will be generated
-        return jwtService.generateJwtToken(applicationUserDetails);
+        if (refreshToken != null) {
+            refreshTokenService.revoke(refreshToken);
+        }
 
     }
 
@@ -163,6 +244,45 @@ public class AuthenticationService {
 
     }
 
+    /**
+     * Revokes every token issued to the user
+     * 
+     * <p>
+     * Increments the user's token version and removes their refresh
+     * tokens. The current instance rejects the old access tokens straight
+     * away, other instances in stateless mode within one version check
+     * interval.
+     * </p>
+     * 
+     * @param username the user whose tokens are revoked
+     * @throws UsernameNotFoundException if the user is not found
+     */
+    @Transactional
+    public void revokeTokens(String username) {
+
+        User user = findUser(username);
+
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        userRepository.save(user);
+
+        tokenVersionCache.evict(user.getId());
+        refreshTokenService.revokeAll(user.getId());
+
+    }
+
+    // Generates the access token and a new refresh token for the user
+    private TokenPair issueTokens(String username) {
+
+        // Includes the designer's id, which is signed into the token
+        ApplicationUserDetails applicationUserDetails = applicationUserDetailsService.loadUserByUsername(username);
+
+        String accessToken = jwtService.generateJwtToken(applicationUserDetails);
+        String refreshToken = refreshTokenService
+                .issue(userRepository.getReferenceById(applicationUserDetails.getUserId()));
+
+        return new TokenPair(accessToken, refreshToken);
+    }
+
     /**
      * Retrieved the User's entity
      * 
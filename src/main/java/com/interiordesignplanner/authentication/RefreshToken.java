@@ -0,0 +1,49 @@
+package com.interiordesignplanner.authentication;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import com.interiordesignplanner.AbstractEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Models a refresh token issued on login. Only the SHA-256 hash of the
+ * token is stored, so a leaked table cannot be used to sign in.
+ */
+
+@Entity
+@Table(name = "refresh_tokens", indexes = @Index(name = "idx_refresh_tokens_hash", columnList = "tokenHash", unique = true))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken extends AbstractEntity {
+
+    // SHA-256 of the token (hex)
+    @Column(nullable = false, length = 64)
+    private String tokenHash;
+
+    // Time the token expires
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    // Foreign key to User entity, many to one unidirectional relationship.
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", referencedColumnName = "id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+}
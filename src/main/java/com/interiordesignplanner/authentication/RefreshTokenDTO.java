@@ -0,0 +1,19 @@
+package com.interiordesignplanner.authentication;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "Request body for refreshing or revoking a refresh token")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenDTO {
+
+    @Schema(description = "Refresh token returned on login", example = "Vq3cG4m0nT8aK1yXbW2rZ9pLdE5uH7sQjF6iO0tN3aY")
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+
+}
@@ -0,0 +1,59 @@
+package com.interiordesignplanner.authentication;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Finds a refresh token by its hash, with its user.
+     *
+     * @param tokenHash the SHA-256 of the token
+     * @return the refresh token if found, otherwise empty
+     */
+    @EntityGraph(attributePaths = "user")
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Removes a refresh token by its hash.
+     *
+     * @param tokenHash the SHA-256 of the token
+     * @return the number of rows removed
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Removes every refresh token of a user.
+     *
+     * @param userId the user's unique identifier
+     * @return the number of rows removed
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * Removes expired refresh tokens.
+     *
+     * @param now the current time
+     * @return the number of rows removed
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+
+}
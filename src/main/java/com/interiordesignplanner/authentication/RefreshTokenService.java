@@ -0,0 +1,107 @@
+package com.interiordesignplanner.authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Refresh token service class issues, rotates and revokes
+ * the long-lived refresh tokens.
+ * 
+ * <p>
+ * Tokens are random and opaque. Only their SHA-256 hash is stored and each
+ * token can be used once: refreshing replaces it with a new one.
+ * </p>
+ */
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh.expiration.time:1209600000}")
+    private Long expiration;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    /**
+     * Issues a new refresh token
+     * 
+     * @param user the user signing in
+     * @return the refresh token, only returned to the client
+     */
+    public String issue(User user) {
+
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(hash(token), Instant.now().plusMillis(expiration), user));
+
+        return token;
+    }
+
+    /**
+     * Uses up a refresh token
+     * 
+     * <p>
+     * The token is removed, so a second use (such as a replayed token)
+     * is rejected.
+     * </p>
+     * 
+     * @param token the refresh token
+     * @throws BadCredentialsException if the token is unknown, used or expired
+     * @return the token's user
+     */
+    public User consume(String token) {
+
+        String tokenHash = hash(token);
+
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        // Only one concurrent use can remove the row
+        if (refreshTokenRepository.deleteByTokenHash(tokenHash) == 0
+                || refreshToken.getExpiresAt().isBefore(Instant.now())) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+
+        return refreshToken.getUser();
+    }
+
+    public void revoke(String token) {
+        refreshTokenRepository.deleteByTokenHash(hash(token));
+    }
+
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    // Removes expired tokens
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval:3600000}")
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    private static String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.interiordesignplanner.authentication;
+
+// Access and refresh token issued on login or refresh
+public record TokenPair(String accessToken, String refreshToken) {
+
+}
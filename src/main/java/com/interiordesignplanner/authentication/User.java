@@ -1,8 +1,13 @@
 package com.interiordesignplanner.authentication;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.interiordesignplanner.AbstractEntity;
+import com.interiordesignplanner.security.UserCacheListener;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
@@ -13,6 +18,7 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCacheListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -41,4 +47,9 @@ public class User extends AbstractEntity {
     @Enumerated(EnumType.STRING)
     private Roles roles;
 
+    // Incremented to revoke every token issued to the user
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int tokenVersion;
+
 }
@@ -3,6 +3,8 @@ package com.interiordesignplanner.authentication;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -25,4 +27,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByEmailAddressOrPhoneNumber(String emailAddress, String phoneNumber);
 
+    /**
+     * Finds the current token version of a user.
+     *
+     * @param id the user's unique identifier
+     * @return the token version if the user exists, otherwise empty
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
 }
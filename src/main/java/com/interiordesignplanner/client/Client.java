@@ -8,10 +8,17 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.interiordesignplanner.AbstractEntity;
 import com.interiordesignplanner.designer.Designer;
 import com.interiordesignplanner.project.Project;
+import com.interiordesignplanner.security.OwnershipIndexListener;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -25,16 +32,28 @@ import lombok.Setter;
  * One client can have multiple projects and is extending the
  * AbstractEntity class, which provides their unique identifier
  * and timestamps for creation and updates to their data.
+ *
+ * Associations are lazy, the client detail graph joins the designer's
+ * user for their name. Projects are counted by a query, not loaded.
  */
 
 @Entity
-@Table(name = "clients")
+@Table(name = "clients", indexes = {
+        @Index(name = "idx_clients_designer_updated", columnList = "designer_id, updated_at"),
+        @Index(name = "idx_clients_last_name_id", columnList = "last_name, id"),
+        @Index(name = "idx_clients_created_id", columnList = "created_at, id") })
+@EntityListeners(OwnershipIndexListener.class)
+@NamedEntityGraph(name = Client.DETAIL, attributeNodes = @NamedAttributeNode(value = "designer", subgraph = "user"),
+        subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("user")))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Client extends AbstractEntity {
 
+    // Fetch plan for showing or editing a single client
+    public static final String DETAIL = "Client.detail";
+
     // Client's firstname
     private String firstName;
 
@@ -59,7 +78,7 @@ public class Client extends AbstractEntity {
     private List<Project> projects = new ArrayList<>();
 
     // Foreign key to Designer entity, many to one bidirectional relationship.
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "designer_id", referencedColumnName = "id")
     @JsonBackReference
     private Designer designer;
@@ -2,6 +2,11 @@ package com.interiordesignplanner.client;
 
 import org.springframework.web.bind.annotation.RestController;
 
+import com.interiordesignplanner.CursorPage;
+import com.interiordesignplanner.ListTotal;
+import com.interiordesignplanner.SliceModel;
+import com.interiordesignplanner.designer.DesignerListVersion;
+import com.interiordesignplanner.designer.DesignerService;
 import com.interiordesignplanner.security.ApplicationUserDetails;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,10 +14,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,10 +32,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Rest Controller for managing clients
@@ -43,6 +54,10 @@ public class ClientController {
     @Autowired
     public ClientService clientService;
 
+    // Validator of the designer's lists
+    @Autowired
+    public DesignerService designerService;
+
     /**
      * GET: Returns all Clients
      * 
@@ -60,20 +75,102 @@ public class ClientController {
         return ResponseEntity.ok(clientService.getAllClients(filter, pageable));
     }
 
+    /**
+     * GET: Returns a page of Clients after a cursor
+     * 
+     * @return the page of clients and the cursor of the next page
+     * @response 200 if the page is found
+     * @response 400 if the cursor or sort is not supported
+     */
+    @Operation(summary = "Retrieves all clients with a cursor", description = "Retrieves a page of clients after the cursor of the previous page. Clients are sorted by createdAt or lastName, and deep pages are as fast as the first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of clients is found"),
+            @ApiResponse(responseCode = "400", description = "Cursor or sort is not supported") })
+    @GetMapping(value = "/admin/clients/cursor", produces = "application/json")
+    @PreAuthorize("hasRole('ADMIN')")
+    public CursorPage<ClientDTO> getAllClientsByCursor(@RequestParam(required = false) String filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size, Sort sort) {
+        return clientService.getAllClientsByCursor(filter, sort, cursor, size);
+    }
+
     /**
      * GET: Returns all Clients
      * 
-     * @return all clients entities on the system
+     * @return the page of clients and whether another page follows
      * @response 200 if all clients are found
+     * @response 304 if no client or project changed since the If-None-Match ETag
      */
-    @Operation(summary = "Retrieves all clients", description = "Retrieves all the clients details, including their name, email, phoneNo, address, projects and other details")
-    @ApiResponse(responseCode = "200", description = "All clients are found")
-    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Retrieves all clients", description = "Retrieves a page of the clients details, including their name, email, phoneNo, address, projects and other details. The clients are not counted, the total is returned by /clients/count")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "All clients are found"),
+            @ApiResponse(responseCode = "304", description = "Clients are unchanged") })
     @GetMapping(value = "/clients", produces = "application/json")
     @PreAuthorize("hasRole('DESIGNER')")
-    public Page<ClientSummaryDTO> getClients(@AuthenticationPrincipal ApplicationUserDetails applicationUserDetails,
-            Pageable pageable) {
-        return clientService.getClientsByDesigner(applicationUserDetails.getUsername(), pageable);
+    public SliceModel<ClientSummaryDTO> getClients(@AuthenticationPrincipal ApplicationUserDetails applicationUserDetails,
+            Pageable pageable, WebRequest webRequest) {
+
+        // Sets the ETag, the page is not read while the lists are unchanged.
+        // No fixed response status, it would replace the 304
+        if (webRequest.checkNotModified(designerService.getListETag(applicationUserDetails.getDesignerId()))) {
+            return null;
+        }
+
+        return SliceModel.of(clientService.getClientsByDesigner(applicationUserDetails.getDesignerId(), pageable));
+    }
+
+    /**
+     * GET: Returns the number of Clients
+     * 
+     * @return the number of the designer's clients
+     * @response 200 if the total is found
+     * @response 304 if no client or project changed since the If-None-Match ETag
+     */
+    @Operation(summary = "Counts the clients", description = "Returns the number of the designer's clients, read with the lists' ETag instead of counting the clients")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Total is found"),
+            @ApiResponse(responseCode = "304", description = "Clients are unchanged") })
+    @GetMapping(value = "/clients/count", produces = "application/json")
+    @PreAuthorize("hasRole('DESIGNER')")
+    public ListTotal getClientCount(@AuthenticationPrincipal ApplicationUserDetails applicationUserDetails,
+            WebRequest webRequest) {
+
+        // The total is part of the lists' ETag, both are read at once
+        DesignerListVersion version = designerService.getListVersion(applicationUserDetails.getDesignerId());
+        if (webRequest.checkNotModified(version.eTag())) {
+            return null;
+        }
+
+        return new ListTotal(version.clients());
+    }
+
+    /**
+     * GET: Returns a page of the designer's Clients after a cursor
+     * 
+     * @return the page of clients and the cursor of the next page
+     * @response 200 if the page is found
+     * @response 304 if no client or project changed since the If-None-Match ETag
+     * @response 400 if the cursor or sort is not supported
+     */
+    @Operation(summary = "Retrieves the designer's clients with a cursor", description = "Retrieves a page of the designer's clients after the cursor of the previous page. Clients are sorted by createdAt or lastName")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of clients is found"),
+            @ApiResponse(responseCode = "304", description = "Clients are unchanged"),
+            @ApiResponse(responseCode = "400", description = "Cursor or sort is not supported") })
+    @GetMapping(value = "/clients/cursor", produces = "application/json")
+    @PreAuthorize("hasRole('DESIGNER')")
+    public CursorPage<ClientSummaryDTO> getClientsByCursor(
+            @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size, Sort sort, WebRequest webRequest) {
+
+        // A cursor's page only changes with the lists
+        if (webRequest.checkNotModified(designerService.getListETag(applicationUserDetails.getDesignerId()))) {
+            return null;
+        }
+
+        return clientService.getClientsByDesignerByCursor(applicationUserDetails.getDesignerId(), sort, cursor,
+                size);
     }
 
     /**
@@ -82,15 +179,22 @@ public class ClientController {
      * @param id the client's unique identifier
      * @return client's entity
      * @response 200 if client was successfully found
+     * @response 304 if the client is unchanged since the If-None-Match ETag
      * @response 404 not found is the client doesnt exist
      */
     @Operation(summary = "Finds client by ID", description = "Returns one clients details, including their name, email, phoneNo, address, projects and other details")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Client with id was found"),
+            @ApiResponse(responseCode = "304", description = "Client is unchanged"),
             @ApiResponse(responseCode = "404", description = "Client doesn't exist") })
     @GetMapping(value = "/admin/clients/{id}", produces = "application/json")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ClientDTO> getClientById(@PathVariable Long id) {
+    public ResponseEntity<ClientDTO> getClientById(@PathVariable Long id, WebRequest webRequest) {
+
+        // Sets the ETag, an unchanged client is not loaded
+        if (webRequest.checkNotModified(String.valueOf(clientService.getClientVersion(id)))) {
+            return null;
+        }
 
         ClientDTO client = clientService.getClientById(id);
         return ResponseEntity.ok(client);
@@ -113,8 +217,9 @@ public class ClientController {
     public ResponseEntity<ClientDTO> createClient(@Valid @RequestBody ClientCreateDTO clientCreateDTO,
             @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
-        ClientDTO savedClient = clientService.createClient(clientCreateDTO, applicationUserDetails.getUsername());
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedClient);
+        ClientDTO savedClient = clientService.createClient(clientCreateDTO, applicationUserDetails.getDesignerId());
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(String.valueOf(savedClient.getVersion()))
+                .body(savedClient);
 
     }
 
@@ -123,22 +228,27 @@ public class ClientController {
      * 
      * @param id           the client's unique identifier
      * @param updateClient the client's object to be updated
+     * @param ifMatch      the client's ETag, the change is rejected if it has changed
      * @return updated client entity
      * @response 200 if client was successfully updated
      * @response 404 not found is the client doesnt exist
+     * @response 412 if the client has changed
      */
     @Operation(summary = "Update client", description = "Updates the client's records")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Client with id was updated"),
-            @ApiResponse(responseCode = "404", description = "Client doesn't exist") })
+            @ApiResponse(responseCode = "404", description = "Client doesn't exist"),
+            @ApiResponse(responseCode = "412", description = "Client has changed") })
     @PutMapping(value = "/clients/{id}", produces = "application/json")
     @PreAuthorize("hasRole('DESIGNER')")
     public ResponseEntity<ClientDTO> updateClient(@PathVariable Long id,
             @Valid @RequestBody ClientUpdateDTO clientUpdateDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
-        ClientDTO updatedClient = clientService.updateClient(id, clientUpdateDTO, applicationUserDetails.getUsername());
-        return ResponseEntity.ok(updatedClient);
+        ClientDTO updatedClient = clientService.updateClient(id, clientUpdateDTO, applicationUserDetails.getDesignerId(),
+                ifMatch);
+        return ResponseEntity.ok().eTag(String.valueOf(updatedClient.getVersion())).body(updatedClient);
 
     }
 
@@ -1,5 +1,7 @@
 package com.interiordesignplanner.client;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -38,4 +40,8 @@ public class ClientDTO {
     @Schema(description = "Client designer name", example = "Sophie Thompson")
     private String designer;
 
+    // Sent as the ETag header, not in the body
+    @JsonIgnore
+    private Long version;
+
 }
@@ -0,0 +1,52 @@
+package com.interiordesignplanner.client;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.interiordesignplanner.CursorPage;
+import com.interiordesignplanner.Keyset;
+
+/**
+ * Client listing queries, implemented by {@link ClientListRepositoryImpl}
+ * and added to {@link ClientRepository}.
+ */
+public interface ClientListRepository {
+
+    /**
+     * Finds a page of clients without loading the clients.
+     *
+     * <p>
+     * Projects are counted instead of read and the designer's name is joined
+     * into the same query, so a page takes two queries, one for the rows and
+     * one for the total.
+     * </p>
+     *
+     * @param filter   the RSQL filter, or null for every client
+     * @param pageable the page and sort order
+     * @return the page of clients
+     */
+    Page<ClientDTO> findClientList(Specification<Client> filter, Pageable pageable);
+
+    /**
+     * Finds the page of clients after a keyset position.
+     *
+     * @param filter the RSQL filter, or null for every client
+     * @param keyset the sort order and the last client read
+     * @param size   the number of clients in a page
+     * @return the page of clients and the cursor of the next page
+     */
+    CursorPage<ClientDTO> findClientList(Specification<Client> filter, Keyset keyset, int size);
+
+    /**
+     * Finds the page of a designer's client summaries after a keyset
+     * position.
+     *
+     * @param designerId the designer's unique identifier
+     * @param keyset     the sort order and the last client read
+     * @param size       the number of clients in a page
+     * @return the page of client summaries and the cursor of the next page
+     */
+    CursorPage<ClientSummaryDTO> findClientSummaries(Long designerId, Keyset keyset, int size);
+
+}
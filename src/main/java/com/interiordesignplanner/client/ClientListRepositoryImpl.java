@@ -0,0 +1,94 @@
+package com.interiordesignplanner.client;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.interiordesignplanner.CursorPage;
+import com.interiordesignplanner.Keyset;
+import com.interiordesignplanner.ProjectionQuery;
+import com.interiordesignplanner.ProjectionQuery.Columns;
+import com.interiordesignplanner.authentication.User;
+import com.interiordesignplanner.designer.Designer;
+import com.interiordesignplanner.project.Project;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+public class ClientListRepositoryImpl implements ClientListRepository {
+
+    private static final Columns<Client> CLIENT_LIST = (client, query, builder) -> {
+
+        Join<Designer, User> user = client.join("designer", JoinType.LEFT).join("user", JoinType.LEFT);
+
+        return List.of(client.get("id").alias("id"), client.get("firstName").alias("firstName"),
+                client.get("lastName").alias("lastName"), client.get("emailAddress").alias("emailAddress"),
+                client.get("phoneNumber").alias("phoneNumber"), client.get("address").alias("address"),
+                client.get("notes").alias("notes"), totalProjects(client, query, builder).alias("totalProjects"),
+                builder.concat(builder.concat(user.get("firstName"), " "), user.get("lastName"))
+                        .alias("designer"),
+                client.get("version").alias("version"));
+    };
+
+    private static final Columns<Client> CLIENT_SUMMARIES = (client, query, builder) -> List.of(
+            client.get("id").alias("id"),
+            builder.concat(builder.concat(client.get("firstName"), " "), client.get("lastName")).alias("fullName"),
+            client.get("emailAddress").alias("emailAddress"), client.get("phoneNumber").alias("phoneNumber"),
+            client.get("address").alias("address"), totalProjects(client, query, builder).alias("totalProjects"),
+            client.get("notes").alias("notes"));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ClientDTO> findClientList(Specification<Client> filter, Pageable pageable) {
+        return ProjectionQuery.page(entityManager, Client.class, filter, pageable, CLIENT_LIST,
+                ClientListRepositoryImpl::toDto);
+    }
+
+    @Override
+    public CursorPage<ClientDTO> findClientList(Specification<Client> filter, Keyset keyset, int size) {
+        return ProjectionQuery.seek(entityManager, Client.class, filter, keyset, size, CLIENT_LIST,
+                ClientListRepositoryImpl::toDto);
+    }
+
+    @Override
+    public CursorPage<ClientSummaryDTO> findClientSummaries(Long designerId, Keyset keyset, int size) {
+        return ProjectionQuery.seek(entityManager, Client.class,
+                (client, query, builder) -> builder.equal(client.get("designer").get("id"), designerId), keyset,
+                size, CLIENT_SUMMARIES, ClientListRepositoryImpl::toSummary);
+    }
+
+    private static Expression<Long> totalProjects(Root<Client> client, CriteriaQuery<?> query,
+            CriteriaBuilder builder) {
+        Subquery<Long> totalProjects = query.subquery(Long.class);
+        Root<Project> project = totalProjects.from(Project.class);
+        return totalProjects.select(builder.count(project)).where(builder.equal(project.get("client"), client));
+    }
+
+    private static ClientDTO toDto(Tuple row) {
+        return new ClientDTO(row.get("id", Long.class), row.get("firstName", String.class),
+                row.get("lastName", String.class), row.get("emailAddress", String.class),
+                row.get("phoneNumber", String.class), row.get("address", String.class),
+                row.get("notes", String.class), row.get("totalProjects", Long.class).intValue(),
+                row.get("designer", String.class), row.get("version", Long.class));
+    }
+
+    private static ClientSummaryDTO toSummary(Tuple row) {
+        return new ClientSummaryDTO(row.get("id", Long.class), row.get("fullName", String.class),
+                row.get("emailAddress", String.class), row.get("phoneNumber", String.class),
+                row.get("address", String.class), row.get("totalProjects", Long.class),
+                row.get("notes", String.class));
+    }
+
+}
@@ -1,28 +1,94 @@
 package com.interiordesignplanner.client;
 
-import org.springframework.data.domain.Page;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.interiordesignplanner.security.ResourceOwner;
+
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for managing {@link Client} entities.
  * <p>
  * Provides custom CRUD operations and query methods for accessing client data.
  */
 @Repository
-public interface ClientRepository extends JpaRepository<Client, Long>, JpaSpecificationExecutor<Client> {
+public interface ClientRepository
+        extends JpaRepository<Client, Long>, JpaSpecificationExecutor<Client>, ClientListRepository {
 
     /**
-     * Finds all clients for the logged in user with pagination.
+     * Finds a slice of the clients for the logged in user.
+     *
+     * Read as a slice, one row more than the page is read to tell whether
+     * another page follows and the clients are not counted. Projects are
+     * counted by a subquery on their client index.
      *
      * @param userId   the designers unique identification
      * @param pageable pagination info
-     * @return paginated list of clients
+     * @return slice of clients
+     */
+    @Query("SELECT new com.interiordesignplanner.client.ClientSummaryDTO(c.id, CONCAT(c.firstName,' ', c.lastName), c.emailAddress, c.phoneNumber, c.address, (SELECT COUNT(p) FROM Project p WHERE p.client = c), c.notes) FROM Client c WHERE c.designer.id = :userId")
+    Slice<ClientSummaryDTO> findClientsByDesignerId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Finds a client with their designer's name.
+     *
+     * A client is loaded without them by {@link #findById(Object)}, such as
+     * when a project is added for them.
+     *
+     * @param id the client's unique identifier
+     * @return the client if found, otherwise empty
+     */
+    @EntityGraph(Client.DETAIL)
+    Optional<Client> findDetailById(Long id);
+
+    /**
+     * Counts the client's projects on their client index, without loading
+     * them.
+     *
+     * @param clientId the client's unique identifier
+     * @return the number of projects
+     */
+    @Query("SELECT CAST(COUNT(p) AS Integer) FROM Project p WHERE p.client.id = :clientId")
+    int countProjectsById(@Param("clientId") Long clientId);
+
+    /**
+     * Finds the id of the designer the client belongs to.
+     *
+     * @param clientId the client's unique identifier
+     * @return the designer's id if the client is found, otherwise empty
+     */
+    @Query("SELECT c.designer.id FROM Client c WHERE c.id = :clientId")
+    Optional<Long> findDesignerIdById(@Param("clientId") Long clientId);
+
+    /**
+     * Finds the client's current version.
+     *
+     * @param clientId the client's unique identifier
+     * @return the version if the client is found, otherwise empty
+     */
+    @Query("SELECT c.version FROM Client c WHERE c.id = :clientId")
+    Optional<Long> findVersionById(@Param("clientId") Long clientId);
+
+    /**
+     * Streams every client id with its designer's id.
+     *
+     * Used to load the ownership index, must be read in a transaction.
+     *
+     * @return a stream of client owners
      */
-    @Query("SELECT new com.interiordesignplanner.client.ClientSummaryDTO(c.id, CONCAT(c.firstName,' ', c.lastName), c.emailAddress, c.phoneNumber, c.address, COUNT(p), c.notes) FROM Client c LEFT JOIN c.projects p LEFT JOIN c.designer d LEFT JOIN d.user u WHERE c.designer.id = :userId GROUP BY c.id")
-    Page<ClientSummaryDTO> findClientsByDesignerId(@Param("userId") Long userId, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.interiordesignplanner.security.ResourceOwner(c.id, c.designer.id) FROM Client c")
+    Stream<ResourceOwner> streamOwners();
 }
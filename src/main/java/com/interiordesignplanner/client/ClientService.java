@@ -1,22 +1,29 @@
 package com.interiordesignplanner.client;
 
-import com.interiordesignplanner.mapper.ClientMapper;
+import java.util.List;
 
-import io.github.perplexhub.rsql.RSQLJPASupport;
+import com.interiordesignplanner.mapper.ClientMapper;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.interiordesignplanner.authentication.AuthenticationService;
-import com.interiordesignplanner.authentication.User;
+import com.interiordesignplanner.CursorPage;
+import com.interiordesignplanner.FilterSpecifications;
+import com.interiordesignplanner.IfMatch;
+import com.interiordesignplanner.Keyset;
 import com.interiordesignplanner.designer.Designer;
 import com.interiordesignplanner.designer.DesignerService;
 import com.interiordesignplanner.exceptions.ClientNotFoundException;
+import com.interiordesignplanner.exceptions.InvalidCursorException;
+import com.interiordesignplanner.exceptions.InvalidFilterException;
+import com.interiordesignplanner.exceptions.PreconditionFailedException;
+import com.interiordesignplanner.security.OwnershipService;
 
 /**
  * Client service class provides business logic and operations relating to a
@@ -31,25 +38,35 @@ import com.interiordesignplanner.exceptions.ClientNotFoundException;
 @Service
 public class ClientService {
 
+    // Properties a cursor listing of clients can be sorted on
+    private static final List<String> CURSOR_SORTS = List.of("createdAt", "lastName");
+
+    // Indexed properties an admin listing of clients can be filtered and sorted on
+    private static final List<String> LIST_FIELDS = List.of("id", "lastName", "createdAt");
+
     // Client CRUD Interface
     public final ClientRepository clientRepository;
 
     // Client Mapper
     private final ClientMapper clientMapper;
 
-    // User Repository
-    private final AuthenticationService authenticationService;
-
     // Designer Repository
     private final DesignerService designerService;
 
+    // Ownership checks
+    private final OwnershipService ownershipService;
+
+    // Checked and cached admin filters
+    private final FilterSpecifications filterSpecifications;
+
     public ClientService(ClientRepository clientRepository, ClientMapper clientMapper,
-            AuthenticationService authenticationService,
-            DesignerService designerService) {
+            DesignerService designerService, OwnershipService ownershipService,
+            FilterSpecifications filterSpecifications) {
         this.clientRepository = clientRepository;
         this.clientMapper = clientMapper;
-        this.authenticationService = authenticationService;
         this.designerService = designerService;
+        this.ownershipService = ownershipService;
+        this.filterSpecifications = filterSpecifications;
     }
 
     /**
@@ -64,42 +81,95 @@ public class ClientService {
      * {@link https://github.com/perplexhub/rsql-jpa-specification}
      * </p>
      * 
+     * <p>
+     * Clients can only be filtered and sorted on indexed properties.
+     * </p>
+     * 
+     * @throws InvalidFilterException if the filter or sort is not supported
      * @return all clients on the system
      */
     @PreAuthorize("hasRole('ADMIN')")
     public Page<ClientDTO> getAllClients(String filter, Pageable pageable) {
 
-        Page<Client> clients;
-
-        if (filter != null) {
-            Specification<Client> specfication = RSQLJPASupport.toSpecification(filter);
-            clients = clientRepository.findAll(specfication, pageable);
-        } else {
-            clients = clientRepository.findAll(pageable);
-        }
-
-        return clients.map(client -> {
-            ClientDTO clientDTO = clientMapper.toDto(client);
-            return clientDTO;
-        });
+        filterSpecifications.checkSort(pageable.getSort(), LIST_FIELDS);
+        Specification<Client> specfication = filterSpecifications.toSpecification(Client.class, filter, LIST_FIELDS);
 
+        return clientRepository.findClientList(specfication, pageable);
     }
 
     /**
      * Returns the designer's list of clients and their details on the system.
      * 
-     * @param username retrieves the client object to be deleted
-     * @throws UsernameNotFoundException if the user is not found
-     * @throws DesignerNotFoundException if the designer is not found
-     * @return logged in designer's list of clients
+     * <p>
+     * The clients are read as a slice and not counted, the total is
+     * returned separately by the designer's list version.
+     * </p>
+     * 
+     * @param designerId the logged in designer's unique identifier
+     * @return logged in designer's slice of clients
      */
     @PreAuthorize("hasRole('DESIGNER')")
-    public Page<ClientSummaryDTO> getClientsByDesigner(String username, Pageable pageable) {
+    public Slice<ClientSummaryDTO> getClientsByDesigner(Long designerId, Pageable pageable) {
+        return clientRepository.findClientsByDesignerId(designerId, pageable);
+    }
+
+    /**
+     * Returns the page of clients after a cursor.
+     * 
+     * <p>
+     * The page is read with a seek on the sort key and id instead of an
+     * offset, so a deep page is read as fast as the first. Clients can be
+     * sorted by createdAt or lastName.
+     * </p>
+     * 
+     * @param filter the RSQL filter, or null for every client
+     * @param sort   the sort order, used for the first page
+     * @param cursor the cursor of the previous page, or null for the first
+     * @param size   the number of clients in a page
+     * @throws InvalidCursorException if the cursor or sort is not supported
+     * @throws InvalidFilterException if the filter is not supported
+     * @return the page of clients and the cursor of the next page
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public CursorPage<ClientDTO> getAllClientsByCursor(String filter, Sort sort, String cursor, int size) {
+
+        Specification<Client> specfication = filterSpecifications.toSpecification(Client.class, filter, LIST_FIELDS);
 
-        User user = authenticationService.findUser(username);
-        Designer designer = designerService.findDesigner(user.getId());
+        return clientRepository.findClientList(specfication, Keyset.of(sort, cursor, CURSOR_SORTS), size);
+    }
 
-        return clientRepository.findClientsByDesignerId(designer.getId(), pageable);
+    /**
+     * Returns the page of the designer's clients after a cursor.
+     * 
+     * @param designerId the logged in designer's unique identifier
+     * @param sort       the sort order, used for the first page
+     * @param cursor     the cursor of the previous page, or null for the first
+     * @param size       the number of clients in a page
+     * @throws InvalidCursorException if the cursor or sort is not supported
+     * @return the page of the designer's clients and the cursor of the next page
+     */
+    @PreAuthorize("hasRole('DESIGNER')")
+    public CursorPage<ClientSummaryDTO> getClientsByDesignerByCursor(Long designerId, Sort sort, String cursor,
+            int size) {
+        return clientRepository.findClientSummaries(designerId, Keyset.of(sort, cursor, CURSOR_SORTS), size);
+    }
+
+    /**
+     * Returns the client's current version, without loading the client.
+     * 
+     * <p>
+     * Sent as the client's ETag, so an unchanged client is answered
+     * before it is loaded and mapped.
+     * </p>
+     * 
+     * @param id client's unique identifier
+     * @throws ClientNotFoundException if the client is not found
+     * @return the client's version
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public long getClientVersion(Long id) {
+        return clientRepository.findVersionById(id)
+                .orElseThrow(() -> new ClientNotFoundException("clientId", id));
     }
 
     /**
@@ -117,8 +187,8 @@ public class ClientService {
     @PreAuthorize("hasRole('ADMIN')")
     public ClientDTO getClientById(Long id) {
 
-        Client client = findClient(id);
-        ClientDTO clientDTO = clientMapper.toDto(client);
+        Client client = findClientDetail(id);
+        ClientDTO clientDTO = clientMapper.toDto(client, clientRepository.countProjectsById(id));
         return clientDTO;
     }
 
@@ -131,20 +201,23 @@ public class ClientService {
      * </p>
      * 
      * @param ClientCreateDTO the client object is created
+     * @param designerId      the logged in designer's unique identifier
      * @return client with a generated unique Id
      */
+    @Transactional
     @PreAuthorize("hasRole('DESIGNER')")
-    public ClientDTO createClient(ClientCreateDTO clientCreateDTO, String username) {
+    public ClientDTO createClient(ClientCreateDTO clientCreateDTO, Long designerId) {
 
-        // Finds the designer and assigns the user to the new client
-        User user = authenticationService.findUser(username);
-        Designer designer = designerService.findDesigner(user.getId());
+        // Assigns the logged in designer to the new client without loading it
+        Designer designer = designerService.getDesignerReference(designerId);
 
         clientCreateDTO.setDesigner(designer);
 
         Client client = clientMapper.toEntity(clientCreateDTO);
         Client savedClient = clientRepository.save(client);
-        return clientMapper.toDto(savedClient);
+
+        // A new client has no projects yet
+        return clientMapper.toDto(savedClient, 0);
     }
 
     /**
@@ -156,20 +229,24 @@ public class ClientService {
      * </p>
      * 
      * @param ClientUpdateDTO the client object is updated
-     * @throws ClientNotFoundException if the client is not found
+     * @param ifMatch         the If-Match header, or null
+     * @throws ClientNotFoundException     if the client is not found
+     * @throws PreconditionFailedException if the client has changed
      * @return the updated client object
      */
+    @Transactional
     @PreAuthorize("hasRole('DESIGNER')")
-    public ClientDTO updateClient(Long id, ClientUpdateDTO clientUpdateDTO, String username) {
-
-        Client existingClient = findClient(id);
+    public ClientDTO updateClient(Long id, ClientUpdateDTO clientUpdateDTO, Long designerId, String ifMatch) {
 
-        if (existingClient.getDesigner().getUser().getUsername() != username) {
-            throw new AccessDeniedException("User does not have authorization");
-        }
+        ownershipService.checkClient(id, designerId);
 
+        Client existingClient = findClientDetail(id);
+        IfMatch.check(ifMatch, existingClient.getVersion());
         clientMapper.updateEntity(clientUpdateDTO, existingClient);
-        return clientMapper.toDto(clientRepository.save(existingClient));
+
+        // Flushed so the returned version is the new one
+        return clientMapper.toDto(clientRepository.saveAndFlush(existingClient),
+                clientRepository.countProjectsById(id));
     }
 
     /**
@@ -206,4 +283,10 @@ public class ClientService {
                 .orElseThrow(() -> new ClientNotFoundException("clientId", id));
     }
 
+    // Loads the client with what the client DTO shows
+    private Client findClientDetail(Long id) {
+        return clientRepository.findDetailById(id)
+                .orElseThrow(() -> new ClientNotFoundException("clientId", id));
+    }
+
 }
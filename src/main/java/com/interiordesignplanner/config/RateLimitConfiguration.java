@@ -0,0 +1,51 @@
+package com.interiordesignplanner.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.interiordesignplanner.security.RateLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Rate Limit Config for login and registration.
+ * 
+ * <p>
+ * One limiter is keyed by client IP (checked by the RateLimitFilter), the
+ * other by username and client IP (charged on failed logins). Idle buckets
+ * are evicted on a schedule.
+ * </p>
+ */
+@Configuration
+public class RateLimitConfiguration {
+
+    private final List<RateLimiter> rateLimiters;
+
+    public RateLimitConfiguration(List<RateLimiter> rateLimiters) {
+        this.rateLimiters = rateLimiters;
+    }
+
+    @Bean
+    public static RateLimiter ipRateLimiter(MeterRegistry meterRegistry,
+            @Value("${rate-limit.ip.capacity:20}") long capacity,
+            @Value("${rate-limit.ip.refill-period:3000}") long refillPeriod) {
+        return new RateLimiter("ip", capacity, refillPeriod, meterRegistry);
+    }
+
+    @Bean
+    public static RateLimiter usernameRateLimiter(MeterRegistry meterRegistry,
+            @Value("${rate-limit.username.capacity:5}") long capacity,
+            @Value("${rate-limit.username.refill-period:60000}") long refillPeriod) {
+        return new RateLimiter("username", capacity, refillPeriod, meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        rateLimiters.forEach(RateLimiter::evictIdle);
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.interiordesignplanner.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@EnableScheduling // Enables background refresh tasks
+@Configuration
+public class SchedulingConfiguration {
+
+}
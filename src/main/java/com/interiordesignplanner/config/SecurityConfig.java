@@ -1,5 +1,7 @@
 package com.interiordesignplanner.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,7 +14,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -22,7 +23,13 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.interiordesignplanner.security.ApplicationUserDetailsService;
+import com.interiordesignplanner.security.BoundedPasswordEncoder;
+import com.interiordesignplanner.security.CalibratedPasswordEncoder;
 import com.interiordesignplanner.security.JwtFilter;
+import com.interiordesignplanner.security.RateLimitFilter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -40,11 +47,38 @@ public class SecurityConfig {
 
     private final JwtFilter jwtFilter;
 
+    private final RateLimitFilter rateLimitFilter;
+
     private final ApplicationUserDetailsService applicationUserDetailsService;
 
-    public SecurityConfig(JwtFilter jwtFilter, ApplicationUserDetailsService applicationUserDetailsService) {
+    // Password hashing pool, 0 threads uses one per CPU
+    @Value("${password.encoder.threads:0}")
+    private int encoderThreads;
+
+    @Value("${password.encoder.queue-capacity:16}")
+    private int encoderQueueCapacity;
+
+    @Value("${password.encoder.retry-after:1}")
+    private long encoderRetryAfter;
+
+    // BCrypt cost, 0 calibrates it against the latency budget at startup
+    @Value("${password.encoder.strength:0}")
+    private int encoderStrength;
+
+    @Value("${password.encoder.budget:250}")
+    private long encoderBudget;
+
+    @Value("${password.encoder.min-strength:10}")
+    private int encoderMinStrength;
+
+    @Value("${password.encoder.max-strength:14}")
+    private int encoderMaxStrength;
+
+    public SecurityConfig(JwtFilter jwtFilter, RateLimitFilter rateLimitFilter,
+            ApplicationUserDetailsService applicationUserDetailsService) {
 
         this.jwtFilter = jwtFilter;
+        this.rateLimitFilter = rateLimitFilter;
         this.applicationUserDetailsService = applicationUserDetailsService;
 
     }
@@ -56,7 +90,8 @@ public class SecurityConfig {
      * against csrf and cors.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationProvider authenticationProvider)
+            throws Exception {
 
         return http
                 .csrf(csrfConfig -> csrfConfig.disable())
@@ -66,11 +101,12 @@ public class SecurityConfig {
                         .requestMatchers("/swagger-ui/**", "swagger-ui-interior-design-planner.html", "/v3/api-docs/**",
                                 "/swagger-reasources/**", "/webjars/**", "/actuator/health")
                         .permitAll()
-                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/api/admin/**", "/actuator/**").hasRole("ADMIN")
                         .anyRequest().hasAnyRole("ADMIN", "DESIGNER"))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .authenticationProvider(authenticationProvider())
+                .authenticationProvider(authenticationProvider)
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtFilter.class)
                 .build();
 
     }
@@ -81,11 +117,14 @@ public class SecurityConfig {
      * New strategy to perform authentication
      * 
      * Links the user details service and password encoder
+     * 
+     * Re-encodes the password on login when its cost differs from the target
      */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider(applicationUserDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(applicationUserDetailsService);
         return provider;
     }
 
@@ -98,13 +137,30 @@ public class SecurityConfig {
      * BCryptPasswordEncoder
      * 
      * Hashes the plain user password
+     * 
+     * Runs on a bounded pool so hashing cannot take over the request threads
+     * 
+     * The cost is the highest one within the latency budget on this node
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int strength = encoderStrength > 0 ? encoderStrength
+                : CalibratedPasswordEncoder.calibrate(encoderBudget, encoderMinStrength, encoderMaxStrength);
+        Gauge.builder("password.encoder.strength", () -> strength).register(meterRegistry);
+
+        int threads = encoderThreads > 0 ? encoderThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new CalibratedPasswordEncoder(strength), threads, encoderQueueCapacity,
+                encoderRetryAfter, meterRegistry);
     }
 
+    /**
+     * CompromisedPasswordChecker
+     * 
+     * Checks passwords with the Have I Been Pwned API, unless
+     * password.breach.checker=local selects the offline checker
+     */
     @Bean
+    @ConditionalOnProperty(name = "password.breach.checker", havingValue = "hibp", matchIfMissing = true)
     public CompromisedPasswordChecker compromisedPasswordChecker() {
         return new HaveIBeenPwnedRestApiPasswordChecker();
     }
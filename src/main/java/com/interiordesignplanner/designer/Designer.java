@@ -9,6 +9,7 @@ import com.interiordesignplanner.authentication.User;
 import com.interiordesignplanner.client.Client;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
@@ -39,7 +40,7 @@ public class Designer extends AbstractEntity {
     private String location;
 
     // Creates One to One Bidirectional relationship with the user entity
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
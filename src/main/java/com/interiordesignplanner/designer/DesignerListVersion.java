@@ -0,0 +1,31 @@
+package com.interiordesignplanner.designer;
+
+import java.time.Instant;
+
+/**
+ * DesignerListVersion (Validator for a designer's lists)
+ *
+ * <p>
+ * The number of clients and projects a designer has and when each was last
+ * modified. Adding, removing or editing a client or project changes it, so
+ * it is used as the ETag of the designer's client and project lists. Both
+ * lists show values from the other table, the client list counts projects
+ * and the project list names clients, so both tables are included.
+ * </p>
+ */
+public record DesignerListVersion(Long clients, Instant clientsModified, Long projects, Instant projectsModified) {
+
+    /**
+     * Returns the validator as an ETag value, to microsecond precision.
+     *
+     * @return the ETag value, without quotes
+     */
+    public String eTag() {
+        return clients + "-" + micros(clientsModified) + "-" + projects + "-" + micros(projectsModified);
+    }
+
+    private static long micros(Instant instant) {
+        return instant == null ? 0 : instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+
+}
@@ -3,9 +3,26 @@ package com.interiordesignplanner.designer;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface DesignerRepository extends JpaRepository<Designer, Long> {
 
     Optional<Designer> findByUserId(Long userId);
 
+    @Query("SELECT d.id FROM Designer d WHERE d.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds the validator of the designer's client and project lists.
+     *
+     * Read from the designer_id and updated_at indexes, no client or
+     * project rows are loaded.
+     *
+     * @param designerId the designer's unique identifier
+     * @return the counts and last modified times if the designer is found
+     */
+    @Query("SELECT new com.interiordesignplanner.designer.DesignerListVersion((SELECT COUNT(c) FROM Client c WHERE c.designer.id = d.id), (SELECT MAX(c.updatedAt) FROM Client c WHERE c.designer.id = d.id), (SELECT COUNT(p) FROM Project p WHERE p.designerId = d.id), (SELECT MAX(p.updatedAt) FROM Project p WHERE p.designerId = d.id)) FROM Designer d WHERE d.id = :designerId")
+    Optional<DesignerListVersion> findListVersion(@Param("designerId") Long designerId);
+
 }
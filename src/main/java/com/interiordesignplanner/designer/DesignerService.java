@@ -26,4 +26,49 @@ public class DesignerService {
                 .orElseThrow(() -> new UserNotFoundException("userId", userId));
     }
 
+    /**
+     * Returns a reference to the Designer's entity without loading it
+     * 
+     * Used with the designer id carried by the logged in user
+     * 
+     * @param designerId the designer's unique identifier
+     * @throws UserNotFoundException if the user is not a designer
+     * @return the designer reference
+     */
+    public Designer getDesignerReference(Long designerId) {
+
+        if (designerId == null) {
+            throw new UserNotFoundException("designerId", designerId);
+        }
+
+        return designerRepository.getReferenceById(designerId);
+    }
+
+    /**
+     * Returns the ETag of the designer's client and project lists
+     * 
+     * Changes whenever one of the designer's clients or projects is added,
+     * removed or edited, without loading them
+     * 
+     * @param designerId the designer's unique identifier
+     * @return the ETag value
+     */
+    public String getListETag(Long designerId) {
+        return getListVersion(designerId).eTag();
+    }
+
+    /**
+     * Returns the validator of the designer's client and project lists
+     * 
+     * Holds the number of clients and projects, so the lists can be totalled
+     * without counting their pages
+     * 
+     * @param designerId the designer's unique identifier
+     * @return the counts and last modified times, empty if there is no designer
+     */
+    public DesignerListVersion getListVersion(Long designerId) {
+        return designerRepository.findListVersion(designerId)
+                .orElse(new DesignerListVersion(0L, null, 0L, null));
+    }
+
 }
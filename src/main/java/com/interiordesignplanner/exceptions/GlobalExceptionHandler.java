@@ -8,8 +8,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.password.CompromisedPasswordException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -183,6 +185,124 @@ public class GlobalExceptionHandler {
                 return new ResponseEntity<>(e.getMessage(), HttpStatus.UNAUTHORIZED);
         }
 
+        /**
+         * ServiceBusyException:
+         * 
+         * Handles requests rejected while a bounded resource
+         * is saturated, the client is told when to retry
+         */
+        @ExceptionHandler(ServiceBusyException.class)
+        public ResponseEntity<ErrorResponse> handleServiceBusyException(
+                        ServiceBusyException e, WebRequest webRequest) {
+
+                ErrorResponse errorResponse = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, e
+                                .getMessage(),
+                                LocalDateTime.now(), webRequest.getDescription(false));
+
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                                .body(errorResponse);
+        }
+
+        /**
+         * PreconditionFailedException:
+         * 
+         * Handles writes whose If-Match header names a version
+         * that has since been changed by another request
+         */
+        @ExceptionHandler(PreconditionFailedException.class)
+        public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+                        PreconditionFailedException e, WebRequest webRequest) {
+
+                ErrorResponse errorResponse = new ErrorResponse(HttpStatus.PRECONDITION_FAILED, e
+                                .getMessage(),
+                                LocalDateTime.now(), webRequest.getDescription(false));
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+        }
+
+        /**
+         * PreconditionRequiredException:
+         * 
+         * Handles writes addressed by list index that were sent
+         * without an If-Match header
+         */
+        @ExceptionHandler(PreconditionRequiredException.class)
+        public ResponseEntity<ErrorResponse> handlePreconditionRequiredException(
+                        PreconditionRequiredException e, WebRequest webRequest) {
+
+                ErrorResponse errorResponse = new ErrorResponse(HttpStatus.PRECONDITION_REQUIRED, e
+                                .getMessage(),
+                                LocalDateTime.now(), webRequest.getDescription(false));
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_REQUIRED);
+        }
+
+        /**
+         * InvalidCursorException:
+         * 
+         * Handles cursor listings given a cursor that cannot be
+         * read or a sort they do not support
+         */
+        @ExceptionHandler(InvalidCursorException.class)
+        public ResponseEntity<ErrorResponse> handleInvalidCursorException(
+                        InvalidCursorException e, WebRequest webRequest) {
+
+                ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST, e
+                                .getMessage(),
+                                LocalDateTime.now(), webRequest.getDescription(false));
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+
+        /**
+         * InvalidFilterException:
+         * 
+         * Handles admin listings filtered or sorted on a
+         * property that is not indexed for them
+         */
+        @ExceptionHandler(InvalidFilterException.class)
+        public ResponseEntity<ErrorResponse> handleInvalidFilterException(
+                        InvalidFilterException e, WebRequest webRequest) {
+
+                ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST, e
+                                .getMessage(),
+                                LocalDateTime.now(), webRequest.getDescription(false));
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+
+        /**
+         * ObjectOptimisticLockingFailureException:
+         * 
+         * Handles two writes to the same row racing, the one
+         * that commits second no longer matches the row's version
+         */
+        @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+        public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+                        ObjectOptimisticLockingFailureException e, WebRequest webRequest) {
+
+                ErrorResponse errorResponse = new ErrorResponse(HttpStatus.PRECONDITION_FAILED,
+                                "The resource was changed by another request",
+                                LocalDateTime.now(), webRequest.getDescription(false));
+
+                return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+        }
+
+        /**
+         * RateLimitExceededException:
+         * 
+         * Handles clients or usernames over their request limit
+         */
+        @ExceptionHandler(RateLimitExceededException.class)
+        public ResponseEntity<String> handleRateLimitExceededException(
+                        RateLimitExceededException e, HttpServletRequest request) {
+
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                                .body(e.getMessage());
+        }
+
         /**
          * InternalServerErrorException:
          * 
@@ -0,0 +1,14 @@
+package com.interiordesignplanner.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidCursorException when a cursor listing is
+     * given a cursor it cannot read or a sort it does not support.
+     */
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+}
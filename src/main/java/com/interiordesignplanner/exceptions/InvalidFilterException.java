@@ -0,0 +1,14 @@
+package com.interiordesignplanner.exceptions;
+
+public class InvalidFilterException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidFilterException when a listing is filtered or
+     * sorted on a field that is not indexed for it.
+     */
+
+    public InvalidFilterException(String message) {
+        super(message);
+    }
+
+}
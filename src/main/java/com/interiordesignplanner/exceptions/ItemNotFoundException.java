@@ -0,0 +1,18 @@
+package com.interiordesignplanner.exceptions;
+
+/**
+ * Thrown when an item is not found in a room.
+ */
+public class ItemNotFoundException extends EntityNotFoundException {
+
+    /**
+     * Constructs a new ItemNotFoundException when the item with
+     * the itemId or index is not found in the room.
+     *
+     * @param id is not found
+     */
+    public ItemNotFoundException(String fieldName, Object value) {
+        super("Item is not found with " + fieldName + ": " + value);
+    }
+
+}
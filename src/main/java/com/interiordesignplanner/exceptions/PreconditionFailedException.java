@@ -0,0 +1,14 @@
+package com.interiordesignplanner.exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * Constructs a new PreconditionFailedException when the If-Match
+     * header no longer matches the resource's current version.
+     */
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.interiordesignplanner.exceptions;
+
+public class PreconditionRequiredException extends RuntimeException {
+
+    /**
+     * Constructs a new PreconditionRequiredException when a write that can
+     * only be applied safely to a known version is sent without an If-Match
+     * header.
+     */
+
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.interiordesignplanner.exceptions;
+
+public class RateLimitExceededException extends RuntimeException {
+
+    // Seconds the client should wait before retrying
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a new RateLimitExceededException when a client or username
+     * has used up its requests for now.
+     */
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super("Too many requests, please try again later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.interiordesignplanner.exceptions;
+
+public class ServiceBusyException extends RuntimeException {
+
+    // Seconds the client should wait before retrying
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a new ServiceBusyException when a bounded resource is
+     * saturated and the request is rejected instead of queued.
+     */
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.interiordesignplanner.exceptions;
+
+/**
+ * Thrown when a task is not found in a room.
+ */
+public class TaskNotFoundException extends EntityNotFoundException {
+
+    /**
+     * Constructs a new TaskNotFoundException when the task with
+     * the taskId or index is not found in the room.
+     *
+     * @param id is not found
+     */
+    public TaskNotFoundException(String fieldName, Object value) {
+        super("Task is not found with " + fieldName + ": " + value);
+    }
+
+}
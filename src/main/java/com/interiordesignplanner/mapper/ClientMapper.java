@@ -1,35 +1,75 @@
 package com.interiordesignplanner.mapper;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.interiordesignplanner.client.Client;
 import com.interiordesignplanner.client.ClientCreateDTO;
 import com.interiordesignplanner.client.ClientDTO;
 import com.interiordesignplanner.client.ClientUpdateDTO;
+import com.interiordesignplanner.designer.Designer;
 
-import lombok.AllArgsConstructor;
-
+/**
+ * ClientMapper (Client mapping)
+ *
+ * <p>
+ * Copies each field by hand, without reflection. A client is shown with
+ * their number of projects, counted by the caller so the projects are not
+ * loaded, and their designer's full name. Updates only change the fields
+ * that were given.
+ * </p>
+ */
 @Component
-@AllArgsConstructor
 public class ClientMapper {
 
-    @Autowired
-    private ModelMapper modelMapper;
-
-    public ClientDTO toDto(Client entity) {
-        ClientDTO dto = modelMapper.map(entity, ClientDTO.class);
+    public ClientDTO toDto(Client entity, int totalProjects) {
+        ClientDTO dto = new ClientDTO();
+        dto.setId(entity.getId());
+        dto.setFirstName(entity.getFirstName());
+        dto.setLastName(entity.getLastName());
+        dto.setEmailAddress(entity.getEmailAddress());
+        dto.setPhoneNumber(entity.getPhoneNumber());
+        dto.setAddress(entity.getAddress());
+        dto.setNotes(entity.getNotes());
+        dto.setTotalProjects(totalProjects);
+        Designer designer = entity.getDesigner();
+        if (designer != null) {
+            dto.setDesigner(designer.getUser().getFirstName() + " " + designer.getUser().getLastName());
+        }
+        dto.setVersion(entity.getVersion());
         return dto;
     }
 
     public Client toEntity(ClientCreateDTO clientCreateDTO) {
-        Client entity = modelMapper.map(clientCreateDTO, Client.class);
+        Client entity = new Client();
+        entity.setFirstName(clientCreateDTO.getFirstName());
+        entity.setLastName(clientCreateDTO.getLastName());
+        entity.setEmailAddress(clientCreateDTO.getEmailAddress());
+        entity.setPhoneNumber(clientCreateDTO.getPhoneNumber());
+        entity.setAddress(clientCreateDTO.getAddress());
+        entity.setNotes(clientCreateDTO.getNotes());
+        entity.setDesigner(clientCreateDTO.getDesigner());
         return entity;
     }
 
     public void updateEntity(ClientUpdateDTO clientUpdateDTO, Client client) {
-        modelMapper.map(clientUpdateDTO, client);
+        if (clientUpdateDTO.getFirstName() != null) {
+            client.setFirstName(clientUpdateDTO.getFirstName());
+        }
+        if (clientUpdateDTO.getLastName() != null) {
+            client.setLastName(clientUpdateDTO.getLastName());
+        }
+        if (clientUpdateDTO.getEmailAddress() != null) {
+            client.setEmailAddress(clientUpdateDTO.getEmailAddress());
+        }
+        if (clientUpdateDTO.getPhoneNumber() != null) {
+            client.setPhoneNumber(clientUpdateDTO.getPhoneNumber());
+        }
+        if (clientUpdateDTO.getAddress() != null) {
+            client.setAddress(clientUpdateDTO.getAddress());
+        }
+        if (clientUpdateDTO.getNotes() != null) {
+            client.setNotes(clientUpdateDTO.getNotes());
+        }
     }
 
 }
@@ -1,35 +1,85 @@
 package com.interiordesignplanner.mapper;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.interiordesignplanner.client.Client;
 import com.interiordesignplanner.project.Project;
 import com.interiordesignplanner.project.ProjectCreateDTO;
 import com.interiordesignplanner.project.ProjectDTO;
 import com.interiordesignplanner.project.ProjectUpdateDTO;
 
-import lombok.AllArgsConstructor;
-
+/**
+ * ProjectMapper (Project mapping)
+ *
+ * <p>
+ * Copies each field by hand, without reflection. A project is shown with
+ * its client's full name and its room's type. Updates only change the
+ * fields that were given.
+ * </p>
+ */
 @Component
-@AllArgsConstructor
 public class ProjectMapper {
 
-    @Autowired
-    private ModelMapper modelMapper;
-
     public ProjectDTO toDto(Project entity) {
-        ProjectDTO dto = modelMapper.map(entity, ProjectDTO.class);
+        ProjectDTO dto = new ProjectDTO();
+        dto.setId(entity.getId());
+        Client client = entity.getClient();
+        if (client != null) {
+            dto.setClientName(client.getFirstName() + " " + client.getLastName());
+        }
+        dto.setProjectName(entity.getProjectName());
+        dto.setStatus(entity.getStatus());
+        dto.setBudget(entity.getBudget());
+        dto.setStartDate(entity.getStartDate());
+        dto.setDueDate(entity.getDueDate());
+        dto.setMeetingURL(entity.getMeetingURL());
+        dto.setDescription(entity.getDescription());
+        dto.setCompletedAt(entity.getCompletedAt());
+        if (entity.getRoom() != null) {
+            dto.setRoom(entity.getRoom().getType());
+        }
+        dto.setPlannedCost(entity.getPlannedCost());
+        dto.setOrderedCost(entity.getOrderedCost());
+        dto.setItemCount(entity.getItemCount());
+        dto.setVersion(entity.getVersion());
         return dto;
     }
 
     public Project toEntity(ProjectCreateDTO projectCreateDTO) {
-        Project entity = modelMapper.map(projectCreateDTO, Project.class);
+        Project entity = new Project();
+        entity.setClient(projectCreateDTO.getClient());
+        entity.setProjectName(projectCreateDTO.getProjectName());
+        entity.setStatus(projectCreateDTO.getStatus());
+        entity.setBudget(projectCreateDTO.getBudget());
+        entity.setStartDate(projectCreateDTO.getStartDate());
+        entity.setDueDate(projectCreateDTO.getDueDate());
+        entity.setDescription(projectCreateDTO.getDescription());
+        entity.setMeetingURL(projectCreateDTO.getMeetingURL());
         return entity;
     }
 
     public void updateEntity(ProjectUpdateDTO projectUpdateDTO, Project project) {
-        modelMapper.map(projectUpdateDTO, project);
+        if (projectUpdateDTO.getProjectName() != null) {
+            project.setProjectName(projectUpdateDTO.getProjectName());
+        }
+        if (projectUpdateDTO.getStatus() != null) {
+            project.setStatus(projectUpdateDTO.getStatus());
+        }
+        if (projectUpdateDTO.getBudget() != null) {
+            project.setBudget(projectUpdateDTO.getBudget());
+        }
+        if (projectUpdateDTO.getStartDate() != null) {
+            project.setStartDate(projectUpdateDTO.getStartDate());
+        }
+        if (projectUpdateDTO.getDueDate() != null) {
+            project.setDueDate(projectUpdateDTO.getDueDate());
+        }
+        if (projectUpdateDTO.getDescription() != null) {
+            project.setDescription(projectUpdateDTO.getDescription());
+        }
+        if (projectUpdateDTO.getMeetingURL() != null) {
+            project.setMeetingURL(projectUpdateDTO.getMeetingURL());
+        }
     }
 
 }
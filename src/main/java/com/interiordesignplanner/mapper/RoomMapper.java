@@ -1,34 +1,176 @@
 package com.interiordesignplanner.mapper;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
+import java.util.List;
+
 import org.springframework.stereotype.Component;
 
+import com.interiordesignplanner.room.Item;
+import com.interiordesignplanner.room.ItemDTO;
+import com.interiordesignplanner.room.ItemUpdateDTO;
 import com.interiordesignplanner.room.Room;
 import com.interiordesignplanner.room.RoomCreateDTO;
 import com.interiordesignplanner.room.RoomDTO;
 import com.interiordesignplanner.room.RoomUpdateDTO;
+import com.interiordesignplanner.room.Task;
+import com.interiordesignplanner.room.TaskDTO;
+import com.interiordesignplanner.room.TaskUpdateDTO;
 
-import lombok.AllArgsConstructor;
-
+/**
+ * RoomMapper (Room, task and item mapping)
+ *
+ * <p>
+ * Copies each field by hand, without reflection. A room is shown with its
+ * project's name, checklist and inventory. Updates only change the fields
+ * that were given, a task's or item's id and version are never copied from
+ * a request.
+ * </p>
+ */
 @Component
-@AllArgsConstructor
 public class RoomMapper {
-    @Autowired
-    private ModelMapper modelMapper;
 
     public RoomDTO toDto(Room entity) {
-        RoomDTO dto = modelMapper.map(entity, RoomDTO.class);
-        return dto;
+        return toDto(entity, entity.getChecklist(), entity.getInventory());
+    }
+
+    // Maps a room with a checklist and inventory that were read for a whole
+    // page of rooms, the room's own collections are not read
+    public RoomDTO toDto(Room entity, List<Task> checklist, List<Item> inventory) {
+        String projectName = entity.getProject() == null ? null : entity.getProject().getProjectName();
+        return new RoomDTO(entity.getId(), projectName, entity.getType(), entity.getLength(), entity.getHeight(),
+                entity.getWidth(), entity.getUnit(), checklist.stream().map(this::toDto).toList(),
+                inventory.stream().map(this::toDto).toList(), entity.getVersion());
     }
 
     public Room toEntity(RoomCreateDTO roomCreateDTO) {
-        Room entity = modelMapper.map(roomCreateDTO, Room.class);
+        Room entity = new Room();
+        entity.setProject(roomCreateDTO.getProject());
+        entity.setType(roomCreateDTO.getType());
+        entity.setLength(roomCreateDTO.getLength());
+        entity.setHeight(roomCreateDTO.getHeight());
+        entity.setWidth(roomCreateDTO.getWidth());
+        entity.setUnit(roomCreateDTO.getUnit());
         return entity;
     }
 
     public void updateEntity(RoomUpdateDTO roomUpdateDTO, Room room) {
-        modelMapper.map(roomUpdateDTO, room);
+        if (roomUpdateDTO.getType() != null) {
+            room.setType(roomUpdateDTO.getType());
+        }
+        if (roomUpdateDTO.getLength() != null) {
+            room.setLength(roomUpdateDTO.getLength());
+        }
+        if (roomUpdateDTO.getHeight() != null) {
+            room.setHeight(roomUpdateDTO.getHeight());
+        }
+        if (roomUpdateDTO.getWidth() != null) {
+            room.setWidth(roomUpdateDTO.getWidth());
+        }
+        if (roomUpdateDTO.getUnit() != null) {
+            room.setUnit(roomUpdateDTO.getUnit());
+        }
+    }
+
+    public TaskDTO toDto(Task entity) {
+        return new TaskDTO(entity.getId(), entity.getTaskName(), entity.getTask(), entity.getDate(),
+                entity.isCompleted(), entity.getVersion());
+    }
+
+    public Task toEntity(TaskDTO taskDTO) {
+        Task entity = new Task();
+        updateEntity(taskDTO, entity);
+        return entity;
+    }
+
+    public void updateEntity(TaskDTO taskDTO, Task task) {
+        if (taskDTO.getTaskName() != null) {
+            task.setTaskName(taskDTO.getTaskName());
+        }
+        if (taskDTO.getTask() != null) {
+            task.setTask(taskDTO.getTask());
+        }
+        if (taskDTO.getDate() != null) {
+            task.setDate(taskDTO.getDate());
+        }
+        task.setCompleted(taskDTO.isCompleted());
+    }
+
+    public void updateEntity(TaskUpdateDTO taskUpdateDTO, Task task) {
+        if (taskUpdateDTO.getTaskName() != null) {
+            task.setTaskName(taskUpdateDTO.getTaskName());
+        }
+        if (taskUpdateDTO.getTask() != null) {
+            task.setTask(taskUpdateDTO.getTask());
+        }
+        if (taskUpdateDTO.getDate() != null) {
+            task.setDate(taskUpdateDTO.getDate());
+        }
+        if (taskUpdateDTO.getCompleted() != null) {
+            task.setCompleted(taskUpdateDTO.getCompleted());
+        }
+    }
+
+    public ItemDTO toDto(Item entity) {
+        return new ItemDTO(entity.getId(), entity.getImageUrl(), entity.getItemName(), entity.getDescription(),
+                entity.getPrice(), entity.getQuantity(), entity.getDimensions(), entity.getLink(),
+                entity.isOrdered(), entity.getVersion());
+    }
+
+    public Item toEntity(ItemDTO itemDTO) {
+        Item entity = new Item();
+        updateEntity(itemDTO, entity);
+        return entity;
+    }
+
+    public void updateEntity(ItemDTO itemDTO, Item item) {
+        if (itemDTO.getImageUrl() != null) {
+            item.setImageUrl(itemDTO.getImageUrl());
+        }
+        if (itemDTO.getItemName() != null) {
+            item.setItemName(itemDTO.getItemName());
+        }
+        if (itemDTO.getDescription() != null) {
+            item.setDescription(itemDTO.getDescription());
+        }
+        if (itemDTO.getPrice() != null) {
+            item.setPrice(itemDTO.getPrice());
+        }
+        if (itemDTO.getQuantity() != null) {
+            item.setQuantity(itemDTO.getQuantity());
+        }
+        if (itemDTO.getDimensions() != null) {
+            item.setDimensions(itemDTO.getDimensions());
+        }
+        if (itemDTO.getLink() != null) {
+            item.setLink(itemDTO.getLink());
+        }
+        item.setOrdered(itemDTO.isOrdered());
+    }
+
+    public void updateEntity(ItemUpdateDTO itemUpdateDTO, Item item) {
+        if (itemUpdateDTO.getImageUrl() != null) {
+            item.setImageUrl(itemUpdateDTO.getImageUrl());
+        }
+        if (itemUpdateDTO.getItemName() != null) {
+            item.setItemName(itemUpdateDTO.getItemName());
+        }
+        if (itemUpdateDTO.getDescription() != null) {
+            item.setDescription(itemUpdateDTO.getDescription());
+        }
+        if (itemUpdateDTO.getPrice() != null) {
+            item.setPrice(itemUpdateDTO.getPrice());
+        }
+        if (itemUpdateDTO.getQuantity() != null) {
+            item.setQuantity(itemUpdateDTO.getQuantity());
+        }
+        if (itemUpdateDTO.getDimensions() != null) {
+            item.setDimensions(itemUpdateDTO.getDimensions());
+        }
+        if (itemUpdateDTO.getLink() != null) {
+            item.setLink(itemUpdateDTO.getLink());
+        }
+        if (itemUpdateDTO.getOrdered() != null) {
+            item.setOrdered(itemUpdateDTO.getOrdered());
+        }
     }
 
 }
@@ -1,29 +1,43 @@
 package com.interiordesignplanner.mapper;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.interiordesignplanner.authentication.User;
 import com.interiordesignplanner.authentication.UserCreateDTO;
 import com.interiordesignplanner.authentication.UserDTO;
 
-import lombok.AllArgsConstructor;
-
+/**
+ * UserMapper (User mapping)
+ *
+ * <p>
+ * Copies each field by hand, without reflection. The password hash is
+ * never copied to a response.
+ * </p>
+ */
 @Component
-@AllArgsConstructor
 public class UserMapper {
 
-    @Autowired
-    private ModelMapper modelMapper;
-
     public UserDTO toDto(User entity) {
-        UserDTO dto = modelMapper.map(entity, UserDTO.class);
+        UserDTO dto = new UserDTO();
+        dto.setId(entity.getId());
+        dto.setFirstName(entity.getFirstName());
+        dto.setLastName(entity.getLastName());
+        dto.setEmailAdress(entity.getEmailAddress());
+        dto.setPhoneNumber(entity.getPhoneNumber());
+        dto.setUsername(entity.getUsername());
+        dto.setRoles(entity.getRoles());
         return dto;
     }
 
     public User toEntity(UserCreateDTO userCreateDTO) {
-        User entity = modelMapper.map(userCreateDTO, User.class);
+        User entity = new User();
+        entity.setFirstName(userCreateDTO.getFirstName());
+        entity.setLastName(userCreateDTO.getLastName());
+        entity.setEmailAddress(userCreateDTO.getEmailAddress());
+        entity.setPhoneNumber(userCreateDTO.getPhoneNumber());
+        entity.setUsername(userCreateDTO.getUsername());
+        entity.setPassword(userCreateDTO.getPassword());
+        entity.setRoles(userCreateDTO.getRoles());
         return entity;
     }
 
@@ -0,0 +1,38 @@
+package com.interiordesignplanner.project;
+
+import org.springframework.stereotype.Component;
+
+import com.interiordesignplanner.room.RoomRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * DesignerIdBackfill (Startup data fix)
+ *
+ * <p>
+ * Projects and rooms store their designer's id. Rows saved before the
+ * column existed are filled in at startup, projects first as rooms copy
+ * the value from their project. Rows already filled in are not touched,
+ * so the update is cheap once it has run.
+ * </p>
+ */
+@Component
+public class DesignerIdBackfill {
+
+    private final ProjectRepository projectRepository;
+
+    private final RoomRepository roomRepository;
+
+    public DesignerIdBackfill(ProjectRepository projectRepository, RoomRepository roomRepository) {
+        this.projectRepository = projectRepository;
+        this.roomRepository = roomRepository;
+    }
+
+    // Runs before the ownership index is loaded from these columns
+    @PostConstruct
+    public void backfill() {
+        projectRepository.backfillDesignerIds();
+        roomRepository.backfillDesignerIds();
+    }
+
+}
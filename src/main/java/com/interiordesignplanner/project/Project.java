@@ -5,17 +5,27 @@ import java.time.Instant;
 import java.time.LocalDate;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.interiordesignplanner.AbstractEntity;
 import com.interiordesignplanner.client.Client;
 import com.interiordesignplanner.room.Room;
+import com.interiordesignplanner.security.OwnershipIndexListener;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -28,22 +38,45 @@ import lombok.Setter;
  * A project belongs to one client and can belong to one room and
  * is extending the AbstractEntity class, which provides their unique
  * identifier and timestamps for creation and updates to their data.
+ *
+ * The owning designer is copied from the client, so a designer's projects
+ * are read from this table alone.
+ *
+ * Associations are lazy, the project detail graph joins the client and
+ * room shown with a project.
  */
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_designer_status_due", columnList = "designer_id, status, due_date"),
+        @Index(name = "idx_projects_status_due", columnList = "status, due_date"),
+        @Index(name = "idx_projects_over_budget", columnList = "over_budget, designer_id"),
+        @Index(name = "idx_projects_designer_updated", columnList = "designer_id, updated_at"),
+        @Index(name = "idx_projects_due_date_id", columnList = "due_date, id"),
+        @Index(name = "idx_projects_created_id", columnList = "created_at, id") })
+@EntityListeners(OwnershipIndexListener.class)
+@NamedEntityGraph(name = Project.DETAIL, attributeNodes = { @NamedAttributeNode("client"),
+        @NamedAttributeNode("room") })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Project extends AbstractEntity {
 
+    // Fetch plan for a single project or a page of projects
+    public static final String DETAIL = "Project.detail";
+
     // Foreign key to Client entity, many to one bidirectional relationship.
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", referencedColumnName = "id")
     @JsonBackReference
     private Client client;
 
+    // Designer of the client, kept in step when the project is saved
+    @JsonIgnore
+    @Column(name = "designer_id")
+    private Long designerId;
+
     // Name of the project
     private String projectName;
 
@@ -67,9 +100,38 @@ public class Project extends AbstractEntity {
     // The timestamp of project completion
     private Instant completedAt;
 
-    // Creates One to One Bidirectional relationship with the room entity
-    @OneToOne(mappedBy = "project")
+    // Inventory totals of the project's room, only changed by bulk updates
+    @JsonIgnore
+    @Column(updatable = false)
+    private BigDecimal plannedCost = BigDecimal.ZERO;
+
+    @JsonIgnore
+    @Column(updatable = false)
+    private BigDecimal orderedCost = BigDecimal.ZERO;
+
+    @JsonIgnore
+    @Column(updatable = false)
+    private Integer itemCount = 0;
+
+    // Whether the planned cost is above the budget, indexed for the report
+    @JsonIgnore
+    @Column(updatable = false)
+    private Boolean overBudget = false;
+
+    // Creates One to One Bidirectional relationship with the room entity.
+    // The inverse side cannot be proxied, it is read with a second query
+    // unless the fetch plan joins it
+    @OneToOne(mappedBy = "project", fetch = FetchType.LAZY)
     @JsonManagedReference
     private Room room;
 
+    // Copies the client's designer, also when the project is reassigned
+    @PrePersist
+    @PreUpdate
+    void copyDesignerId() {
+        if (client != null && client.getDesigner() != null) {
+            designerId = client.getDesigner().getId();
+        }
+    }
+
 }
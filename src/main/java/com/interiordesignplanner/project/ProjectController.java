@@ -3,6 +3,8 @@ package com.interiordesignplanner.project;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,11 +17,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.interiordesignplanner.CursorPage;
+import com.interiordesignplanner.ListTotal;
+import com.interiordesignplanner.SliceModel;
+import com.interiordesignplanner.designer.DesignerListVersion;
+import com.interiordesignplanner.designer.DesignerService;
 import com.interiordesignplanner.security.ApplicationUserDetails;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,6 +36,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 
 /**
  * Rest Controller for managing projects
@@ -43,6 +54,10 @@ public class ProjectController {
         @Autowired
         public ProjectService projectService;
 
+        // Validator of the designer's lists
+        @Autowired
+        public DesignerService designerService;
+
         /**
          * GET: Returns all Projects
          * 
@@ -59,21 +74,105 @@ public class ProjectController {
                 return ResponseEntity.ok(projectService.getAllProjects(filter, pageable));
         }
 
+        /**
+         * GET: Returns a page of Projects after a cursor
+         * 
+         * @return the page of projects and the cursor of the next page
+         * @response 200 if the page is found
+         * @response 400 if the cursor or sort is not supported
+         */
+        @Operation(summary = "Retrieves all client's projects with a cursor", description = "Retrieves a page of projects after the cursor of the previous page. Projects are sorted by createdAt or dueDate, and deep pages are as fast as the first")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Page of projects is found"),
+                        @ApiResponse(responseCode = "400", description = "Cursor or sort is not supported") })
+        @GetMapping(value = "/admin/projects/cursor", produces = "application/json")
+        @PreAuthorize("hasRole('ADMIN')")
+        public CursorPage<ProjectDTO> getAllProjectsByCursor(@RequestParam(required = false) String filter,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size, Sort sort) {
+                return projectService.getAllProjectsByCursor(filter, sort, cursor, size);
+        }
+
         /**
          * GET: Returns all Projects
          * 
-         * @return all project entities on the system
+         * @return the page of projects and whether another page follows
          * @response 200 if all projects are found
+         * @response 304 if no client or project changed since the If-None-Match ETag
          */
-        @Operation(summary = "Retrieves all projects", description = "Retrieves all the projects details, including their status, duedate, client and other details")
-        @ApiResponse(responseCode = "200", description = "All projects are found")
-        @ResponseStatus(HttpStatus.OK)
+        @Operation(summary = "Retrieves all projects", description = "Retrieves a page of the projects details, including their status, duedate, client and other details. The projects are not counted, the total is returned by /projects/count")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "All projects are found"),
+                        @ApiResponse(responseCode = "304", description = "Projects are unchanged") })
         @GetMapping(value = "/projects", produces = "application/json")
         @PreAuthorize("hasRole('DESIGNER')")
-        public Page<ProjectSummaryDTO> getProjects(
+        public SliceModel<ProjectSummaryDTO> getProjects(
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails,
-                        Pageable pageable) {
-                return projectService.getProjectsByDesigner(applicationUserDetails.getUsername(), pageable);
+                        Pageable pageable, WebRequest webRequest) {
+
+                // Sets the ETag, the page is not read while the lists are unchanged.
+                // No fixed response status, it would replace the 304
+                if (webRequest.checkNotModified(designerService.getListETag(applicationUserDetails.getDesignerId()))) {
+                        return null;
+                }
+
+                return SliceModel.of(
+                                projectService.getProjectsByDesigner(applicationUserDetails.getDesignerId(), pageable));
+        }
+
+        /**
+         * GET: Returns the number of Projects
+         * 
+         * @return the number of the designer's projects
+         * @response 200 if the total is found
+         * @response 304 if no client or project changed since the If-None-Match ETag
+         */
+        @Operation(summary = "Counts the projects", description = "Returns the number of the designer's projects, read with the lists' ETag instead of counting the projects")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Total is found"),
+                        @ApiResponse(responseCode = "304", description = "Projects are unchanged") })
+        @GetMapping(value = "/projects/count", produces = "application/json")
+        @PreAuthorize("hasRole('DESIGNER')")
+        public ListTotal getProjectCount(@AuthenticationPrincipal ApplicationUserDetails applicationUserDetails,
+                        WebRequest webRequest) {
+
+                // The total is part of the lists' ETag, both are read at once
+                DesignerListVersion version = designerService.getListVersion(applicationUserDetails.getDesignerId());
+                if (webRequest.checkNotModified(version.eTag())) {
+                        return null;
+                }
+
+                return new ListTotal(version.projects());
+        }
+
+        /**
+         * GET: Returns a page of the designer's Projects after a cursor
+         * 
+         * @return the page of projects and the cursor of the next page
+         * @response 200 if the page is found
+         * @response 304 if no client or project changed since the If-None-Match ETag
+         * @response 400 if the cursor or sort is not supported
+         */
+        @Operation(summary = "Retrieves the designer's projects with a cursor", description = "Retrieves a page of the designer's projects after the cursor of the previous page. Projects are sorted by createdAt or dueDate")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Page of projects is found"),
+                        @ApiResponse(responseCode = "304", description = "Projects are unchanged"),
+                        @ApiResponse(responseCode = "400", description = "Cursor or sort is not supported") })
+        @GetMapping(value = "/projects/cursor", produces = "application/json")
+        @PreAuthorize("hasRole('DESIGNER')")
+        public CursorPage<ProjectSummaryDTO> getProjectsByCursor(
+                        @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size, Sort sort,
+                        WebRequest webRequest) {
+
+                // A cursor's page only changes with the lists
+                if (webRequest.checkNotModified(designerService.getListETag(applicationUserDetails.getDesignerId()))) {
+                        return null;
+                }
+
+                return projectService.getProjectsByDesignerByCursor(applicationUserDetails.getDesignerId(), sort,
+                                cursor, size);
         }
 
         /**
@@ -82,15 +181,22 @@ public class ProjectController {
          * @param id the project's unique identifier
          * @return project's entity
          * @response 200 if project was successfully found
+         * @response 304 if the project is unchanged since the If-None-Match ETag
          * @response 404 Not found is the client doesnt exist
          */
         @Operation(summary = "Finds project by ID", description = "Returns one project, including their name, the budget, project status, start date, deadline and meeting links")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Project with id was found"),
+                        @ApiResponse(responseCode = "304", description = "Project is unchanged"),
                         @ApiResponse(responseCode = "404", description = "Project doesn't exist") })
         @GetMapping(value = "admin/projects/{projectId}", produces = "application/json")
         @PreAuthorize("hasRole('ADMIN')")
-        public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long projectId) {
+        public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long projectId, WebRequest webRequest) {
+
+                // Sets the ETag, an unchanged project is not loaded
+                if (webRequest.checkNotModified(String.valueOf(projectService.getProjectVersion(projectId)))) {
+                        return null;
+                }
 
                 ProjectDTO project = projectService.getProjectById(projectId);
                 return ResponseEntity.ok(project);
@@ -117,8 +223,9 @@ public class ProjectController {
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
                 ProjectDTO savedProject = projectService.createProject(projectCreateDTO, clientId,
-                                applicationUserDetails.getUsername());
-                return ResponseEntity.status(HttpStatus.CREATED).body(savedProject);
+                                applicationUserDetails.getDesignerId());
+                return ResponseEntity.status(HttpStatus.CREATED).eTag(String.valueOf(savedProject.getVersion()))
+                                .body(savedProject);
 
         }
 
@@ -127,23 +234,27 @@ public class ProjectController {
          * 
          * @param projectId     the project's unique identifier
          * @param updateProject the project's object to be updated
+         * @param ifMatch       the project's ETag, the change is rejected if it has changed
          * @return updated project entity
          * @response 201 if project was successfully updated
          * @response 404 not found is the project doesn't exist
+         * @response 412 if the project has changed
          */
         @Operation(summary = "Update project", description = "Updates the projects information")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Project with id was updated"),
-                        @ApiResponse(responseCode = "404", description = "Project doesn't exist") })
+                        @ApiResponse(responseCode = "404", description = "Project doesn't exist"),
+                        @ApiResponse(responseCode = "412", description = "Project has changed") })
         @PutMapping(value = "projects/{projectId}", produces = "application/json")
         @PreAuthorize("hasRole('DESIGNER')")
         public ResponseEntity<ProjectDTO> updateProject(@PathVariable("projectId") Long projectId,
                         @Valid @RequestBody ProjectUpdateDTO projectUpdateDTO,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
                 ProjectDTO updatedProject = projectService.updateProject(projectId, projectUpdateDTO,
-                                applicationUserDetails.getUsername());
-                return ResponseEntity.ok(updatedProject);
+                                applicationUserDetails.getDesignerId(), ifMatch);
+                return ResponseEntity.ok().eTag(String.valueOf(updatedProject.getVersion())).body(updatedProject);
 
         }
 
@@ -167,8 +278,9 @@ public class ProjectController {
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
                 ProjectDTO reassignedProject = projectService.reassignClient(clientId, projectId,
-                                applicationUserDetails.getUsername());
-                return ResponseEntity.ok(reassignedProject);
+                                applicationUserDetails.getDesignerId());
+                return ResponseEntity.ok().eTag(String.valueOf(reassignedProject.getVersion()))
+                                .body(reassignedProject);
 
         }
 
@@ -186,9 +298,11 @@ public class ProjectController {
         @ResponseStatus(HttpStatus.OK)
         @GetMapping(value = "projects/status", produces = "application/json")
         @PreAuthorize("hasRole('DESIGNER')")
-        public Page<ProjectDTO> getProjectsByStatus(@RequestParam String status, Pageable pageable) {
+        public Page<ProjectDTO> getProjectsByStatus(@RequestParam String status, Pageable pageable,
+                        @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
-                return projectService.getProjectsByStatus(ProjectStatus.valueOf(status.toUpperCase()), pageable);
+                return projectService.getProjectsByStatus(ProjectStatus.valueOf(status.toUpperCase()), pageable,
+                                applicationUserDetails.getDesignerId());
 
         }
 
@@ -203,8 +317,57 @@ public class ProjectController {
         @ResponseStatus(HttpStatus.OK)
         @GetMapping(value = "projects/deadlines/all", produces = "application/json")
         @PreAuthorize("hasRole('DESIGNER')")
-        public Page<Deadline> sortsProjectsByDueDate(Pageable pageable) {
-                return projectService.sortsProjectsByDueDate(pageable);
+        public Page<Deadline> sortsProjectsByDueDate(Pageable pageable,
+                        @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
+                return projectService.sortsProjectsByDueDate(pageable, applicationUserDetails.getDesignerId());
+        }
+
+        /**
+         * GET: Returns the Projects' budgets and inventory totals
+         * 
+         * @param overBudget only returns the projects planned above budget if true
+         * @return the projects' budget, planned cost, ordered cost and items
+         * @response 200 if all project's are found
+         */
+        @Operation(summary = "Project budgets", description = "Returns each project's budget with the planned and ordered cost of its room's inventory, and flags projects over budget")
+        @ApiResponse(responseCode = "200", description = "All projects are found")
+        @ResponseStatus(HttpStatus.OK)
+        @GetMapping(value = "projects/budget", produces = "application/json")
+        @PreAuthorize("hasRole('DESIGNER')")
+        public Page<ProjectBudget> getBudgets(@RequestParam(defaultValue = "false") boolean overBudget,
+                        Pageable pageable,
+                        @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
+                return projectService.getBudgets(overBudget, pageable, applicationUserDetails.getDesignerId());
+        }
+
+        /**
+         * GET: Returns the designer's inventory totals
+         * 
+         * @return the planned cost, ordered cost and items across all projects
+         * @response 200 if the totals are found
+         */
+        @Operation(summary = "Designer spend", description = "Returns the planned and ordered cost and number of items across all the designer's projects")
+        @ApiResponse(responseCode = "200", description = "Totals are found")
+        @ResponseStatus(HttpStatus.OK)
+        @GetMapping(value = "projects/budget/total", produces = "application/json")
+        @PreAuthorize("hasRole('DESIGNER')")
+        public SpendTotal getSpendTotal(@AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
+                return projectService.getSpendTotal(applicationUserDetails.getDesignerId());
+        }
+
+        /**
+         * GET: Returns all Projects over budget
+         * 
+         * @return the projects planned above their budget
+         * @response 200 if all project's are found
+         */
+        @Operation(summary = "Over budget report", description = "Returns every project whose planned cost is above its budget")
+        @ApiResponse(responseCode = "200", description = "All projects are found")
+        @ResponseStatus(HttpStatus.OK)
+        @GetMapping(value = "/admin/projects/over-budget", produces = "application/json")
+        @PreAuthorize("hasRole('ADMIN')")
+        public Page<ProjectBudget> getOverBudgetProjects(Pageable pageable) {
+                return projectService.getOverBudgetProjects(pageable);
         }
 
         /**
@@ -224,7 +387,7 @@ public class ProjectController {
         public ResponseEntity<Void> deleteProject(@PathVariable Long id,
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
-                projectService.deleteProject(id, applicationUserDetails.getUsername());
+                projectService.deleteProject(id, applicationUserDetails.getDesignerId());
                 return ResponseEntity.noContent().build();
 
         }
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.interiordesignplanner.room.RoomType;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -54,4 +55,22 @@ public class ProjectDTO {
     @Enumerated(EnumType.STRING)
     private RoomType room;
 
+    @Schema(description = "Planned cost of the room's inventory", example = "5250.00")
+    private BigDecimal plannedCost;
+
+    @Schema(description = "Cost of the items already ordered", example = "1200.00")
+    private BigDecimal orderedCost;
+
+    @Schema(description = "Number of items in the room's inventory", example = "14")
+    private Integer itemCount;
+
+    // Sent as the ETag header, not in the body
+    @JsonIgnore
+    private Long version;
+
+    @Schema(description = "Planned cost is above the budget", example = "true")
+    public boolean isOverBudget() {
+        return plannedCost != null && budget != null && plannedCost.compareTo(budget) > 0;
+    }
+
 }
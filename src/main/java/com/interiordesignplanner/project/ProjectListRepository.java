@@ -0,0 +1,51 @@
+package com.interiordesignplanner.project;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.interiordesignplanner.CursorPage;
+import com.interiordesignplanner.Keyset;
+
+/**
+ * Project listing queries, implemented by {@link ProjectListRepositoryImpl}
+ * and added to {@link ProjectRepository}.
+ */
+public interface ProjectListRepository {
+
+    /**
+     * Finds a page of projects without loading the projects.
+     *
+     * <p>
+     * The client's name and room type are joined into the same query, so a
+     * page takes two queries, one for the rows and one for the total.
+     * </p>
+     *
+     * @param filter   the RSQL filter, or null for every project
+     * @param pageable the page and sort order
+     * @return the page of projects
+     */
+    Page<ProjectDTO> findProjectList(Specification<Project> filter, Pageable pageable);
+
+    /**
+     * Finds the page of projects after a keyset position.
+     *
+     * @param filter the RSQL filter, or null for every project
+     * @param keyset the sort order and the last project read
+     * @param size   the number of projects in a page
+     * @return the page of projects and the cursor of the next page
+     */
+    CursorPage<ProjectDTO> findProjectList(Specification<Project> filter, Keyset keyset, int size);
+
+    /**
+     * Finds the page of a designer's project summaries after a keyset
+     * position.
+     *
+     * @param designerId the designer's unique identifier
+     * @param keyset     the sort order and the last project read
+     * @param size       the number of projects in a page
+     * @return the page of project summaries and the cursor of the next page
+     */
+    CursorPage<ProjectSummaryDTO> findProjectSummaries(Long designerId, Keyset keyset, int size);
+
+}
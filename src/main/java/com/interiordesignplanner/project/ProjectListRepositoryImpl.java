@@ -0,0 +1,98 @@
+package com.interiordesignplanner.project;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.interiordesignplanner.CursorPage;
+import com.interiordesignplanner.Keyset;
+import com.interiordesignplanner.ProjectionQuery;
+import com.interiordesignplanner.ProjectionQuery.Columns;
+import com.interiordesignplanner.client.Client;
+import com.interiordesignplanner.room.Room;
+import com.interiordesignplanner.room.RoomType;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+
+public class ProjectListRepositoryImpl implements ProjectListRepository {
+
+    private static final Columns<Project> PROJECT_LIST = (project, query, builder) -> {
+
+        Join<Project, Client> client = project.join("client", JoinType.LEFT);
+        Join<Project, Room> room = project.join("room", JoinType.LEFT);
+
+        return List.of(project.get("id").alias("id"),
+                builder.concat(builder.concat(client.get("firstName"), " "), client.get("lastName"))
+                        .alias("clientName"),
+                project.get("projectName").alias("projectName"), project.get("status").alias("status"),
+                project.get("budget").alias("budget"), project.get("startDate").alias("startDate"),
+                project.get("dueDate").alias("dueDate"), project.get("meetingURL").alias("meetingURL"),
+                project.get("description").alias("description"),
+                project.get("completedAt").alias("completedAt"), room.get("type").alias("room"),
+                project.get("plannedCost").alias("plannedCost"),
+                project.get("orderedCost").alias("orderedCost"), project.get("itemCount").alias("itemCount"),
+                project.get("version").alias("version"));
+    };
+
+    private static final Columns<Project> PROJECT_SUMMARIES = (project, query, builder) -> {
+
+        Join<Project, Client> client = project.join("client", JoinType.LEFT);
+
+        return List.of(project.get("id").alias("id"),
+                builder.concat(builder.concat(client.get("firstName"), " "), client.get("lastName"))
+                        .alias("clientName"),
+                project.get("projectName").alias("projectName"), project.get("status").alias("status"),
+                project.get("budget").alias("budget"), project.get("startDate").alias("startDate"),
+                project.get("dueDate").alias("dueDate"), project.get("description").alias("description"));
+    };
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProjectDTO> findProjectList(Specification<Project> filter, Pageable pageable) {
+        return ProjectionQuery.page(entityManager, Project.class, filter, pageable, PROJECT_LIST,
+                ProjectListRepositoryImpl::toDto);
+    }
+
+    @Override
+    public CursorPage<ProjectDTO> findProjectList(Specification<Project> filter, Keyset keyset, int size) {
+        return ProjectionQuery.seek(entityManager, Project.class, filter, keyset, size, PROJECT_LIST,
+                ProjectListRepositoryImpl::toDto);
+    }
+
+    @Override
+    public CursorPage<ProjectSummaryDTO> findProjectSummaries(Long designerId, Keyset keyset, int size) {
+        return ProjectionQuery.seek(entityManager, Project.class,
+                (project, query, builder) -> builder.equal(project.get("designerId"), designerId), keyset, size,
+                PROJECT_SUMMARIES, ProjectListRepositoryImpl::toSummary);
+    }
+
+    private static ProjectDTO toDto(Tuple row) {
+        return new ProjectDTO(row.get("id", Long.class), row.get("clientName", String.class),
+                row.get("projectName", String.class), row.get("status", ProjectStatus.class),
+                row.get("budget", BigDecimal.class), row.get("startDate", LocalDate.class),
+                row.get("dueDate", LocalDate.class), row.get("meetingURL", String.class),
+                row.get("description", String.class), row.get("completedAt", Instant.class),
+                row.get("room", RoomType.class), row.get("plannedCost", BigDecimal.class),
+                row.get("orderedCost", BigDecimal.class), row.get("itemCount", Integer.class),
+                row.get("version", Long.class));
+    }
+
+    private static ProjectSummaryDTO toSummary(Tuple row) {
+        return new ProjectSummaryDTO(row.get("id", Long.class), row.get("clientName", String.class),
+                row.get("projectName", String.class), row.get("status", ProjectStatus.class),
+                row.get("budget", BigDecimal.class), row.get("startDate", LocalDate.class),
+                row.get("dueDate", LocalDate.class), row.get("description", String.class));
+    }
+
+}
@@ -1,15 +1,28 @@
 package com.interiordesignplanner.project;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.interiordesignplanner.security.ResourceOwner;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for managing {@link Project} entities.
@@ -21,15 +34,29 @@ import org.springframework.stereotype.Repository;
  * </p>
  */
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project> {
+public interface ProjectRepository
+        extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project>, ProjectListRepository {
 
     /**
-     * Finds all projects by specific status.
+     * Finds a project with its client and room.
+     *
+     * @param id the project's unique identifier
+     * @return the project if found, otherwise empty
+     */
+    @Override
+    @EntityGraph(Project.DETAIL)
+    Optional<Project> findById(Long id);
+
+    /**
+     * Finds the designer's projects by specific status, with their client and
+     * room.
      * 
-     * @param status the specific project status
+     * @param designerId the designer's unique identifier
+     * @param status     the specific project status
      * @return an {@link List} of projects associated with the specified status
      */
-    Page<Project> findProjectsByStatus(ProjectStatus status, Pageable pageable);
+    @EntityGraph(Project.DETAIL)
+    Page<Project> findProjectsByDesignerIdAndStatus(Long designerId, ProjectStatus status, Pageable pageable);
 
     /**
      * Gets total number of clients projects.
@@ -40,23 +67,171 @@ public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpec
     Long countClientsProjects(Long clientId);
 
     /**
-     * Gets all projects in ascending order of due date.
+     * Gets the designer's projects in ascending order of due date.
      * Removes the completed project off the list.
      * 
+     * @param designerId the designer's unique identifier
      * @return an {@link List} projects associated with the specified status
      */
-    @Query("SELECT p.projectName,  p.status, p.dueDate FROM Project p WHERE NOT p.status = 'Completed' ORDER BY p.dueDate ASC")
-    Page<Deadline> getAllProjectsOrderByDueDate(Pageable pageable);
+    @Query(value = "SELECT p.projectName, p.status, p.dueDate FROM Project p WHERE p.designerId = :designerId AND p.status <> com.interiordesignplanner.project.ProjectStatus.COMPLETED ORDER BY p.dueDate ASC", countQuery = "SELECT COUNT(p) FROM Project p WHERE p.designerId = :designerId AND p.status <> com.interiordesignplanner.project.ProjectStatus.COMPLETED")
+    Page<Deadline> getProjectsOrderByDueDate(@Param("designerId") Long designerId, Pageable pageable);
 
     /**
-     * Finds all clients for the logged in user with pagination.
+     * Finds a slice of the projects for the logged in designer.
+     *
+     * Only the client's name is joined, the designer is matched on the
+     * project row. Read as a slice, one row more than the page is read to
+     * tell whether another page follows and the projects are not counted.
+     *
+     * @param designerId the designers unique identification
+     * @param pageable   pagination info
+     * @return slice of projects
+     */
+    @Query("SELECT new com.interiordesignplanner.project.ProjectSummaryDTO(p.id, CONCAT(c.firstName,' ', c.lastName), p.projectName, p.status, p.budget, p.startDate, p.dueDate, p.description) FROM Project p LEFT JOIN p.client c WHERE p.designerId = :designerId")
+    Slice<ProjectSummaryDTO> findProjectsByDesignerId(@Param("designerId") Long designerId, Pageable pageable);
+
+    /**
+     * Finds the id of the designer the project belongs to.
+     *
+     * @param projectId the project's unique identifier
+     * @return the designer's id if the project is found, otherwise empty
+     */
+    @Query("SELECT p.designerId FROM Project p WHERE p.id = :projectId")
+    Optional<Long> findDesignerIdById(@Param("projectId") Long projectId);
+
+    /**
+     * Finds the project's current version.
+     *
+     * @param projectId the project's unique identifier
+     * @return the version if the project is found, otherwise empty
+     */
+    @Query("SELECT p.version FROM Project p WHERE p.id = :projectId")
+    Optional<Long> findVersionById(@Param("projectId") Long projectId);
+
+    /**
+     * Streams every project id with its designer's id.
+     *
+     * Used to load the ownership index, must be read in a transaction.
+     *
+     * @return a stream of project owners
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.interiordesignplanner.security.ResourceOwner(p.id, p.designerId) FROM Project p")
+    Stream<ResourceOwner> streamOwners();
+
+    /**
+     * Copies the client's designer onto projects saved before the designer
+     * was stored on the project.
+     *
+     * @return the number of projects updated
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Project p SET p.designerId = (SELECT c.designer.id FROM Client c WHERE c.id = p.client.id) WHERE p.designerId IS NULL AND p.client IS NOT NULL")
+    int backfillDesignerIds();
+
+    /**
+     * Finds the designer's projects with their inventory totals.
+     *
+     * @param designerId the designer's unique identifier
+     * @param pageable   pagination info
+     * @return paginated list of project budgets
+     */
+    @Query(value = "SELECT new com.interiordesignplanner.project.ProjectBudget(p.id, p.projectName, p.budget, p.plannedCost, p.orderedCost, p.itemCount, p.overBudget) FROM Project p WHERE p.designerId = :designerId", countQuery = "SELECT COUNT(p) FROM Project p WHERE p.designerId = :designerId")
+    Page<ProjectBudget> findBudgetsByDesignerId(@Param("designerId") Long designerId, Pageable pageable);
+
+    /**
+     * Finds the designer's projects planned above their budget.
+     *
+     * @param designerId the designer's unique identifier
+     * @param pageable   pagination info
+     * @return paginated list of project budgets
+     */
+    @Query(value = "SELECT new com.interiordesignplanner.project.ProjectBudget(p.id, p.projectName, p.budget, p.plannedCost, p.orderedCost, p.itemCount, p.overBudget) FROM Project p WHERE p.overBudget = true AND p.designerId = :designerId", countQuery = "SELECT COUNT(p) FROM Project p WHERE p.overBudget = true AND p.designerId = :designerId")
+    Page<ProjectBudget> findOverBudgetByDesignerId(@Param("designerId") Long designerId, Pageable pageable);
+
+    /**
+     * Finds every project planned above its budget.
+     *
+     * Read from the over budget index, the inventories are not summed.
      *
-     * @param userId   the designers unique identification
      * @param pageable pagination info
-     * @return paginated list of clients
+     * @return paginated list of project budgets
+     */
+    @Query(value = "SELECT new com.interiordesignplanner.project.ProjectBudget(p.id, p.projectName, p.budget, p.plannedCost, p.orderedCost, p.itemCount, p.overBudget) FROM Project p WHERE p.overBudget = true", countQuery = "SELECT COUNT(p) FROM Project p WHERE p.overBudget = true")
+    Page<ProjectBudget> findOverBudget(Pageable pageable);
+
+    /**
+     * Sums the inventory totals of the designer's projects.
+     *
+     * @param designerId the designer's unique identifier
+     * @return the designer's planned cost, ordered cost and number of items
+     */
+    @Query("SELECT new com.interiordesignplanner.project.SpendTotal(COALESCE(SUM(p.plannedCost), 0), COALESCE(SUM(p.orderedCost), 0), COALESCE(SUM(p.itemCount), 0)) FROM Project p WHERE p.designerId = :designerId")
+    SpendTotal sumSpendByDesignerId(@Param("designerId") Long designerId);
+
+    /**
+     * Adds an inventory change to the totals of the room's project.
+     *
+     * The over budget flag is set first, from the planned cost before the
+     * change is added. The version is incremented, so the project's ETag
+     * changes with its totals.
+     *
+     * @param roomId  the room's unique identifier
+     * @param planned the change to the planned cost
+     * @param ordered the change to the ordered cost
+     * @param items   the change to the number of items
+     * @return the number of projects updated
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Project p SET p.overBudget = CASE WHEN p.plannedCost + :planned > p.budget THEN true ELSE false END, p.plannedCost = p.plannedCost + :planned, p.orderedCost = p.orderedCost + :ordered, p.itemCount = p.itemCount + :items, p.version = p.version + 1 WHERE p.id = (SELECT r.project.id FROM Room r WHERE r.id = :roomId)")
+    int addRoomSpend(@Param("roomId") Long roomId, @Param("planned") BigDecimal planned,
+            @Param("ordered") BigDecimal ordered, @Param("items") int items);
+
+    /**
+     * Copies the totals of the project's room, used when a room moves. The
+     * version is incremented with the totals.
+     *
+     * @param projectId the project's unique identifier
+     * @return the number of projects updated
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Project p SET p.plannedCost = COALESCE((SELECT SUM(r.plannedCost) FROM Room r WHERE r.project.id = p.id), 0), p.orderedCost = COALESCE((SELECT SUM(r.orderedCost) FROM Room r WHERE r.project.id = p.id), 0), p.itemCount = COALESCE((SELECT CAST(SUM(r.itemCount) AS Integer) FROM Room r WHERE r.project.id = p.id), 0), p.version = p.version + 1 WHERE p.id = :projectId")
+    int refreshSpend(@Param("projectId") Long projectId);
+
+    /**
+     * Compares the project's planned cost with its budget again.
+     *
+     * @param projectId the project's unique identifier
+     * @return the number of projects updated
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Project p SET p.overBudget = CASE WHEN p.plannedCost > p.budget THEN true ELSE false END WHERE p.id = :projectId")
+    int refreshOverBudget(@Param("projectId") Long projectId);
+
+    /**
+     * Copies the room totals onto projects saved before their totals were
+     * stored. Rooms are filled in first.
+     *
+     * @return the number of projects updated
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Project p SET p.plannedCost = COALESCE((SELECT SUM(r.plannedCost) FROM Room r WHERE r.project.id = p.id), 0), p.orderedCost = COALESCE((SELECT SUM(r.orderedCost) FROM Room r WHERE r.project.id = p.id), 0), p.itemCount = COALESCE((SELECT CAST(SUM(r.itemCount) AS Integer) FROM Room r WHERE r.project.id = p.id), 0) WHERE p.plannedCost IS NULL")
+    int backfillSpend();
+
+    /**
+     * Sets the over budget flag of projects saved before it was stored.
+     *
+     * @return the number of projects updated
      */
-    @Query("SELECT new com.interiordesignplanner.project.ProjectSummaryDTO(p.id, CONCAT(c.firstName,' ', c.lastName), p.projectName, p.status, p.budget, p.startDate, p.dueDate, p.description) FROM Project p LEFT JOIN p.client c LEFT JOIN c.designer d LEFT JOIN d.user u WHERE c.designer.id = :userId GROUP BY p.id")
-    Page<ProjectSummaryDTO> findProjectsByDesignerId(@Param("userId") Long userId, Pageable pageable);
+    @Transactional
+    @Modifying
+    @Query("UPDATE Project p SET p.overBudget = CASE WHEN p.plannedCost > p.budget THEN true ELSE false END WHERE p.overBudget IS NULL")
+    int backfillOverBudget();
 
 }
 
@@ -64,3 +239,9 @@ public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpec
 record Deadline(String projectName, ProjectStatus status, LocalDate dueDate) {
 
 }
+
+// Project budget projection query
+record ProjectBudget(Long id, String projectName, BigDecimal budget, BigDecimal plannedCost, BigDecimal orderedCost,
+        Integer itemCount, Boolean overBudget) {
+
+}
@@ -1,25 +1,30 @@
 package com.interiordesignplanner.project;
 
 import java.time.Instant;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
-import com.interiordesignplanner.authentication.AuthenticationService;
-import com.interiordesignplanner.authentication.User;
+import com.interiordesignplanner.CursorPage;
+import com.interiordesignplanner.FilterSpecifications;
+import com.interiordesignplanner.IfMatch;
+import com.interiordesignplanner.Keyset;
 import com.interiordesignplanner.client.Client;
 import com.interiordesignplanner.client.ClientService;
-import com.interiordesignplanner.designer.Designer;
-import com.interiordesignplanner.designer.DesignerService;
+import com.interiordesignplanner.exceptions.InvalidCursorException;
+import com.interiordesignplanner.exceptions.InvalidFilterException;
+import com.interiordesignplanner.exceptions.PreconditionFailedException;
 import com.interiordesignplanner.exceptions.ProjectNotFoundException;
 import com.interiordesignplanner.mapper.ProjectMapper;
+import com.interiordesignplanner.security.OwnershipService;
 
-import io.github.perplexhub.rsql.RSQLJPASupport;
 import jakarta.transaction.Transactional;
 
 /**
@@ -38,68 +43,132 @@ import jakarta.transaction.Transactional;
 @Service
 public class ProjectService {
 
+    // Properties a cursor listing of projects can be sorted on
+    private static final List<String> CURSOR_SORTS = List.of("createdAt", "dueDate");
+
+    // Indexed properties an admin listing of projects can be filtered and sorted on
+    private static final List<String> LIST_FIELDS = List.of("id", "status", "dueDate", "createdAt", "designerId",
+            "overBudget");
+
     // Project CRUD Interface
     private final ProjectRepository projectRepository;
 
     // Client Service layer
     private final ClientService clientService;
 
-    // User Service
-    private final AuthenticationService authenticationService;
-
-    // Designer Service
-    private final DesignerService designerService;
-
     // Project Mapper
     private final ProjectMapper projectMapper;
 
+    // Ownership checks
+    private final OwnershipService ownershipService;
+
+    // Checked and cached admin filters
+    private final FilterSpecifications filterSpecifications;
+
     // Constructor
     public ProjectService(ProjectRepository projectRepository, ClientService clientService,
-            AuthenticationService authenticationService, DesignerService designerService,
-            ProjectMapper projectMapper) {
+            ProjectMapper projectMapper, OwnershipService ownershipService,
+            FilterSpecifications filterSpecifications) {
         this.projectRepository = projectRepository;
         this.clientService = clientService;
         this.projectMapper = projectMapper;
-        this.authenticationService = authenticationService;
-        this.designerService = designerService;
+        this.ownershipService = ownershipService;
+        this.filterSpecifications = filterSpecifications;
     }
 
     /**
      * Returns all projects on the system and their room.
+     * 
+     * <p>
+     * Projects can only be filtered and sorted on indexed properties.
+     * </p>
+     * 
+     * @throws InvalidFilterException if the filter or sort is not supported
      */
     @PreAuthorize("hasRole('ADMIN')")
     public Page<ProjectDTO> getAllProjects(String filter, Pageable pageable) {
 
-        Page<Project> projects;
-
-        if (filter != null) {
-            Specification<Project> specfication = RSQLJPASupport.toSpecification(filter);
-            projects = projectRepository.findAll(specfication, pageable);
-        } else {
-            projects = projectRepository.findAll(pageable);
-        }
+        filterSpecifications.checkSort(pageable.getSort(), LIST_FIELDS);
+        Specification<Project> specfication = filterSpecifications.toSpecification(Project.class, filter,
+                LIST_FIELDS);
 
-        return projects.map(project -> {
-            ProjectDTO projectDTO = projectMapper.toDto(project);
-            return projectDTO;
-        });
+        return projectRepository.findProjectList(specfication, pageable);
     }
 
     /**
      * Returns the designer's client's project details.
      * 
-     * @param username retrieves the projects assigned designer
-     * @throws UsernameNotFoundException if the user is not found
-     * @throws DesignerNotFoundException if the designer is not found
-     * @return logged in designer's list of projects
+     * <p>
+     * The projects are read as a slice and not counted, the total is
+     * returned separately by the designer's list version.
+     * </p>
+     * 
+     * @param designerId the logged in designer's unique identifier
+     * @return logged in designer's slice of projects
      */
     @PreAuthorize("hasRole('DESIGNER')")
-    public Page<ProjectSummaryDTO> getProjectsByDesigner(String username, Pageable pageable) {
+    public Slice<ProjectSummaryDTO> getProjectsByDesigner(Long designerId, Pageable pageable) {
+        return projectRepository.findProjectsByDesignerId(designerId, inCreatedOrder(pageable));
+    }
 
-        User user = authenticationService.findUser(username);
-        Designer designer = designerService.findDesigner(user.getId());
+    /**
+     * Returns the page of projects after a cursor.
+     * 
+     * <p>
+     * The page is read with a seek on the sort key and id instead of an
+     * offset, so a deep page is read as fast as the first. Projects can be
+     * sorted by createdAt or dueDate.
+     * </p>
+     * 
+     * @param filter the RSQL filter, or null for every project
+     * @param sort   the sort order, used for the first page
+     * @param cursor the cursor of the previous page, or null for the first
+     * @param size   the number of projects in a page
+     * @throws InvalidCursorException if the cursor or sort is not supported
+     * @throws InvalidFilterException if the filter is not supported
+     * @return the page of projects and the cursor of the next page
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public CursorPage<ProjectDTO> getAllProjectsByCursor(String filter, Sort sort, String cursor, int size) {
+
+        Specification<Project> specfication = filterSpecifications.toSpecification(Project.class, filter,
+                LIST_FIELDS);
 
-        return projectRepository.findProjectsByDesignerId(designer.getId(), pageable);
+        return projectRepository.findProjectList(specfication, Keyset.of(sort, cursor, CURSOR_SORTS), size);
+    }
+
+    /**
+     * Returns the page of the designer's projects after a cursor.
+     * 
+     * @param designerId the logged in designer's unique identifier
+     * @param sort       the sort order, used for the first page
+     * @param cursor     the cursor of the previous page, or null for the first
+     * @param size       the number of projects in a page
+     * @throws InvalidCursorException if the cursor or sort is not supported
+     * @return the page of the designer's projects and the cursor of the next page
+     */
+    @PreAuthorize("hasRole('DESIGNER')")
+    public CursorPage<ProjectSummaryDTO> getProjectsByDesignerByCursor(Long designerId, Sort sort, String cursor,
+            int size) {
+        return projectRepository.findProjectSummaries(designerId, Keyset.of(sort, cursor, CURSOR_SORTS), size);
+    }
+
+    /**
+     * Returns the project's current version, without loading the project.
+     * 
+     * <p>
+     * Sent as the project's ETag, so an unchanged project is answered
+     * before it is loaded and mapped.
+     * </p>
+     * 
+     * @param id project's unique identifier
+     * @throws ProjectNotFoundException if the project is not found
+     * @return the project's version
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public long getProjectVersion(Long id) {
+        return projectRepository.findVersionById(id)
+                .orElseThrow(() -> new ProjectNotFoundException("projectId", id));
     }
 
     /**
@@ -132,18 +201,19 @@ public class ProjectService {
      * </p>
      * 
      * 
-     * @param status project status enum
+     * @param status     project status enum
+     * @param designerId the logged in designer's unique identifier
      * @returns projects with same status
      */
     @PreAuthorize("hasRole('DESIGNER')")
-    public Page<ProjectDTO> getProjectsByStatus(ProjectStatus status, Pageable pageable) {
+    public Page<ProjectDTO> getProjectsByStatus(ProjectStatus status, Pageable pageable, Long designerId) {
 
         if (status == null) {
             throw new ProjectNotFoundException("projectStatus", status);
         }
 
-        return projectRepository.findProjectsByStatus(
-                status, pageable).map(project -> {
+        return projectRepository.findProjectsByDesignerIdAndStatus(
+                designerId, status, inCreatedOrder(pageable)).map(project -> {
                     ProjectDTO projectDTO = projectMapper.toDto(project);
                     return projectDTO;
                 });
@@ -160,11 +230,55 @@ public class ProjectService {
      * Custom query created in the repository.
      * </p>
      * 
+     * @param designerId the logged in designer's unique identifier
      * @returns order by due date
      */
     @PreAuthorize("hasRole('DESIGNER')")
-    public Page<Deadline> sortsProjectsByDueDate(Pageable pageable) {
-        return projectRepository.getAllProjectsOrderByDueDate(pageable);
+    public Page<Deadline> sortsProjectsByDueDate(Pageable pageable, Long designerId) {
+        return projectRepository.getProjectsOrderByDueDate(designerId, pageable);
+    }
+
+    /**
+     * Returns the designer's projects with their budget and inventory totals.
+     * 
+     * <p>
+     * The totals are stored on the project and kept current as items change,
+     * so no inventory is read.
+     * </p>
+     * 
+     * @param overBudget only returns projects planned above their budget if true
+     * @param pageable   pagination info
+     * @param designerId the logged in designer's unique identifier
+     * @return paginated list of project budgets
+     */
+    @PreAuthorize("hasRole('DESIGNER')")
+    public Page<ProjectBudget> getBudgets(boolean overBudget, Pageable pageable, Long designerId) {
+        return overBudget
+                ? projectRepository.findOverBudgetByDesignerId(designerId, inCreatedOrder(pageable))
+                : projectRepository.findBudgetsByDesignerId(designerId, inCreatedOrder(pageable));
+    }
+
+    /**
+     * Returns the designer's planned cost, ordered cost and number of items
+     * across all their projects.
+     * 
+     * @param designerId the logged in designer's unique identifier
+     * @return the designer's totals
+     */
+    @PreAuthorize("hasRole('DESIGNER')")
+    public SpendTotal getSpendTotal(Long designerId) {
+        return projectRepository.sumSpendByDesignerId(designerId);
+    }
+
+    /**
+     * Returns every project planned above its budget.
+     * 
+     * @param pageable pagination info
+     * @return paginated list of project budgets
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public Page<ProjectBudget> getOverBudgetProjects(Pageable pageable) {
+        return projectRepository.findOverBudget(inCreatedOrder(pageable));
     }
 
     /**
@@ -180,13 +294,11 @@ public class ProjectService {
      * @throws IllegalArgumentException the project fields are null
      */
     @PreAuthorize("hasRole('DESIGNER')")
-    public ProjectDTO createProject(ProjectCreateDTO projectCreateDTO, Long clientId, String username) {
+    public ProjectDTO createProject(ProjectCreateDTO projectCreateDTO, Long clientId, Long designerId) {
 
-        Client existingClient = clientService.findClient(clientId);
+        ownershipService.checkClient(clientId, designerId);
 
-        if (existingClient.getDesigner().getUser().getUsername() != username) {
-            throw new AccessDeniedException("User does not have authorization");
-        }
+        Client existingClient = clientService.findClient(clientId);
 
         if (projectCreateDTO == null && clientId == null) {
             throw new IllegalArgumentException("Project must not be null");
@@ -212,18 +324,18 @@ public class ProjectService {
      * 
      * @param id      project's unique identifier
      * @param project project object to be updated
+     * @param ifMatch the If-Match header, or null
+     * @throws PreconditionFailedException if the project has changed
      * @return updated project
      */
+    @Transactional
     @PreAuthorize("hasRole('DESIGNER')")
-    public ProjectDTO updateProject(Long id, ProjectUpdateDTO projectUpdateDTO, String username) {
-
-        Project existingProject = findProject(id);
+    public ProjectDTO updateProject(Long id, ProjectUpdateDTO projectUpdateDTO, Long designerId, String ifMatch) {
 
-        Client existingClient = clientService.findClient(existingProject.getClient().getId());
+        ownershipService.checkProject(id, designerId);
 
-        if (existingClient.getDesigner().getUser().getUsername() != username) {
-            throw new AccessDeniedException("User does not have authorization");
-        }
+        Project existingProject = findProject(id);
+        IfMatch.check(ifMatch, existingProject.getVersion());
 
         // Updated Project Status to COMPLETED, sets completedAt field
         if (existingProject.getStatus() == ProjectStatus.COMPLETED
@@ -232,8 +344,12 @@ public class ProjectService {
         }
 
         projectMapper.updateEntity(projectUpdateDTO, existingProject);
+        Project savedProject = projectRepository.saveAndFlush(existingProject);
 
-        return projectMapper.toDto(projectRepository.save(existingProject));
+        // The budget may have changed
+        projectRepository.refreshOverBudget(id);
+
+        return projectMapper.toDto(savedProject);
     }
 
     /**
@@ -248,14 +364,10 @@ public class ProjectService {
      * @return project is deleted
      */
     @PreAuthorize("hasRole('DESIGNER')")
-    public void deleteProject(Long id, String username) {
-        Project project = findProject(id);
-        Client existingClient = clientService.findClient(project.getClient().getId());
-
-        if (existingClient.getDesigner().getUser().getUsername() != username) {
-            throw new AccessDeniedException("User does not have authorization");
-        }
+    public void deleteProject(Long id, Long designerId) {
+        ownershipService.checkProject(id, designerId);
 
+        Project project = findProject(id);
         projectRepository.delete(project);
     }
 
@@ -265,29 +377,37 @@ public class ProjectService {
      * <p>
      * Use this method when a project was assigned to the wrong client and needs to
      * be reassigned.
-     * It will update the many to one relationship.
+     * It will update the many to one relationship, and the designer
+     * stored on the project and its room.
      * </p>
      * 
      * @param clientId  client's unique identifier
      * @param projectId project's unique identifier
      * @return project is reassigned
      */
+    @Transactional
     @PreAuthorize("hasRole('DESIGNER')")
-    public ProjectDTO reassignClient(Long clientId, Long projectId, String username) {
+    public ProjectDTO reassignClient(Long clientId, Long projectId, Long designerId) {
+        // Both the project and the new client must belong to the designer
+        ownershipService.checkProject(projectId, designerId);
+        ownershipService.checkClient(clientId, designerId);
+
         Project existingProject = findProject(projectId);
         Client client = clientService.findClient(clientId);
 
-        if (client.getDesigner().getUser().getUsername() != username) {
-            throw new AccessDeniedException("User does not have authorization");
-        }
-
         if (existingProject == null || client == null) {
             throw new ProjectNotFoundException("projectId", projectId);
         }
 
         existingProject.setClient(client);
 
-        return projectMapper.toDto(projectRepository.save(existingProject));
+        // The room is not saved with the project, marks it changed so its
+        // designer is copied again on flush
+        if (existingProject.getRoom() != null && client.getDesigner() != null) {
+            existingProject.getRoom().setDesignerId(client.getDesigner().getId());
+        }
+
+        return projectMapper.toDto(projectRepository.saveAndFlush(existingProject));
     }
 
     /**
@@ -306,6 +426,15 @@ public class ProjectService {
         return projectRepository.save(project);
     }
 
+    // The designer queries are read from an index, so without a requested
+    // sort the projects are listed in the order they were created
+    private static Pageable inCreatedOrder(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().isSorted()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id"));
+    }
+
     /**
      * Retrieved the Project's entity
      * 
@@ -0,0 +1,8 @@
+package com.interiordesignplanner.project;
+
+import java.math.BigDecimal;
+
+// Designer spend projection query, public as the repository returns it unwrapped
+public record SpendTotal(BigDecimal plannedCost, BigDecimal orderedCost, Long itemCount) {
+
+}
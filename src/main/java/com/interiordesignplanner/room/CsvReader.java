@@ -0,0 +1,136 @@
+package com.interiordesignplanner.room;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CsvReader (Streaming CSV records)
+ *
+ * <p>
+ * Reads one record at a time, so only the current record is held in memory.
+ * Fields are separated by commas and may be quoted. A quoted field can hold
+ * commas, line breaks and doubled quotes.
+ * </p>
+ *
+ * <p>
+ * A field or record over its maximum length is read to its end but not
+ * kept, and {@link #overrun()} says which limit it broke, so one oversized
+ * row cannot fill the memory.
+ * </p>
+ */
+class CsvReader {
+
+    private final Reader reader;
+
+    private final int maxFieldLength;
+
+    private final int maxRecordLength;
+
+    // Line the next record starts on
+    private long line = 1;
+
+    private long recordLine;
+
+    // Limit the last record broke, null if it was read in full
+    private String overrun;
+
+    CsvReader(Reader reader, int maxFieldLength, int maxRecordLength) {
+        this.reader = reader;
+        this.maxFieldLength = maxFieldLength;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Reads the next record
+     *
+     * @return the record's fields, or null at the end of the input. The
+     *         fields are incomplete if the record broke a limit
+     * @throws IOException if the input cannot be read
+     */
+    List<String> next() throws IOException {
+
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        overrun = null;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        long length = 0;
+
+        while (true) {
+            if (overrun == null && ++length > maxRecordLength) {
+                overrun = "Row is longer than " + maxRecordLength + " characters";
+            }
+            if (quoted) {
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        // Closing quote, the next character is read unquoted
+                        quoted = false;
+                        continue;
+                    }
+                    append(field, '"');
+                } else if (c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    append(field, c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                if (overrun == null) {
+                    fields.add(field.toString());
+                }
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                append(field, c);
+            }
+            c = reader.read();
+        }
+    }
+
+    // Characters past a limit are dropped
+    private void append(StringBuilder field, int c) {
+        if (overrun == null && field.length() == maxFieldLength) {
+            overrun = "Field is longer than " + maxFieldLength + " characters";
+        }
+        if (overrun == null) {
+            field.append((char) c);
+        }
+    }
+
+    /**
+     * Returns the line the last record started on
+     *
+     * @return the line number, starting at 1
+     */
+    long line() {
+        return recordLine;
+    }
+
+    /**
+     * Returns the limit the last record broke
+     *
+     * @return the error message, or null if the record was read in full
+     */
+    String overrun() {
+        return overrun;
+    }
+
+}
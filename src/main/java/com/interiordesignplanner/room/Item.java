@@ -2,57 +2,60 @@ package com.interiordesignplanner.room;
 
 import java.math.BigDecimal;
 
-import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.persistence.Embeddable;
-import jakarta.validation.constraints.Digits;
-import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Size;
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.interiordesignplanner.AbstractEntity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
-
-@Schema(description = "Request body for creating and updating a shopping list item")
-@AllArgsConstructor
+import lombok.Setter;
+
+/**
+ * Models an item on a room's inventory (shopping list). Each item is stored
+ * in its own row with a position in the inventory, so adding, editing or
+ * removing one item only writes that row.
+ */
+
+@Entity
+@Table(name = "room_items", indexes = @Index(name = "idx_room_items_room_position", columnList = "room_id, position"))
+@Getter
+@Setter
 @NoArgsConstructor
-@Data
-@Embeddable
-public class Item {
+public class Item extends AbstractEntity {
 
-    @Schema(description = "Item image url", example = "https://cdn.sklum.com/uk/wk/5304236/wireless-led-outdoor-table-lamp-in-iron-and-natural-stone-isasia.jpg?cf-resize=gallery")
-    private String imageUrl;
+    // Foreign key to Room entity, many to one bidirectional relationship.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", referencedColumnName = "id")
+    @JsonIgnore
+    private Room room;
+
+    // Place in the inventory, gaps are left when an item is removed
+    @JsonIgnore
+    private int position;
 
-    @Schema(description = "Item name", example = "Isasia table lamp")
-    @NotNull(message = "Item name is required")
-    @Size(min = 5, max = 30, message = "Item name must be between 5 and 30 characters")
+    // Product image and name
+    private String imageUrl;
     private String itemName;
 
-    @Schema(description = "Item description", example = "Wireless LED outdoor table lamp in iron and natural stone")
-    @NotNull(message = "Description is required")
-    @Size(min = 5, max = 200, message = "Description must be between 5 and 200 characters")
+    // Brief item description
     private String description;
 
-    @Schema(description = "Item price", example = "40.00")
-    @NotNull(message = "Price is required")
-    @Digits(integer = 6, fraction = 2, message = "Price must be a valid amount")
-    @Min(value = 0, message = "Price must not be negative")
+    // Price of one item and the quantity needed
     private BigDecimal price;
-
-    @Schema(description = "Item quantity", example = "1")
-    @NotNull(message = "Quantity is required")
-    @Min(value = 1, message = "Quantity must not be lower than 1")
     private Integer quantity;
 
-    @Schema(description = "Item dimensions", example = "height: 15cm, diameter: 12 cm")
-    @NotNull(message = "Dimensions is required")
-    @Size(min = 5, max = 30, message = "Dimensions must be between 5 and 30 characters")
+    // Size of the item
     private String dimensions;
 
-    @Schema(description = "Link", example = "https://www.sklum.com/uk/buy-outdoor-table-lamps/220716-wireless-led-outdoor-table-lamp-in-iron-and-natural-stone-isasia.html")
-    @NotNull(message = "Link is required")
+    // Link to the product
     private String link;
 
-    @Schema(description = "Item ordered?", example = "false")
+    // Whether the item has been ordered
     private boolean ordered;
 
 }
@@ -0,0 +1,23 @@
+package com.interiordesignplanner.room;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "A row that could not be imported")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ItemImportErrorDTO {
+
+    @Schema(description = "Line the row starts on, the CSV header is line 1", example = "14")
+    private long line;
+
+    @Schema(description = "Field that is invalid, empty if the whole row is", example = "price")
+    private String field;
+
+    @Schema(description = "Error message", example = "Price must be a valid amount")
+    private String message;
+
+}
@@ -0,0 +1,25 @@
+package com.interiordesignplanner.room;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "Response body for an inventory import")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ItemImportReportDTO {
+
+    @Schema(description = "Number of items added to the room", example = "4998")
+    private int imported;
+
+    @Schema(description = "Number of rows that were not imported", example = "2")
+    private int rejected;
+
+    @Schema(description = "Errors of the rejected rows, the first 1000 are listed")
+    private List<ItemImportErrorDTO> errors;
+
+}
@@ -0,0 +1,347 @@
+package com.interiordesignplanner.room;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.interiordesignplanner.exceptions.RoomNotFoundException;
+import com.interiordesignplanner.security.OwnershipService;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * ItemImportService (Bulk inventory import)
+ *
+ * <p>
+ * Adds a supplier list to a room's inventory from a CSV or JSON Lines body.
+ * The body is read one row at a time and each row is validated with the
+ * {@link ItemDTO} constraints. Valid rows are inserted with JDBC batches of
+ * {@value #CHUNK_SIZE}, so memory does not grow with the file.
+ * </p>
+ *
+ * <p>
+ * Invalid rows are skipped and listed in the report with their line, as
+ * are fields longer than {@value #MAX_FIELD_LENGTH} and rows longer than
+ * {@value #MAX_ROW_LENGTH} characters, which are not kept in memory. The
+ * valid rows are added after the room's last item, in file order, and
+ * added to the room's and project's inventory totals once.
+ * </p>
+ */
+@Service
+public class ItemImportService {
+
+    static final int CHUNK_SIZE = 500;
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    static final int MAX_FIELD_LENGTH = 2048;
+
+    static final int MAX_ROW_LENGTH = 16384;
+
+    private static final String INSERT_ITEM = "INSERT INTO room_items "
+            + "(room_id, position, image_url, item_name, description, price, quantity, dimensions, link, ordered, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+
+    // The room's ETag changes with its inventory
+    private static final String INCREMENT_ROOM_VERSION = "UPDATE rooms SET version = version + 1 WHERE id = ?";
+
+    // CSV columns, matched ignoring case, spaces, underscores and a byte order mark
+    private static final List<String> REQUIRED_COLUMNS = List.of("itemname", "description", "price", "quantity",
+            "dimensions", "link");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ItemRepository itemRepository;
+
+    private final OwnershipService ownershipService;
+
+    private final Validator validator;
+
+    private final SpendRollup spendRollup;
+
+    private final ObjectReader itemReader;
+
+    public ItemImportService(JdbcTemplate jdbcTemplate, ItemRepository itemRepository,
+            OwnershipService ownershipService, Validator validator, ObjectMapper objectMapper,
+            SpendRollup spendRollup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.itemRepository = itemRepository;
+        this.ownershipService = ownershipService;
+        this.validator = validator;
+        this.spendRollup = spendRollup;
+        this.itemReader = objectMapper.readerFor(ItemDTO.class);
+    }
+
+    /**
+     * Imports items from CSV
+     *
+     * <p>
+     * The first line is a header naming the columns: itemName, description,
+     * price, quantity, dimensions, link and optionally imageUrl and ordered.
+     * </p>
+     *
+     * @param roomId     the room's unique identifier
+     * @param body       the UTF-8 CSV body
+     * @param designerId the logged in designer's unique identifier
+     * @throws RoomNotFoundException if the room is not found
+     * @return the number of imported and rejected rows, with the errors
+     */
+    @Transactional
+    @PreAuthorize("hasRole('DESIGNER')")
+    public ItemImportReportDTO importCsv(Long roomId, InputStream body, Long designerId) {
+
+        ownershipService.checkRoom(roomId, designerId);
+
+        ItemImport itemImport = new ItemImport(roomId);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+
+            CsvReader csv = new CsvReader(reader, MAX_FIELD_LENGTH, MAX_ROW_LENGTH);
+            List<String> header = csv.next();
+            if (header == null) {
+                return itemImport.finish();
+            }
+            if (csv.overrun() != null) {
+                itemImport.error(1, "header", csv.overrun());
+                return itemImport.finish();
+            }
+
+            Map<String, Integer> columns = columns(header);
+            List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+            if (!missing.isEmpty()) {
+                itemImport.error(1, "header", "Missing columns: " + String.join(", ", missing));
+                return itemImport.finish();
+            }
+
+            for (List<String> row = csv.next(); row != null; row = csv.next()) {
+                if (csv.overrun() != null) {
+                    itemImport.error(csv.line(), null, csv.overrun());
+                    itemImport.add(csv.line(), null);
+                    continue;
+                }
+                if (row.size() == 1 && row.get(0).isBlank()) {
+                    continue;
+                }
+                itemImport.add(csv.line(), toItem(csv.line(), row, columns, itemImport));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return itemImport.finish();
+    }
+
+    /**
+     * Imports items from JSON Lines, one item object per line
+     *
+     * @param roomId     the room's unique identifier
+     * @param body       the UTF-8 JSON Lines body
+     * @param designerId the logged in designer's unique identifier
+     * @throws RoomNotFoundException if the room is not found
+     * @return the number of imported and rejected rows, with the errors
+     */
+    @Transactional
+    @PreAuthorize("hasRole('DESIGNER')")
+    public ItemImportReportDTO importJsonLines(Long roomId, InputStream body, Long designerId) {
+
+        ownershipService.checkRoom(roomId, designerId);
+
+        ItemImport itemImport = new ItemImport(roomId);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+
+            long line = 0;
+            StringBuilder json = new StringBuilder();
+            for (long length = readLine(reader, json); length != -1; length = readLine(reader, json)) {
+                line++;
+                if (length > MAX_ROW_LENGTH) {
+                    itemImport.error(line, null, "Row is longer than " + MAX_ROW_LENGTH + " characters");
+                    itemImport.add(line, null);
+                    continue;
+                }
+                if (json.toString().isBlank()) {
+                    continue;
+                }
+
+                ItemDTO item;
+                try {
+                    item = itemReader.readValue(json.toString());
+                } catch (JsonProcessingException e) {
+                    itemImport.error(line, null, "Row is not a valid item object");
+                    itemImport.add(line, null);
+                    continue;
+                }
+                itemImport.add(line, item);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return itemImport.finish();
+    }
+
+    // Reads the next line into line, keeping at most MAX_ROW_LENGTH
+    // characters, and returns its full length or -1 at the end of the input
+    private static long readLine(Reader reader, StringBuilder line) throws IOException {
+
+        line.setLength(0);
+        int c = reader.read();
+        if (c == -1) {
+            return -1;
+        }
+
+        long length = 0;
+        while (c != -1 && c != '\n') {
+            if (++length <= MAX_ROW_LENGTH) {
+                line.append((char) c);
+            }
+            c = reader.read();
+        }
+        if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+        return length;
+    }
+
+    private Map<String, Integer> columns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).replaceAll("[\\s_\\uFEFF]", "").toLowerCase(Locale.ROOT), i);
+        }
+        return columns;
+    }
+
+    // Returns null if a value cannot be converted, the error is recorded
+    private ItemDTO toItem(long line, List<String> row, Map<String, Integer> columns, ItemImport itemImport) {
+
+        ItemDTO item = new ItemDTO();
+        item.setImageUrl(value(row, columns, "imageurl"));
+        item.setItemName(value(row, columns, "itemname"));
+        item.setDescription(value(row, columns, "description"));
+        item.setDimensions(value(row, columns, "dimensions"));
+        item.setLink(value(row, columns, "link"));
+        item.setOrdered(Boolean.parseBoolean(value(row, columns, "ordered")));
+
+        boolean converted = true;
+
+        String price = value(row, columns, "price");
+        try {
+            item.setPrice(price == null ? null : new BigDecimal(price));
+        } catch (NumberFormatException e) {
+            itemImport.error(line, "price", "Price must be a valid amount");
+            converted = false;
+        }
+
+        String quantity = value(row, columns, "quantity");
+        try {
+            item.setQuantity(quantity == null ? null : Integer.valueOf(quantity));
+        } catch (NumberFormatException e) {
+            itemImport.error(line, "quantity", "Quantity must be a whole number");
+            converted = false;
+        }
+
+        return converted ? item : null;
+    }
+
+    // Blank and missing cells are null
+    private String value(List<String> row, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= row.size() || row.get(index).isBlank()) {
+            return null;
+        }
+        return row.get(index).trim();
+    }
+
+    // One import: the rows waiting to be written and the report so far
+    private final class ItemImport {
+
+        private final Long roomId;
+
+        private int position;
+
+        private List<Object[]> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        private int imported;
+
+        private int rejected;
+
+        private Spend spend = Spend.NONE;
+
+        private final List<ItemImportErrorDTO> errors = new ArrayList<>();
+
+        private ItemImport(Long roomId) {
+            this.roomId = roomId;
+            this.position = itemRepository.findNextPosition(roomId);
+        }
+
+        // A null item was rejected while it was read
+        private void add(long line, ItemDTO item) {
+
+            if (item == null) {
+                rejected++;
+                return;
+            }
+
+            Set<ConstraintViolation<ItemDTO>> violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                violations.stream()
+                        .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                        .forEach(violation -> error(line, violation.getPropertyPath().toString(),
+                                violation.getMessage()));
+                rejected++;
+                return;
+            }
+
+            chunk.add(new Object[] { roomId, position++, item.getImageUrl(), item.getItemName(),
+                    item.getDescription(), item.getPrice(), item.getQuantity(), item.getDimensions(),
+                    item.getLink(), item.isOrdered() });
+            spend = spend.plus(Spend.of(item.getPrice(), item.getQuantity(), item.isOrdered()));
+            if (chunk.size() == CHUNK_SIZE) {
+                write();
+            }
+        }
+
+        private void error(long line, String field, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ItemImportErrorDTO(line, field, message));
+            }
+        }
+
+        private void write() {
+            if (!chunk.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_ITEM, chunk);
+                imported += chunk.size();
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+
+        private ItemImportReportDTO finish() {
+            write();
+            if (imported > 0) {
+                jdbcTemplate.update(INCREMENT_ROOM_VERSION, roomId);
+            }
+            spendRollup.add(roomId, spend);
+            return new ItemImportReportDTO(imported, rejected, errors);
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.interiordesignplanner.room;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing {@link Item} entities.
+ *
+ * <p>
+ * Items are read and written one at a time, without loading the
+ * room's inventory, or read for a page of rooms at once.
+ * </p>
+ */
+@Repository
+public interface ItemRepository extends JpaRepository<Item, Long> {
+
+    /**
+     * Finds an item in a room.
+     *
+     * @param id     the item's unique identifier
+     * @param roomId the room's unique identifier
+     * @return the item if it is in the room, otherwise empty
+     */
+    Optional<Item> findByIdAndRoomId(Long id, Long roomId);
+
+    /**
+     * Finds the items of several rooms with one query, used to read the
+     * inventorys of a page of rooms together.
+     *
+     * @param roomIds the rooms' unique identifiers, not empty
+     * @return the rooms' items, in inventory order
+     */
+    @Query("SELECT i FROM Item i WHERE i.room.id IN :roomIds ORDER BY i.position")
+    List<Item> findByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    /**
+     * Gets the position after the room's last item.
+     *
+     * @param roomId the room's unique identifier
+     * @return the next position, 0 for an empty inventory
+     */
+    @Query("SELECT COALESCE(MAX(i.position) + 1, 0) FROM Item i WHERE i.room.id = :roomId")
+    int findNextPosition(@Param("roomId") Long roomId);
+
+}
@@ -1,20 +1,34 @@
 package com.interiordesignplanner.room;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.OptimisticLock;
+
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.interiordesignplanner.AbstractEntity;
 import com.interiordesignplanner.project.Project;
+import com.interiordesignplanner.security.OwnershipIndexListener;
 
 import jakarta.persistence.CascadeType;
-import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
-import jakarta.persistence.OrderColumn;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -27,22 +41,43 @@ import lombok.Setter;
  * and styling. One room belongs to one project and is extending the
  * AbstractEntity class, which provides their unique identifier and
  * timestamps for creation and updates to their data.
+ *
+ * The owning designer is copied from the project, so a designer's rooms
+ * are read from this table alone.
+ *
+ * Associations are lazy, the room detail graph joins the project and its
+ * client. The checklist and inventory are read when they are first used.
  */
 
 @Entity
-@Table(name = "rooms")
+@Table(name = "rooms", indexes = {
+        @Index(name = "idx_rooms_designer_type", columnList = "designer_id, type"),
+        @Index(name = "idx_rooms_type_created", columnList = "type, created_at"),
+        @Index(name = "idx_rooms_created_id", columnList = "created_at, id") })
+@EntityListeners(OwnershipIndexListener.class)
+@NamedEntityGraph(name = Room.DETAIL, attributeNodes = @NamedAttributeNode(value = "project", subgraph = "client"),
+        subgraphs = @NamedSubgraph(name = "client", attributeNodes = @NamedAttributeNode("client")))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Room extends AbstractEntity {
 
+    // Fetch plan for a single room or a page of rooms, the client is
+    // joined for the designer copied on update
+    public static final String DETAIL = "Room.detail";
+
     // Foreign key to Project entity, one to one bidirectional relationship.
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", referencedColumnName = "id")
     @JsonBackReference
     private Project project;
 
+    // Designer of the project, kept in step when the room is saved
+    @JsonIgnore
+    @Column(name = "designer_id")
+    private Long designerId;
+
     // Categories the specific type of room
     @Enumerated(EnumType.STRING)
     private RoomType type;
@@ -54,13 +89,74 @@ public class Room extends AbstractEntity {
 
     private String unit;
 
-    // Checklist of tasks specific to the room
-    @ElementCollection
-    @OrderColumn(name = "checklist_key")
+    // Inventory totals, only changed by SpendRollup's updates
+    @JsonIgnore
+    @Column(updatable = false)
+    private BigDecimal plannedCost = BigDecimal.ZERO;
+
+    @JsonIgnore
+    @Column(updatable = false)
+    private BigDecimal orderedCost = BigDecimal.ZERO;
+
+    @JsonIgnore
+    @Column(updatable = false)
+    private Integer itemCount = 0;
+
+    // Checklist of tasks specific to the room, one row per task. Changes
+    // bump the room's version through RoomService, not on flush
+    @OneToMany(mappedBy = "room", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OptimisticLock(excluded = true)
+    @OrderBy("position")
     private List<Task> checklist = new ArrayList<>();
 
-    // Inventory list for the room
-    @ElementCollection
+    // Inventory list for the room, one row per item
+    @OneToMany(mappedBy = "room", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OptimisticLock(excluded = true)
+    @OrderBy("position")
     private List<Item> inventory = new ArrayList<>();
 
+    /**
+     * Adds a task after the last task on the checklist
+     *
+     * @param task the task to add
+     */
+    public void addTask(Task task) {
+        task.setRoom(this);
+        task.setPosition(checklist.isEmpty() ? 0 : checklist.get(checklist.size() - 1).getPosition() + 1);
+        checklist.add(task);
+    }
+
+    /**
+     * Adds an item after the last item on the inventory
+     *
+     * @param item the item to add
+     */
+    public void addItem(Item item) {
+        item.setRoom(this);
+        item.setPosition(inventory.isEmpty() ? 0 : inventory.get(inventory.size() - 1).getPosition() + 1);
+        inventory.add(item);
+    }
+
+    // Links tasks and items set on a new room, in the order they were listed
+    @PrePersist
+    void beforeInsert() {
+        for (int i = 0; i < checklist.size(); i++) {
+            checklist.get(i).setRoom(this);
+            checklist.get(i).setPosition(i);
+        }
+        for (int i = 0; i < inventory.size(); i++) {
+            inventory.get(i).setRoom(this);
+            inventory.get(i).setPosition(i);
+        }
+        copyDesignerId();
+    }
+
+    // Copies the project's designer, also when the room is reassigned
+    @PreUpdate
+    void copyDesignerId() {
+        if (project != null && project.getClient() != null && project.getClient().getDesigner() != null) {
+            designerId = project.getClient().getDesigner().getId();
+        }
+    }
+
 }
@@ -0,0 +1,26 @@
+package com.interiordesignplanner.room;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "Request body for changing a room's checklist and inventory in one request")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class RoomBatchDTO {
+
+    @Schema(description = "Operations, applied in order")
+    @NotEmpty(message = "Operations are required")
+    @Size(max = 500, message = "No more than 500 operations can be sent at once")
+    @Valid
+    private List<RoomOperationDTO> operations = new ArrayList<>();
+
+}
@@ -1,8 +1,12 @@
 package com.interiordesignplanner.room;
 
+import java.io.InputStream;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,11 +19,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.interiordesignplanner.CursorPage;
 import com.interiordesignplanner.security.ApplicationUserDetails;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,6 +34,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 
 /**
  * Rest Controller for managing rooms.
@@ -43,21 +52,32 @@ public class RoomController {
         @Autowired
         public RoomService roomService;
 
+        // Inventory import service layer
+        @Autowired
+        public ItemImportService itemImportService;
+
         /**
          * GET: Returns Room with Id
          * 
          * @param id the room's unique identifier
          * @return room's entity
          * @response 200 if room was successfully found
+         * @response 304 if the room is unchanged since the If-None-Match ETag
          * @response 404 Not found is the room doesnt exist
          */
         @Operation(summary = "Finds room by ID", description = "Returns one room, including their roomType, roomSize, checkList of tasks, changes to the room")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Room with id was found"),
+                        @ApiResponse(responseCode = "304", description = "Room is unchanged"),
                         @ApiResponse(responseCode = "404", description = "Room doesn't exist") })
         @GetMapping(value = "/admin/rooms/{id}", produces = "application/json")
         @PreAuthorize("hasRole('ADMIN')")
-        public ResponseEntity<RoomDTO> getRoomById(@PathVariable Long id) {
+        public ResponseEntity<RoomDTO> getRoomById(@PathVariable Long id, WebRequest webRequest) {
+
+                // Sets the ETag, an unchanged room is not loaded
+                if (webRequest.checkNotModified(String.valueOf(roomService.getRoomVersion(id)))) {
+                        return null;
+                }
 
                 RoomDTO room = roomService.getRoomById(id);
                 return ResponseEntity.ok(room);
@@ -70,16 +90,35 @@ public class RoomController {
          * @return all room entities on the system
          * @response 200 if all rooms are found
          */
-        @Operation(summary = "Retrieves all of the rooms", description = "Returns all the room specification, including the client and project it is linked to, roomType, roomSize, checkList of tasks, changes to the room")
+        @Operation(summary = "Retrieves all of the rooms", description = "Returns a summary of every room, including the project it is linked to, roomType, roomSize and the number of tasks and items")
         @ApiResponse(responseCode = "200", description = "All rooms are found")
         @ResponseStatus(HttpStatus.OK)
         @GetMapping(value = "/admin/rooms", produces = "application/json")
         @PreAuthorize("hasRole('ADMIN')")
-        public ResponseEntity<Page<RoomDTO>> getAllRooms(@Valid @RequestParam(required = false) String filter,
+        public ResponseEntity<Page<RoomSummaryDTO>> getAllRooms(@Valid @RequestParam(required = false) String filter,
                         Pageable pageable) {
                 return ResponseEntity.ok(roomService.getAllRooms(filter, pageable));
         }
 
+        /**
+         * GET: Returns a page of Rooms after a cursor
+         * 
+         * @return the page of rooms and the cursor of the next page
+         * @response 200 if the page is found
+         * @response 400 if the cursor or sort is not supported
+         */
+        @Operation(summary = "Retrieves all of the rooms with a cursor", description = "Returns a page of room summaries after the cursor of the previous page. Rooms are sorted by createdAt, and deep pages are as fast as the first")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Page of rooms is found"),
+                        @ApiResponse(responseCode = "400", description = "Cursor or sort is not supported") })
+        @GetMapping(value = "/admin/rooms/cursor", produces = "application/json")
+        @PreAuthorize("hasRole('ADMIN')")
+        public CursorPage<RoomSummaryDTO> getAllRoomsByCursor(@RequestParam(required = false) String filter,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size, Sort sort) {
+                return roomService.getAllRoomsByCursor(filter, sort, cursor, size);
+        }
+
         /**
          * POST: Adds a new Project to a Client
          * 
@@ -99,8 +138,9 @@ public class RoomController {
                         @PathVariable("projectId") Long projectId,
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
-                RoomDTO savedRoom = roomService.addRoom(roomCreateDTO, projectId, applicationUserDetails.getUsername());
-                return ResponseEntity.status(HttpStatus.CREATED).body(savedRoom);
+                RoomDTO savedRoom = roomService.addRoom(roomCreateDTO, projectId, applicationUserDetails.getDesignerId());
+                return ResponseEntity.status(HttpStatus.CREATED).eTag(String.valueOf(savedRoom.getVersion()))
+                                .body(savedRoom);
 
         }
 
@@ -109,23 +149,27 @@ public class RoomController {
          * 
          * @param roomId     the room's unique identifier
          * @param updateRoom the room's object to be updated
+         * @param ifMatch    the room's ETag, the change is rejected if it has changed
          * @return updated room entity
          * @response 201 if room was successfully updated
          * @response 404 not found is the room doesn't exist
+         * @response 412 if the room has changed
          */
         @Operation(summary = "Updates room", description = "Updates the room's specification")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Room with id was updated"),
-                        @ApiResponse(responseCode = "404", description = "Room doesn't exist") })
+                        @ApiResponse(responseCode = "404", description = "Room doesn't exist"),
+                        @ApiResponse(responseCode = "412", description = "Room has changed") })
         @PutMapping(value = "/rooms/{roomId}", produces = "application/json")
         @PreAuthorize("hasRole('DESIGNER')")
         public ResponseEntity<RoomDTO> updateRoom(@PathVariable("roomId") Long roomId,
                         @Valid @RequestBody RoomUpdateDTO roomUpdateDTO,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
                 RoomDTO updatedRoom = roomService.updateRoom(roomId, roomUpdateDTO,
-                                applicationUserDetails.getUsername());
-                return ResponseEntity.ok(updatedRoom);
+                                applicationUserDetails.getDesignerId(), ifMatch);
+                return ResponseEntity.ok().eTag(String.valueOf(updatedRoom.getVersion())).body(updatedRoom);
 
         }
 
@@ -149,8 +193,8 @@ public class RoomController {
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
                 RoomDTO reassignedRoom = roomService.reassignProject(projectId, roomId,
-                                applicationUserDetails.getUsername());
-                return ResponseEntity.ok(reassignedRoom);
+                                applicationUserDetails.getDesignerId());
+                return ResponseEntity.ok().eTag(String.valueOf(reassignedRoom.getVersion())).body(reassignedRoom);
 
         }
 
@@ -172,7 +216,7 @@ public class RoomController {
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
                 return roomService.getRoomsByType(RoomType.valueOf(type.toUpperCase()), pageable,
-                                applicationUserDetails.getUsername());
+                                applicationUserDetails.getDesignerId());
 
         }
 
@@ -193,7 +237,7 @@ public class RoomController {
         public ResponseEntity<Void> deleteProject(@PathVariable Long id,
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
-                roomService.deleteRoom(id, applicationUserDetails.getUsername());
+                roomService.deleteRoom(id, applicationUserDetails.getDesignerId());
                 return ResponseEntity.noContent().build();
 
         }
@@ -213,12 +257,12 @@ public class RoomController {
                         @ApiResponse(responseCode = "404", description = "Room doesn't exist") })
         @PatchMapping(value = "/rooms/{roomId}/task", produces = "application/json")
         @PreAuthorize("hasRole('DESIGNER')")
-        public ResponseEntity<RoomDTO> addTask(@Valid @RequestBody Task task,
+        public ResponseEntity<RoomDTO> addTask(@Valid @RequestBody TaskDTO task,
                         @PathVariable("roomId") Long roomId,
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
-                RoomDTO savedTask = roomService.addTask(roomId, task, applicationUserDetails.getUsername());
-                return ResponseEntity.ok(savedTask);
+                RoomDTO savedTask = roomService.addTask(roomId, task, applicationUserDetails.getDesignerId());
+                return ResponseEntity.ok().eTag(String.valueOf(savedTask.getVersion())).body(savedTask);
 
         }
 
@@ -228,45 +272,59 @@ public class RoomController {
          * @param roomId   the project's unique identifier
          * @param editTask the room's task updated
          * @param index    the target task to update
+         * @param ifMatch  the room's ETag, required as the index may now point at
+         *                 another row, the change is rejected if it has changed
          * @return saved room for project with generated unique identifier
          * @response 200 if the room was successfully updated
          * @response 404 bad request is input data is invalid
+         * @response 412 if the room has changed
+         * @response 428 if the If-Match header is missing
          */
         @Operation(summary = "Edit task", description = "Edit task to the room's checklist")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Task was added"),
-                        @ApiResponse(responseCode = "404", description = "Room doesn't exist") })
+                        @ApiResponse(responseCode = "404", description = "Room doesn't exist"),
+                        @ApiResponse(responseCode = "412", description = "Room has changed"),
+                        @ApiResponse(responseCode = "428", description = "If-Match header is missing") })
         @PatchMapping(value = "/rooms/{roomId}/task/{index}", produces = "application/json")
         @PreAuthorize("hasRole('DESIGNER')")
-        public ResponseEntity<RoomDTO> editTask(@Valid @RequestBody Task editTask,
+        public ResponseEntity<RoomDTO> editTask(@Valid @RequestBody TaskDTO editTask,
                         @PathVariable("roomId") Long roomId, @PathVariable("index") int index,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
                 RoomDTO updatedTask = roomService.editTask(roomId, editTask, index,
-                                applicationUserDetails.getUsername());
-                return ResponseEntity.ok(updatedTask);
+                                applicationUserDetails.getDesignerId(), ifMatch);
+                return ResponseEntity.ok().eTag(String.valueOf(updatedTask.getVersion())).body(updatedTask);
 
         }
 
         /**
          * DELETE: Removes task for Room
          * 
-         * @param roomId the room's unique identifier
-         * @param index  the specific task key
+         * @param roomId  the room's unique identifier
+         * @param index   the specific task key
+         * @param ifMatch the room's ETag, required as the index may now point at
+         *                another row, the change is rejected if it has changed
          * @return removed task off the checklist
          * @response 204 if task was successfully deleted
          * @response 404 not found is the room doesn't exist
+         * @response 412 if the room has changed
+         * @response 428 if the If-Match header is missing
          */
         @Operation(summary = "Deletes task", description = "Deletes specific task for room and its details")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "204", description = "Task with id was deleted"),
-                        @ApiResponse(responseCode = "404", description = "Room doesn't exist") })
+                        @ApiResponse(responseCode = "404", description = "Room doesn't exist"),
+                        @ApiResponse(responseCode = "412", description = "Room has changed"),
+                        @ApiResponse(responseCode = "428", description = "If-Match header is missing") })
         @DeleteMapping(value = "/rooms/{roomId}/task/{index}", produces = "application/json")
         @PreAuthorize("hasRole('DESIGNER')")
         public ResponseEntity<Void> deleteTask(@PathVariable("roomId") Long roomId, @PathVariable int index,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
-                roomService.deleteTask(roomId, index, applicationUserDetails.getUsername());
+                roomService.deleteTask(roomId, index, applicationUserDetails.getDesignerId(), ifMatch);
                 return ResponseEntity.noContent().build();
 
         }
@@ -286,12 +344,12 @@ public class RoomController {
                         @ApiResponse(responseCode = "404", description = "Room doesn't exist") })
         @PatchMapping(value = "/rooms/{roomId}/inventory", produces = "application/json")
         @PreAuthorize("hasRole('DESIGNER')")
-        public ResponseEntity<RoomDTO> addItem(@Valid @RequestBody Item item,
+        public ResponseEntity<RoomDTO> addItem(@Valid @RequestBody ItemDTO item,
                         @PathVariable("roomId") Long roomId,
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
-                RoomDTO savedTask = roomService.addItem(roomId, item, applicationUserDetails.getUsername());
-                return ResponseEntity.ok(savedTask);
+                RoomDTO savedTask = roomService.addItem(roomId, item, applicationUserDetails.getDesignerId());
+                return ResponseEntity.ok().eTag(String.valueOf(savedTask.getVersion())).body(savedTask);
 
         }
 
@@ -301,47 +359,301 @@ public class RoomController {
          * @param roomId   the project's unique identifier
          * @param editItem the room's item updated
          * @param index    the target item to update
+         * @param ifMatch  the room's ETag, required as the index may now point at
+         *                 another row, the change is rejected if it has changed
          * @return saved room for project with generated unique identifier
          * @response 200 if the room was successfully updated
          * @response 404 bad request is input data is invalid
+         * @response 412 if the room has changed
+         * @response 428 if the If-Match header is missing
          */
         @Operation(summary = "Edit item", description = "Edit item from inventory")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Task was added"),
-                        @ApiResponse(responseCode = "404", description = "Room doesn't exist") })
+                        @ApiResponse(responseCode = "404", description = "Room doesn't exist"),
+                        @ApiResponse(responseCode = "412", description = "Room has changed"),
+                        @ApiResponse(responseCode = "428", description = "If-Match header is missing") })
         @PatchMapping(value = "/rooms/{roomId}/inventory/{index}", produces = "application/json")
         @PreAuthorize("hasRole('DESIGNER')")
-        public ResponseEntity<RoomDTO> editTask(@Valid @RequestBody Item editItem,
+        public ResponseEntity<RoomDTO> editTask(@Valid @RequestBody ItemDTO editItem,
                         @PathVariable("roomId") Long roomId, @PathVariable("index") int index,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
                 RoomDTO updatedItem = roomService.editItem(roomId, editItem, index,
-                                applicationUserDetails.getUsername());
-                return ResponseEntity.ok(updatedItem);
+                                applicationUserDetails.getDesignerId(), ifMatch);
+                return ResponseEntity.ok().eTag(String.valueOf(updatedItem.getVersion())).body(updatedItem);
 
         }
 
         /**
          * DELETE: Removes item from Inventory
          * 
-         * @param roomId the room's unique identifier
-         * @param index  the specific task key
+         * @param roomId  the room's unique identifier
+         * @param index   the specific task key
+         * @param ifMatch the room's ETag, required as the index may now point at
+         *                another row, the change is rejected if it has changed
          * @return removed item off the inventory
          * @response 204 if task was successfully deleted
          * @response 404 not found is the room doesn't exist
+         * @response 412 if the room has changed
+         * @response 428 if the If-Match header is missing
          */
         @Operation(summary = "Deletes item", description = "Deletes specific item from inventory")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "204", description = "Item with id was deleted"),
-                        @ApiResponse(responseCode = "404", description = "Room doesn't exist") })
+                        @ApiResponse(responseCode = "404", description = "Room doesn't exist"),
+                        @ApiResponse(responseCode = "412", description = "Room has changed"),
+                        @ApiResponse(responseCode = "428", description = "If-Match header is missing") })
         @DeleteMapping(value = "/rooms/{roomId}/inventory/{index}", produces = "application/json")
         @PreAuthorize("hasRole('DESIGNER')")
         public ResponseEntity<Void> deleteItem(@PathVariable("roomId") Long roomId, @PathVariable int index,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                        @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
+
+                roomService.deleteItem(roomId, index, applicationUserDetails.getDesignerId(), ifMatch);
+                return ResponseEntity.noContent().build();
+
+        }
+
+        /**
+         * POST: Creates a Task on the Room's checklist
+         * 
+         * @param roomId the room's unique identifier
+         * @param task   the new task
+         * @return the created task with generated unique identifier
+         * @response 201 if the task was successfully created
+         * @response 404 not found is the room doesn't exist
+         */
+        @Operation(summary = "Creates task", description = "Creates a task at the end of the room's checklist, only the new task is written")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "201", description = "Task was created"),
+                        @ApiResponse(responseCode = "404", description = "Room doesn't exist") })
+        @PostMapping(value = "/rooms/{roomId}/tasks", produces = "application/json")
+        @PreAuthorize("hasRole('DESIGNER')")
+        public ResponseEntity<TaskDTO> createTask(@Valid @RequestBody TaskDTO task,
+                        @PathVariable("roomId") Long roomId,
+                        @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
+
+                TaskDTO savedTask = roomService.createTask(roomId, task, applicationUserDetails.getDesignerId());
+                return ResponseEntity.status(HttpStatus.CREATED).eTag(String.valueOf(savedTask.getVersion()))
+                                .body(savedTask);
+
+        }
+
+        /**
+         * PATCH: Updates a Task on the Room's checklist
+         * 
+         * @param roomId  the room's unique identifier
+         * @param taskId  the task's unique identifier
+         * @param task    the fields to update
+         * @param ifMatch the task's ETag, the change is rejected if it has changed
+         * @return the updated task
+         * @response 200 if the task was successfully updated
+         * @response 404 not found is the room or task doesn't exist
+         * @response 412 if the task has changed
+         */
+        @Operation(summary = "Updates task", description = "Updates the given fields of a task, only the task is written")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Task was updated"),
+                        @ApiResponse(responseCode = "404", description = "Room or task doesn't exist"),
+                        @ApiResponse(responseCode = "412", description = "Task has changed") })
+        @PatchMapping(value = "/rooms/{roomId}/tasks/{taskId}", produces = "application/json")
+        @PreAuthorize("hasRole('DESIGNER')")
+        public ResponseEntity<TaskDTO> updateTask(@Valid @RequestBody TaskUpdateDTO task,
+                        @PathVariable("roomId") Long roomId, @PathVariable("taskId") Long taskId,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                        @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
+
+                TaskDTO updatedTask = roomService.updateTask(roomId, taskId, task,
+                                applicationUserDetails.getDesignerId(), ifMatch);
+                return ResponseEntity.ok().eTag(String.valueOf(updatedTask.getVersion())).body(updatedTask);
+
+        }
+
+        /**
+         * DELETE: Removes a Task from the Room's checklist
+         * 
+         * @param roomId the room's unique identifier
+         * @param taskId the task's unique identifier
+         * @return removed task off the checklist
+         * @response 204 if task was successfully deleted
+         * @response 404 not found is the room or task doesn't exist
+         */
+        @Operation(summary = "Removes task", description = "Removes a task by its id, only the task is deleted")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "204", description = "Task was deleted"),
+                        @ApiResponse(responseCode = "404", description = "Room or task doesn't exist") })
+        @DeleteMapping(value = "/rooms/{roomId}/tasks/{taskId}", produces = "application/json")
+        @PreAuthorize("hasRole('DESIGNER')")
+        public ResponseEntity<Void> removeTask(@PathVariable("roomId") Long roomId,
+                        @PathVariable("taskId") Long taskId,
+                        @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
+
+                roomService.removeTask(roomId, taskId, applicationUserDetails.getDesignerId());
+                return ResponseEntity.noContent().build();
+
+        }
+
+        /**
+         * POST: Creates an Item on the Room's inventory
+         * 
+         * @param roomId the room's unique identifier
+         * @param item   the new item
+         * @return the created item with generated unique identifier
+         * @response 201 if the item was successfully created
+         * @response 404 not found is the room doesn't exist
+         */
+        @Operation(summary = "Creates item", description = "Creates an item at the end of the room's inventory, only the new item is written")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "201", description = "Item was created"),
+                        @ApiResponse(responseCode = "404", description = "Room doesn't exist") })
+        @PostMapping(value = "/rooms/{roomId}/items", produces = "application/json")
+        @PreAuthorize("hasRole('DESIGNER')")
+        public ResponseEntity<ItemDTO> createItem(@Valid @RequestBody ItemDTO item,
+                        @PathVariable("roomId") Long roomId,
+                        @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
+
+                ItemDTO savedItem = roomService.createItem(roomId, item, applicationUserDetails.getDesignerId());
+                return ResponseEntity.status(HttpStatus.CREATED).eTag(String.valueOf(savedItem.getVersion()))
+                                .body(savedItem);
+
+        }
+
+        /**
+         * POST: Imports Items from CSV into the Room's inventory
+         * 
+         * @param roomId the room's unique identifier
+         * @param body   the CSV body, with a header line
+         * @return the number of imported and rejected rows, with the errors
+         * @response 200 if the file was read, invalid rows are listed
+         * @response 404 not found is the room doesn't exist
+         */
+        @Operation(summary = "Imports items from CSV", description = "Adds every valid row at the end of the room's inventory and reports the invalid rows")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "File was imported"),
+                        @ApiResponse(responseCode = "404", description = "Room doesn't exist") })
+        @PostMapping(value = "/rooms/{roomId}/items/import", consumes = "text/csv", produces = "application/json")
+        @PreAuthorize("hasRole('DESIGNER')")
+        public ResponseEntity<ItemImportReportDTO> importItemsCsv(InputStream body,
+                        @PathVariable("roomId") Long roomId,
+                        @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
+
+                ItemImportReportDTO report = itemImportService.importCsv(roomId, body,
+                                applicationUserDetails.getDesignerId());
+                return ResponseEntity.ok(report);
+
+        }
+
+        /**
+         * POST: Imports Items from JSON Lines into the Room's inventory
+         * 
+         * @param roomId the room's unique identifier
+         * @param body   the JSON Lines body, one item per line
+         * @return the number of imported and rejected rows, with the errors
+         * @response 200 if the file was read, invalid rows are listed
+         * @response 404 not found is the room doesn't exist
+         */
+        @Operation(summary = "Imports items from JSON Lines", description = "Adds every valid line at the end of the room's inventory and reports the invalid lines")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "File was imported"),
+                        @ApiResponse(responseCode = "404", description = "Room doesn't exist") })
+        @PostMapping(value = "/rooms/{roomId}/items/import", consumes = "application/x-ndjson", produces = "application/json")
+        @PreAuthorize("hasRole('DESIGNER')")
+        public ResponseEntity<ItemImportReportDTO> importItemsJsonLines(InputStream body,
+                        @PathVariable("roomId") Long roomId,
                         @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
 
-                roomService.deleteItem(roomId, index, applicationUserDetails.getUsername());
+                ItemImportReportDTO report = itemImportService.importJsonLines(roomId, body,
+                                applicationUserDetails.getDesignerId());
+                return ResponseEntity.ok(report);
+
+        }
+
+        /**
+         * PATCH: Updates an Item on the Room's inventory
+         * 
+         * @param roomId  the room's unique identifier
+         * @param itemId  the item's unique identifier
+         * @param item    the fields to update, such as ordered
+         * @param ifMatch the item's ETag, the change is rejected if it has changed
+         * @return the updated item
+         * @response 200 if the item was successfully updated
+         * @response 404 not found is the room or item doesn't exist
+         * @response 412 if the item has changed
+         */
+        @Operation(summary = "Updates item", description = "Updates the given fields of an item, only the item is written")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Item was updated"),
+                        @ApiResponse(responseCode = "404", description = "Room or item doesn't exist"),
+                        @ApiResponse(responseCode = "412", description = "Item has changed") })
+        @PatchMapping(value = "/rooms/{roomId}/items/{itemId}", produces = "application/json")
+        @PreAuthorize("hasRole('DESIGNER')")
+        public ResponseEntity<ItemDTO> updateItem(@Valid @RequestBody ItemUpdateDTO item,
+                        @PathVariable("roomId") Long roomId, @PathVariable("itemId") Long itemId,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                        @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
+
+                ItemDTO updatedItem = roomService.updateItem(roomId, itemId, item,
+                                applicationUserDetails.getDesignerId(), ifMatch);
+                return ResponseEntity.ok().eTag(String.valueOf(updatedItem.getVersion())).body(updatedItem);
+
+        }
+
+        /**
+         * DELETE: Removes an Item from the Room's inventory
+         * 
+         * @param roomId the room's unique identifier
+         * @param itemId the item's unique identifier
+         * @return removed item off the inventory
+         * @response 204 if item was successfully deleted
+         * @response 404 not found is the room or item doesn't exist
+         */
+        @Operation(summary = "Removes item", description = "Removes an item by its id, only the item is deleted")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "204", description = "Item was deleted"),
+                        @ApiResponse(responseCode = "404", description = "Room or item doesn't exist") })
+        @DeleteMapping(value = "/rooms/{roomId}/items/{itemId}", produces = "application/json")
+        @PreAuthorize("hasRole('DESIGNER')")
+        public ResponseEntity<Void> removeItem(@PathVariable("roomId") Long roomId,
+                        @PathVariable("itemId") Long itemId,
+                        @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
+
+                roomService.removeItem(roomId, itemId, applicationUserDetails.getDesignerId());
                 return ResponseEntity.noContent().build();
 
         }
 
+        /**
+         * PATCH: Applies a batch of changes to the Room's checklist and inventory
+         * 
+         * @param roomId  the room's unique identifier
+         * @param batch   the operations, applied in order
+         * @param ifMatch the room's ETag, the change is rejected if it has changed
+         * @return the updated room
+         * @response 200 if every operation was applied
+         * @response 400 if an operation is invalid, nothing is applied
+         * @response 404 if the room, a task or an item doesn't exist, nothing is
+         *           applied
+         * @response 412 if the room has changed
+         */
+        @Operation(summary = "Batch changes", description = "Adds, edits, deletes, moves and marks tasks and items in one request, all or nothing")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Operations were applied"),
+                        @ApiResponse(responseCode = "400", description = "Operation is invalid"),
+                        @ApiResponse(responseCode = "404", description = "Room, task or item doesn't exist"),
+                        @ApiResponse(responseCode = "412", description = "Room has changed") })
+        @PatchMapping(value = "/rooms/{roomId}/batch", produces = "application/json")
+        @PreAuthorize("hasRole('DESIGNER')")
+        public ResponseEntity<RoomDTO> applyOperations(@Valid @RequestBody RoomBatchDTO batch,
+                        @PathVariable("roomId") Long roomId,
+                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                        @AuthenticationPrincipal ApplicationUserDetails applicationUserDetails) {
+
+                RoomDTO updatedRoom = roomService.applyOperations(roomId, batch,
+                                applicationUserDetails.getDesignerId(), ifMatch);
+                return ResponseEntity.ok().eTag(String.valueOf(updatedRoom.getVersion())).body(updatedRoom);
+
+        }
+
 }
@@ -3,6 +3,8 @@ package com.interiordesignplanner.room;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -38,10 +40,14 @@ public class RoomDTO {
     @Schema(description = "Unit of dimensions", example = "M")
     private String unit;
 
-    @Schema(description = "Room Checklist", example = "Order lighting and furniture, Check the inventory for the items, 2026-03-02, true")
-    private List<Task> checklist = new ArrayList<>();
+    @Schema(description = "Room Checklist", example = "1, Order lighting and furniture, Check the inventory for the items, 2026-03-02, true")
+    private List<TaskDTO> checklist = new ArrayList<>();
+
+    @Schema(description = "Room Inventory", example = "1, https://cdn.sklum.com/uk/wk/5304236/wireless-led-outdoor-table-lamp-in-iron-and-natural-stone-isasia.jpg?cf-resize=gallery, Isasia table lamp, Wireless LED outdoor table lamp in iron and natural stone,  40.00,  1,  height: 15cm, diameter: 12 cm, https://www.sklum.com/uk/buy-outdoor-table-lamps/220716-wireless-led-outdoor-table-lamp-in-iron-and-natural-stone-isasia.html, false}")
+    private List<ItemDTO> inventory = new ArrayList<>();
 
-    @Schema(description = "Room Inventory", example = "https://cdn.sklum.com/uk/wk/5304236/wireless-led-outdoor-table-lamp-in-iron-and-natural-stone-isasia.jpg?cf-resize=gallery, Isasia table lamp, Wireless LED outdoor table lamp in iron and natural stone,  40.00,  1,  height: 15cm, diameter: 12 cm, https://www.sklum.com/uk/buy-outdoor-table-lamps/220716-wireless-led-outdoor-table-lamp-in-iron-and-natural-stone-isasia.html, false}")
-    private List<Item> inventory = new ArrayList<>();
+    // Sent as the ETag header, not in the body
+    @JsonIgnore
+    private Long version;
 
 }
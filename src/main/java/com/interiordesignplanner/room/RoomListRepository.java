@@ -0,0 +1,40 @@
+package com.interiordesignplanner.room;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.interiordesignplanner.CursorPage;
+import com.interiordesignplanner.Keyset;
+
+/**
+ * Room listing queries, implemented by {@link RoomListRepositoryImpl} and
+ * added to {@link RoomRepository}.
+ */
+public interface RoomListRepository {
+
+    /**
+     * Finds a page of room summaries without loading the rooms.
+     *
+     * <p>
+     * The checklist and inventory are counted instead of read, so a page
+     * takes the same two queries however many tasks and items it has.
+     * </p>
+     *
+     * @param filter   the RSQL filter, or null for every room
+     * @param pageable the page and sort order
+     * @return the page of room summaries
+     */
+    Page<RoomSummaryDTO> findRoomList(Specification<Room> filter, Pageable pageable);
+
+    /**
+     * Finds the page of room summaries after a keyset position.
+     *
+     * @param filter the RSQL filter, or null for every room
+     * @param keyset the sort order and the last room read
+     * @param size   the number of rooms in a page
+     * @return the page of room summaries and the cursor of the next page
+     */
+    CursorPage<RoomSummaryDTO> findRoomList(Specification<Room> filter, Keyset keyset, int size);
+
+}
@@ -0,0 +1,62 @@
+package com.interiordesignplanner.room;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.interiordesignplanner.CursorPage;
+import com.interiordesignplanner.Keyset;
+import com.interiordesignplanner.ProjectionQuery;
+import com.interiordesignplanner.ProjectionQuery.Columns;
+import com.interiordesignplanner.project.Project;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+public class RoomListRepositoryImpl implements RoomListRepository {
+
+    private static final Columns<Room> ROOM_LIST = (room, query, builder) -> {
+
+        Join<Room, Project> project = room.join("project", JoinType.LEFT);
+
+        Subquery<Long> taskCount = query.subquery(Long.class);
+        Root<Task> task = taskCount.from(Task.class);
+        taskCount.select(builder.count(task)).where(builder.equal(task.get("room"), room));
+
+        return List.of(room.get("id").alias("id"), project.get("projectName").alias("projectName"),
+                room.get("type").alias("type"), room.get("length").alias("length"),
+                room.get("height").alias("height"), room.get("width").alias("width"),
+                room.get("unit").alias("unit"), taskCount.alias("taskCount"),
+                room.get("itemCount").alias("itemCount"));
+    };
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<RoomSummaryDTO> findRoomList(Specification<Room> filter, Pageable pageable) {
+        return ProjectionQuery.page(entityManager, Room.class, filter, pageable, ROOM_LIST,
+                RoomListRepositoryImpl::toSummary);
+    }
+
+    @Override
+    public CursorPage<RoomSummaryDTO> findRoomList(Specification<Room> filter, Keyset keyset, int size) {
+        return ProjectionQuery.seek(entityManager, Room.class, filter, keyset, size, ROOM_LIST,
+                RoomListRepositoryImpl::toSummary);
+    }
+
+    private static RoomSummaryDTO toSummary(Tuple row) {
+        return new RoomSummaryDTO(row.get("id", Long.class), row.get("projectName", String.class),
+                row.get("type", RoomType.class), row.get("length", Double.class), row.get("height", Double.class),
+                row.get("width", Double.class), row.get("unit", String.class), row.get("taskCount", Long.class),
+                row.get("itemCount", Integer.class));
+    }
+
+}
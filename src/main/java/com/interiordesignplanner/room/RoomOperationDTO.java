@@ -0,0 +1,60 @@
+package com.interiordesignplanner.room;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "One change to a room's checklist or inventory")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class RoomOperationDTO {
+
+    @Schema(description = "Operation type", example = "ORDER_ITEM")
+    @NotNull(message = "Type is required")
+    private RoomOperationType type;
+
+    @Schema(description = "Task or item id, required for every type except ADD_TASK and ADD_ITEM", example = "12")
+    private Long id;
+
+    @Schema(description = "New index in the list, for MOVE_TASK and MOVE_ITEM", example = "0")
+    private Integer index;
+
+    @Schema(description = "Completed or ordered, for COMPLETE_TASK and ORDER_ITEM", example = "true")
+    private Boolean value;
+
+    @Schema(description = "Task details, for ADD_TASK and EDIT_TASK")
+    @Valid
+    private TaskDTO task;
+
+    @Schema(description = "Item details, for ADD_ITEM and EDIT_ITEM")
+    @Valid
+    private ItemDTO item;
+
+    // Each type needs its own fields, checked with the other constraints
+    @JsonIgnore
+    @AssertTrue(message = "Operation is missing the id, index, value, task or item its type needs")
+    public boolean isComplete() {
+
+        if (type == null) {
+            return true;
+        }
+
+        return switch (type) {
+            case ADD_TASK -> task != null;
+            case ADD_ITEM -> item != null;
+            case EDIT_TASK -> id != null && task != null;
+            case EDIT_ITEM -> id != null && item != null;
+            case DELETE_TASK, DELETE_ITEM -> id != null;
+            case MOVE_TASK, MOVE_ITEM -> id != null && index != null;
+            case COMPLETE_TASK, ORDER_ITEM -> id != null && value != null;
+        };
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.interiordesignplanner.room;
+
+/** Enum for the changes a batch can make to a room's checklist and inventory */
+public enum RoomOperationType {
+    ADD_TASK, EDIT_TASK, DELETE_TASK, MOVE_TASK, COMPLETE_TASK,
+    ADD_ITEM, EDIT_ITEM, DELETE_ITEM, MOVE_ITEM, ORDER_ITEM;
+}
@@ -1,12 +1,26 @@
 package com.interiordesignplanner.room;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.interiordesignplanner.security.ResourceOwner;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for managing {@link Room} entities.
@@ -16,15 +30,119 @@ import org.springframework.stereotype.Repository;
  * </p>
  */
 @Repository
-public interface RoomRepository extends JpaRepository<Room, Long>, JpaSpecificationExecutor<Room> {
+public interface RoomRepository
+        extends JpaRepository<Room, Long>, JpaSpecificationExecutor<Room>, RoomListRepository {
+
+    /**
+     * Finds a room with its project and client.
+     *
+     * @param id the room's unique identifier
+     * @return the room if found, otherwise empty
+     */
+    @Override
+    @EntityGraph(Room.DETAIL)
+    Optional<Room> findById(Long id);
 
     /**
-     * Finds a room by type.
+     * Finds the designer's rooms by type, with their project and client.
      *
-     * @param type the type of room
+     * @param designerId the designer's unique identifier
+     * @param type       the type of room
      * @return an {@link List} containing all the rooms with the specific type if
      *         found, otherwise empty
      */
-    Page<Room> findRoomsByType(RoomType type, Pageable pageable);
+    @EntityGraph(Room.DETAIL)
+    Page<Room> findRoomsByDesignerIdAndType(Long designerId, RoomType type, Pageable pageable);
+
+    /**
+     * Finds the id of the designer the room belongs to.
+     *
+     * @param roomId the room's unique identifier
+     * @return the designer's id if the room is found, otherwise empty
+     */
+    @Query("SELECT r.designerId FROM Room r WHERE r.id = :roomId")
+    Optional<Long> findDesignerIdById(@Param("roomId") Long roomId);
+
+    /**
+     * Streams every room id with its designer's id.
+     *
+     * Used to load the ownership index, must be read in a transaction.
+     *
+     * @return a stream of room owners
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.interiordesignplanner.security.ResourceOwner(r.id, r.designerId) FROM Room r")
+    Stream<ResourceOwner> streamOwners();
+
+    /**
+     * Finds the room's current version.
+     *
+     * @param roomId the room's unique identifier
+     * @return the version if the room is found, otherwise empty
+     */
+    @Query("SELECT r.version FROM Room r WHERE r.id = :roomId")
+    Optional<Long> findVersionById(@Param("roomId") Long roomId);
+
+    /**
+     * Marks the room's checklist or inventory changed, so its ETag changes.
+     *
+     * Pending changes are flushed first and the persistence context is
+     * cleared, a room loaded afterwards has the new version.
+     *
+     * @param roomId the room's unique identifier
+     * @return the number of rooms updated
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Room r SET r.version = r.version + 1 WHERE r.id = :roomId")
+    int incrementVersion(@Param("roomId") Long roomId);
+
+    /**
+     * Marks the room changed only if it is still at the expected version.
+     *
+     * @param roomId  the room's unique identifier
+     * @param version the version the change was made against
+     * @return 1 if the room was updated, 0 if it has changed since
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Room r SET r.version = r.version + 1 WHERE r.id = :roomId AND r.version = :version")
+    int incrementVersion(@Param("roomId") Long roomId, @Param("version") Long version);
+
+    /**
+     * Copies the project's designer onto rooms saved before the designer
+     * was stored on the room. Run after the projects are filled in.
+     *
+     * @return the number of rooms updated
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Room r SET r.designerId = (SELECT p.designerId FROM Project p WHERE p.id = r.project.id) WHERE r.designerId IS NULL AND r.project IS NOT NULL")
+    int backfillDesignerIds();
+
+    /**
+     * Adds an inventory change to the room's totals.
+     *
+     * @param roomId  the room's unique identifier
+     * @param planned the change to the planned cost
+     * @param ordered the change to the ordered cost
+     * @param items   the change to the number of items
+     * @return the number of rooms updated
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Room r SET r.plannedCost = r.plannedCost + :planned, r.orderedCost = r.orderedCost + :ordered, r.itemCount = r.itemCount + :items WHERE r.id = :roomId")
+    int addSpend(@Param("roomId") Long roomId, @Param("planned") BigDecimal planned,
+            @Param("ordered") BigDecimal ordered, @Param("items") int items);
+
+    /**
+     * Sums the inventory of rooms saved before their totals were stored.
+     *
+     * @return the number of rooms updated
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Room r SET r.plannedCost = COALESCE((SELECT SUM(i.price * i.quantity) FROM Item i WHERE i.room.id = r.id), 0), r.orderedCost = COALESCE((SELECT SUM(i.price * i.quantity) FROM Item i WHERE i.room.id = r.id AND i.ordered = true), 0), r.itemCount = (SELECT CAST(COUNT(i) AS Integer) FROM Item i WHERE i.room.id = r.id) WHERE r.plannedCost IS NULL")
+    int backfillSpend();
 
 }
@@ -1,20 +1,34 @@
 package com.interiordesignplanner.room;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.interiordesignplanner.CursorPage;
+import com.interiordesignplanner.FilterSpecifications;
+import com.interiordesignplanner.IfMatch;
+import com.interiordesignplanner.Keyset;
+import com.interiordesignplanner.exceptions.InvalidCursorException;
+import com.interiordesignplanner.exceptions.InvalidFilterException;
+import com.interiordesignplanner.exceptions.ItemNotFoundException;
+import com.interiordesignplanner.exceptions.PreconditionFailedException;
+import com.interiordesignplanner.exceptions.PreconditionRequiredException;
 import com.interiordesignplanner.exceptions.ProjectNotFoundException;
 import com.interiordesignplanner.exceptions.RoomNotFoundException;
+import com.interiordesignplanner.exceptions.TaskNotFoundException;
 import com.interiordesignplanner.mapper.RoomMapper;
 import com.interiordesignplanner.project.Project;
 import com.interiordesignplanner.project.ProjectService;
-
-import io.github.perplexhub.rsql.RSQLJPASupport;
+import com.interiordesignplanner.security.OwnershipService;
 
 /**
  * Manages business logic related to rooms within a project.
@@ -24,48 +38,103 @@ import io.github.perplexhub.rsql.RSQLJPASupport;
  * specifications, such as dimensions, type, maintaining checklists and change
  * logs, and associating rooms with projects and tasks.
  * 
+ * Checklist and inventory changes increment the room's version, so the
+ * room's ETag changes with its tasks and items.
+ * 
  * Serves as an interface between controllers and the persistence layer.
  * </p>
  */
 @Service
 public class RoomService {
 
+    // Properties a cursor listing of rooms can be sorted on
+    private static final List<String> CURSOR_SORTS = List.of("createdAt");
+
+    // Indexed properties an admin listing of rooms can be filtered and sorted on
+    private static final List<String> LIST_FIELDS = List.of("id", "type", "designerId", "createdAt");
+
     // Project Service layer
     private final ProjectService projectService;
 
     // Room CRUD Interface
     private final RoomRepository roomRepository;
 
+    // Checklist and inventory CRUD Interfaces
+    private final TaskRepository taskRepository;
+
+    private final ItemRepository itemRepository;
+
     // Room Mapper
     private final RoomMapper roomMapper;
 
+    // Ownership checks
+    private final OwnershipService ownershipService;
+
+    // Room and project inventory totals
+    private final SpendRollup spendRollup;
+
+    // Checked and cached admin filters
+    private final FilterSpecifications filterSpecifications;
+
     // Constructor
-    public RoomService(RoomRepository roomRepository, ProjectService projectService, RoomMapper roomMapper) {
+    public RoomService(RoomRepository roomRepository, TaskRepository taskRepository, ItemRepository itemRepository,
+            ProjectService projectService, RoomMapper roomMapper, OwnershipService ownershipService,
+            SpendRollup spendRollup, FilterSpecifications filterSpecifications) {
         this.roomRepository = roomRepository;
+        this.taskRepository = taskRepository;
+        this.itemRepository = itemRepository;
         this.projectService = projectService;
         this.roomMapper = roomMapper;
+        this.ownershipService = ownershipService;
+        this.spendRollup = spendRollup;
+        this.filterSpecifications = filterSpecifications;
 
     }
 
     /**
      * Returns all rooms created for projects on the system.
+     *
+     * <p>
+     * Rooms are listed as summaries, with their checklist and inventory
+     * counted rather than loaded. The full room is returned by
+     * {@link #getRoomById(Long)}. Rooms can only be filtered and sorted on
+     * indexed properties.
+     * </p>
+     *
+     * @throws InvalidFilterException if the filter or sort is not supported
      */
     @PreAuthorize("hasRole('ADMIN')")
-    public Page<RoomDTO> getAllRooms(String filter, Pageable pageable) {
+    public Page<RoomSummaryDTO> getAllRooms(String filter, Pageable pageable) {
 
-        Page<Room> rooms;
+        filterSpecifications.checkSort(pageable.getSort(), LIST_FIELDS);
+        Specification<Room> specfication = filterSpecifications.toSpecification(Room.class, filter, LIST_FIELDS);
 
-        if (filter != null) {
-            Specification<Room> specfication = RSQLJPASupport.toSpecification(filter);
-            rooms = roomRepository.findAll(specfication, pageable);
-        } else {
-            rooms = roomRepository.findAll(pageable);
-        }
+        return roomRepository.findRoomList(specfication, pageable);
+    }
 
-        return rooms.map(room -> {
-            RoomDTO roomDTO = roomMapper.toDto(room);
-            return roomDTO;
-        });
+    /**
+     * Returns the page of room summaries after a cursor.
+     *
+     * <p>
+     * The page is read with a seek on the sort key and id instead of an
+     * offset, so a deep page is read as fast as the first. Rooms are
+     * sorted by createdAt.
+     * </p>
+     *
+     * @param filter the RSQL filter, or null for every room
+     * @param sort   the sort order, used for the first page
+     * @param cursor the cursor of the previous page, or null for the first
+     * @param size   the number of rooms in a page
+     * @throws InvalidCursorException if the cursor or sort is not supported
+     * @throws InvalidFilterException if the filter is not supported
+     * @return the page of room summaries and the cursor of the next page
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public CursorPage<RoomSummaryDTO> getAllRoomsByCursor(String filter, Sort sort, String cursor, int size) {
+
+        Specification<Room> specfication = filterSpecifications.toSpecification(Room.class, filter, LIST_FIELDS);
+
+        return roomRepository.findRoomList(specfication, Keyset.of(sort, cursor, CURSOR_SORTS), size);
     }
 
     /**
@@ -75,27 +144,54 @@ public class RoomService {
      * Returns all rooms with the same a room type to narrow down the search and
      * help with auditing
      * 
-     * Custom query created in the repository.
+     * Custom query created in the repository. The checklists and inventories
+     * of the page are read with one query each, so a page takes the same
+     * number of queries whatever its size.
      * </p>
      * 
-     * @param type room type enum
-     * @returns rooms with same type
+     * @param type       room type enum
+     * @param designerId the logged in designer's unique identifier
+     * @returns the designer's rooms with same type
      * @throws RoomNotFoundException if the room type is not found
      */
     @PreAuthorize("hasRole('DESIGNER')")
-    public Page<RoomDTO> getRoomsByType(RoomType type, Pageable pageable, String username) {
+    public Page<RoomDTO> getRoomsByType(RoomType type, Pageable pageable, Long designerId) {
 
         if (type == null) {
             throw new RoomNotFoundException("type", type);
         }
 
-        return roomRepository.findRoomsByType(
-                type, pageable)
-                .map(room -> {
-                    RoomDTO roomDTO = roomMapper.toDto(room);
-                    return roomDTO;
-                });
+        Page<Room> rooms = roomRepository.findRoomsByDesignerIdAndType(designerId, type, pageable);
+        if (rooms.isEmpty()) {
+            return rooms.map(roomMapper::toDto);
+        }
 
+        List<Long> roomIds = rooms.map(Room::getId).getContent();
+        Map<Long, List<Task>> checklists = taskRepository.findByRoomIds(roomIds).stream()
+                .collect(Collectors.groupingBy(task -> task.getRoom().getId()));
+        Map<Long, List<Item>> inventories = itemRepository.findByRoomIds(roomIds).stream()
+                .collect(Collectors.groupingBy(item -> item.getRoom().getId()));
+
+        return rooms.map(room -> roomMapper.toDto(room, checklists.getOrDefault(room.getId(), List.of()),
+                inventories.getOrDefault(room.getId(), List.of())));
+    }
+
+    /**
+     * Returns the room's current version, without loading the room.
+     * 
+     * <p>
+     * Sent as the room's ETag, so an unchanged room is answered before it
+     * is loaded and mapped.
+     * </p>
+     * 
+     * @param id room's unique identifier
+     * @throws RoomNotFoundException if the room is not found
+     * @return the room's version
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public long getRoomVersion(Long id) {
+        return roomRepository.findVersionById(id)
+                .orElseThrow(() -> new RoomNotFoundException("roomId", id));
     }
 
     /**
@@ -103,12 +199,14 @@ public class RoomService {
      * 
      * <p>
      * Used to access a specific room within a project for updates
-     * or design changes.
+     * or design changes. The checklist and inventory are read in the same
+     * transaction, when the room is mapped.
      * </p>
      * 
      * @param id room's unique identifier
      * @throws RoomNotFoundException if the room is not found
      */
+    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('ADMIN')")
     public RoomDTO getRoomById(Long id) {
 
@@ -135,17 +233,15 @@ public class RoomService {
     @Transactional
     @PreAuthorize("hasRole('DESIGNER')")
     public RoomDTO addRoom(RoomCreateDTO roomCreateDTO, Long projectId,
-            String username) {
+            Long designerId) {
 
         if (roomCreateDTO == null && projectId == null) {
             throw new IllegalArgumentException("Room must not be null");
         }
 
-        Project project = projectService.findProject(projectId);
+        ownershipService.checkProject(projectId, designerId);
 
-        if (project.getClient().getDesigner().getUser().getUsername() != username) {
-            throw new AccessDeniedException("User does not have authorization");
-        }
+        Project project = projectService.findProject(projectId);
         roomCreateDTO.setProject(project);
         Room room = roomMapper.toEntity(roomCreateDTO);
         project.setRoom(room);
@@ -162,18 +258,25 @@ public class RoomService {
      * Modifys room details such as dimensions, style or checklist and changes.
      * </p>
      * 
-     * @param id   room's unique identifier
-     * @param room room object to be created
-     * @throws RoomNotFoundException if the room is not found
+     * @param id      room's unique identifier
+     * @param room    room object to be created
+     * @param ifMatch the If-Match header, or null
+     * @throws RoomNotFoundException       if the room is not found
+     * @throws PreconditionFailedException if the room has changed
      * @return updates room
      */
+    @Transactional
     @PreAuthorize("hasRole('DESIGNER')")
-    public RoomDTO updateRoom(Long id, RoomUpdateDTO roomUpdateDTO, String username) {
+    public RoomDTO updateRoom(Long id, RoomUpdateDTO roomUpdateDTO, Long designerId, String ifMatch) {
+
+        ownershipService.checkRoom(id, designerId);
 
         Room existingRoom = findRoom(id);
-        findRoomByDesigner(existingRoom, username);
+        IfMatch.check(ifMatch, existingRoom.getVersion());
         roomMapper.updateEntity(roomUpdateDTO, existingRoom);
-        return roomMapper.toDto(roomRepository.save(existingRoom));
+
+        // Flushed so the returned version is the new one
+        return roomMapper.toDto(roomRepository.saveAndFlush(existingRoom));
     }
 
     /**
@@ -191,10 +294,11 @@ public class RoomService {
      * @throws RoomNotFoundException if the room doesnt exist
      */
     @PreAuthorize("hasRole('DESIGNER')")
-    public void deleteRoom(Long id, String username) {
+    public void deleteRoom(Long id, Long designerId) {
+
+        ownershipService.checkRoom(id, designerId);
 
         Room room = findRoom(id);
-        findRoomByDesigner(room, username);
         roomRepository.delete(room);
 
     }
@@ -215,13 +319,17 @@ public class RoomService {
      * @throws ProjectNotFoundException if the project doesn't exist
      * @return room is reassigned
      */
+    @Transactional
     @PreAuthorize("hasRole('DESIGNER')")
-    public RoomDTO reassignProject(Long projectId, Long roomId, String username) {
+    public RoomDTO reassignProject(Long projectId, Long roomId, Long designerId) {
+
+        // Both the room and the new project must belong to the designer
+        ownershipService.checkRoom(roomId, designerId);
+        ownershipService.checkProject(projectId, designerId);
 
         Room existingRoom = findRoom(roomId);
         Project project = projectService.findProject(projectId);
-
-        findRoomByDesigner(existingRoom, username);
+        Project previousProject = existingRoom == null ? null : existingRoom.getProject();
 
         if (existingRoom == null || project == null) {
             throw new RoomNotFoundException("roomId", roomId);
@@ -230,146 +338,526 @@ public class RoomService {
             existingRoom.setProject(project);
         }
 
-        return roomMapper.toDto(roomRepository.save(existingRoom));
+        Room savedRoom = roomRepository.saveAndFlush(existingRoom);
+
+        // The room's inventory totals move with it
+        if (previousProject != null && !previousProject.getId().equals(projectId)) {
+            spendRollup.refreshProject(previousProject.getId());
+        }
+        spendRollup.refreshProject(projectId);
+
+        return roomMapper.toDto(savedRoom);
     }
 
     /**
      * Adds Task to checklist for the room
      * 
+     * <p>
+     * Only the new task is inserted, the rest of the checklist is not
+     * written.
+     * </p>
      * 
-     * 
-     * @param task   the task object to be updated
-     * @param roomId retrieves the room object to be updated
+     * @param taskDTO the task to be added
+     * @param roomId  retrieves the room object to be updated
      * @throws RoomNotFoundException if the room is not found
      * @return the updated room
      */
+    @Transactional
     @PreAuthorize("hasRole('DESIGNER')")
-    public RoomDTO addTask(Long roomId, Task task, String username) {
+    public RoomDTO addTask(Long roomId, TaskDTO taskDTO, Long designerId) {
 
-        Room existingRoom = findRoom(roomId);
+        ownershipService.checkRoom(roomId, designerId);
+        changeRoom(roomId, null);
 
-        findRoomByDesigner(existingRoom, username);
+        Room existingRoom = findRoom(roomId);
 
+        Task task = roomMapper.toEntity(taskDTO);
         task.setCompleted(false);
 
-        existingRoom.getChecklist().add(task);
+        existingRoom.addTask(task);
+        taskRepository.save(task);
 
-        return roomMapper.toDto(roomRepository.save(existingRoom));
+        return roomMapper.toDto(existingRoom);
     }
 
     /**
      * Updates task to checklist
      * 
+     * <p>
+     * Replaces the details of the task at the index, only that task's row
+     * is updated.
+     * </p>
      * 
-     * 
-     * @param index      retrieves the item to be updated
-     * @param roomId     retrieves the room object to be updated
-     * @param updateTask the updated task
-     * @throws RoomNotFoundException if the room is not found
+     * @param index   retrieves the task to be updated
+     * @param roomId  retrieves the room object to be updated
+     * @param taskDTO the updated task
+     * @param ifMatch the room's If-Match header
+     * @throws RoomNotFoundException         if the room is not found
+     * @throws TaskNotFoundException         if there is no task at the index
+     * @throws PreconditionFailedException   if the room has changed
+     * @throws PreconditionRequiredException if the If-Match header is missing
      * @return the updated task is added to the checklist
      */
+    @Transactional
     @PreAuthorize("hasRole('DESIGNER')")
-    public RoomDTO editTask(Long roomId, Task updateTask, int index, String username) {
+    public RoomDTO editTask(Long roomId, TaskDTO taskDTO, int index, Long designerId, String ifMatch) {
 
-        Room existingRoom = findRoom(roomId);
+        ownershipService.checkRoom(roomId, designerId);
+        IfMatch.require(ifMatch);
+        changeRoom(roomId, ifMatch);
 
-        findRoomByDesigner(existingRoom, username);
+        Room existingRoom = findRoom(roomId);
+        Task task = taskAt(existingRoom, index);
 
-        existingRoom.getChecklist().set(index, updateTask);
+        roomMapper.updateEntity(taskDTO, task);
+        taskRepository.save(task);
 
-        return roomMapper.toDto(roomRepository.save(existingRoom));
+        return roomMapper.toDto(existingRoom);
     }
 
     /**
      * Delete Task to checklist for the room
      * 
+     * <p>
+     * Only the task's row is deleted, the tasks after it keep their
+     * positions.
+     * </p>
+     * 
+     * @param index   using the task's index to delete
+     * @param roomId  retrieves the room object to be updated
+     * @param ifMatch the room's If-Match header
+     * @throws RoomNotFoundException         if the room is not found
+     * @throws TaskNotFoundException         if there is no task at the index
+     * @throws PreconditionFailedException   if the room has changed
+     * @throws PreconditionRequiredException if the If-Match header is missing
+     */
+    @Transactional
+    @PreAuthorize("hasRole('DESIGNER')")
+    public void deleteTask(Long roomId, int index, Long designerId, String ifMatch) {
+
+        ownershipService.checkRoom(roomId, designerId);
+        IfMatch.require(ifMatch);
+        changeRoom(roomId, ifMatch);
+
+        Room existingRoom = findRoom(roomId);
+        Task task = taskAt(existingRoom, index);
+
+        existingRoom.getChecklist().remove(task);
+        taskRepository.delete(task);
+    }
+
+    /**
+     * Creates a task at the end of the room's checklist
      * 
+     * <p>
+     * The checklist is not loaded, the task is inserted after the room's
+     * last task.
+     * </p>
      * 
-     * @param index  using the task's index to delete
-     * @param roomId retrieves the room object to be updated
+     * @param roomId  the room's unique identifier
+     * @param taskDTO the task to be created
      * @throws RoomNotFoundException if the room is not found
-     * @return the updated room
+     * @return the created task with its unique identifier
      */
+    @Transactional
     @PreAuthorize("hasRole('DESIGNER')")
-    public void deleteTask(Long roomId, int index, String username) {
+    public TaskDTO createTask(Long roomId, TaskDTO taskDTO, Long designerId) {
 
-        Room existingRoom = findRoom(roomId);
+        ownershipService.checkRoom(roomId, designerId);
+        changeRoom(roomId, null);
+
+        Task task = roomMapper.toEntity(taskDTO);
+        task.setRoom(roomRepository.getReferenceById(roomId));
+        task.setPosition(taskRepository.findNextPosition(roomId));
+
+        return roomMapper.toDto(taskRepository.save(task));
+    }
+
+    /**
+     * Updates the given fields of a task
+     * 
+     * @param roomId        the room's unique identifier
+     * @param taskId        the task's unique identifier
+     * @param taskUpdateDTO the fields to be updated
+     * @param ifMatch       the task's If-Match header, or null
+     * @throws RoomNotFoundException       if the room is not found
+     * @throws TaskNotFoundException       if the task is not in the room
+     * @throws PreconditionFailedException if the task has changed
+     * @return the updated task
+     */
+    @Transactional
+    @PreAuthorize("hasRole('DESIGNER')")
+    public TaskDTO updateTask(Long roomId, Long taskId, TaskUpdateDTO taskUpdateDTO, Long designerId,
+            String ifMatch) {
 
-        findRoomByDesigner(existingRoom, username);
+        ownershipService.checkRoom(roomId, designerId);
+        changeRoom(roomId, null);
 
-        existingRoom.getChecklist().remove(index);
+        Task task = findTask(roomId, taskId);
+        IfMatch.check(ifMatch, task.getVersion());
+        roomMapper.updateEntity(taskUpdateDTO, task);
 
-        roomMapper.toDto(roomRepository.save(existingRoom));
+        return roomMapper.toDto(taskRepository.saveAndFlush(task));
     }
 
     /**
-     * Adds item to inventory
+     * Removes a task from the room's checklist
      * 
+     * @param roomId the room's unique identifier
+     * @param taskId the task's unique identifier
+     * @throws RoomNotFoundException if the room is not found
+     * @throws TaskNotFoundException if the task is not in the room
+     */
+    @Transactional
+    @PreAuthorize("hasRole('DESIGNER')")
+    public void removeTask(Long roomId, Long taskId, Long designerId) {
+
+        ownershipService.checkRoom(roomId, designerId);
+        changeRoom(roomId, null);
+
+        taskRepository.delete(findTask(roomId, taskId));
+    }
+
+    /**
+     * Adds item to inventory
      * 
+     * <p>
+     * Only the new item is inserted, the rest of the inventory is not
+     * written.
+     * </p>
      * 
-     * @param item   the item is added to the shopping list
-     * @param roomId retrieves the room object to be updated
+     * @param itemDTO the item is added to the shopping list
+     * @param roomId  retrieves the room object to be updated
      * @throws RoomNotFoundException if the room is not found
      * @return the updated room, with a new item on the list
      */
+    @Transactional
     @PreAuthorize("hasRole('DESIGNER')")
-    public RoomDTO addItem(Long roomId, Item item, String username) {
+    public RoomDTO addItem(Long roomId, ItemDTO itemDTO, Long designerId) {
 
-        Room existingRoom = findRoom(roomId);
+        ownershipService.checkRoom(roomId, designerId);
+        changeRoom(roomId, null);
 
-        findRoomByDesigner(existingRoom, username);
+        Room existingRoom = findRoom(roomId);
 
+        Item item = roomMapper.toEntity(itemDTO);
         item.setOrdered(false);
 
-        existingRoom.getInventory().add(item);
+        existingRoom.addItem(item);
+        itemRepository.save(item);
+        spendRollup.add(roomId, Spend.of(item));
 
-        return roomMapper.toDto(roomRepository.save(existingRoom));
+        return roomMapper.toDto(existingRoom);
     }
 
     /**
      * Updates item to inventory
      * 
+     * <p>
+     * Replaces the details of the item at the index, only that item's row
+     * is updated.
+     * </p>
      * 
-     * 
-     * 
-     * @param index      retrieves the item to be updated
-     * @param roomId     retrieves the room object to be updated
-     * @param updateItem the updated item
-     * @throws RoomNotFoundException if the room is not found
+     * @param index   retrieves the item to be updated
+     * @param roomId  retrieves the room object to be updated
+     * @param itemDTO the updated item
+     * @param ifMatch the room's If-Match header
+     * @throws RoomNotFoundException         if the room is not found
+     * @throws ItemNotFoundException         if there is no item at the index
+     * @throws PreconditionFailedException   if the room has changed
+     * @throws PreconditionRequiredException if the If-Match header is missing
      * @return the updated item is added to the inventory
      */
+    @Transactional
     @PreAuthorize("hasRole('DESIGNER')")
-    public RoomDTO editItem(Long roomId, Item updateItem, int index, String username) {
+    public RoomDTO editItem(Long roomId, ItemDTO itemDTO, int index, Long designerId, String ifMatch) {
 
-        Room existingRoom = findRoom(roomId);
+        ownershipService.checkRoom(roomId, designerId);
+        IfMatch.require(ifMatch);
+        changeRoom(roomId, ifMatch);
 
-        findRoomByDesigner(existingRoom, username);
+        Room existingRoom = findRoom(roomId);
+        Item item = itemAt(existingRoom, index);
 
-        existingRoom.getInventory().set(index, updateItem);
+        spendRollup.add(roomId, edit(item, changed -> roomMapper.updateEntity(itemDTO, changed)));
+        itemRepository.save(item);
 
-        return roomMapper.toDto(roomRepository.save(existingRoom));
+        return roomMapper.toDto(existingRoom);
     }
 
     /**
      * Deletes Item from inventory
      * 
+     * <p>
+     * Only the item's row is deleted, the items after it keep their
+     * positions.
+     * </p>
      * 
+     * @param index   using the item's index to delete
+     * @param roomId  retrieves the room object to be updated
+     * @param ifMatch the room's If-Match header
+     * @throws RoomNotFoundException         if the room is not found
+     * @throws ItemNotFoundException         if there is no item at the index
+     * @throws PreconditionFailedException   if the room has changed
+     * @throws PreconditionRequiredException if the If-Match header is missing
+     */
+    @Transactional
+    @PreAuthorize("hasRole('DESIGNER')")
+    public void deleteItem(Long roomId, int index, Long designerId, String ifMatch) {
+
+        ownershipService.checkRoom(roomId, designerId);
+        IfMatch.require(ifMatch);
+        changeRoom(roomId, ifMatch);
+
+        Room existingRoom = findRoom(roomId);
+        Item item = itemAt(existingRoom, index);
+
+        existingRoom.getInventory().remove(item);
+        itemRepository.delete(item);
+        spendRollup.add(roomId, Spend.NONE.minus(Spend.of(item)));
+    }
+
+    /**
+     * Creates an item at the end of the room's inventory
+     * 
+     * <p>
+     * The inventory is not loaded, the item is inserted after the room's
+     * last item.
+     * </p>
      * 
-     * @param index  using the task's index to delete
-     * @param roomId retrieves the room object to be updated
+     * @param roomId  the room's unique identifier
+     * @param itemDTO the item to be created
      * @throws RoomNotFoundException if the room is not found
+     * @return the created item with its unique identifier
+     */
+    @Transactional
+    @PreAuthorize("hasRole('DESIGNER')")
+    public ItemDTO createItem(Long roomId, ItemDTO itemDTO, Long designerId) {
+
+        ownershipService.checkRoom(roomId, designerId);
+        changeRoom(roomId, null);
+
+        Item item = roomMapper.toEntity(itemDTO);
+        item.setRoom(roomRepository.getReferenceById(roomId));
+        item.setPosition(itemRepository.findNextPosition(roomId));
+        spendRollup.add(roomId, Spend.of(item));
+
+        return roomMapper.toDto(itemRepository.save(item));
+    }
+
+    /**
+     * Updates the given fields of an item, such as marking it ordered
+     * 
+     * @param roomId        the room's unique identifier
+     * @param itemId        the item's unique identifier
+     * @param itemUpdateDTO the fields to be updated
+     * @param ifMatch       the item's If-Match header, or null
+     * @throws RoomNotFoundException       if the room is not found
+     * @throws ItemNotFoundException       if the item is not in the room
+     * @throws PreconditionFailedException if the item has changed
+     * @return the updated item
+     */
+    @Transactional
+    @PreAuthorize("hasRole('DESIGNER')")
+    public ItemDTO updateItem(Long roomId, Long itemId, ItemUpdateDTO itemUpdateDTO, Long designerId,
+            String ifMatch) {
+
+        ownershipService.checkRoom(roomId, designerId);
+        changeRoom(roomId, null);
+
+        Item item = findItem(roomId, itemId);
+        IfMatch.check(ifMatch, item.getVersion());
+        spendRollup.add(roomId, edit(item, changed -> roomMapper.updateEntity(itemUpdateDTO, changed)));
+
+        return roomMapper.toDto(itemRepository.saveAndFlush(item));
+    }
+
+    /**
+     * Removes an item from the room's inventory
+     * 
+     * @param roomId the room's unique identifier
+     * @param itemId the item's unique identifier
+     * @throws RoomNotFoundException if the room is not found
+     * @throws ItemNotFoundException if the item is not in the room
+     */
+    @Transactional
+    @PreAuthorize("hasRole('DESIGNER')")
+    public void removeItem(Long roomId, Long itemId, Long designerId) {
+
+        ownershipService.checkRoom(roomId, designerId);
+        changeRoom(roomId, null);
+
+        Item item = findItem(roomId, itemId);
+        itemRepository.delete(item);
+        spendRollup.add(roomId, Spend.NONE.minus(Spend.of(item)));
+    }
+
+    /**
+     * Applies a batch of checklist and inventory changes to a room
+     * 
+     * <p>
+     * The operations are applied in order, in one transaction, with one
+     * ownership check. The changes are written in one flush at the end, so a
+     * failing operation leaves the room unchanged.
+     * </p>
+     * 
+     * @param roomId     the room's unique identifier
+     * @param batch      the operations to apply
+     * @param designerId the logged in designer's unique identifier
+     * @param ifMatch    the room's If-Match header, or null
+     * @throws RoomNotFoundException       if the room is not found
+     * @throws TaskNotFoundException       if a task is not in the room
+     * @throws ItemNotFoundException       if an item is not in the room
+     * @throws PreconditionFailedException if the room has changed
      * @return the updated room
      */
+    @Transactional
     @PreAuthorize("hasRole('DESIGNER')")
-    public void deleteItem(Long roomId, int index, String username) {
+    public RoomDTO applyOperations(Long roomId, RoomBatchDTO batch, Long designerId, String ifMatch) {
+
+        ownershipService.checkRoom(roomId, designerId);
+        changeRoom(roomId, ifMatch);
 
         Room existingRoom = findRoom(roomId);
 
-        findRoomByDesigner(existingRoom, username);
+        Spend change = Spend.NONE;
+        for (RoomOperationDTO operation : batch.getOperations()) {
+            change = change.plus(apply(existingRoom, operation));
+        }
+
+        // New rows need their ids before the room is mapped
+        roomRepository.flush();
+        spendRollup.add(roomId, change);
+
+        return roomMapper.toDto(existingRoom);
+    }
+
+    // Increments the room's version before its checklist or inventory is
+    // changed. With If-Match the increment only succeeds if the room is still
+    // at the matching version, a concurrent change fails one of the two writes
+    private void changeRoom(Long roomId, String ifMatch) {
+
+        if (ifMatch == null) {
+            roomRepository.incrementVersion(roomId);
+            return;
+        }
+
+        Long version = roomRepository.findVersionById(roomId)
+                .orElseThrow(() -> new RoomNotFoundException("roomId", roomId));
+        IfMatch.check(ifMatch, version);
+        if (roomRepository.incrementVersion(roomId, version) == 0) {
+            throw new PreconditionFailedException("The room was changed by another request");
+        }
+    }
+
+    // Returns the change to the inventory totals
+    private Spend apply(Room room, RoomOperationDTO operation) {
+
+        switch (operation.getType()) {
+            case ADD_TASK -> room.addTask(roomMapper.toEntity(operation.getTask()));
+            case EDIT_TASK -> roomMapper.updateEntity(operation.getTask(), taskIn(room, operation.getId()));
+            case DELETE_TASK -> room.getChecklist().remove(taskIn(room, operation.getId()));
+            case MOVE_TASK -> moveTask(room, taskIn(room, operation.getId()), operation.getIndex());
+            case COMPLETE_TASK -> taskIn(room, operation.getId()).setCompleted(operation.getValue());
+            case ADD_ITEM -> {
+                Item item = roomMapper.toEntity(operation.getItem());
+                room.addItem(item);
+                return Spend.of(item);
+            }
+            case EDIT_ITEM -> {
+                return edit(itemIn(room, operation.getId()),
+                        item -> roomMapper.updateEntity(operation.getItem(), item));
+            }
+            case DELETE_ITEM -> {
+                Item item = itemIn(room, operation.getId());
+                room.getInventory().remove(item);
+                return Spend.NONE.minus(Spend.of(item));
+            }
+            case MOVE_ITEM -> moveItem(room, itemIn(room, operation.getId()), operation.getIndex());
+            case ORDER_ITEM -> {
+                return edit(itemIn(room, operation.getId()), item -> item.setOrdered(operation.getValue()));
+            }
+        }
+        return Spend.NONE;
+    }
+
+    // Applies a change to an item, returning the difference to the totals
+    private Spend edit(Item item, Consumer<Item> change) {
+        Spend before = Spend.of(item);
+        change.accept(item);
+        return Spend.of(item).minus(before);
+    }
+
+    // Only the tasks whose position changes are written
+    private void moveTask(Room room, Task task, int index) {
+
+        List<Task> checklist = room.getChecklist();
+        if (index < 0 || index >= checklist.size()) {
+            throw new TaskNotFoundException("index", index);
+        }
+
+        checklist.remove(task);
+        checklist.add(index, task);
+        for (int i = 0; i < checklist.size(); i++) {
+            if (checklist.get(i).getPosition() != i) {
+                checklist.get(i).setPosition(i);
+            }
+        }
+    }
+
+    private void moveItem(Room room, Item item, int index) {
+
+        List<Item> inventory = room.getInventory();
+        if (index < 0 || index >= inventory.size()) {
+            throw new ItemNotFoundException("index", index);
+        }
+
+        inventory.remove(item);
+        inventory.add(index, item);
+        for (int i = 0; i < inventory.size(); i++) {
+            if (inventory.get(i).getPosition() != i) {
+                inventory.get(i).setPosition(i);
+            }
+        }
+    }
+
+    private Task taskIn(Room room, Long taskId) {
+        return room.getChecklist().stream()
+                .filter(task -> taskId.equals(task.getId()))
+                .findFirst()
+                .orElseThrow(() -> new TaskNotFoundException("taskId", taskId));
+    }
+
+    private Item itemIn(Room room, Long itemId) {
+        return room.getInventory().stream()
+                .filter(item -> itemId.equals(item.getId()))
+                .findFirst()
+                .orElseThrow(() -> new ItemNotFoundException("itemId", itemId));
+    }
+
+    // Index routes address the checklist and inventory in position order
+    private Task taskAt(Room room, int index) {
+        if (index < 0 || index >= room.getChecklist().size()) {
+            throw new TaskNotFoundException("index", index);
+        }
+        return room.getChecklist().get(index);
+    }
 
-        existingRoom.getInventory().remove(index);
+    private Item itemAt(Room room, int index) {
+        if (index < 0 || index >= room.getInventory().size()) {
+            throw new ItemNotFoundException("index", index);
+        }
+        return room.getInventory().get(index);
+    }
+
+    private Task findTask(Long roomId, Long taskId) {
+        return taskRepository.findByIdAndRoomId(taskId, roomId)
+                .orElseThrow(() -> new TaskNotFoundException("taskId", taskId));
+    }
 
-        roomMapper.toDto(roomRepository.save(existingRoom));
+    private Item findItem(Long roomId, Long itemId) {
+        return itemRepository.findByIdAndRoomId(itemId, roomId)
+                .orElseThrow(() -> new ItemNotFoundException("itemId", itemId));
     }
 
     /**
@@ -386,14 +874,4 @@ public class RoomService {
                 .orElseThrow(() -> new RoomNotFoundException("roomId", id));
     }
 
-    public void findRoomByDesigner(Room existingRoom, String username) {
-
-        Project existingProject = projectService.findProject(existingRoom.getProject().getId());
-
-        if (existingProject.getClient().getDesigner().getUser().getUsername() != username) {
-            throw new AccessDeniedException("User does not have authorization");
-        }
-
-    }
-
 }
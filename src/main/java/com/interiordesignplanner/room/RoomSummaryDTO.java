@@ -0,0 +1,44 @@
+package com.interiordesignplanner.room;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "Response body for a room in a list, with its checklist and inventory counted")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomSummaryDTO {
+
+    @Schema(description = "Room id", example = "1")
+    private Long id;
+
+    @Schema(description = "Project name", example = "Coastal Living Room")
+    private String projectName;
+
+    @Schema(description = "Room type", example = "LIVING_ROOM")
+    @Enumerated(EnumType.STRING)
+    private RoomType type;
+
+    @Schema(description = "Room length", example = "6.4")
+    private Double length;
+
+    @Schema(description = "Room height", example = "5.0")
+    private Double height;
+
+    @Schema(description = "Room width", example = "3.5")
+    private Double width;
+
+    @Schema(description = "Unit of dimensions", example = "M")
+    private String unit;
+
+    @Schema(description = "Number of tasks in the checklist", example = "4")
+    private Long taskCount;
+
+    @Schema(description = "Number of items in the inventory", example = "12")
+    private Integer itemCount;
+
+}
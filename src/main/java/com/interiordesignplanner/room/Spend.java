@@ -0,0 +1,54 @@
+package com.interiordesignplanner.room;
+
+import java.math.BigDecimal;
+
+/**
+ * Spend (Inventory totals)
+ *
+ * <p>
+ * Planned cost, ordered cost and number of items. Used as the change an
+ * inventory edit makes to its room's and project's totals.
+ * </p>
+ */
+public record Spend(BigDecimal planned, BigDecimal ordered, int items) {
+
+    public static final Spend NONE = new Spend(BigDecimal.ZERO, BigDecimal.ZERO, 0);
+
+    /**
+     * Returns what one item adds to the totals
+     *
+     * @param item the item
+     * @return the item's cost, ordered cost and a count of one
+     */
+    public static Spend of(Item item) {
+        return of(item.getPrice(), item.getQuantity(), item.isOrdered());
+    }
+
+    /**
+     * Returns what an item with these details adds to the totals
+     *
+     * @param price    the price of one item
+     * @param quantity the quantity needed
+     * @param ordered  whether the item has been ordered
+     * @return the item's cost, ordered cost and a count of one
+     */
+    public static Spend of(BigDecimal price, Integer quantity, boolean ordered) {
+        BigDecimal planned = price == null || quantity == null
+                ? BigDecimal.ZERO
+                : price.multiply(BigDecimal.valueOf(quantity));
+        return new Spend(planned, ordered ? planned : BigDecimal.ZERO, 1);
+    }
+
+    public Spend plus(Spend other) {
+        return new Spend(planned.add(other.planned), ordered.add(other.ordered), items + other.items);
+    }
+
+    public Spend minus(Spend other) {
+        return new Spend(planned.subtract(other.planned), ordered.subtract(other.ordered), items - other.items);
+    }
+
+    public boolean isNone() {
+        return planned.signum() == 0 && ordered.signum() == 0 && items == 0;
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.interiordesignplanner.room;
+
+import org.springframework.stereotype.Component;
+
+import com.interiordesignplanner.project.ProjectRepository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * SpendBackfill (Startup data fix)
+ *
+ * <p>
+ * Rooms and projects store their inventory totals. Rows saved before the
+ * columns existed are summed once at startup, rooms first as projects copy
+ * their room's totals. Rows already filled in are not touched, later
+ * changes are added by {@link SpendRollup}. Rooms whose items are copied
+ * by {@code docs/migrations/001_room_tasks_and_items.sql} have their totals
+ * cleared by the script and are summed again on the next start.
+ * </p>
+ */
+@Component
+public class SpendBackfill {
+
+    private final RoomRepository roomRepository;
+
+    private final ProjectRepository projectRepository;
+
+    public SpendBackfill(RoomRepository roomRepository, ProjectRepository projectRepository) {
+        this.roomRepository = roomRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    @PostConstruct
+    public void backfill() {
+        roomRepository.backfillSpend();
+        projectRepository.backfillSpend();
+        projectRepository.backfillOverBudget();
+    }
+
+}
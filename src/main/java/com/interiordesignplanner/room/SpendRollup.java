@@ -0,0 +1,54 @@
+package com.interiordesignplanner.room;
+
+import org.springframework.stereotype.Component;
+
+import com.interiordesignplanner.project.ProjectRepository;
+
+/**
+ * SpendRollup (Room and project inventory totals)
+ *
+ * <p>
+ * Rooms and projects store the planned cost, ordered cost and number of
+ * items of their inventory. Each inventory change adds its difference to
+ * both rows with one update each, the items are never summed again. A
+ * designer's totals are the sum of their projects' rows.
+ * </p>
+ */
+@Component
+public class SpendRollup {
+
+    private final RoomRepository roomRepository;
+
+    private final ProjectRepository projectRepository;
+
+    public SpendRollup(RoomRepository roomRepository, ProjectRepository projectRepository) {
+        this.roomRepository = roomRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    /**
+     * Adds a change to the room's totals and its project's totals
+     *
+     * @param roomId the room's unique identifier
+     * @param change the difference the inventory change made
+     */
+    public void add(Long roomId, Spend change) {
+
+        if (change.isNone()) {
+            return;
+        }
+
+        roomRepository.addSpend(roomId, change.planned(), change.ordered(), change.items());
+        projectRepository.addRoomSpend(roomId, change.planned(), change.ordered(), change.items());
+    }
+
+    /**
+     * Copies the totals of a project's room again, after the room moved
+     *
+     * @param projectId the project's unique identifier
+     */
+    public void refreshProject(Long projectId) {
+        projectRepository.refreshSpend(projectId);
+    }
+
+}
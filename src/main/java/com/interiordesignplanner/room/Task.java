@@ -2,36 +2,52 @@ package com.interiordesignplanner.room;
 
 import java.time.LocalDate;
 
-import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.persistence.Embeddable;
-import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Size;
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.interiordesignplanner.AbstractEntity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
-
-@Schema(description = "Request body for creating and updating a task")
-@AllArgsConstructor
+import lombok.Setter;
+
+/**
+ * Models a task on a room's checklist. Each task is stored in its own row
+ * with a position in the checklist, so adding, editing or removing one
+ * task only writes that row.
+ */
+
+@Entity
+@Table(name = "room_tasks", indexes = @Index(name = "idx_room_tasks_room_position", columnList = "room_id, position"))
+@Getter
+@Setter
 @NoArgsConstructor
-@Data
-@Embeddable
-public class Task {
+public class Task extends AbstractEntity {
+
+    // Foreign key to Room entity, many to one bidirectional relationship.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", referencedColumnName = "id")
+    @JsonIgnore
+    private Room room;
+
+    // Place in the checklist, gaps are left when a task is removed
+    @JsonIgnore
+    private int position;
 
-    @Schema(description = "Task name", example = "Order lighting and furniture")
-    @NotNull(message = "Task name is required")
-    @Size(min = 5, max = 30, message = "Task name must be between 5 and 30 characters")
+    // Name of the task
     private String taskName;
 
-    @Schema(description = "Task description", example = "Check the inventory for the items")
-    @NotNull(message = "Description is required")
-    @Size(min = 5, max = 200, message = "Description must be between 5 and 200 characters")
+    // Brief task description
     private String task;
 
-    @Schema(description = "Task description", example = "2026-03-02")
-    @NotNull(message = "Date is required")
+    // The date the task is planned for
     private LocalDate date;
 
-    @Schema(description = "Task completed?", example = "true")
+    // Whether the task has been completed
     private boolean completed;
 
 }
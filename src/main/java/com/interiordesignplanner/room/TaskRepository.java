@@ -0,0 +1,51 @@
+package com.interiordesignplanner.room;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing {@link Task} entities.
+ *
+ * <p>
+ * Tasks are read and written one at a time, without loading the
+ * room's checklist, or read for a page of rooms at once.
+ * </p>
+ */
+@Repository
+public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    /**
+     * Finds a task in a room.
+     *
+     * @param id     the task's unique identifier
+     * @param roomId the room's unique identifier
+     * @return the task if it is in the room, otherwise empty
+     */
+    Optional<Task> findByIdAndRoomId(Long id, Long roomId);
+
+    /**
+     * Finds the tasks of several rooms with one query, used to read the
+     * checklists of a page of rooms together.
+     *
+     * @param roomIds the rooms' unique identifiers, not empty
+     * @return the rooms' tasks, in checklist order
+     */
+    @Query("SELECT t FROM Task t WHERE t.room.id IN :roomIds ORDER BY t.position")
+    List<Task> findByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    /**
+     * Gets the position after the room's last task.
+     *
+     * @param roomId the room's unique identifier
+     * @return the next position, 0 for an empty checklist
+     */
+    @Query("SELECT COALESCE(MAX(t.position) + 1, 0) FROM Task t WHERE t.room.id = :roomId")
+    int findNextPosition(@Param("roomId") Long roomId);
+
+}
@@ -0,0 +1,27 @@
+package com.interiordesignplanner.room;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Schema(description = "Request body for updating a task, only the given fields are changed")
+@Data
+public class TaskUpdateDTO {
+
+    @Schema(description = "Task name", example = "Order lighting and furniture")
+    @Size(min = 5, max = 30, message = "Task name must be between 5 and 30 characters")
+    private String taskName;
+
+    @Schema(description = "Task description", example = "Check the inventory for the items")
+    @Size(min = 5, max = 200, message = "Description must be between 5 and 200 characters")
+    private String task;
+
+    @Schema(description = "Task date", example = "2026-03-02")
+    private LocalDate date;
+
+    @Schema(description = "Task completed?", example = "true")
+    private Boolean completed;
+
+}
@@ -7,6 +7,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.interiordesignplanner.authentication.Roles;
 import com.interiordesignplanner.authentication.User;
 
 /**
@@ -15,15 +16,45 @@ import com.interiordesignplanner.authentication.User;
  * <p>
  * Including user's username, password and roles
  * </p>
+ *
+ * <p>
+ * In stateless mode it is rebuilt from the signed JwtToken claims
+ * instead of the user's row in the database.
+ * </p>
  */
 public class ApplicationUserDetails implements UserDetails {
 
     private User user;
 
+    // Designer's unique identifier, null for admins
+    private Long designerId;
+
     public ApplicationUserDetails(User user) {
         this.user = user;
     }
 
+    public ApplicationUserDetails(User user, Long designerId) {
+        this.user = user;
+        this.designerId = designerId;
+    }
+
+    /**
+     * Builds the user details from verified token claims
+     *
+     * No password is available, so it can only be used for an
+     * already authenticated request.
+     */
+    public static ApplicationUserDetails fromToken(JwtToken jwtToken) {
+
+        User user = new User();
+        user.setId(jwtToken.userId());
+        user.setUsername(jwtToken.username());
+        user.setRoles(Roles.valueOf(jwtToken.role()));
+        user.setTokenVersion(jwtToken.version());
+
+        return new ApplicationUserDetails(user, jwtToken.designerId());
+    }
+
     /**
      * Implemented pre-authorization for privileges with Granted Authority
      */
@@ -33,6 +64,22 @@ public class ApplicationUserDetails implements UserDetails {
         return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRoles().name()));
     }
 
+    public Long getUserId() {
+        return user.getId();
+    }
+
+    public Long getDesignerId() {
+        return designerId;
+    }
+
+    public Roles getRoles() {
+        return user.getRoles();
+    }
+
+    public int getTokenVersion() {
+        return user.getTokenVersion();
+    }
+
     @Override
     public String getPassword() {
         return user.getPassword();
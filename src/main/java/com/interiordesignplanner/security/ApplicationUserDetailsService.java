@@ -1,33 +1,143 @@
 package com.interiordesignplanner.security;
 
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.interiordesignplanner.authentication.User;
 import com.interiordesignplanner.authentication.UserRepository;
+import com.interiordesignplanner.designer.DesignerRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 
 /**
  * Spring security - User Login and Authentication
- * 
+ *
+ * <p>
+ * Loaded users are kept in a size and time bounded cache. Unknown usernames
+ * are cached for a shorter time so repeated attempts do not reach the
+ * database. Entries are evicted by {@link UserCacheListener} whenever a user
+ * is saved or removed.
+ * </p>
+ *
+ * <p>
+ * The designer's id is resolved when the user is loaded, so designer
+ * requests do not look it up again.
+ * </p>
+ *
+ * <p>
+ * Also stores the re-encoded password when a login finds the stored hash
+ * uses a different cost than the current target.
+ * </p>
  */
 @Service
-public class ApplicationUserDetailsService implements UserDetailsService {
+public class ApplicationUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
-    public ApplicationUserDetailsService(UserRepository userRepository) {
+    private final DesignerRepository designerRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user.cache.size:10000}")
+    private long cacheSize;
+
+    @Value("${user.cache.ttl:300000}")
+    private long ttl;
+
+    @Value("${user.cache.not-found-ttl:10000}")
+    private long notFoundTtl;
+
+    // Recently loaded users, an empty Optional caches "user not found"
+    private Cache<String, Optional<ApplicationUserDetails>> users;
+
+    public ApplicationUserDetailsService(UserRepository userRepository, DesignerRepository designerRepository,
+            MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
+        this.designerRepository = designerRepository;
+        this.meterRegistry = meterRegistry;
+
+    }
+
+    @PostConstruct
+    public void init() {
+        users = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(Expiry.creating((String username, Optional<ApplicationUserDetails> user) -> Duration
+                        .ofMillis(user.isPresent() ? ttl : notFoundTtl)))
+                .recordStats()
+                .build();
 
+        // Publishes hit, miss and eviction metrics as cache.* with cache=users
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users");
     }
 
     // Retrieves the user signed in
     @Override
     public ApplicationUserDetails loadUserByUsername(String username) {
-        User user = userRepository.findByUsername(username)
+        return users.get(username, name -> userRepository.findByUsername(name).map(this::toUserDetails))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    }
+
+    // Designer's id is null for admins
+    private ApplicationUserDetails toUserDetails(User user) {
+        return new ApplicationUserDetails(user, designerRepository.findIdByUserId(user.getId()).orElse(null));
+    }
+
+    /**
+     * Stores the user's re-encoded password
+     *
+     * Called by the authentication provider after a successful login.
+     *
+     * @param userDetails the authenticated user
+     * @param newPassword the password encoded with the current cost
+     * @return the updated user details
+     */
+    @Override
+    public ApplicationUserDetails updatePassword(UserDetails userDetails, String newPassword) {
+
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+
+        user.setPassword(newPassword);
+        return toUserDetails(userRepository.save(user));
+    }
+
+    /**
+     * Removes a user from the cache
+     *
+     * <p>
+     * Evicts straight away and again once the current transaction has
+     * completed, so a lookup made before the commit is not kept.
+     * </p>
+     *
+     * @param username the user's username
+     */
+    public void evict(String username) {
+
+        users.invalidate(username);
 
-        return new ApplicationUserDetails(user);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    users.invalidate(username);
+                }
+            });
+        }
     }
 
 }
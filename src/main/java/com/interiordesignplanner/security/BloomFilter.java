@@ -0,0 +1,82 @@
+package com.interiordesignplanner.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * BloomFilter (Probabilistic set of strings)
+ *
+ * <p>
+ * Answers "definitely not present" or "probably present" using a fixed bit
+ * array. Sized from the expected number of entries and the false positive
+ * rate. Entries may be added while other threads are reading.
+ * </p>
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+
+    private final long numBits;
+
+    private final int numHashes;
+
+    public BloomFilter(int expectedEntries, double falsePositiveRate) {
+
+        int entries = Math.max(expectedEntries, 1);
+        double ln2 = Math.log(2);
+
+        long optimalBits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int words = (int) Math.min((Math.max(optimalBits, 64) + 63) / 64, Integer.MAX_VALUE);
+
+        this.bits = new AtomicLongArray(words);
+        this.numBits = words * 64L;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / entries * ln2));
+    }
+
+    public void put(String value) {
+
+        long hash1 = hash(value);
+        long hash2 = mix(hash1) | 1L;
+
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, numBits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            bits.getAndUpdate(word, current -> current | mask);
+        }
+    }
+
+    public boolean mightContain(String value) {
+
+        long hash1 = hash(value);
+        long hash2 = mix(hash1) | 1L;
+
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, numBits);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 64 bit FNV-1a
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // MurmurHash3 finalizer, gives the second independent hash
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
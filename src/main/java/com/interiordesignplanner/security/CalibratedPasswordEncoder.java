@@ -0,0 +1,94 @@
+package com.interiordesignplanner.security;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * CalibratedPasswordEncoder (BCrypt with a node specific cost)
+ *
+ * <p>
+ * BCrypt hashes carry their own cost ({@code $2a$12$...}), so passwords
+ * hashed with any cost still match. The cost is picked at startup by
+ * {@link #calibrate(long, int, int)} and any stored hash with a different
+ * cost, higher or lower, is reported for re-encoding on the next login.
+ * </p>
+ */
+public class CalibratedPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    // Target cost for new hashes
+    private final int strength;
+
+    public CalibratedPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Re-encodes hashes whose cost differs from the target
+     *
+     * Unlike BCryptPasswordEncoder, also downgrades hashes that are
+     * more expensive than this node can afford.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * Benchmarks BCrypt on this node
+     *
+     * <p>
+     * Returns the highest cost between minCost and maxCost whose hash
+     * takes no longer than the budget. The minimum is returned even if it
+     * is over budget, so the cost never drops below it.
+     * </p>
+     *
+     * @param budgetMillis the latency budget of one hash
+     * @param minCost      the lowest acceptable cost
+     * @param maxCost      the highest cost to try
+     * @return the calibrated cost
+     */
+    public static int calibrate(long budgetMillis, int minCost, int maxCost) {
+
+        // Warms up the JIT before timing
+        new BCryptPasswordEncoder(minCost).encode("calibration");
+
+        int chosen = minCost;
+
+        for (int cost = minCost; cost <= maxCost; cost++) {
+
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+
+            // Fastest of two runs, to ignore one-off pauses
+            long fastest = Long.MAX_VALUE;
+            for (int run = 0; run < 2; run++) {
+                long start = System.nanoTime();
+                encoder.encode("calibration");
+                fastest = Math.min(fastest, System.nanoTime() - start);
+            }
+
+            if (fastest / 1_000_000 > budgetMillis) {
+                break;
+            }
+
+            chosen = cost;
+        }
+
+        return chosen;
+    }
+
+}
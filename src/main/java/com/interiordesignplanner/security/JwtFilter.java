@@ -19,21 +19,44 @@ import org.springframework.beans.factory.annotation.Value;
  * JwtFilter to validate tokens
  * 
  * Every request, the JwtToken is in the header and then validated.
+ * 
+ * <p>
+ * In stateless mode the user is built from the token's signed claims and
+ * only the token version is checked, on a cached basis. Otherwise the user
+ * is loaded from the database on every request.
+ * </p>
+ * 
+ * <p>
+ * Tokens revoked by logout are rejected through the {@link TokenDenylist}.
+ * </p>
  */
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
+    // Request attribute holding the verified token, used by logout
+    public static final String TOKEN_ATTRIBUTE = "com.interiordesignplanner.security.JwtFilter.token";
+
     private final JwtService jwtService;
 
     private final ApplicationUserDetailsService applicationUserDetailsService;
 
+    private final TokenVersionCache tokenVersionCache;
+
+    private final TokenDenylist tokenDenylist;
+
     @Value("${jwt.header}")
     private String header;
 
-    public JwtFilter(JwtService jwtService, ApplicationUserDetailsService applicationUserDetailsService) {
+    @Value("${jwt.stateless.enabled:false}")
+    private boolean statelessEnabled;
+
+    public JwtFilter(JwtService jwtService, ApplicationUserDetailsService applicationUserDetailsService,
+            TokenVersionCache tokenVersionCache, TokenDenylist tokenDenylist) {
 
         this.jwtService = jwtService;
         this.applicationUserDetailsService = applicationUserDetailsService;
+        this.tokenVersionCache = tokenVersionCache;
+        this.tokenDenylist = tokenDenylist;
 
     }
 
@@ -42,26 +65,43 @@ public class JwtFilter extends OncePerRequestFilter {
             throws IOException, ServletException {
 
         String authHeader = request.getHeader(header);
-        String token = null;
+        JwtToken jwtToken = null;
         String username = null;
 
-        // Removes "Bearer" from the Header
+        // Removes "Bearer" from the Header and verifies the token once
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
-            username = jwtService.extractUsername(token);
+            jwtToken = jwtService.parseToken(authHeader.substring(7));
+            username = jwtToken.username();
         } else {
             filterChain.doFilter(request, response);
             return;
         }
 
+        // Logged out tokens are rejected, the db is only queried on a probable hit
+        if (tokenDenylist.isRevoked(jwtToken.id())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            ApplicationUserDetails applicationUserDetails = applicationUserDetailsService
-                    .loadUserByUsername(username);
+            ApplicationUserDetails applicationUserDetails;
+            boolean valid;
+
+            // Stateless: builds the user from the claims and checks it was not revoked
+            // Otherwise: finds the current user in the db
+            if (statelessEnabled && jwtToken.hasAuthorityClaims()) {
+                applicationUserDetails = ApplicationUserDetails.fromToken(jwtToken);
+                valid = jwtToken.isValidFor(applicationUserDetails)
+                        && tokenVersionCache.isCurrent(jwtToken.userId(), jwtToken.version());
+            } else {
+                applicationUserDetails = applicationUserDetailsService.loadUserByUsername(username);
+                valid = jwtToken.isValidFor(applicationUserDetails);
+            }
 
-            // If token is valid: extracts the username and finds the current user in the db
+            // If token is valid: authenticates the request
             // If not valid: it rejects the request
-            if (jwtService.isTokenValid(token, applicationUserDetails)) {
+            if (valid) {
 
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         applicationUserDetails,
@@ -70,6 +110,7 @@ public class JwtFilter extends OncePerRequestFilter {
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                request.setAttribute(TOKEN_ATTRIBUTE, jwtToken);
 
             }
 
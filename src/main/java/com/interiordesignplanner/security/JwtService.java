@@ -1,6 +1,9 @@
 package com.interiordesignplanner.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 
 import javax.crypto.SecretKey;
@@ -8,31 +11,96 @@ import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 
 /**
  * JwtService (JSON Web Token)
- * 
+ *
  * Generates, decodes and validates the JwtToken
+ *
+ * <p>
+ * The signing key and parser are built once at startup. Recently verified
+ * tokens are kept in a size bounded cache, keyed by the token's signature,
+ * so a token is only verified once while it is being reused.
+ * </p>
+ *
+ * <p>
+ * The role, user id, designer id and token version are signed into every
+ * token so the JwtFilter can authenticate without a database lookup.
+ * </p>
  */
 @Service
 public class JwtService {
 
+    // Signed claim names
+    static final String ROLE_CLAIM = "role";
+    static final String USER_ID_CLAIM = "uid";
+    static final String DESIGNER_ID_CLAIM = "did";
+    static final String VERSION_CLAIM = "ver";
+
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret.key}")
     private String secretKey;
 
-    @Value("${jwt.expiration.time}")
+    // Access tokens are short-lived and renewed with a refresh token (ms)
+    @Value("${jwt.expiration.time:900000}")
     private Long expiration;
 
+    @Value("${jwt.refresh.expiration.time:1209600000}")
+    private Long refreshExpiration;
+
+    @Value("${jwt.cache.size:1024}")
+    private int cacheSize;
+
+    // Decoded signing key and the parser that verifies with it
+    private SecretKey key;
+    private JwtParser parser;
+
+    // Recently verified tokens by signature
+    private Cache<String, JwtToken> verifiedTokens;
+
+    public JwtService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+
+        // Fails startup rather than issuing access tokens that outlive their refresh token
+        if (expiration <= 0 || expiration >= refreshExpiration) {
+            throw new IllegalStateException("jwt.expiration.time must be positive and shorter than "
+                    + "jwt.refresh.expiration.time");
+        }
+
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        parser = Jwts.parser().verifyWith(key).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+
+        // Publishes hit, miss and eviction metrics as cache.* with cache=jwt-tokens
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt-tokens");
+    }
+
     /**
      * Generates the JwtToken
-     * 
+     *
      * With expiration time & secret key
-     * 
+     *
+     * Embeds a unique id (jti), the role, ids and token version as claims
      */
     public String generateJwtToken(ApplicationUserDetails applicationUserDetails) {
 
@@ -40,33 +108,71 @@ public class JwtService {
 
         jwt = Jwts.builder().subject(
                 applicationUserDetails.getUsername())
+                .id(UUID.randomUUID().toString())
+                .claim(ROLE_CLAIM, applicationUserDetails.getRoles().name())
+                .claim(USER_ID_CLAIM, applicationUserDetails.getUserId())
+                .claim(DESIGNER_ID_CLAIM, applicationUserDetails.getDesignerId())
+                .claim(VERSION_CLAIM, applicationUserDetails.getTokenVersion())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getKey())
+                .signWith(key)
                 .compact();
 
         return jwt;
 
     }
 
-    private SecretKey getKey() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+    /**
+     * Verifies the JwtToken once and returns its claims
+     *
+     * <p>
+     * A token found in the cache is only reused if it matches the presented
+     * token exactly and has not expired, otherwise it is verified again.
+     * </p>
+     *
+     * @param token the compact JwtToken
+     * @throws ExpiredJwtException if the token has expired
+     * @return the verified claims view
+     */
+    public JwtToken parseToken(String token) {
+
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+
+        JwtToken cached = verifiedTokens.getIfPresent(signature);
+
+        if (cached != null) {
+            if (!cached.isExpired() && MessageDigest.isEqual(cached.token().getBytes(StandardCharsets.UTF_8),
+                    token.getBytes(StandardCharsets.UTF_8))) {
+                return cached;
+            }
+            verifiedTokens.invalidate(signature);
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        Integer version = claims.get(VERSION_CLAIM, Integer.class);
+
+        JwtToken jwtToken = new JwtToken(token, claims.getId(), claims.getSubject(), claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant(), claims.get(ROLE_CLAIM, String.class),
+                claims.get(USER_ID_CLAIM, Long.class), claims.get(DESIGNER_ID_CLAIM, Long.class),
+                version == null ? 0 : version);
+
+        verifiedTokens.put(signature, jwtToken);
+        return jwtToken;
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseToken(token).username();
     }
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return Date.from(parseToken(token).expiration());
     }
 
     public boolean isTokenValid(String token, ApplicationUserDetails applicationUserDetails) {
 
         // Returns token if valid and returns false if not
         try {
-            String username = extractUsername(token);
-            return (username.equals(applicationUserDetails.getUsername())) && !isTokenExpired(token);
+            return parseToken(token).isValidFor(applicationUserDetails);
         } catch (ExpiredJwtException e) {
             return false;
         }
@@ -74,12 +180,12 @@ public class JwtService {
     }
 
     public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return parseToken(token).isExpired();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = Jwts.parser().verifyWith(getKey()).build().parseSignedClaims(token).getPayload();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
 
         return claimsResolver.apply(claims);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.interiordesignplanner.security;
+
+import java.time.Instant;
+
+/**
+ * JwtToken (Verified claims view)
+ *
+ * <p>
+ * Immutable view of a JwtToken whose signature has already been verified by
+ * {@link JwtService}. The filter reuses it for the whole request instead of
+ * parsing the token again for every claim.
+ * </p>
+ *
+ * <p>
+ * Tokens issued before the role and id claims were added have a null role
+ * and version 0, and can only be authenticated against the database.
+ * </p>
+ */
+public record JwtToken(String token, String id, String username, Instant issuedAt, Instant expiration, String role,
+        Long userId, Long designerId, int version) {
+
+    public boolean hasAuthorityClaims() {
+        return role != null && userId != null;
+    }
+
+    public boolean isExpired() {
+        return expiration.isBefore(Instant.now());
+    }
+
+    public boolean isValidFor(ApplicationUserDetails applicationUserDetails) {
+        return username.equals(applicationUserDetails.getUsername())
+                && version == applicationUserDetails.getTokenVersion() && !isExpired();
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.interiordesignplanner.security;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.password.CompromisedPasswordChecker;
+import org.springframework.security.authentication.password.CompromisedPasswordDecision;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * LocalCompromisedPasswordChecker (Offline breach corpus)
+ *
+ * <p>
+ * Checks passwords against a local copy of a SHA-1 breach corpus instead of
+ * the Have I Been Pwned API. Each line of the file is {@code HASH:COUNT}
+ * (or just {@code HASH}), as in the downloadable Pwned Passwords list.
+ * </p>
+ *
+ * <p>
+ * Only the first 64 bits of each hash are kept, in a sorted {@code long[]}
+ * (8 bytes per password), so a check is one SHA-1 and a binary search. The
+ * file is reloaded in the background when it changes and swapped in once
+ * fully loaded.
+ * </p>
+ *
+ * <p>
+ * Malformed lines are skipped and counted rather than failing the load. A
+ * background reload that cannot read the file, or reads no hashes from it,
+ * keeps the previous corpus and is tried again at the next interval.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "password.breach.checker", havingValue = "local")
+public class LocalCompromisedPasswordChecker implements CompromisedPasswordChecker {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalCompromisedPasswordChecker.class);
+
+    @Value("${password.breach.file}")
+    private Resource file;
+
+    // Passwords seen fewer times than this are skipped to keep the corpus small
+    @Value("${password.breach.min-count:1}")
+    private int minCount;
+
+    // Sorted 64 bit prefixes of the breached hashes
+    private volatile long[] prefixes = new long[0];
+
+    // Last modified time of the loaded file
+    private volatile long loadedAt;
+
+    // Malformed lines skipped by the last load
+    private volatile int skipped;
+
+    @PostConstruct
+    public void init() throws IOException {
+
+        // Fails startup rather than accepting every password
+        if (!file.exists()) {
+            throw new IllegalStateException("Breached password file not found: " + file.getDescription());
+        }
+
+        reload(false);
+    }
+
+    @Override
+    public CompromisedPasswordDecision check(String password) {
+
+        if (password == null) {
+            return new CompromisedPasswordDecision(false);
+        }
+
+        long prefix = ByteBuffer.wrap(sha1(password)).getLong();
+        return new CompromisedPasswordDecision(Arrays.binarySearch(prefixes, prefix) >= 0);
+    }
+
+    /**
+     * Reloads the corpus if the file has changed since it was loaded
+     */
+    @Scheduled(initialDelayString = "${password.breach.refresh-interval:3600000}", fixedDelayString = "${password.breach.refresh-interval:3600000}")
+    public void refresh() {
+
+        if (lastModified() == loadedAt) {
+            return;
+        }
+
+        try {
+            reload(true);
+        } catch (IOException e) {
+            log.warn("Breached password file could not be reloaded, keeping {} hashes", prefixes.length, e);
+        }
+    }
+
+    // Number of hashes currently loaded
+    public int size() {
+        return prefixes.length;
+    }
+
+    // Number of malformed lines skipped by the last load
+    public int skipped() {
+        return skipped;
+    }
+
+    // An empty refresh keeps the previous corpus, such as a file caught mid-write
+    synchronized void reload(boolean keepOnEmpty) throws IOException {
+
+        long modified = lastModified();
+        long[] loaded = new long[1024];
+        int size = 0;
+        int malformed = 0;
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.US_ASCII))) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+
+                if (line.length() < 16) {
+                    continue;
+                }
+
+                long prefix;
+                try {
+                    int separator = line.indexOf(':');
+                    if (separator > 0 && minCount > 1
+                            && Integer.parseInt(line.substring(separator + 1).trim()) < minCount) {
+                        continue;
+                    }
+                    prefix = Long.parseUnsignedLong(line.substring(0, 16), 16);
+                } catch (NumberFormatException e) {
+                    malformed++;
+                    continue;
+                }
+
+                if (size == loaded.length) {
+                    loaded = Arrays.copyOf(loaded, size * 2);
+                }
+                loaded[size++] = prefix;
+            }
+        }
+
+        if (malformed > 0) {
+            log.warn("Skipped {} malformed lines in the breached password file", malformed);
+        }
+        if (size == 0 && keepOnEmpty) {
+            log.warn("Breached password file has no hashes, keeping {} hashes", prefixes.length);
+            return;
+        }
+
+        loaded = Arrays.copyOf(loaded, size);
+        Arrays.parallelSort(loaded);
+
+        prefixes = loaded;
+        skipped = malformed;
+        loadedAt = modified;
+    }
+
+    // Classpath resources inside a jar have no modified time and are never reloaded
+    private long lastModified() {
+        try {
+            return file.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static byte[] sha1(String password) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,265 @@
+package com.interiordesignplanner.security;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * LongLongHashMap (Primitive long to long map)
+ *
+ * <p>
+ * Open addressing hash map with linear probing, stored in two parallel
+ * long arrays so no key or value is boxed. Keys and values must be
+ * positive, 0 marks an empty slot and an absent value.
+ * </p>
+ *
+ * <p>
+ * Reads are lock free unless they overlap a write, writes are serialized.
+ * </p>
+ */
+public class LongLongHashMap {
+
+    // Returned when the key is not in the map
+    public static final long NO_VALUE = 0L;
+
+    private static final long EMPTY = 0L;
+
+    private static final double LOAD_FACTOR = 0.7;
+
+    private final StampedLock lock = new StampedLock();
+
+    // Keys and values are swapped together when the map grows
+    private volatile Table table;
+
+    private int size;
+
+    public LongLongHashMap() {
+        this(1024);
+    }
+
+    public LongLongHashMap(int expectedSize) {
+        this.table = new Table(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the value of the key
+     *
+     * @param key the key, must be positive
+     * @return the value, or {@link #NO_VALUE} if the key is not in the map
+     */
+    public long get(long key) {
+
+        long stamp = lock.tryOptimisticRead();
+        long value = find(table, key);
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = find(table, key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != NO_VALUE;
+    }
+
+    /**
+     * Stores the value of the key
+     *
+     * @param key   the key, must be positive
+     * @param value the value, must be positive
+     * @return the previous value, or {@link #NO_VALUE}
+     */
+    public long put(long key, long value) {
+
+        if (key <= EMPTY || value <= NO_VALUE) {
+            throw new IllegalArgumentException("Keys and values must be positive");
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            if (size + 1 > table.keys.length * LOAD_FACTOR) {
+                table = resize(table, table.keys.length * 2);
+            }
+
+            long previous = insert(table, key, value);
+            if (previous == NO_VALUE) {
+                size++;
+            }
+            return previous;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the key
+     *
+     * @param key the key
+     * @return the removed value, or {@link #NO_VALUE}
+     */
+    public long remove(long key) {
+
+        long stamp = lock.writeLock();
+        try {
+            long[] keys = table.keys;
+            long[] values = table.values;
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+
+            while (keys[slot] != key) {
+                if (keys[slot] == EMPTY) {
+                    return NO_VALUE;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            long removed = values[slot];
+
+            // Shifts back later entries of the probe run, so lookups never
+            // stop early at the freed slot
+            int gap = slot;
+            int next = (gap + 1) & mask;
+            while (keys[next] != EMPTY) {
+                int home = slot(keys[next], mask);
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[gap] = EMPTY;
+            values[gap] = NO_VALUE;
+
+            size--;
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Calls the consumer for every entry
+     *
+     * The map must not be changed from the consumer.
+     */
+    public void forEach(EntryConsumer consumer) {
+
+        long stamp = lock.readLock();
+        try {
+            long[] keys = table.keys;
+            long[] values = table.values;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    consumer.accept(keys[i], values[i]);
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Allocated slots, used for sizing
+    public int capacity() {
+        return table.keys.length;
+    }
+
+    // Heap used by the key and value arrays
+    public long memoryBytes() {
+        return 2L * Long.BYTES * table.keys.length;
+    }
+
+    // Bounded by the capacity, an optimistic read may see a table being changed
+    private static long find(Table table, long key) {
+
+        long[] keys = table.keys;
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+
+        for (int probes = 0; probes <= mask; probes++) {
+            long current = keys[slot];
+            if (current == key) {
+                return table.values[slot];
+            }
+            if (current == EMPTY) {
+                return NO_VALUE;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    private static long insert(Table table, long key, long value) {
+
+        long[] keys = table.keys;
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+
+        long previous = keys[slot] == key ? table.values[slot] : NO_VALUE;
+        keys[slot] = key;
+        table.values[slot] = value;
+        return previous;
+    }
+
+    private static Table resize(Table table, int capacity) {
+
+        Table resized = new Table(capacity);
+        for (int i = 0; i < table.keys.length; i++) {
+            if (table.keys[i] != EMPTY) {
+                insert(resized, table.keys[i], table.values[i]);
+            }
+        }
+        return resized;
+    }
+
+    // Sequential ids are spread over the table (murmur3 finalizer)
+    private static int slot(long key, int mask) {
+        long hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    // Power of two that keeps the expected entries under the load factor
+    private static int capacityFor(int expectedSize) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 16) / LOAD_FACTOR);
+        return (int) Math.min(Long.highestOneBit(needed - 1) << 1, 1 << 30);
+    }
+
+    private static final class Table {
+
+        private final long[] keys;
+
+        private final long[] values;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new long[capacity];
+        }
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+}
@@ -0,0 +1,276 @@
+package com.interiordesignplanner.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.interiordesignplanner.client.ClientRepository;
+import com.interiordesignplanner.project.ProjectRepository;
+import com.interiordesignplanner.room.RoomRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * OwnershipIndex (Resource id to designer id)
+ *
+ * <p>
+ * Keeps the owning designer of every client, project and room in memory,
+ * in {@link LongLongHashMap}s so millions of rooms need no boxed keys.
+ * It is loaded once the application is ready and kept current by
+ * {@link OwnershipIndexListener} after each commit. An id that is not
+ * indexed yet is read from the database and added once the reading
+ * transaction commits, so a row that is rolled back is never cached.
+ * </p>
+ *
+ * <p>
+ * A scheduled verifier compares the index with the database, repairs
+ * differences and counts them as ownership.index.mismatches. Size and
+ * memory are published per resource for sizing.
+ * </p>
+ */
+@Component
+public class OwnershipIndex {
+
+    private final ClientRepository clientRepository;
+
+    private final ProjectRepository projectRepository;
+
+    private final RoomRepository roomRepository;
+
+    private final Resource clients;
+
+    private final Resource projects;
+
+    private final Resource rooms;
+
+    public OwnershipIndex(ClientRepository clientRepository, ProjectRepository projectRepository,
+            RoomRepository roomRepository, MeterRegistry meterRegistry) {
+        this.clientRepository = clientRepository;
+        this.projectRepository = projectRepository;
+        this.roomRepository = roomRepository;
+
+        this.clients = new Resource("client", clientRepository::findDesignerIdById, meterRegistry);
+        this.projects = new Resource("project", projectRepository::findDesignerIdById, meterRegistry);
+        this.rooms = new Resource("room", roomRepository::findDesignerIdById, meterRegistry);
+    }
+
+    /**
+     * Loads every owner from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        clients.load(clientRepository.streamOwners());
+        projects.load(projectRepository.streamOwners());
+        rooms.load(roomRepository.streamOwners());
+    }
+
+    /**
+     * Compares the index with the database and repairs any difference
+     *
+     * @return the number of entries that were wrong or missing
+     */
+    @Scheduled(initialDelayString = "${ownership.index.verify-interval:600000}", fixedDelayString = "${ownership.index.verify-interval:600000}")
+    @Transactional(readOnly = true)
+    public int verify() {
+        return clients.verify(clientRepository.streamOwners())
+                + projects.verify(projectRepository.streamOwners())
+                + rooms.verify(roomRepository.streamOwners());
+    }
+
+    /**
+     * Returns the designer owning the client
+     *
+     * @param clientId the client's unique identifier
+     * @return the designer's id, or {@link LongLongHashMap#NO_VALUE} if the
+     *         client is not found
+     */
+    public long clientOwner(Long clientId) {
+        return clients.owner(clientId);
+    }
+
+    /**
+     * Returns the designer owning the project
+     *
+     * @param projectId the project's unique identifier
+     * @return the designer's id, or {@link LongLongHashMap#NO_VALUE} if the
+     *         project is not found
+     */
+    public long projectOwner(Long projectId) {
+        return projects.owner(projectId);
+    }
+
+    /**
+     * Returns the designer owning the room
+     *
+     * @param roomId the room's unique identifier
+     * @return the designer's id, or {@link LongLongHashMap#NO_VALUE} if the
+     *         room is not found
+     */
+    public long roomOwner(Long roomId) {
+        return rooms.owner(roomId);
+    }
+
+    // Applied once the transaction commits, a rolled back change is not indexed
+    public void clientSaved(Long clientId, Long designerId) {
+        afterCommit(() -> clients.put(clientId, designerId));
+    }
+
+    public void clientRemoved(Long clientId) {
+        afterCommit(() -> clients.remove(clientId));
+    }
+
+    public void projectSaved(Long projectId, Long designerId) {
+        afterCommit(() -> projects.put(projectId, designerId));
+    }
+
+    public void projectRemoved(Long projectId) {
+        afterCommit(() -> projects.remove(projectId));
+    }
+
+    public void roomSaved(Long roomId, Long designerId) {
+        afterCommit(() -> rooms.put(roomId, designerId));
+    }
+
+    public void roomRemoved(Long roomId) {
+        afterCommit(() -> rooms.remove(roomId));
+    }
+
+    private static void afterCommit(Runnable change) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    // One resource type: its map, database lookup and metrics
+    private static final class Resource {
+
+        private final LongLongHashMap owners = new LongLongHashMap();
+
+        private final Function<Long, Optional<Long>> lookup;
+
+        private final Counter mismatches;
+
+        private Resource(String name, Function<Long, Optional<Long>> lookup, MeterRegistry meterRegistry) {
+
+            this.lookup = lookup;
+
+            Gauge.builder("ownership.index.size", owners, LongLongHashMap::size)
+                    .tag("resource", name)
+                    .register(meterRegistry);
+            Gauge.builder("ownership.index.memory", owners, LongLongHashMap::memoryBytes)
+                    .tag("resource", name)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            this.mismatches = Counter.builder("ownership.index.mismatches")
+                    .tag("resource", name)
+                    .register(meterRegistry);
+        }
+
+        private long owner(Long id) {
+
+            if (id == null || id <= 0) {
+                return LongLongHashMap.NO_VALUE;
+            }
+
+            long owner = owners.get(id);
+            if (owner != LongLongHashMap.NO_VALUE) {
+                return owner;
+            }
+
+            // Not indexed yet, such as a resource created on another instance
+            return read(id);
+        }
+
+        // The row may not be committed yet, it is indexed once it is
+        private long read(Long id) {
+
+            Optional<Long> designerId = lookup.apply(id);
+            if (designerId.isEmpty()) {
+                return LongLongHashMap.NO_VALUE;
+            }
+
+            afterCommit(() -> owners.put(id, designerId.get()));
+            return designerId.get();
+        }
+
+        private void put(Long id, Long designerId) {
+            if (id != null && designerId != null) {
+                owners.put(id, designerId);
+            }
+        }
+
+        private void remove(Long id) {
+            if (id != null) {
+                owners.remove(id);
+            }
+        }
+
+        private void load(Stream<ResourceOwner> stream) {
+            try (stream) {
+                stream.forEach(owner -> put(owner.id(), owner.designerId()));
+            }
+        }
+
+        private int verify(Stream<ResourceOwner> stream) {
+
+            LongLongHashMap expected = new LongLongHashMap(owners.size());
+            try (stream) {
+                stream.filter(owner -> owner.designerId() != null)
+                        .forEach(owner -> expected.put(owner.id(), owner.designerId()));
+            }
+
+            // Collected first, the maps cannot be changed while they are read
+            List<Long> suspects = new ArrayList<>();
+            expected.forEach((id, designerId) -> {
+                if (owners.get(id) != designerId) {
+                    suspects.add(id);
+                }
+            });
+            owners.forEach((id, designerId) -> {
+                if (!expected.containsKey(id)) {
+                    suspects.add(id);
+                }
+            });
+
+            // Read again, so a change committed during the scan is not undone
+            int repaired = 0;
+            for (Long id : suspects) {
+                long before = owners.get(id);
+                if (repair(id) != before) {
+                    repaired++;
+                }
+            }
+
+            mismatches.increment(repaired);
+            return repaired;
+        }
+
+        private long repair(Long id) {
+            owners.remove(id);
+            return read(id);
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.interiordesignplanner.security;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.interiordesignplanner.client.Client;
+import com.interiordesignplanner.designer.Designer;
+import com.interiordesignplanner.project.Project;
+import com.interiordesignplanner.room.Room;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * OwnershipIndexListener (Client, Project and Room entity listener)
+ *
+ * <p>
+ * Updates the {@link OwnershipIndex} when a client, project or room is
+ * created, reassigned or removed. Reassigning a project also moves its room.
+ * </p>
+ */
+@Component
+public class OwnershipIndexListener {
+
+    // Resolved lazily, the index depends on the repositories
+    private final ObjectProvider<OwnershipIndex> ownershipIndex;
+
+    public OwnershipIndexListener(ObjectProvider<OwnershipIndex> ownershipIndex) {
+        this.ownershipIndex = ownershipIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void saved(Object entity) {
+        ownershipIndex.ifAvailable(index -> {
+            if (entity instanceof Client client) {
+                index.clientSaved(client.getId(), designerId(client));
+            } else if (entity instanceof Project project) {
+                Long designerId = designerId(project.getClient());
+                index.projectSaved(project.getId(), designerId);
+                if (project.getRoom() != null) {
+                    index.roomSaved(project.getRoom().getId(), designerId);
+                }
+            } else if (entity instanceof Room room && room.getProject() != null) {
+                index.roomSaved(room.getId(), designerId(room.getProject().getClient()));
+            }
+        });
+    }
+
+    @PostRemove
+    public void removed(Object entity) {
+        ownershipIndex.ifAvailable(index -> {
+            if (entity instanceof Client client) {
+                index.clientRemoved(client.getId());
+            } else if (entity instanceof Project project) {
+                index.projectRemoved(project.getId());
+            } else if (entity instanceof Room room) {
+                index.roomRemoved(room.getId());
+            }
+        });
+    }
+
+    private Long designerId(Client client) {
+        if (client == null) {
+            return null;
+        }
+        Designer designer = client.getDesigner();
+        return designer == null ? null : designer.getId();
+    }
+
+}
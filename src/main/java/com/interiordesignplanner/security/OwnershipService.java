@@ -0,0 +1,82 @@
+package com.interiordesignplanner.security;
+
+import java.util.function.Supplier;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import com.interiordesignplanner.exceptions.ClientNotFoundException;
+import com.interiordesignplanner.exceptions.EntityNotFoundException;
+import com.interiordesignplanner.exceptions.ProjectNotFoundException;
+import com.interiordesignplanner.exceptions.RoomNotFoundException;
+
+/**
+ * OwnershipService (Designer authorization)
+ *
+ * <p>
+ * Checks the logged in designer owns a client, project or room. The owning
+ * designer is read from the in-memory {@link OwnershipIndex}, the database
+ * is only queried for ids the index has not seen yet.
+ * </p>
+ */
+@Component
+public class OwnershipService {
+
+    private final OwnershipIndex ownershipIndex;
+
+    public OwnershipService(OwnershipIndex ownershipIndex) {
+        this.ownershipIndex = ownershipIndex;
+    }
+
+    /**
+     * Checks the designer owns the client
+     *
+     * @param clientId   the client's unique identifier
+     * @param designerId the logged in designer's unique identifier
+     * @throws ClientNotFoundException if the client is not found
+     * @throws AccessDeniedException   if the client belongs to another designer
+     */
+    public void checkClient(Long clientId, Long designerId) {
+        check(ownershipIndex.clientOwner(clientId), designerId,
+                () -> new ClientNotFoundException("clientId", clientId));
+    }
+
+    /**
+     * Checks the designer owns the project
+     *
+     * @param projectId  the project's unique identifier
+     * @param designerId the logged in designer's unique identifier
+     * @throws ProjectNotFoundException if the project is not found
+     * @throws AccessDeniedException    if the project belongs to another designer
+     */
+    public void checkProject(Long projectId, Long designerId) {
+        check(ownershipIndex.projectOwner(projectId), designerId,
+                () -> new ProjectNotFoundException("projectId", projectId));
+    }
+
+    /**
+     * Checks the designer owns the room
+     *
+     * @param roomId     the room's unique identifier
+     * @param designerId the logged in designer's unique identifier
+     * @throws RoomNotFoundException if the room is not found
+     * @throws AccessDeniedException if the room belongs to another designer
+     */
+    public void checkRoom(Long roomId, Long designerId) {
+        check(ownershipIndex.roomOwner(roomId), designerId,
+                () -> new RoomNotFoundException("roomId", roomId));
+    }
+
+    // Not found takes precedence, so an unknown id is still a 404
+    private void check(long owner, Long designerId, Supplier<? extends EntityNotFoundException> notFound) {
+
+        if (owner == LongLongHashMap.NO_VALUE) {
+            throw notFound.get();
+        }
+
+        if (designerId == null || owner != designerId) {
+            throw new AccessDeniedException("User does not have authorization");
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.interiordesignplanner.security;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * RateLimitFilter to throttle login and registration
+ * 
+ * Runs before the JwtFilter. Each client IP has its own bucket and requests
+ * over the limit are rejected with 429 before any database or BCrypt work.
+ * 
+ * Behind the load balancer the remote address is the proxy's, which would
+ * put every client in one bucket. server.forward-headers-strategy=native has
+ * Tomcat take the client IP from X-Forwarded-For, but only when the request
+ * comes from a trusted proxy (server.tomcat.remoteip.internal-proxies,
+ * private and loopback addresses by default), so clients cannot pick their
+ * own bucket by sending the header.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // Throttled endpoints
+    private static final Set<String> PATHS = Set.of("/api/auth/login", "/api/auth/register");
+
+    private final RateLimiter ipRateLimiter;
+
+    public RateLimitFilter(@Qualifier("ipRateLimiter") RateLimiter ipRateLimiter) {
+
+        this.ipRateLimiter = ipRateLimiter;
+
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws IOException, ServletException {
+
+        long wait = ipRateLimiter.tryAcquire(request.getRemoteAddr());
+
+        // Over the limit: rejects the request and tells the client when to retry
+        if (wait > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimiter.retryAfterSeconds(wait)));
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write("Too many requests, please try again later");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+}
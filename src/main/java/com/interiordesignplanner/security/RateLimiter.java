@@ -0,0 +1,127 @@
+package com.interiordesignplanner.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * RateLimiter (Token bucket per key)
+ *
+ * <p>
+ * Each key (a client IP or a username) has its own bucket of
+ * {@code capacity} tokens, refilled at one token per {@code refillPeriod}.
+ * </p>
+ *
+ * <p>
+ * A bucket is a single {@link AtomicLong} holding the time at which it will
+ * be full again (the generic cell rate algorithm), updated with a
+ * compare-and-set, so acquiring and rejecting take no locks. Buckets that
+ * have refilled completely are removed by {@link #evictIdle()}.
+ * </p>
+ */
+public class RateLimiter {
+
+    private final String name;
+
+    private final long capacity;
+
+    // Nanoseconds to refill one token
+    private final long interval;
+
+    // Time each bucket is full again (System.nanoTime)
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    private final Counter rejected;
+
+    public RateLimiter(String name, long capacity, long refillPeriodMillis, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.capacity = capacity;
+        this.interval = TimeUnit.MILLISECONDS.toNanos(refillPeriodMillis);
+
+        this.rejected = Counter.builder("rate.limit.rejected").tag("limiter", name).register(meterRegistry);
+        Gauge.builder("rate.limit.buckets", buckets, Map::size).tag("limiter", name).register(meterRegistry);
+    }
+
+    /**
+     * Takes a token from the key's bucket
+     *
+     * @param key the client IP or username
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is
+     *         available
+     */
+    public long tryAcquire(String key) {
+
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+
+        while (true) {
+
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt, now) + interval;
+            long wait = next - now - capacity * interval;
+
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Checks the key's bucket has a token, without taking it
+     *
+     * @param key the client IP or username
+     * @return 0 if a token is available, otherwise the nanoseconds until one is
+     */
+    public long peek(String key) {
+
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            return 0L;
+        }
+
+        long now = System.nanoTime();
+        long wait = Math.max(bucket.get(), now) + interval - now - capacity * interval;
+
+        if (wait > 0) {
+            rejected.increment();
+            return wait;
+        }
+        return 0L;
+    }
+
+    // Refills the key's bucket, such as after a successful login
+    public void reset(String key) {
+        buckets.remove(key);
+    }
+
+    // Removes buckets that have refilled, they behave the same as a new bucket
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    // Rounds a wait up to whole seconds for the Retry-After header
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Number of keys currently tracked
+    public int size() {
+        return buckets.size();
+    }
+
+}
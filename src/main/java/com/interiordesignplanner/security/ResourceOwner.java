@@ -0,0 +1,6 @@
+package com.interiordesignplanner.security;
+
+// Resource id and the owning designer's id, loaded into the ownership index
+public record ResourceOwner(Long id, Long designerId) {
+
+}
@@ -0,0 +1,37 @@
+package com.interiordesignplanner.security;
+
+import java.time.Instant;
+
+import com.interiordesignplanner.AbstractEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Models a revoked access token. Only its unique identifier (jti) is
+ * stored, until the token would have expired anyway.
+ */
+
+@Entity
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_jti", columnList = "jti", unique = true))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken extends AbstractEntity {
+
+    // Token's unique identifier
+    @Column(nullable = false, length = 36)
+    private String jti;
+
+    // Time the token expires, the row can be removed after it
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+}
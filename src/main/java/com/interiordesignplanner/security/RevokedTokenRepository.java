@@ -0,0 +1,44 @@
+package com.interiordesignplanner.security;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    /**
+     * Checks if a token has been revoked.
+     *
+     * @param jti the token's unique identifier
+     * @return true if the token is revoked
+     */
+    boolean existsByJti(String jti);
+
+    /**
+     * Finds the identifiers of revoked tokens that have not expired yet.
+     *
+     * @param now the current time
+     * @return the revoked token identifiers
+     */
+    @Query("SELECT r.jti FROM RevokedToken r WHERE r.expiresAt > :now")
+    List<String> findUnexpiredJtis(@Param("now") Instant now);
+
+    /**
+     * Removes revoked tokens that have expired.
+     *
+     * @param now the current time
+     * @return the number of rows removed
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+
+}
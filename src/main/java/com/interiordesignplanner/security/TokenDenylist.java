@@ -0,0 +1,112 @@
+package com.interiordesignplanner.security;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * TokenDenylist (Revoked access tokens)
+ *
+ * <p>
+ * Revoked token identifiers are stored in the revoked_tokens table and in
+ * an in-memory {@link BloomFilter}. A token the filter has never seen is
+ * accepted without a query; only a probable hit is confirmed against the
+ * table.
+ * </p>
+ *
+ * <p>
+ * The filter is rebuilt from the table on a schedule, which also picks up
+ * tokens revoked on other instances and removes expired rows.
+ * </p>
+ */
+@Component
+public class TokenDenylist {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.denylist.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    // Current filter, replaced on every rebuild
+    private volatile BloomFilter revoked;
+
+    // Revoked here since the last rebuild, kept until the table load includes them
+    private final Map<String, Instant> recentlyRevoked = new ConcurrentHashMap<>();
+
+    public TokenDenylist(RevokedTokenRepository revokedTokenRepository) {
+        this.revokedTokenRepository = revokedTokenRepository;
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * Checks if the token has been revoked
+     *
+     * @param jti the token's unique identifier
+     * @return true if the token is revoked
+     */
+    public boolean isRevoked(String jti) {
+
+        if (jti == null || !revoked.mightContain(jti)) {
+            return false;
+        }
+
+        // Probable hit: confirmed by the table
+        return recentlyRevoked.containsKey(jti) || revokedTokenRepository.existsByJti(jti);
+    }
+
+    /**
+     * Revokes the token until it expires
+     *
+     * @param jti       the token's unique identifier
+     * @param expiresAt the time the token expires
+     */
+    public void revoke(String jti, Instant expiresAt) {
+
+        if (jti == null || isRevoked(jti)) {
+            return;
+        }
+
+        revokedTokenRepository.save(new RevokedToken(jti, expiresAt));
+
+        recentlyRevoked.put(jti, expiresAt);
+        revoked.put(jti);
+    }
+
+    /**
+     * Rebuilds the filter from the unexpired revoked tokens
+     */
+    @Scheduled(initialDelayString = "${jwt.denylist.rebuild-interval:30000}", fixedDelayString = "${jwt.denylist.rebuild-interval:30000}")
+    public void rebuild() {
+
+        Instant now = Instant.now();
+        revokedTokenRepository.deleteExpired(now);
+
+        List<String> jtis = revokedTokenRepository.findUnexpiredJtis(now);
+        Set<String> loaded = new HashSet<>(jtis);
+
+        // Leaves room for tokens revoked before the next rebuild
+        BloomFilter rebuilt = new BloomFilter(Math.max(jtis.size() * 2, 1024), falsePositiveRate);
+        jtis.forEach(rebuilt::put);
+
+        recentlyRevoked.entrySet()
+                .removeIf(entry -> loaded.contains(entry.getKey()) || entry.getValue().isBefore(now));
+
+        // Swapped first, so a token revoked meanwhile is in one of the two
+        revoked = rebuilt;
+        recentlyRevoked.keySet().forEach(rebuilt::put);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.interiordesignplanner.security;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interiordesignplanner.authentication.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * TokenVersionCache (Stateless revocation check)
+ *
+ * <p>
+ * Keeps the last known token version of each user in a size bounded cache
+ * and only reads it again from the database once the check interval has
+ * passed. A revoked token is rejected at the latest one interval after the
+ * version was incremented.
+ * </p>
+ */
+@Component
+public class TokenVersionCache {
+
+    private final UserRepository userRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    // How long a version is trusted before it is read again (ms)
+    @Value("${jwt.stateless.version-check-interval:60000}")
+    private long checkInterval;
+
+    @Value("${jwt.stateless.version-cache-size:10000}")
+    private long cacheSize;
+
+    // Last known version per user id, -1 if the user no longer exists
+    private Cache<Long, Integer> versions;
+
+    public TokenVersionCache(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        versions = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMillis(checkInterval))
+                .recordStats()
+                .build();
+
+        // Publishes hit, miss and eviction metrics as cache.* with cache=token-versions
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, "token-versions");
+    }
+
+    /**
+     * Checks the token was issued with the user's current version
+     *
+     * @param userId       the user's unique identifier
+     * @param tokenVersion the version signed into the token
+     * @return true if the token has not been revoked
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return versions.get(userId, id -> userRepository.findTokenVersionById(id).orElse(-1)) == tokenVersion;
+    }
+
+    // Forces the next check to read the version from the database
+    public void evict(Long userId) {
+        versions.invalidate(userId);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.interiordesignplanner.security;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.interiordesignplanner.authentication.User;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * UserCacheListener (User entity listener)
+ *
+ * <p>
+ * Evicts the user from the {@link ApplicationUserDetailsService} cache when
+ * it is registered, changed (such as its role or token version) or removed.
+ * </p>
+ */
+@Component
+public class UserCacheListener {
+
+    // Resolved lazily, the service depends on the repositories
+    private final ObjectProvider<ApplicationUserDetailsService> applicationUserDetailsService;
+
+    public UserCacheListener(ObjectProvider<ApplicationUserDetailsService> applicationUserDetailsService) {
+        this.applicationUserDetailsService = applicationUserDetailsService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        applicationUserDetailsService.ifAvailable(service -> service.evict(user.getUsername()));
+    }
+
+}
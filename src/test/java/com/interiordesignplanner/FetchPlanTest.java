@@ -0,0 +1,334 @@
+package com.interiordesignplanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.interiordesignplanner.authentication.RefreshTokenRepository;
+import com.interiordesignplanner.authentication.RefreshTokenService;
+import com.interiordesignplanner.authentication.Roles;
+import com.interiordesignplanner.authentication.User;
+import com.interiordesignplanner.authentication.UserRepository;
+import com.interiordesignplanner.client.Client;
+import com.interiordesignplanner.client.ClientDTO;
+import com.interiordesignplanner.client.ClientRepository;
+import com.interiordesignplanner.client.ClientService;
+import com.interiordesignplanner.client.ClientUpdateDTO;
+import com.interiordesignplanner.designer.Designer;
+import com.interiordesignplanner.designer.DesignerRepository;
+import com.interiordesignplanner.project.Project;
+import com.interiordesignplanner.project.ProjectDTO;
+import com.interiordesignplanner.project.ProjectRepository;
+import com.interiordesignplanner.project.ProjectService;
+import com.interiordesignplanner.project.ProjectStatus;
+import com.interiordesignplanner.project.ProjectUpdateDTO;
+import com.interiordesignplanner.room.Item;
+import com.interiordesignplanner.room.Room;
+import com.interiordesignplanner.room.RoomDTO;
+import com.interiordesignplanner.room.RoomRepository;
+import com.interiordesignplanner.room.RoomService;
+import com.interiordesignplanner.room.RoomType;
+import com.interiordesignplanner.room.Task;
+
+/**
+ * Integration tests for the fetch plans of each use case.
+ *
+ * <p>
+ * Associations are lazy and the services are called here without a
+ * surrounding transaction, as a controller calls them. If a DTO reads an
+ * association its repository method did not fetch, a
+ * LazyInitializationException fails the test.
+ * <p>
+ * The rows are committed, so they are removed after each test.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName(value = "Fetch Plan Test Suite")
+public class FetchPlanTest {
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DesignerRepository designerRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    private User user;
+
+    private Designer designer;
+
+    private Client client;
+
+    private Project project;
+
+    private Room room;
+
+    @BeforeEach
+    public void setUp() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+
+            user = new User();
+            user.setFirstName("Dove");
+            user.setLastName("White");
+            user.setEmailAddress("fetchplan@gmail.com");
+            user.setPhoneNumber("07223180736");
+            user.setRoles(Roles.DESIGNER);
+            user.setUsername("fetchplan");
+            user.setPassword("gsjgtq893x");
+            userRepository.save(user);
+
+            designer = new Designer();
+            designer.setUser(user);
+            designerRepository.save(designer);
+
+            client = new Client();
+            client.setFirstName("Alex");
+            client.setLastName("Price");
+            client.setEmailAddress("aprice@gmail.com");
+            client.setPhoneNumber("07828096962");
+            client.setAddress("249 The Grove, Reading, R84 J5N");
+            client.setDesigner(designer);
+            clientRepository.save(client);
+
+            project = new Project();
+            project.setClient(client);
+            project.setProjectName("Luxury Master Bedroom");
+            project.setStatus(ProjectStatus.ACTIVE);
+            project.setBudget(BigDecimal.valueOf(5000.00));
+            project.setDescription("Custom wardrobes, soft lighting and premium fabrics");
+            project.setStartDate(LocalDate.of(2025, 11, 10));
+            project.setDueDate(LocalDate.of(2026, 5, 5));
+            projectRepository.save(project);
+
+            Task task = new Task();
+            task.setTaskName("Flooring");
+            task.setTask("Remove floor tiles in the Kitchen");
+            task.setDate(LocalDate.of(2026, 3, 10));
+
+            Item item = new Item();
+            item.setItemName("Coffee Table");
+            item.setDescription("Chalked solid mango wood coffee table");
+            item.setDimensions("H45cm W110cm D55cm");
+            item.setPrice(BigDecimal.valueOf(119.99));
+            item.setQuantity(1);
+
+            room = new Room();
+            room.setType(RoomType.BEDROOM);
+            room.setHeight(4.0);
+            room.setLength(6.7);
+            room.setWidth(4.5);
+            room.setUnit("m");
+            room.setProject(project);
+            room.addTask(task);
+            room.addItem(item);
+            roomRepository.save(room);
+        });
+    }
+
+    /**
+     * Tests a project is shown with its client and room
+     */
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("GetProject: Client and room are fetched")
+    public void testGetProjectById_FetchesClientAndRoom() {
+
+        // Act: Get the project outside a transaction
+        ProjectDTO result = projectService.getProjectById(project.getId());
+
+        // Assert: Verifies the client's name and room type were read
+        assertThat(result.getClientName()).isEqualTo("Alex Price");
+        assertThat(result.getRoom()).isEqualTo(RoomType.BEDROOM);
+
+    }
+
+    /**
+     * Tests a page of projects is shown with their client and room
+     */
+    @Test
+    @WithMockUser(roles = "DESIGNER")
+    @DisplayName("GetProjectsByStatus: Clients and rooms are fetched")
+    public void testGetProjectsByStatus_FetchesClientAndRoom() {
+
+        // Act: Get the designer's active projects outside a transaction
+        Page<ProjectDTO> result = projectService.getProjectsByStatus(ProjectStatus.ACTIVE, PageRequest.of(0, 10),
+                designer.getId());
+
+        // Assert: Verifies the client's name and room type were read
+        assertThat(result.getContent()).singleElement().satisfies(dto -> {
+            assertThat(dto.getClientName()).isEqualTo("Alex Price");
+            assertThat(dto.getRoom()).isEqualTo(RoomType.BEDROOM);
+        });
+
+    }
+
+    /**
+     * Tests an updated project is returned with its client and room
+     */
+    @Test
+    @WithMockUser(roles = "DESIGNER")
+    @DisplayName("UpdateProject: Client and room are fetched")
+    public void testUpdateProject_FetchesClientAndRoom() {
+
+        // Arrange: New project description
+        ProjectUpdateDTO projectUpdateDTO = new ProjectUpdateDTO();
+        projectUpdateDTO.setDescription("Hotel-like bedroom with soft lighting");
+
+        // Act: Update the project outside a transaction
+        ProjectDTO result = projectService.updateProject(project.getId(), projectUpdateDTO, designer.getId(), null);
+
+        // Assert: Verifies the update and the client's name
+        assertThat(result.getDescription()).isEqualTo("Hotel-like bedroom with soft lighting");
+        assertThat(result.getClientName()).isEqualTo("Alex Price");
+
+    }
+
+    /**
+     * Tests a client is shown with their designer and project count
+     */
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("GetClient: Designer is fetched and projects counted")
+    public void testGetClientById_FetchesDesignerAndCountsProjects() {
+
+        // Act: Get the client outside a transaction
+        ClientDTO result = clientService.getClientById(client.getId());
+
+        // Assert: Verifies the designer's name and project count were read
+        assertThat(result.getDesigner()).isEqualTo("Dove White");
+        assertThat(result.getTotalProjects()).isEqualTo(1);
+
+    }
+
+    /**
+     * Tests an updated client is returned with their designer and project
+     * count
+     */
+    @Test
+    @WithMockUser(roles = "DESIGNER")
+    @DisplayName("UpdateClient: Designer is fetched and projects counted")
+    public void testUpdateClient_FetchesDesignerAndCountsProjects() {
+
+        // Arrange: New client notes
+        ClientUpdateDTO clientUpdateDTO = new ClientUpdateDTO();
+        clientUpdateDTO.setNotes("Needs child-friendly furniture");
+
+        // Act: Update the client outside a transaction
+        ClientDTO result = clientService.updateClient(client.getId(), clientUpdateDTO, designer.getId(), null);
+
+        // Assert: Verifies the update, the designer's name and project count
+        assertThat(result.getNotes()).isEqualTo("Needs child-friendly furniture");
+        assertThat(result.getDesigner()).isEqualTo("Dove White");
+        assertThat(result.getTotalProjects()).isEqualTo(1);
+
+    }
+
+    /**
+     * Tests a room is shown with its project, checklist and inventory
+     */
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("GetRoom: Project, checklist and inventory are fetched")
+    public void testGetRoomById_FetchesProjectAndLists() {
+
+        // Act: Get the room outside a transaction
+        RoomDTO result = roomService.getRoomById(room.getId());
+
+        // Assert: Verifies the project's name, checklist and inventory were read
+        assertThat(result.getProjectName()).isEqualTo("Luxury Master Bedroom");
+        assertThat(result.getChecklist()).hasSize(1);
+        assertThat(result.getInventory()).hasSize(1);
+
+    }
+
+    /**
+     * Tests a page of rooms is shown with their project, checklist and inventory
+     */
+    @Test
+    @WithMockUser(roles = "DESIGNER")
+    @DisplayName("GetRoomsByType: Projects, checklists and inventories are fetched")
+    public void testGetRoomsByType_FetchesProjectAndLists() {
+
+        // Act: Get the designer's bedrooms outside a transaction
+        Page<RoomDTO> result = roomService.getRoomsByType(RoomType.BEDROOM, PageRequest.of(0, 10),
+                designer.getId());
+
+        // Assert: Verifies the project's name, checklist and inventory were read
+        assertThat(result.getContent()).singleElement().satisfies(dto -> {
+            assertThat(dto.getProjectName()).isEqualTo("Luxury Master Bedroom");
+            assertThat(dto.getChecklist()).hasSize(1);
+            assertThat(dto.getInventory()).hasSize(1);
+        });
+
+    }
+
+    /**
+     * Tests a refresh token is used up with its user
+     */
+    @Test
+    @DisplayName("ConsumeRefreshToken: User is fetched")
+    public void testConsumeRefreshToken_FetchesUser() {
+
+        // Arrange: Issue a refresh token to the designer's user
+        String token = refreshTokenService.issue(user);
+
+        // Act: Use the token outside a transaction
+        User result = refreshTokenService.consume(token);
+
+        // Assert: Verifies the user's username was read
+        assertThat(result.getUsername()).isEqualTo("fetchplan");
+
+    }
+
+    // The rows were committed, rooms remove their project
+    @AfterEach
+    public void tearDown() {
+        roomRepository.deleteAll();
+        projectRepository.deleteAll();
+        clientRepository.deleteAll();
+        designerRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+}
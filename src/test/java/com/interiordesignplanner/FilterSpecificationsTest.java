@@ -0,0 +1,141 @@
+package com.interiordesignplanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.interiordesignplanner.client.Client;
+import com.interiordesignplanner.exceptions.InvalidFilterException;
+import com.interiordesignplanner.project.Project;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link FilterSpecifications}.
+ *
+ * <p>
+ * Verifies filters are read for the fields they compare, only allowed
+ * fields are filtered and sorted on, and checked filters are cached.
+ */
+@DisplayName(value = "Filter Specifications Test Suite")
+public class FilterSpecificationsTest {
+
+    private static final List<String> FIELDS = List.of("id", "lastName", "createdAt");
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private FilterSpecifications filterSpecifications;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filterSpecifications = new FilterSpecifications(meterRegistry, 100);
+    }
+
+    /**
+     * Tests the selectors of a parsed filter are read from its groups,
+     * lists and quoted arguments
+     */
+    @Test
+    @DisplayName("Selectors: Reads each compared field")
+    public void testSelectors_ReadsComparedFields() {
+
+        // Act: Read a filter with groups, lists and quoted operators
+        var result = FilterSpecifications.selectors(FilterSpecifications
+                .parse("lastName=='O\\'Neil,notes==x';(id=in=(1,2),createdAt=ge=2026-01-01T00:00:00Z)"));
+
+        // Assert: Verifies only the selectors are read, not the arguments
+        assertThat(result).containsExactly("lastName", "id", "createdAt");
+
+    }
+
+    /**
+     * Tests the same filter is only checked and built once
+     */
+    @Test
+    @DisplayName("ToSpecification: Filter is cached")
+    public void testToSpecification_CachesFilter() {
+
+        // Act: Build the same filter twice, once with surrounding whitespace
+        Specification<Client> first = filterSpecifications.toSpecification(Client.class, "lastName==Price", FIELDS);
+        Specification<Client> second = filterSpecifications.toSpecification(Client.class, " lastName==Price ",
+                FIELDS);
+
+        // Assert: Verifies the cached specification was returned and counted
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "filters").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+
+    }
+
+    /**
+     * Tests the same filter on another entity is built for that entity
+     */
+    @Test
+    @DisplayName("ToSpecification: Filters are cached per entity")
+    public void testToSpecification_CachesPerEntity() {
+
+        // Act: Build the same filter for clients and projects
+        Specification<Client> client = filterSpecifications.toSpecification(Client.class, "id==1", FIELDS);
+        Specification<Project> project = filterSpecifications.toSpecification(Project.class, "id==1", FIELDS);
+
+        // Assert: Verifies each entity has its own specification
+        assertThat((Object) project).isNotSameAs(client);
+
+    }
+
+    /**
+     * Tests a listing without a filter is not filtered
+     */
+    @Test
+    @DisplayName("ToSpecification: No filter, no specification")
+    public void testToSpecification_NoFilter() {
+
+        // Assert: Verifies null and blank filters give no specification
+        assertThat(filterSpecifications.toSpecification(Client.class, null, FIELDS)).isNull();
+        assertThat(filterSpecifications.toSpecification(Client.class, "  ", FIELDS)).isNull();
+
+    }
+
+    /**
+     * Tests filters on fields that are not allowed are rejected
+     */
+    @Test
+    @DisplayName("ToSpecification: Rejects unlisted fields")
+    public void testToSpecification_RejectsUnlistedFields() {
+
+        // Act & Assert: Verifies unindexed, joined and unreadable filters are rejected
+        assertThrows(InvalidFilterException.class,
+                () -> filterSpecifications.toSpecification(Client.class, "notes==null", FIELDS));
+        assertThrows(InvalidFilterException.class,
+                () -> filterSpecifications.toSpecification(Client.class, "lastName==Price,projects.description==x",
+                        FIELDS));
+        assertThrows(InvalidFilterException.class,
+                () -> filterSpecifications.toSpecification(Client.class, "Price", FIELDS));
+
+    }
+
+    /**
+     * Tests sorts on fields that are not allowed are rejected
+     */
+    @Test
+    @DisplayName("CheckSort: Rejects unlisted fields")
+    public void testCheckSort_RejectsUnlistedFields() {
+
+        // Act & Assert: Verifies listed and unsorted sorts pass and others are rejected
+        assertDoesNotThrow(() -> filterSpecifications.checkSort(Sort.by("lastName", "id"), FIELDS));
+        assertDoesNotThrow(() -> filterSpecifications.checkSort(Sort.unsorted(), FIELDS));
+        assertThrows(InvalidFilterException.class,
+                () -> filterSpecifications.checkSort(Sort.by("notes"), FIELDS));
+
+    }
+
+}
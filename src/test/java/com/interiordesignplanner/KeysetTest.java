@@ -0,0 +1,116 @@
+package com.interiordesignplanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.interiordesignplanner.exceptions.InvalidCursorException;
+
+/**
+ * Unit tests for {@link Keyset}.
+ *
+ * <p>
+ * Verifies cursors carry the sort and the last row's position, and that
+ * cursors and sorts a listing does not support are rejected.
+ */
+@DisplayName(value = "Keyset Test Suite")
+public class KeysetTest {
+
+    private static final List<String> SORTS = List.of("createdAt", "dueDate", "lastName");
+
+    /**
+     * Tests a listing without a sort starts at the first created row
+     */
+    @Test
+    @DisplayName("Of: Unsorted listing starts by createdAt")
+    public void testOf_DefaultsToCreatedAt() {
+
+        // Act: Start an unsorted listing
+        Keyset keyset = Keyset.of(Sort.unsorted(), null, SORTS);
+
+        // Assert: Verifies the default sort and that no row was read
+        assertThat(keyset.getProperty()).isEqualTo("createdAt");
+        assertThat(keyset.getDirection()).isEqualTo(Sort.Direction.ASC);
+        assertThat(keyset.isFirst()).isTrue();
+
+    }
+
+    /**
+     * Tests a cursor continues with its sort and the last row's key
+     */
+    @Test
+    @DisplayName("After: Cursor keeps the sort and position")
+    public void testAfter_RoundTrips() {
+
+        // Arrange: A descending listing by due date
+        Keyset first = Keyset.of(Sort.by(Sort.Direction.DESC, "dueDate"), null, SORTS);
+
+        // Act: Continue after a row, the requested sort is ignored
+        Keyset next = Keyset.of(Sort.by("lastName"), first.after(LocalDate.of(2026, 5, 5), 42L), SORTS);
+
+        // Assert: Verifies the cursor's sort, id and typed key
+        assertThat(next.getProperty()).isEqualTo("dueDate");
+        assertThat(next.getDirection()).isEqualTo(Sort.Direction.DESC);
+        assertThat(next.getId()).isEqualTo(42L);
+        assertThat(next.value(LocalDate.class)).isEqualTo(LocalDate.of(2026, 5, 5));
+
+    }
+
+    /**
+     * Tests keys with commas, instants and missing keys are kept
+     */
+    @Test
+    @DisplayName("After: Keys with commas and missing keys are kept")
+    public void testAfter_KeepsKeys() {
+
+        // Arrange: Listings by last name and creation time
+        Keyset byName = Keyset.of(Sort.by("lastName"), null, SORTS);
+        Keyset byCreated = Keyset.of(Sort.unsorted(), null, SORTS);
+        Instant created = Instant.parse("2026-01-05T10:15:30.123456Z");
+
+        // Act: Continue after rows with these keys
+        Keyset afterName = Keyset.of(null, byName.after("Smith, Jr", 7L), SORTS);
+        Keyset afterCreated = Keyset.of(null, byCreated.after(created, 8L), SORTS);
+        Keyset afterNull = Keyset.of(null, byName.after(null, 9L), SORTS);
+
+        // Assert: Verifies each key is read back
+        assertThat(afterName.value(String.class)).isEqualTo("Smith, Jr");
+        assertThat(afterCreated.value(Instant.class)).isEqualTo(created);
+        assertThat(afterNull.value(String.class)).isNull();
+        assertThat(afterNull.getId()).isEqualTo(9L);
+
+    }
+
+    /**
+     * Tests unreadable cursors and unsupported sorts are rejected
+     */
+    @Test
+    @DisplayName("Of: Unreadable cursors and unsupported sorts are rejected")
+    public void testOf_RejectsInvalidCursors() {
+
+        // Arrange: A cursor for a property the listing cannot sort on
+        String byEmail = Base64.getUrlEncoder()
+                .encodeToString("emailAddress,ASC,1,cook@gmail.com".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert: Verifies each is rejected
+        assertThrows(InvalidCursorException.class, () -> Keyset.of(null, "not a cursor!", SORTS));
+        assertThrows(InvalidCursorException.class, () -> Keyset.of(null, "bm90LWEtY3Vyc29y", SORTS));
+        assertThrows(InvalidCursorException.class, () -> Keyset.of(Sort.by("emailAddress"), null, SORTS));
+        assertThrows(InvalidCursorException.class, () -> Keyset.of(Sort.by("lastName", "createdAt"), null, SORTS));
+        assertThrows(InvalidCursorException.class, () -> Keyset.of(null, byEmail, SORTS));
+        assertThrows(InvalidCursorException.class,
+                () -> Keyset.of(null, Keyset.of(null, null, SORTS).after("yesterday", 1L), SORTS)
+                        .value(Instant.class));
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.interiordesignplanner.authentication;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -157,4 +158,102 @@ public class AuthenticationControllerTest {
 
         }
 
+        /**
+         * Compromised Password: Tests expected response code when a user registers
+         * with a breached password
+         */
+        @Test
+        @DisplayName("RegisterUser: Compromised password")
+        void testRegisterUser_CompromisedPassword_400() throws Exception {
+
+                // Given
+                UserCreateDTO user = new UserCreateDTO();
+                user.setFirstName("Sam");
+                user.setLastName("Williams");
+                user.setEmailAddress("samwilliams@gmail.com");
+                user.setPhoneNumber("07348294736");
+                user.setRoles(Roles.DESIGNER);
+                user.setUsername("samx823");
+                user.setPassword("Password1");
+
+                // When/Then
+                mockMvc.perform(post("/api/auth/register")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                                user)))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(content().string("This password cannot be used and is compromised."));
+
+        }
+
+        /**
+         * Refresh Token: Tests a refresh token can only be used once
+         */
+        @Test
+        @DisplayName("RefreshToken: Rotates refresh token")
+        void testRefreshToken_Ok_200() throws Exception {
+
+                // Given
+                String refreshToken = loginAndRead("refreshToken");
+                RefreshTokenDTO refresh = new RefreshTokenDTO(refreshToken);
+
+                // When/Then
+                mockMvc.perform(post("/api/auth/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(refresh)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.jwtToken").isNotEmpty())
+                                .andExpect(jsonPath("$.refreshToken", not(refreshToken)));
+
+                mockMvc.perform(post("/api/auth/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(refresh)))
+                                .andExpect(status().isUnauthorized());
+
+        }
+
+        /**
+         * Logout User: Tests the token is rejected after logging out
+         */
+        @Test
+        @DisplayName("LogoutUser: Token is revoked")
+        void testLogoutUser_Ok_200() throws Exception {
+
+                // Given
+                String jwtToken = loginAndRead("jwtToken");
+
+                mockMvc.perform(get("/api/clients")
+                                .header("Authorization", "Bearer " + jwtToken))
+                                .andExpect(status().isOk());
+
+                // When/Then
+                mockMvc.perform(post("/api/auth/logout")
+                                .header("Authorization", "Bearer " + jwtToken))
+                                .andExpect(status().isOk())
+                                .andExpect(content().string("Successfully logged out"));
+
+                mockMvc.perform(get("/api/clients")
+                                .header("Authorization", "Bearer " + jwtToken))
+                                .andExpect(status().isForbidden());
+
+        }
+
+        // Registers and logs in a user, returns a field of the login response
+        private String loginAndRead(String field) throws Exception {
+
+                testRegisterUser_Created_201();
+
+                UserLoginDTO login = new UserLoginDTO();
+                login.setUsername("samx823");
+                login.setPassword("huwa71egyw");
+
+                String response = mockMvc.perform(post("/api/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(login)))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString();
+
+                return objectMapper.readTree(response).get(field).asText();
+        }
+
 }
@@ -10,6 +10,9 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,7 +20,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.password.CompromisedPasswordChecker;
@@ -26,10 +28,15 @@ import org.springframework.security.authentication.password.CompromisedPasswordE
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.interiordesignplanner.designer.DesignerRepository;
+import com.interiordesignplanner.exceptions.RateLimitExceededException;
 import com.interiordesignplanner.mapper.UserMapper;
 import com.interiordesignplanner.security.ApplicationUserDetails;
 import com.interiordesignplanner.security.ApplicationUserDetailsService;
 import com.interiordesignplanner.security.JwtService;
+import com.interiordesignplanner.security.JwtToken;
+import com.interiordesignplanner.security.RateLimiter;
+import com.interiordesignplanner.security.TokenDenylist;
+import com.interiordesignplanner.security.TokenVersionCache;
 
 /**
  * Unit tests for {@link AuthenticationService}.
@@ -80,6 +87,22 @@ public class AuthenticationServiceTest {
     @Mock
     private CompromisedPasswordDecision decision;
 
+    // Mock token version cache
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
+    // Mock username rate limiter
+    @Mock
+    private RateLimiter usernameRateLimiter;
+
+    // Mock refresh token service
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    // Mock token denylist
+    @Mock
+    private TokenDenylist tokenDenylist;
+
     // Mock authentication service
     @InjectMocks
     private AuthenticationService authenticationService;
@@ -94,12 +117,11 @@ public class AuthenticationServiceTest {
     public void setUp() {
 
         // Added User Mapper to convert dtos and entities
-        ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration().setSkipNullEnabled(true);
-        this.userMapper = new UserMapper(modelMapper);
+        this.userMapper = new UserMapper();
 
         authenticationService = new AuthenticationService(authenticationManager, jwtService, userRepository, userMapper,
-                designerRepository, applicationUserDetailsService, passwordEncoder, compromisedPasswordChecker);
+                designerRepository, applicationUserDetailsService, passwordEncoder, compromisedPasswordChecker,
+                tokenVersionCache, usernameRateLimiter, refreshTokenService, tokenDenylist);
 
         userCreateDTO = new UserCreateDTO();
         userCreateDTO.setFirstName("Sam");
@@ -189,14 +211,19 @@ public class AuthenticationServiceTest {
         when(applicationUserDetailsService.loadUserByUsername(username)).thenReturn(new ApplicationUserDetails(user1));
 
         when(jwtService.generateJwtToken(any())).thenReturn("newToken");
+        when(refreshTokenService.issue(any())).thenReturn("newRefreshToken");
 
         // Act: generating new token with user details
-        String token = authenticationService.login(userLoginDTO);
+        TokenPair tokens = authenticationService.login(userLoginDTO, "10.0.0.1");
+        String token = tokens.accessToken();
 
         // Assert: Verifies that user credentials are valid and token is generated
         assertNotNull(token);
         assertThat(token).isEqualTo("newToken");
+        assertThat(tokens.refreshToken()).isEqualTo("newRefreshToken");
         verify(authenticationManager, times(1)).authenticate(any());
+        verify(usernameRateLimiter).reset("samx823@10.0.0.1");
+        verify(usernameRateLimiter, times(0)).tryAcquire(any());
 
     }
 
@@ -219,11 +246,106 @@ public class AuthenticationServiceTest {
                 authenticationManager).authenticate(any());
 
         BadCredentialsException exception = assertThrows(BadCredentialsException.class, () -> {
-            authenticationService.login(userLoginDTO);
+            authenticationService.login(userLoginDTO, "10.0.0.1");
         });
 
-        // Assert: Verifies exception matches the thrown exception
+        // Assert: Verifies exception matches the thrown exception and the failure
+        // is charged to the username and address
         assertThat(exception.getMessage()).isEqualTo(errorMessage);
+        verify(usernameRateLimiter).tryAcquire("samx823@10.0.0.1");
+        verify(usernameRateLimiter, times(0)).reset(any());
+
+    }
+
+    /**
+     * Tests User login over the username limit
+     */
+    @Test
+    @DisplayName("LoginUser: Too many attempts")
+    public void testLoginUser_TooManyAttempts() {
+
+        // Arrange: Mock the bucket of the username and address being empty for 2.5
+        // seconds
+        userLoginDTO = new UserLoginDTO();
+        userLoginDTO.setUsername("Samx823");
+        userLoginDTO.setPassword("huwa71egyw");
+
+        when(usernameRateLimiter.peek("samx823@10.0.0.1")).thenReturn(2_500_000_000L);
+
+        // Act: Queries if the exception is thrown before authenticating
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class, () -> {
+            authenticationService.login(userLoginDTO, "10.0.0.1");
+        });
+
+        // Assert: Verifies the retry time is rounded up and no password is checked
+        assertThat(exception.getRetryAfterSeconds()).isEqualTo(3);
+        verify(authenticationManager, times(0)).authenticate(any());
+
+    }
+
+    /**
+     * Tests refreshing with a valid refresh token
+     */
+    @Test
+    @DisplayName("Refresh: Returns new tokens")
+    public void testRefresh_ReturnsNewTokens() {
+
+        // Arrange: Mock the refresh token being used up and new tokens generated
+        when(refreshTokenService.consume("oldRefreshToken")).thenReturn(user1);
+        when(applicationUserDetailsService.loadUserByUsername("samx823")).thenReturn(new ApplicationUserDetails(user1));
+        when(jwtService.generateJwtToken(any())).thenReturn("newToken");
+        when(refreshTokenService.issue(any())).thenReturn("newRefreshToken");
+
+        // Act: Refreshing the tokens
+        TokenPair tokens = authenticationService.refresh("oldRefreshToken");
+
+        // Assert: Verifies new tokens are returned without checking the password
+        assertThat(tokens.accessToken()).isEqualTo("newToken");
+        assertThat(tokens.refreshToken()).isEqualTo("newRefreshToken");
+        verify(authenticationManager, times(0)).authenticate(any());
+
+    }
+
+    /**
+     * Tests logging out revokes both tokens
+     */
+    @Test
+    @DisplayName("Logout: Revokes tokens")
+    public void testLogout_RevokesTokens() {
+
+        // Arrange: Mock the verified access token
+        Instant expiration = Instant.now().plusSeconds(900);
+        JwtToken accessToken = new JwtToken("token", "jti-1", "samx823", Instant.now(), expiration, "DESIGNER", 1L,
+                null, 0);
+
+        // Act: Logging out
+        authenticationService.logout(accessToken, "refreshToken");
+
+        // Assert: Verifies the access token is denied until it expires and the refresh
+        // token is removed
+        verify(tokenDenylist, times(1)).revoke("jti-1", expiration);
+        verify(refreshTokenService, times(1)).revoke("refreshToken");
+
+    }
+
+    /**
+     * Tests revoking a user's tokens
+     */
+    @Test
+    @DisplayName("RevokeTokens: Increments token version")
+    public void testRevokeTokens_IncrementsTokenVersion() {
+
+        // Arrange: Mock existing user
+        when(userRepository.findByUsername("samx823")).thenReturn(Optional.of(user1));
+
+        // Act: Revoking the user's tokens
+        authenticationService.revokeTokens("samx823");
+
+        // Assert: Verifies the version is incremented and no longer cached
+        assertThat(user1.getTokenVersion()).isEqualTo(1);
+        verify(userRepository, times(1)).save(user1);
+        verify(tokenVersionCache, times(1)).evict(1L);
+        verify(refreshTokenService, times(1)).revokeAll(1L);
 
     }
 
@@ -2,6 +2,7 @@ package com.interiordesignplanner.client;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.TestExecutionEvent;
@@ -26,6 +28,7 @@ import com.interiordesignplanner.authentication.UserRepository;
 import com.interiordesignplanner.designer.Designer;
 import com.interiordesignplanner.designer.DesignerRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -151,7 +154,7 @@ public class ClientControllerTest {
     @WithMockUser(roles = "ADMIN")
     void testGetAllClients_ReturnOneClient() throws Exception {
 
-        mockMvc.perform(get("/api/admin/clients?filter=firstName==Alex")
+        mockMvc.perform(get("/api/admin/clients?filter=lastName==Price")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(1)))
@@ -159,6 +162,55 @@ public class ClientControllerTest {
 
     }
 
+    @Test
+    @DisplayName("GetAllClients: Unindexed filter or sort is a bad request")
+    @WithMockUser(roles = "ADMIN")
+    void testGetAllClients_UnindexedFilter_BadRequest() throws Exception {
+
+        mockMvc.perform(get("/api/admin/clients?filter=notes==null"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/admin/clients?sort=emailAddress"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/admin/clients/cursor?filter=firstName==Alex"))
+                .andExpect(status().isBadRequest());
+
+    }
+
+    @Test
+    @DisplayName("GetAllClientsByCursor: Pages follow the cursor")
+    @WithMockUser(roles = "ADMIN")
+    void testGetAllClientsByCursor() throws Exception {
+        // Given: The first page, one client by last name descending
+        String page = mockMvc.perform(get("/api/admin/clients/cursor?sort=lastName,desc&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].lastName", is("Price")))
+                .andReturn().getResponse().getContentAsString();
+
+        // When/Then: The cursor reads the last client
+        mockMvc.perform(get("/api/admin/clients/cursor?size=1")
+                .param("cursor", JsonPath.<String>read(page, "$.next")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].lastName", is("Cook")))
+                .andExpect(jsonPath("$.next", nullValue()));
+
+    }
+
+    @Test
+    @DisplayName("GetAllClientsByCursor: Unreadable cursor and unsupported sort are bad requests")
+    @WithMockUser(roles = "ADMIN")
+    void testGetAllClientsByCursor_BadRequest() throws Exception {
+
+        mockMvc.perform(get("/api/admin/clients/cursor?cursor=bm90LWEtY3Vyc29y"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/admin/clients/cursor?sort=emailAddress"))
+                .andExpect(status().isBadRequest());
+
+    }
+
     @Test
     @DisplayName("GetClients: Should return all Clients")
     @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
@@ -169,7 +221,57 @@ public class ClientControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(2)))
                 .andExpect(jsonPath("$.content[0].fullName").value("Jessica Cook"))
-                .andExpect(jsonPath("$.content[1].emailAddress", is("aprice@gmail.com")));
+                .andExpect(jsonPath("$.content[1].emailAddress", is("aprice@gmail.com")))
+                .andExpect(jsonPath("$.hasNext", is(false)))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+    }
+
+    @Test
+    @DisplayName("GetClientCount: Should return the number of Clients")
+    @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    void testGetClientCount() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get("/api/clients/count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(2)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When/Then: The total shares the list's ETag
+        mockMvc.perform(get("/api/clients")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+    }
+
+    @Test
+    @DisplayName("GetClients: Unchanged list is not modified")
+    @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    void testGetClients_NotModified() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get("/api/clients"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When/Then: The same ETag is answered without a body
+        mockMvc.perform(get("/api/clients")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        // When/Then: Editing a client changes the ETag
+        clientUpdateDTO = new ClientUpdateDTO();
+        clientUpdateDTO.setFirstName("Alexandra");
+        mockMvc.perform(put("/api/clients/{id}", client2.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(clientUpdateDTO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/clients")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)));
 
     }
 
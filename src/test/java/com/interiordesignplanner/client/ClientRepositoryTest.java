@@ -1,9 +1,12 @@
 package com.interiordesignplanner.client;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,8 +17,13 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.interiordesignplanner.CursorPage;
+import com.interiordesignplanner.Keyset;
 import com.interiordesignplanner.authentication.Roles;
 import com.interiordesignplanner.authentication.User;
 import com.interiordesignplanner.authentication.UserRepository;
@@ -128,16 +136,36 @@ public class ClientRepositoryTest {
         Pageable pageable = PageRequest.of(0, 3);
 
         // Act: Query repository with designer's id
-        Page<ClientSummaryDTO> result = clientRepository.findClientsByDesignerId(designer1.getId(), pageable);
+        Slice<ClientSummaryDTO> result = clientRepository.findClientsByDesignerId(designer1.getId(), pageable);
 
         // Assert: Verify results match expected clients
         assertNotNull(result);
         assertEquals(result.getSize(), 3);
-        assertEquals(result.getTotalPages(), 1);
+        assertFalse(result.hasNext());
         assertEquals(result.getContent().get(0).getFullName(), "Jessica Cook");
 
     }
 
+    /**
+     * Tests a slice of the designer's clients tells if another page follows
+     */
+    @Test
+    @DisplayName("FindByDesigner: Slice has a next page")
+    public void testfindByDesigner_HasNextSlice() {
+
+        // Arrange: Prepare pageable smaller than the designer's clients
+        Pageable pageable = PageRequest.of(0, 2);
+
+        // Act: Query repository with designer's id
+        Slice<ClientSummaryDTO> result = clientRepository.findClientsByDesignerId(designer1.getId(), pageable);
+
+        // Assert: Verify another page follows and the projects are counted
+        assertEquals(result.getNumberOfElements(), 2);
+        assertTrue(result.hasNext());
+        assertThat(result).extracting(ClientSummaryDTO::getTotalProjects).containsOnly(0L);
+
+    }
+
     /**
      * Tests when the Client isnt found by Designer and returns a empty set
      */
@@ -151,7 +179,7 @@ public class ClientRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // Act: Query the repository with the designer2Id and pageable
-        Page<ClientSummaryDTO> result = clientRepository.findClientsByDesignerId(designer2.getId(), pageable);
+        Slice<ClientSummaryDTO> result = clientRepository.findClientsByDesignerId(designer2.getId(), pageable);
 
         // Assert: Verifies result's page is empty
         assertNotNull(result);
@@ -159,4 +187,64 @@ public class ClientRepositoryTest {
 
     }
 
-}
\ No newline at end of file
+    /**
+     * Tests the admin client list is selected with the designer's name
+     */
+    @Test
+    @DisplayName("FindClientList: Lists filtered clients with their designer")
+    public void testFindClientList_ReturnsFilteredClients() {
+
+        // Arrange: Prepare a filter for clients whose first name starts with S or J
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("lastName"));
+
+        // Act: Query the repository with the filter
+        Page<ClientDTO> result = clientRepository.findClientList(
+                (client, query, builder) -> builder.or(builder.like(client.get("firstName"), "S%"),
+                        builder.like(client.get("firstName"), "J%")),
+                pageable);
+
+        // Assert: Verify the clients are sorted and have the designer and project count
+        assertEquals(result.getTotalElements(), 2);
+        assertEquals(result.getContent().get(0).getFirstName(), "Jessica");
+        assertEquals(result.getContent().get(1).getLastName(), "Harris");
+        assertEquals(result.getContent().get(0).getDesigner(), "Dove White");
+        assertEquals(result.getContent().get(0).getTotalProjects(), 0);
+
+    }
+
+    /**
+     * Tests the filtered cursor listing continues after clients with the same
+     * last name
+     */
+    @Test
+    @DisplayName("FindClientList: Cursor pages follow the last name and id")
+    public void testFindClientList_SeeksByLastName() {
+
+        // Arrange: A second client named Cook and a filter without Alex
+        Client client4 = new Client();
+        client4.setFirstName("Sam");
+        client4.setLastName("Cook");
+        client4.setDesigner(designer1);
+        clientRepository.save(client4);
+
+        Specification<Client> filter = (client, query, builder) -> builder.notEqual(client.get("firstName"),
+                "Alex");
+
+        // Act: Read the clients two per page
+        List<String> names = new ArrayList<>();
+        Keyset keyset = Keyset.of(Sort.by("lastName"), null, List.of("lastName"));
+        int pages = 0;
+        do {
+            CursorPage<ClientDTO> page = clientRepository.findClientList(filter, keyset, 2);
+            page.content().forEach(client -> names.add(client.getFirstName() + " " + client.getLastName()));
+            keyset = page.next() == null ? null : Keyset.of(null, page.next(), List.of("lastName"));
+            pages++;
+        } while (keyset != null);
+
+        // Assert: Verifies each client is read once, the Cooks in id order
+        assertEquals(pages, 2);
+        assertEquals(names, List.of("Jessica Cook", "Sam Cook", "Simon Harris"));
+
+    }
+
+}
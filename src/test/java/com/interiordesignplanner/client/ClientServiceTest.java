@@ -20,22 +20,28 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import com.interiordesignplanner.authentication.AuthenticationService;
+import com.interiordesignplanner.FilterSpecifications;
 import com.interiordesignplanner.authentication.Roles;
 import com.interiordesignplanner.authentication.User;
 import com.interiordesignplanner.designer.Designer;
 import com.interiordesignplanner.designer.DesignerService;
 import com.interiordesignplanner.exceptions.ClientNotFoundException;
+import com.interiordesignplanner.exceptions.InvalidFilterException;
 import com.interiordesignplanner.mapper.ClientMapper;
 import com.interiordesignplanner.project.ProjectRepository;
+import com.interiordesignplanner.security.OwnershipService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Unit tests for {@link ClientService}.
@@ -62,15 +68,16 @@ public class ClientServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
-    @Mock
-    private AuthenticationService authenticationService;
-
     @Mock
     private DesignerService designerService;
 
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    // Mock ownership checks
+    @Mock
+    private OwnershipService ownershipService;
+
     // Mock client service
     @InjectMocks
     private ClientService clientService;
@@ -85,13 +92,10 @@ public class ClientServiceTest {
     public void setUp() {
 
         // Added Client Mapper to convert dtos and entities
-        ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration().setSkipNullEnabled(true);
-        this.clientMapper = new ClientMapper(modelMapper);
+        this.clientMapper = new ClientMapper();
 
         clientService = new ClientService(clientRepository, clientMapper,
-                authenticationService,
-                designerService);
+                designerService, ownershipService, new FilterSpecifications(new SimpleMeterRegistry(), 100));
 
         user = new User();
         user.setId(1L);
@@ -151,13 +155,13 @@ public class ClientServiceTest {
         // clients are returned
 
         Pageable pageable = PageRequest.of(0, 10);
-        List<Client> clients = new ArrayList<>();
-        clients.add(client1);
-        clients.add(client2);
+        List<ClientDTO> clients = new ArrayList<>();
+        clients.add(clientMapper.toDto(client1, 0));
+        clients.add(clientMapper.toDto(client2, 0));
 
-        Page<Client> mockPage = new PageImpl<>(clients);
+        Page<ClientDTO> mockPage = new PageImpl<>(clients);
 
-        when(clientRepository.findAll(pageable))
+        when(clientRepository.findClientList(null, pageable))
                 .thenReturn(mockPage);
 
         // Act: Query the service layer the if all clients are returned
@@ -168,8 +172,7 @@ public class ClientServiceTest {
         assertEquals(result.getTotalElements(), 2);
         assertThat(result).extracting(ClientDTO::getId).containsExactly(1L, 2L);
         assertThat(result).extracting(ClientDTO::getFirstName).containsExactly("Jessica", "Alex");
-        verify(clientRepository).findAll(any(
-                Pageable.class));
+        verify(clientRepository).findClientList(isNull(), any(Pageable.class));
         verifyNoMoreInteractions(clientRepository);
 
     }
@@ -184,16 +187,15 @@ public class ClientServiceTest {
         // all
         // clients are returned
 
-        String filter = "filter=firstName==Alex";
+        String filter = "lastName==Price";
 
         Pageable pageable = PageRequest.of(2, 2);
-        List<Client> clients = new ArrayList<>();
-        clients.add(client2);
+        List<ClientDTO> clients = new ArrayList<>();
+        clients.add(clientMapper.toDto(client2, 0));
 
-        Page<Client> mockPage = new PageImpl<>(clients);
+        Page<ClientDTO> mockPage = new PageImpl<>(clients);
 
-        when(clientRepository.findAll(ArgumentMatchers.<Specification<Client>>any(), any(
-                Pageable.class)))
+        when(clientRepository.findClientList(ArgumentMatchers.<Specification<Client>>notNull(), any(Pageable.class)))
                 .thenReturn(mockPage);
 
         // Act: Query the service layer the if all clients are returned
@@ -204,8 +206,7 @@ public class ClientServiceTest {
         assertEquals(result.getContent().size(), 1);
         assertThat(result).extracting(ClientDTO::getId).containsExactly(2L);
         assertThat(result).extracting(ClientDTO::getFirstName).containsExactly("Alex");
-        verify(clientRepository).findAll(ArgumentMatchers.<Specification<Client>>any(), any(
-                Pageable.class));
+        verify(clientRepository).findClientList(ArgumentMatchers.<Specification<Client>>notNull(), any(Pageable.class));
         verifyNoMoreInteractions(clientRepository);
 
     }
@@ -219,11 +220,11 @@ public class ClientServiceTest {
         // Arrange: Empty page is created and Mock Repository to test if it returns a
         // empty page
 
-        String filter = "filter=notes==null";
+        String filter = "lastName==Adams";
 
         Pageable pageable = PageRequest.of(2, 2);
-        Page<Client> clients = Page.empty();
-        when(clientRepository.findAll(ArgumentMatchers.<Specification<Client>>any(), any(Pageable.class)))
+        Page<ClientDTO> clients = Page.empty();
+        when(clientRepository.findClientList(ArgumentMatchers.<Specification<Client>>notNull(), any(Pageable.class)))
                 .thenReturn(clients);
 
         // Act: Query the service layer if a empty page is returned
@@ -234,6 +235,26 @@ public class ClientServiceTest {
 
     }
 
+    /**
+     * Tests for checking if Get all clients rejects a filter on an unindexed
+     * property
+     */
+    @Test
+    @DisplayName("GetAllClients: Rejects unindexed filter and sort")
+    public void testGetAllClients_RejectsUnindexedFilter() {
+        // Arrange: Filter on the client's notes and sort on their address
+
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // Act & Assert: Verifies both are rejected before the repository is queried
+        assertThrows(InvalidFilterException.class,
+                () -> clientService.getAllClients("lastName==Price;notes==null", pageable));
+        assertThrows(InvalidFilterException.class,
+                () -> clientService.getAllClients(null, PageRequest.of(0, 10, Sort.by("address"))));
+        verifyNoInteractions(clientRepository);
+
+    }
+
     /**
      * Tests for checking if Get clients returns a page of clients for the designer
      */
@@ -251,21 +272,17 @@ public class ClientServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10);
 
-        Page<ClientSummaryDTO> mockPage = new PageImpl<>(List.of(clientSummaryDTO1, clientSummaryDTO2));
-
-        when(authenticationService.findUser("sam")).thenReturn(user);
-
-        when(designerService.findDesigner(user.getId())).thenReturn(designer);
+        Slice<ClientSummaryDTO> mockPage = new SliceImpl<>(List.of(clientSummaryDTO1, clientSummaryDTO2));
 
-        when(clientRepository.findClientsByDesignerId(user.getId(), pageable))
+        when(clientRepository.findClientsByDesignerId(designer.getId(), pageable))
                 .thenReturn(mockPage);
 
         // Act: Query the service layer the if all the designer's clients are returned
-        Page<ClientSummaryDTO> result = clientService.getClientsByDesigner(user.getUsername(), pageable);
+        Slice<ClientSummaryDTO> result = clientService.getClientsByDesigner(designer.getId(), pageable);
 
         // Assert: Verifies that the result is not null and clients are retrieved
         assertNotNull(result);
-        assertEquals(result.getTotalElements(), 2);
+        assertEquals(result.getNumberOfElements(), 2);
         assertThat(result).extracting(ClientSummaryDTO::getId).containsExactly(1L, 2L);
         assertThat(result).extracting(ClientSummaryDTO::getNotes).containsExactly(
                 "Prefers eco-friendly materials", "Needs child-friendly furniture");
@@ -286,21 +303,17 @@ public class ClientServiceTest {
 
         Pageable pageable = PageRequest.of(0, 10);
 
-        Page<ClientSummaryDTO> mockPage = Page.empty();
-
-        when(authenticationService.findUser("sam")).thenReturn(user);
-
-        when(designerService.findDesigner(user.getId())).thenReturn(designer);
+        Slice<ClientSummaryDTO> mockPage = new SliceImpl<>(List.of());
 
-        when(clientRepository.findClientsByDesignerId(user.getId(), pageable))
+        when(clientRepository.findClientsByDesignerId(designer.getId(), pageable))
                 .thenReturn(mockPage);
 
         // Act: Query the service layer if a empty page is returned
-        Page<ClientSummaryDTO> result = clientService.getClientsByDesigner(user.getUsername(), pageable);
+        Slice<ClientSummaryDTO> result = clientService.getClientsByDesigner(designer.getId(), pageable);
 
         // Assert: Verifies that the page is empty
         assertNotNull(result);
-        assertEquals(result.getTotalElements(), 0);
+        assertEquals(result.getNumberOfElements(), 0);
         verify(clientRepository).findClientsByDesignerId(any(), any(
                 Pageable.class));
         verifyNoMoreInteractions(clientRepository);
@@ -315,7 +328,7 @@ public class ClientServiceTest {
     public void testGetClient_ReturnsClient() {
         // Arrange: Sets the clientId and mocks the repository
         Long clientId = 1L;
-        when(clientRepository.findById(clientId)).thenReturn(Optional.of(client1));
+        when(clientRepository.findDetailById(clientId)).thenReturn(Optional.of(client1));
 
         // Act: Query the service layer to return the client with the id
         ClientDTO result = clientService.getClientById(clientId);
@@ -338,7 +351,7 @@ public class ClientServiceTest {
         Long clientId = 3L;
         String errorMessage = "Client is not found with " + "clientId" + ": " + clientId;
 
-        when(clientRepository.findById(clientId)).thenReturn(Optional.empty());
+        when(clientRepository.findDetailById(clientId)).thenReturn(Optional.empty());
 
         // Act: Queries if the exception is thrown
         ClientNotFoundException exception = assertThrows(ClientNotFoundException.class, () -> {
@@ -373,14 +386,12 @@ public class ClientServiceTest {
         savedClient.setNotes("Loves minimalist design");
         savedClient.setDesigner(designer);
 
-        when(authenticationService.findUser("sam")).thenReturn(user);
-
-        when(designerService.findDesigner(user.getId())).thenReturn(designer);
+        when(designerService.getDesignerReference(designer.getId())).thenReturn(designer);
 
         when(clientRepository.save(any(Client.class))).thenReturn(savedClient);
 
         // Act: Query the service layer the if client is there
-        ClientDTO result = clientService.createClient(clientDTO, user.getUsername());
+        ClientDTO result = clientService.createClient(clientDTO, designer.getId());
 
         // Assert: Verifies that the result is not null and client has been created
         assertNotNull(result);
@@ -402,17 +413,17 @@ public class ClientServiceTest {
         ClientUpdateDTO updatedClient = new ClientUpdateDTO();
         updatedClient.setPhoneNumber("07829596562");
 
-        when(clientRepository.findById(clientId)).thenReturn(Optional.of(client2));
-        when(clientRepository.save(client2)).thenReturn(client2);
+        when(clientRepository.findDetailById(clientId)).thenReturn(Optional.of(client2));
+        when(clientRepository.saveAndFlush(client2)).thenReturn(client2);
 
         // Act: Query the service layer to return the client with the id and update the
         // client's details
-        ClientDTO result = clientService.updateClient(clientId, updatedClient, user.getUsername());
+        ClientDTO result = clientService.updateClient(clientId, updatedClient, designer.getId(), null);
 
         // Assert: Verifies that the client was updated
         assertNotNull(result);
         assertEquals(result.getPhoneNumber(), "07829596562");
-        verify(clientRepository).findById(clientId);
+        verify(clientRepository).findDetailById(clientId);
 
     }
 
@@ -425,19 +436,19 @@ public class ClientServiceTest {
         // Arrange: Sets the clientId and mocks the repository
         Long clientId = 2L;
         String errorMessage = "Client is not found with " + "clientId" + ": " + clientId;
-        when(clientRepository.findById(clientId)).thenReturn(Optional.empty());
+        when(clientRepository.findDetailById(clientId)).thenReturn(Optional.empty());
 
         ClientUpdateDTO updateClient = new ClientUpdateDTO();
         updateClient.setFirstName("John");
 
         // Act: Queries if the exception is thrown if client is not found when updating
         ClientNotFoundException exception = assertThrows(ClientNotFoundException.class, () -> {
-            clientService.updateClient(clientId, updateClient, user.getUsername());
+            clientService.updateClient(clientId, updateClient, designer.getId(), null);
         });
 
         // Assert: Verifies exception matches the thrown exception
         assertThat(exception.getMessage()).isEqualTo(errorMessage);
-        verify(clientRepository).findById(clientId);
+        verify(clientRepository).findDetailById(clientId);
         verify(clientRepository, never()).save(null);
 
     }
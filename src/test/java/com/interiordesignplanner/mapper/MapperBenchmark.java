@@ -0,0 +1,281 @@
+package com.interiordesignplanner.mapper;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.interiordesignplanner.authentication.Roles;
+import com.interiordesignplanner.authentication.User;
+import com.interiordesignplanner.authentication.UserDTO;
+import com.interiordesignplanner.client.Client;
+import com.interiordesignplanner.client.ClientDTO;
+import com.interiordesignplanner.designer.Designer;
+import com.interiordesignplanner.project.Project;
+import com.interiordesignplanner.project.ProjectDTO;
+import com.interiordesignplanner.project.ProjectStatus;
+import com.interiordesignplanner.room.Item;
+import com.interiordesignplanner.room.ItemDTO;
+import com.interiordesignplanner.room.Room;
+import com.interiordesignplanner.room.RoomDTO;
+import com.interiordesignplanner.room.RoomType;
+import com.interiordesignplanner.room.Task;
+import com.interiordesignplanner.room.TaskDTO;
+
+/**
+ * JMH benchmark of the mappers against the reflective ModelMapper they
+ * replaced.
+ *
+ * <p>
+ * Each DTO type is mapped from the same entity by both. ModelMapper is
+ * configured as the application configured it, with the same post
+ * converters for the derived fields.
+ * <p>
+ * Run with:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.interiordesignplanner.mapper.MapperBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+
+    private ClientMapper clientMapper;
+
+    private ProjectMapper projectMapper;
+
+    private RoomMapper roomMapper;
+
+    private UserMapper userMapper;
+
+    private User user;
+
+    private Client client;
+
+    private Project project;
+
+    private Room room;
+
+    private Task task;
+
+    private Item item;
+
+    @Setup
+    public void setUp() {
+
+        modelMapper = modelMapper();
+        clientMapper = new ClientMapper();
+        projectMapper = new ProjectMapper();
+        roomMapper = new RoomMapper();
+        userMapper = new UserMapper();
+
+        user = new User();
+        user.setId(1L);
+        user.setFirstName("Dove");
+        user.setLastName("White");
+        user.setEmailAddress("dwhite@gmail.com");
+        user.setPhoneNumber("07223180736");
+        user.setUsername("dwhite");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoO");
+        user.setRoles(Roles.DESIGNER);
+
+        Designer designer = new Designer();
+        designer.setId(1L);
+        designer.setUser(user);
+
+        client = new Client();
+        client.setId(1L);
+        client.setVersion(2L);
+        client.setFirstName("Alex");
+        client.setLastName("Price");
+        client.setEmailAddress("aprice@gmail.com");
+        client.setPhoneNumber("07828096962");
+        client.setAddress("249 The Grove, Reading, R84 J5N");
+        client.setNotes("Prefers neutral colours");
+        client.setDesigner(designer);
+
+        project = new Project();
+        project.setId(1L);
+        project.setVersion(3L);
+        project.setClient(client);
+        project.setProjectName("Luxury Master Bedroom");
+        project.setStatus(ProjectStatus.COMPLETED);
+        project.setBudget(BigDecimal.valueOf(5000.00));
+        project.setStartDate(LocalDate.of(2025, 11, 10));
+        project.setDueDate(LocalDate.of(2026, 5, 5));
+        project.setDescription("Custom wardrobes, soft lighting and premium fabrics");
+        project.setMeetingURL("https://meet.example.com/luxury-bedroom");
+        project.setCompletedAt(Instant.parse("2026-04-30T10:15:30Z"));
+        client.setProjects(List.of(project));
+
+        room = new Room();
+        room.setId(1L);
+        room.setVersion(4L);
+        room.setType(RoomType.BEDROOM);
+        room.setLength(6.7);
+        room.setHeight(4.0);
+        room.setWidth(4.5);
+        room.setUnit("m");
+        room.setProject(project);
+        project.setRoom(room);
+
+        for (int i = 1; i <= 5; i++) {
+            Task roomTask = new Task();
+            roomTask.setId((long) i);
+            roomTask.setVersion(0L);
+            roomTask.setTaskName("Flooring " + i);
+            roomTask.setTask("Remove floor tiles in the bedroom");
+            roomTask.setDate(LocalDate.of(2026, 3, i));
+            roomTask.setCompleted(i % 2 == 0);
+            room.addTask(roomTask);
+
+            Item roomItem = new Item();
+            roomItem.setId((long) i);
+            roomItem.setVersion(0L);
+            roomItem.setImageUrl("https://example.com/items/" + i + ".jpg");
+            roomItem.setItemName("Coffee Table " + i);
+            roomItem.setDescription("Chalked solid mango wood coffee table");
+            roomItem.setPrice(BigDecimal.valueOf(119.99));
+            roomItem.setQuantity(i);
+            roomItem.setDimensions("H45cm W110cm D55cm");
+            roomItem.setLink("https://example.com/items/" + i);
+            roomItem.setOrdered(i % 2 == 1);
+            room.addItem(roomItem);
+        }
+        task = room.getChecklist().get(0);
+        item = room.getInventory().get(0);
+    }
+
+    @Benchmark
+    public ClientDTO modelMapperClient() {
+        return modelMapper.map(client, ClientDTO.class);
+    }
+
+    @Benchmark
+    public ClientDTO mapperClient() {
+        return clientMapper.toDto(client, client.getProjects().size());
+    }
+
+    @Benchmark
+    public ProjectDTO modelMapperProject() {
+        return modelMapper.map(project, ProjectDTO.class);
+    }
+
+    @Benchmark
+    public ProjectDTO mapperProject() {
+        return projectMapper.toDto(project);
+    }
+
+    @Benchmark
+    public RoomDTO modelMapperRoom() {
+        return modelMapper.map(room, RoomDTO.class);
+    }
+
+    @Benchmark
+    public RoomDTO mapperRoom() {
+        return roomMapper.toDto(room);
+    }
+
+    @Benchmark
+    public TaskDTO modelMapperTask() {
+        return modelMapper.map(task, TaskDTO.class);
+    }
+
+    @Benchmark
+    public TaskDTO mapperTask() {
+        return roomMapper.toDto(task);
+    }
+
+    @Benchmark
+    public ItemDTO modelMapperItem() {
+        return modelMapper.map(item, ItemDTO.class);
+    }
+
+    @Benchmark
+    public ItemDTO mapperItem() {
+        return roomMapper.toDto(item);
+    }
+
+    @Benchmark
+    public UserDTO modelMapperUser() {
+        return modelMapper.map(user, UserDTO.class);
+    }
+
+    @Benchmark
+    public UserDTO mapperUser() {
+        return userMapper.toDto(user);
+    }
+
+    // The ModelMapper configuration the mappers replaced
+    static ModelMapper modelMapper() {
+        ModelMapper mapper = new ModelMapper();
+        mapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setFieldMatchingEnabled(true)
+                .setSkipNullEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
+
+        mapper.createTypeMap(Client.class, ClientDTO.class).setPostConverter(convert -> {
+            Client source = convert.getSource();
+            ClientDTO destination = convert.getDestination();
+            if (source.getProjects() != null) {
+                destination.setTotalProjects((source.getProjects().size()));
+            }
+
+            if (source.getDesigner() != null) {
+                destination.setDesigner(source.getDesigner().getUser().getFirstName() + " " + source.getDesigner()
+                        .getUser().getLastName());
+            }
+            return destination;
+        });
+
+        mapper.createTypeMap(Project.class, ProjectDTO.class).setPostConverter(convert -> {
+            Project source = convert.getSource();
+            ProjectDTO destination = convert.getDestination();
+            if (source.getClient() != null) {
+                destination.setClientName(source.getClient().getFirstName() + " " + source.getClient().getLastName());
+            }
+            if (source.getRoom() != null) {
+                destination.setRoom(source.getRoom().getType());
+            }
+            return destination;
+        });
+
+        mapper.createTypeMap(Room.class, RoomDTO.class).setPostConverter(convert -> {
+            Room source = convert.getSource();
+            RoomDTO destination = convert.getDestination();
+            if (source.getProject() != null) {
+                destination.setProjectName((source.getProject().getProjectName()));
+            }
+            return destination;
+        });
+        return mapper;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapperBenchmark.class.getSimpleName()).build()).run();
+    }
+
+}
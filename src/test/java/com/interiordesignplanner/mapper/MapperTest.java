@@ -0,0 +1,101 @@
+package com.interiordesignplanner.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.interiordesignplanner.authentication.UserDTO;
+
+/**
+ * Unit tests for the mappers.
+ *
+ * <p>
+ * Verifies each mapper gives the same DTO as the ModelMapper configuration
+ * it replaced, using the entities of {@link MapperBenchmark}.
+ */
+@DisplayName(value = "Mapper Test Suite")
+public class MapperTest {
+
+    private MapperBenchmark benchmark;
+
+    @BeforeEach
+    public void setUp() {
+        benchmark = new MapperBenchmark();
+        benchmark.setUp();
+    }
+
+    /**
+     * Tests a client is mapped with their project count and designer's name
+     */
+    @Test
+    @DisplayName("ClientMapper: Same DTO as ModelMapper")
+    public void testClientToDto_MatchesModelMapper() {
+
+        // Assert: Verifies every field, including the derived ones
+        assertThat(benchmark.mapperClient()).isEqualTo(benchmark.modelMapperClient());
+        assertThat(benchmark.mapperClient().getDesigner()).isEqualTo("Dove White");
+        assertThat(benchmark.mapperClient().getTotalProjects()).isEqualTo(1);
+
+    }
+
+    /**
+     * Tests a project is mapped with its client's name and room type
+     */
+    @Test
+    @DisplayName("ProjectMapper: Same DTO as ModelMapper")
+    public void testProjectToDto_MatchesModelMapper() {
+
+        // Assert: Verifies every field, including the derived ones
+        assertThat(benchmark.mapperProject()).isEqualTo(benchmark.modelMapperProject());
+        assertThat(benchmark.mapperProject().getClientName()).isEqualTo("Alex Price");
+
+    }
+
+    /**
+     * Tests a room is mapped with its project's name, checklist and inventory
+     */
+    @Test
+    @DisplayName("RoomMapper: Same DTO as ModelMapper")
+    public void testRoomToDto_MatchesModelMapper() {
+
+        // Assert: Verifies every field, including the checklist and inventory
+        assertThat(benchmark.mapperRoom()).isEqualTo(benchmark.modelMapperRoom());
+        assertThat(benchmark.mapperRoom().getProjectName()).isEqualTo("Luxury Master Bedroom");
+        assertThat(benchmark.mapperRoom().getChecklist()).hasSize(5);
+
+    }
+
+    /**
+     * Tests tasks and items are mapped with their id and version
+     */
+    @Test
+    @DisplayName("RoomMapper: Same task and item DTOs as ModelMapper")
+    public void testTaskAndItemToDto_MatchModelMapper() {
+
+        // Assert: Verifies every field of the task and item
+        assertThat(benchmark.mapperTask()).isEqualTo(benchmark.modelMapperTask());
+        assertThat(benchmark.mapperItem()).isEqualTo(benchmark.modelMapperItem());
+
+    }
+
+    /**
+     * Tests a user is mapped without their password
+     */
+    @Test
+    @DisplayName("UserMapper: Password is not copied")
+    public void testUserToDto_LeavesOutPassword() {
+
+        // Act: Map the user
+        UserDTO result = benchmark.mapperUser();
+
+        // Assert: Verifies the details are copied and the password hash is not
+        assertThat(result).usingRecursiveComparison().ignoringFields("password", "emailAdress")
+                .isEqualTo(benchmark.modelMapperUser());
+        assertThat(result.getEmailAdress()).isEqualTo("dwhite@gmail.com");
+        assertThat(result.getPassword()).isNull();
+
+    }
+
+}
@@ -198,7 +198,20 @@ public class ProjectControllerTest {
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.content", hasSize(2)))
                                 .andExpect(jsonPath("$.content[0].clientName").value("Jessica Cook"))
-                                .andExpect(jsonPath("$.content[1].dueDate", is("2026-05-05")));
+                                .andExpect(jsonPath("$.content[1].dueDate", is("2026-05-05")))
+                                .andExpect(jsonPath("$.hasNext", is(false)))
+                                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        }
+
+        @Test
+        @DisplayName("GetProjectCount: Should return the number of Projects")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testGetProjectCount() throws Exception {
+
+                mockMvc.perform(get("/api/projects/count"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.total", is(2)));
 
         }
 
@@ -2,11 +2,13 @@ package com.interiordesignplanner.project;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,8 +19,12 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.interiordesignplanner.CursorPage;
+import com.interiordesignplanner.Keyset;
 import com.interiordesignplanner.authentication.Roles;
 import com.interiordesignplanner.authentication.User;
 import com.interiordesignplanner.authentication.UserRepository;
@@ -140,10 +146,11 @@ public class ProjectRepositoryTest {
     public void testGetProjectsByStatus_ReturnsProjects() {
 
         // Arrange: Mock repository to return test for status (ACTIVE).
-        Pageable pageable = PageRequest.of(0, 3);
+        Pageable pageable = PageRequest.of(0, 3, Sort.by("id"));
 
-        // Act: Query the repository with status (ACTIVE)
-        Page<Project> result = projectRepository.findProjectsByStatus(ProjectStatus.ACTIVE, pageable);
+        // Act: Query the repository with the designer and status (ACTIVE)
+        Page<Project> result = projectRepository.findProjectsByDesignerIdAndStatus(designer1.getId(),
+                ProjectStatus.ACTIVE, pageable);
 
         // Assert: Verify that the result only returns two projects and is (ACTIVE)
         assertNotNull(result);
@@ -163,7 +170,8 @@ public class ProjectRepositoryTest {
         Pageable pageable = PageRequest.of(0, 3);
 
         // Act: Query the repository with status (COMPLETED)
-        Page<Project> result = projectRepository.findProjectsByStatus(ProjectStatus.COMPLETED, pageable);
+        Page<Project> result = projectRepository.findProjectsByDesignerIdAndStatus(designer1.getId(),
+                ProjectStatus.COMPLETED, pageable);
 
         // Assert: Verify that the result doesnt return test
         assertNotNull(result);
@@ -182,8 +190,8 @@ public class ProjectRepositoryTest {
         // date
         Pageable pageable = PageRequest.of(0, 4);
 
-        // Act: Query the repository with the getAllProjectsOrderByDueDate method
-        Page<Deadline> result = projectRepository.getAllProjectsOrderByDueDate(pageable);
+        // Act: Query the repository with the getProjectsOrderByDueDate method
+        Page<Deadline> result = projectRepository.getProjectsOrderByDueDate(designer1.getId(), pageable);
 
         // Assert: Verify that the results return in order
         assertNotNull(result);
@@ -200,15 +208,15 @@ public class ProjectRepositoryTest {
     public void testfindByDesigner_ReturnsProjects() {
 
         // Arrange: Prepare pageable with page size
-        Pageable pageable = PageRequest.of(0, 3);
+        Pageable pageable = PageRequest.of(0, 3, Sort.by("id"));
 
         // Act: Query repository with designer's id
-        Page<ProjectSummaryDTO> result = projectRepository.findProjectsByDesignerId(designer1.getId(), pageable);
+        Slice<ProjectSummaryDTO> result = projectRepository.findProjectsByDesignerId(designer1.getId(), pageable);
 
         // Assert: Verify results match expected clients
         assertNotNull(result);
         assertEquals(result.getSize(), 3);
-        assertEquals(result.getTotalPages(), 1);
+        assertFalse(result.hasNext());
         assertEquals(result.getContent().get(0).getDescription(),
                 "Custom wardrobes, soft lighting, and premium fabrics for a hotel-like feel.");
 
@@ -227,7 +235,7 @@ public class ProjectRepositoryTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // Act: Query the repository with the designer2Id and pageable
-        Page<ProjectSummaryDTO> result = projectRepository.findProjectsByDesignerId(designer2.getId(), pageable);
+        Slice<ProjectSummaryDTO> result = projectRepository.findProjectsByDesignerId(designer2.getId(), pageable);
 
         // Assert: Verifies result's page is empty
         assertNotNull(result);
@@ -235,4 +243,91 @@ public class ProjectRepositoryTest {
 
     }
 
+    /**
+     * Tests completed projects are removed from the deadlines
+     */
+    @Test
+    @DisplayName("findAllProjectsDue: Completed projects are not returned")
+    public void testfindAllProjectsDue_SkipsCompleted() {
+
+        // Arrange: Complete the project due first
+        project3.setStatus(ProjectStatus.COMPLETED);
+        projectRepository.saveAndFlush(project3);
+
+        // Act: Query the designer's deadlines
+        Page<Deadline> result = projectRepository.getProjectsOrderByDueDate(designer1.getId(), PageRequest.of(0, 4));
+
+        // Assert: Verify only the active project is returned
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent().get(0).projectName()).isEqualTo("Luxury Master Bedroom");
+
+    }
+
+    /**
+     * Tests the designer is copied onto the project and follows a reassignment
+     */
+    @Test
+    @DisplayName("DesignerId: Follows the project's client")
+    public void testDesignerId_FollowsClient() {
+
+        // Arrange: A client of designer2
+        Client client3 = new Client();
+        client3.setFirstName("Nia");
+        client3.setLastName("Hart");
+        client3.setEmailAddress("niahart@gmail.com");
+        client3.setDesigner(designer2);
+        clientRepository.save(client3);
+
+        // Act: Reassign the project to designer2's client
+        project2.setClient(client3);
+        projectRepository.saveAndFlush(project2);
+
+        // Assert: Verify the stored designer and the single table lookups
+        assertThat(project3.getDesignerId()).isEqualTo(designer1.getId());
+        assertThat(projectRepository.findDesignerIdById(project2.getId())).contains(designer2.getId());
+        assertThat(projectRepository.findProjectsByDesignerId(designer2.getId(), PageRequest.of(0, 3))
+                .getNumberOfElements()).isEqualTo(1);
+
+    }
+
+    /**
+     * Tests the cursor listing reads every project once, in due date order
+     */
+    @Test
+    @DisplayName("FindProjectList: Cursor pages follow the due date")
+    public void testFindProjectList_SeeksByDueDate() {
+
+        // Arrange: A project without a due date
+        Project project4 = new Project();
+        project4.setClient(client2);
+        project4.setProjectName("Garden Studio");
+        project4.setStatus(ProjectStatus.PLANNING);
+        projectRepository.save(project4);
+
+        // Act: Read the projects one per page, ascending and descending
+        List<String> ascending = new ArrayList<>();
+        Keyset keyset = Keyset.of(Sort.by("dueDate"), null, List.of("dueDate"));
+        do {
+            CursorPage<ProjectDTO> page = projectRepository.findProjectList(null, keyset, 1);
+            page.content().forEach(project -> ascending.add(project.getProjectName()));
+            keyset = page.next() == null ? null : Keyset.of(null, page.next(), List.of("dueDate"));
+        } while (keyset != null);
+
+        List<String> descending = new ArrayList<>();
+        keyset = Keyset.of(Sort.by(Sort.Direction.DESC, "dueDate"), null, List.of("dueDate"));
+        do {
+            CursorPage<ProjectSummaryDTO> page = projectRepository.findProjectSummaries(designer1.getId(), keyset,
+                    1);
+            page.content().forEach(project -> descending.add(project.getProjectName()));
+            keyset = page.next() == null ? null : Keyset.of(null, page.next(), List.of("dueDate"));
+        } while (keyset != null);
+
+        // Assert: Verifies the project without a due date sorts lowest
+        assertThat(ascending).containsExactly("Garden Studio", "Industrial Loft Redesign",
+                "Luxury Master Bedroom");
+        assertThat(descending).containsExactly("Luxury Master Bedroom", "Industrial Loft Redesign",
+                "Garden Studio");
+
+    }
+
 }
@@ -22,24 +22,27 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import com.interiordesignplanner.authentication.AuthenticationService;
+import com.interiordesignplanner.FilterSpecifications;
 import com.interiordesignplanner.authentication.Roles;
 import com.interiordesignplanner.authentication.User;
 import com.interiordesignplanner.client.Client;
 import com.interiordesignplanner.client.ClientService;
 import com.interiordesignplanner.designer.Designer;
-import com.interiordesignplanner.designer.DesignerService;
 import com.interiordesignplanner.exceptions.ProjectNotFoundException;
 import com.interiordesignplanner.mapper.ProjectMapper;
+import com.interiordesignplanner.security.OwnershipService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Unit tests for {@link ProjectService}.
@@ -71,13 +74,11 @@ public class ProjectServiceTest {
     private ClientService clientService;
 
     @Mock
-    private AuthenticationService authenticationService;
-
-    @Mock
-    private DesignerService designerService;
+    private PasswordEncoder passwordEncoder;
 
+    // Mock ownership checks
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private OwnershipService ownershipService;
 
     private Client client1;
 
@@ -92,28 +93,10 @@ public class ProjectServiceTest {
     public void setUp() {
 
         // Added Project Mapper to convert dtos and entities
-        ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration()
-                .setMatchingStrategy(MatchingStrategies.STRICT);
-
-        modelMapper.createTypeMap(Project.class, ProjectDTO.class)
-                .addMappings(mapper -> mapper.skip(ProjectDTO::setClientName)).setPostConverter(convert -> {
-                    Project source = convert.getSource();
-                    ProjectDTO destination = convert.getDestination();
-                    if (source.getClient() != null) {
-                        destination.setClientName(
-                                source.getClient().getFirstName() + " " + source.getClient().getLastName());
-                    }
-                    if (source.getRoom() != null) {
-                        destination.setRoom(source.getRoom().getType());
-                    }
-                    return destination;
-                });
-
-        this.projectMapper = new ProjectMapper(modelMapper);
-
-        projectService = new ProjectService(projectRepository, clientService, authenticationService,
-                designerService, projectMapper);
+        this.projectMapper = new ProjectMapper();
+
+        projectService = new ProjectService(projectRepository, clientService, projectMapper,
+                ownershipService, new FilterSpecifications(new SimpleMeterRegistry(), 100));
 
         user = new User();
         user.setId(1L);
@@ -185,13 +168,13 @@ public class ProjectServiceTest {
         // projects are returned
 
         Pageable pageable = PageRequest.of(0, 10);
-        List<Project> projects = new ArrayList<>();
-        projects.add(project1);
-        projects.add(project2);
+        List<ProjectDTO> projects = new ArrayList<>();
+        projects.add(projectMapper.toDto(project1));
+        projects.add(projectMapper.toDto(project2));
 
-        Page<Project> mockPage = new PageImpl<>(projects);
+        Page<ProjectDTO> mockPage = new PageImpl<>(projects);
 
-        when(projectRepository.findAll(pageable)).thenReturn(mockPage);
+        when(projectRepository.findProjectList(null, pageable)).thenReturn(mockPage);
 
         // Act: Query the service layer the if all projects are returnes
         Page<ProjectDTO> result = projectService.getAllProjects(null, pageable);
@@ -201,8 +184,7 @@ public class ProjectServiceTest {
         assertEquals(result.getTotalElements(), 2);
         assertThat(result).extracting(ProjectDTO::getBudget).containsExactly(BigDecimal.valueOf(20000.00),
                 BigDecimal.valueOf(5000.00));
-        verify(projectRepository).findAll(any(
-                Pageable.class));
+        verify(projectRepository).findProjectList(isNull(), any(Pageable.class));
         verifyNoMoreInteractions(projectRepository);
 
     }
@@ -218,16 +200,15 @@ public class ProjectServiceTest {
         // all
         // projects are returned
 
-        String filter = "filter=room===Loft";
+        String filter = "status==ACTIVE";
 
         Pageable pageable = PageRequest.of(2, 2);
-        List<Project> projects = new ArrayList<>();
-        projects.add(project1);
+        List<ProjectDTO> projects = new ArrayList<>();
+        projects.add(projectMapper.toDto(project1));
 
-        Page<Project> mockPage = new PageImpl<>(projects);
+        Page<ProjectDTO> mockPage = new PageImpl<>(projects);
 
-        when(projectRepository.findAll(ArgumentMatchers.<Specification<Project>>any(), any(
-                Pageable.class)))
+        when(projectRepository.findProjectList(ArgumentMatchers.<Specification<Project>>notNull(), any(Pageable.class)))
                 .thenReturn(mockPage);
 
         // Act: Query the service layer the if all projects are returned
@@ -238,8 +219,7 @@ public class ProjectServiceTest {
         assertEquals(result.getContent().size(), 1);
         assertThat(result).extracting(ProjectDTO::getId).containsExactly(1L);
         assertThat(result).extracting(ProjectDTO::getProjectName).containsExactly("Industrial Loft Redesign");
-        verify(projectRepository).findAll(ArgumentMatchers.<Specification<Project>>any(), any(
-                Pageable.class));
+        verify(projectRepository).findProjectList(ArgumentMatchers.<Specification<Project>>notNull(), any(Pageable.class));
         verifyNoMoreInteractions(projectRepository);
 
     }
@@ -253,11 +233,10 @@ public class ProjectServiceTest {
         // Arrange: Empty list is created and Mock Repository to test if it returns a
         // empty list
 
-        String filter = "filter=notes==null";
+        String filter = "status==COMPLETED;overBudget==true";
         Pageable pageable = PageRequest.of(2, 2);
-        Page<Project> projects = Page.empty();
-        when(projectRepository.findAll(ArgumentMatchers.<Specification<Project>>any(), any(
-                Pageable.class))).thenReturn(projects);
+        Page<ProjectDTO> projects = Page.empty();
+        when(projectRepository.findProjectList(ArgumentMatchers.<Specification<Project>>notNull(), any(Pageable.class))).thenReturn(projects);
 
         Page<ProjectDTO> result = projectService.getAllProjects(filter, pageable);
 
@@ -288,23 +267,19 @@ public class ProjectServiceTest {
                 LocalDate.of(2026, 5, 5),
                 "Custom wardrobes, soft lighting, and premium fabrics for a hotel-like feel.");
 
-        Pageable pageable = PageRequest.of(0, 10);
-
-        Page<ProjectSummaryDTO> mockPage = new PageImpl<>(List.of(projectSummaryDTO1, projectSummaryDTO2));
-
-        when(authenticationService.findUser("sam")).thenReturn(user);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
 
-        when(designerService.findDesigner(user.getId())).thenReturn(designer);
+        Slice<ProjectSummaryDTO> mockPage = new SliceImpl<>(List.of(projectSummaryDTO1, projectSummaryDTO2));
 
-        when(projectRepository.findProjectsByDesignerId(user.getId(), pageable))
+        when(projectRepository.findProjectsByDesignerId(designer.getId(), pageable))
                 .thenReturn(mockPage);
 
         // Act: Query the service layer the if all the designer's clients are returned
-        Page<ProjectSummaryDTO> result = projectService.getProjectsByDesigner(user.getUsername(), pageable);
+        Slice<ProjectSummaryDTO> result = projectService.getProjectsByDesigner(designer.getId(), pageable);
 
         // Assert: Verifies that the result is not null and clients are retrieved
         assertNotNull(result);
-        assertEquals(result.getTotalElements(), 2);
+        assertEquals(result.getNumberOfElements(), 2);
         assertThat(result).extracting(ProjectSummaryDTO::getId).containsExactly(1L, 2L);
         assertThat(result).extracting(ProjectSummaryDTO::getClientName).containsExactly(
                 "Jessica Cook", "Alex Price");
@@ -324,23 +299,19 @@ public class ProjectServiceTest {
         // Arrange: Empty page is created and Mock Repository to test if it returns a
         // empty page
 
-        Pageable pageable = PageRequest.of(0, 10);
-
-        Page<ProjectSummaryDTO> mockPage = Page.empty();
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
 
-        when(authenticationService.findUser("sam")).thenReturn(user);
+        Slice<ProjectSummaryDTO> mockPage = new SliceImpl<>(List.of());
 
-        when(designerService.findDesigner(user.getId())).thenReturn(designer);
-
-        when(projectRepository.findProjectsByDesignerId(user.getId(), pageable))
+        when(projectRepository.findProjectsByDesignerId(designer.getId(), pageable))
                 .thenReturn(mockPage);
 
         // Act: Query the service layer if a empty page is returned
-        Page<ProjectSummaryDTO> result = projectService.getProjectsByDesigner(user.getUsername(), pageable);
+        Slice<ProjectSummaryDTO> result = projectService.getProjectsByDesigner(designer.getId(), pageable);
 
         // Assert: Verifies that the page is empty
         assertNotNull(result);
-        assertEquals(result.getTotalElements(), 0);
+        assertEquals(result.getNumberOfElements(), 0);
         verify(projectRepository).findProjectsByDesignerId(any(), any(
                 Pageable.class));
         verifyNoMoreInteractions(projectRepository);
@@ -422,7 +393,7 @@ public class ProjectServiceTest {
         when(projectRepository.save(any(Project.class))).thenReturn(savedProject);
 
         // Act: Query the service layer the if Project is there
-        ProjectDTO result = projectService.createProject(projectDTO, client1.getId(), user.getUsername());
+        ProjectDTO result = projectService.createProject(projectDTO, client1.getId(), designer.getId());
 
         // Assert: Verifies that the result is not null and Project has been created
         assertNotNull(result);
@@ -444,14 +415,12 @@ public class ProjectServiceTest {
         ProjectUpdateDTO updatedProject = new ProjectUpdateDTO();
         updatedProject.setStatus(ProjectStatus.ACTIVE);
 
-        when(clientService.findClient(1L)).thenReturn(client1);
-
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project2));
-        when(projectRepository.save(project2)).thenReturn(project2);
+        when(projectRepository.saveAndFlush(project2)).thenReturn(project2);
 
         // Act: Query the service layer to return the Project with the id and update the
         // Project's details
-        ProjectDTO result = projectService.updateProject(projectId, updatedProject, user.getUsername());
+        ProjectDTO result = projectService.updateProject(projectId, updatedProject, designer.getId(), null);
 
         // Assert: Verifies that the Project was updated
         assertNotNull(result);
@@ -478,7 +447,7 @@ public class ProjectServiceTest {
 
         // Act: Queries if the exception is thrown if Project is not found when updating
         ProjectNotFoundException exception = assertThrows(ProjectNotFoundException.class, () -> {
-            projectService.updateProject(projectId, updateProject, user.getUsername());
+            projectService.updateProject(projectId, updateProject, designer.getId(), null);
         });
 
         // Assert: Verifies exception matches the thrown exception
@@ -495,13 +464,12 @@ public class ProjectServiceTest {
     public void testDeleteProject_ReturnsDeleted() {
         // Arrange: Sets the ProjectId and mocks the repository
 
-        when(clientService.findClient(1L)).thenReturn(client1);
         Long projectId = 2L;
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project2));
 
         // Act: Query the service layer to return the Project with the id and delete the
         // Project
-        projectService.deleteProject(projectId, user.getUsername());
+        projectService.deleteProject(projectId, designer.getId());
 
         // Assert: Verifies that the Project was deleted and is not found
         verify(projectRepository).delete(project2);
@@ -523,7 +491,7 @@ public class ProjectServiceTest {
 
         // Act: Queries if the exception is thrown if Project is not found when deleting
         ProjectNotFoundException exception = assertThrows(ProjectNotFoundException.class, () -> {
-            projectService.deleteProject(projectId, user.getUsername());
+            projectService.deleteProject(projectId, designer.getId());
         });
 
         // Assert: Verifies exception matches the thrown exception
@@ -0,0 +1,231 @@
+package com.interiordesignplanner.room;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interiordesignplanner.security.OwnershipService;
+
+import jakarta.validation.Validation;
+
+/**
+ * Unit tests for {@link ItemImportService}.
+ *
+ * <p>
+ * Verifies rows are validated one at a time, valid rows are inserted in
+ * batches and invalid rows are reported with their line.
+ * <p>
+ * The tests use a mocked JdbcTemplate.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName(value = "Item Import Service Test Suite")
+public class ItemImportServiceTest {
+
+    private static final String HEADER = "itemName,description,price,quantity,dimensions,link\n";
+
+    // Mock JDBC batch inserts
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private OwnershipService ownershipService;
+
+    @Mock
+    private SpendRollup spendRollup;
+
+    private ItemImportService itemImportService;
+
+    @BeforeEach
+    public void setUp() {
+        itemImportService = new ItemImportService(jdbcTemplate, itemRepository, ownershipService,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), spendRollup);
+    }
+
+    /**
+     * Tests valid rows are inserted in chunks after the last item
+     */
+    @Test
+    @DisplayName("ImportCsv: Inserts rows in chunks")
+    public void testImportCsv_InsertsInChunks() {
+
+        // Arrange: Room with items up to position 2 and 1,200 valid rows
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 1200; i++) {
+            csv.append("Table lamp,\"Iron lamp, natural stone\",40.00,1,H15cm D12cm,https://example.com/lamp\n");
+        }
+        when(itemRepository.findNextPosition(1L)).thenReturn(3);
+
+        // Act: Import the CSV
+        ItemImportReportDTO report = itemImportService.importCsv(1L, body(csv.toString()), 1L);
+
+        // Assert: Verifies three batches were written, positions continue from
+        // the room's last item and the quoted comma was kept
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), chunks.capture());
+        assertThat(report.getImported()).isEqualTo(1200);
+        assertThat(report.getRejected()).isZero();
+        Object[] first = chunks.getAllValues().get(0).get(0);
+        assertThat(first[1]).isEqualTo(3);
+        assertThat(first[4]).isEqualTo("Iron lamp, natural stone");
+        verify(ownershipService).checkRoom(1L, 1L);
+
+    }
+
+    /**
+     * Tests invalid rows are reported with their line and skipped
+     */
+    @Test
+    @DisplayName("ImportCsv: Reports invalid rows")
+    public void testImportCsv_ReportsInvalidRows() {
+
+        // Arrange: A valid row, a negative price and a quantity that is not a
+        // number
+        String csv = HEADER
+                + "Table lamp,Iron and natural stone,40.00,1,H15cm D12cm,https://example.com/lamp\n"
+                + "Floor lamp,Brass floor lamp,-5,1,H150cm D30cm,https://example.com/floor\n"
+                + "Wall light,Marble wall sconce,79.95,two,40x6cm,https://example.com/sconce\n";
+        when(itemRepository.findNextPosition(1L)).thenReturn(0);
+
+        // Act: Import the CSV
+        ItemImportReportDTO report = itemImportService.importCsv(1L, body(csv), 1L);
+
+        // Assert: Verifies the valid row was imported and both errors name the
+        // line and field
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getRejected()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(ItemImportErrorDTO::getLine, ItemImportErrorDTO::getField)
+                .containsExactly(tuple(3L, "price"), tuple(4L, "quantity"));
+        verify(spendRollup).add(1L, new Spend(new BigDecimal("40.00"), BigDecimal.ZERO, 1));
+
+    }
+
+    /**
+     * Tests fields and rows over the length limits are reported and skipped
+     */
+    @Test
+    @DisplayName("ImportCsv: Oversized rows are reported")
+    public void testImportCsv_ReportsOversizedRows() {
+
+        // Arrange: A quoted description over the field limit, a row of empty
+        // cells over the row limit and a valid row after them
+        String csv = HEADER
+                + "Table lamp,\"" + "x".repeat(ItemImportService.MAX_FIELD_LENGTH + 1)
+                + "\",40.00,1,H15cm D12cm,https://example.com/lamp\n"
+                + ",".repeat(ItemImportService.MAX_ROW_LENGTH) + "\n"
+                + "Wall light,Marble wall sconce,79.95,1,40x6cm,https://example.com/sconce\n";
+        when(itemRepository.findNextPosition(1L)).thenReturn(0);
+
+        // Act: Import the CSV
+        ItemImportReportDTO report = itemImportService.importCsv(1L, body(csv), 1L);
+
+        // Assert: Verifies both oversized rows were rejected with their line
+        // and the row after them was imported
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getRejected()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(ItemImportErrorDTO::getLine, ItemImportErrorDTO::getMessage)
+                .containsExactly(
+                        tuple(2L, "Field is longer than " + ItemImportService.MAX_FIELD_LENGTH + " characters"),
+                        tuple(3L, "Row is longer than " + ItemImportService.MAX_ROW_LENGTH + " characters"));
+
+    }
+
+    /**
+     * Tests a header without a required column imports nothing
+     */
+    @Test
+    @DisplayName("ImportCsv: Missing column is reported")
+    public void testImportCsv_MissingColumn() {
+
+        // Arrange: Header without the link column
+        String csv = "item_name,description,price,quantity,dimensions\n"
+                + "Table lamp,Iron and natural stone,40.00,1,H15cm D12cm\n";
+        when(itemRepository.findNextPosition(1L)).thenReturn(0);
+
+        // Act: Import the CSV
+        ItemImportReportDTO report = itemImportService.importCsv(1L, body(csv), 1L);
+
+        // Assert: Verifies the header is reported and nothing is written
+        assertThat(report.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).isEqualTo("Missing columns: link"));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+
+    }
+
+    /**
+     * Tests JSON Lines rows are validated and malformed lines reported
+     */
+    @Test
+    @DisplayName("ImportJsonLines: Imports valid lines")
+    public void testImportJsonLines_ReportsMalformedLine() {
+
+        // Arrange: A valid line, a blank line and a line that is not JSON
+        String jsonLines = "{\"itemName\":\"Table lamp\",\"description\":\"Iron and natural stone\",\"price\":40.00,"
+                + "\"quantity\":1,\"dimensions\":\"H15cm D12cm\",\"link\":\"https://example.com/lamp\"}\n"
+                + "\n"
+                + "{\"itemName\": \n";
+        when(itemRepository.findNextPosition(1L)).thenReturn(0);
+
+        // Act: Import the JSON Lines
+        ItemImportReportDTO report = itemImportService.importJsonLines(1L, body(jsonLines), 1L);
+
+        // Assert: Verifies one item was written and the third line was reported
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getRejected()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(ItemImportErrorDTO::getLine).containsExactly(3L);
+
+    }
+
+    /**
+     * Tests a JSON Lines row over the length limit is reported and skipped
+     */
+    @Test
+    @DisplayName("ImportJsonLines: Oversized line is reported")
+    public void testImportJsonLines_ReportsOversizedLine() {
+
+        // Arrange: A line over the row limit followed by a valid line
+        String jsonLines = "{\"itemName\":\"" + "x".repeat(ItemImportService.MAX_ROW_LENGTH) + "\"}\n"
+                + "{\"itemName\":\"Table lamp\",\"description\":\"Iron and natural stone\",\"price\":40.00,"
+                + "\"quantity\":1,\"dimensions\":\"H15cm D12cm\",\"link\":\"https://example.com/lamp\"}\n";
+        when(itemRepository.findNextPosition(1L)).thenReturn(0);
+
+        // Act: Import the JSON Lines
+        ItemImportReportDTO report = itemImportService.importJsonLines(1L, body(jsonLines), 1L);
+
+        // Assert: Verifies the first line was rejected and the second imported
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getRejected()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(ItemImportErrorDTO::getLine).containsExactly(1L);
+
+    }
+
+    private InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
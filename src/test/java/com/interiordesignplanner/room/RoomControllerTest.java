@@ -2,6 +2,7 @@ package com.interiordesignplanner.room;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.TestExecutionEvent;
@@ -56,6 +58,9 @@ public class RoomControllerTest {
         @Autowired
         private RoomRepository roomRepository;
 
+        @Autowired
+        private ItemRepository itemRepository;
+
         @Autowired
         private ClientRepository clientRepository;
 
@@ -237,8 +242,6 @@ public class RoomControllerTest {
                 roomDTO1.setHeight(4.0);
                 roomDTO1.setLength(4.5);
                 roomDTO1.setUnit("m");
-                roomDTO1.setInventory(inventory1);
-                roomDTO1.setChecklist(checkList1);
 
                 RoomDTO roomDTO2 = new RoomDTO();
                 roomDTO2.setProjectName("Modern Living Room");
@@ -247,8 +250,6 @@ public class RoomControllerTest {
                 roomDTO2.setHeight(3.0);
                 roomDTO2.setLength(7.5);
                 roomDTO2.setUnit("m");
-                roomDTO2.setInventory(inventory2);
-                roomDTO2.setChecklist(checkList2);
 
                 checkList1.add(task);
                 checkList1.add(task2);
@@ -297,6 +298,19 @@ public class RoomControllerTest {
 
         }
 
+        @Test
+        @DisplayName("GetRoomById: Unchanged room is not modified")
+        @WithMockUser(roles = "ADMIN")
+        void testGetRoomById_NotModified() throws Exception {
+
+                mockMvc.perform(get("/api/admin/rooms/{id}", room2.getId())
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                                .andExpect(content().string(""));
+
+        }
+
         @Test
         @DisplayName("GetRoomById: Room Not Found")
         @WithMockUser(roles = "ADMIN")
@@ -388,6 +402,56 @@ public class RoomControllerTest {
 
         }
 
+        @Test
+        @DisplayName("UpdateRoom: Matching If-Match returns the new ETag")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testUpdateRoom_IfMatch() throws Exception {
+                // Given
+                roomUpdateDTO = new RoomUpdateDTO();
+                roomUpdateDTO.setType(RoomType.BATHROOM);
+
+                // When/Then
+                mockMvc.perform(put("/api/rooms/{id}", room2.getId())
+                                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(roomUpdateDTO)))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                                .andExpect(jsonPath("$.version").doesNotExist());
+
+        }
+
+        @Test
+        @DisplayName("EditTask: Stale If-Match after the checklist changed")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testEditTask_StaleIfMatch() throws Exception {
+                // Given: Another request adds a task after the room was read at version 0
+                mockMvc.perform(post("/api/rooms/{roomId}/tasks", room1.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(task4)))
+                                .andExpect(status().isCreated());
+
+                task.setTaskName("Kitchen Flooring");
+
+                // When/Then
+                mockMvc.perform(patch("/api/rooms/{roomId}/task/{index}", room1.getId(), 0)
+                                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(task)))
+                                .andExpect(status().isPreconditionFailed())
+                                .andExpect(jsonPath("$.message",
+                                                is("The resource was changed, the current version is 1")));
+
+                mockMvc.perform(patch("/api/rooms/{roomId}/task/{index}", room1.getId(), 0)
+                                .header(HttpHeaders.IF_MATCH, "\"1\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(task)))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                                .andExpect(jsonPath("$.checklist[0].taskName", is("Kitchen Flooring")));
+
+        }
+
         @Test
         @DisplayName("DeleteRoom: Room is deleted")
         @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
@@ -439,6 +503,7 @@ public class RoomControllerTest {
                 // When/Then
                 mockMvc.perform(patch("/api/rooms/{roomId}/task/{index}", room1
                                 .getId(), index)
+                                .header(HttpHeaders.IF_MATCH, "\"0\"")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(
                                                 task)))
@@ -459,11 +524,55 @@ public class RoomControllerTest {
 
                 // When/Then
                 mockMvc.perform(delete("/api/rooms/{id}/task/{index}", room2.getId(), index)
+                                .header(HttpHeaders.IF_MATCH, "\"0\"")
                                 .contentType(MediaType.APPLICATION_JSON))
                                 .andExpect(status().isNoContent());
 
         }
 
+        @Test
+        @DisplayName("EditTask: Index edit without If-Match is refused")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testEditTask_MissingIfMatch() throws Exception {
+                // Given
+                task.setTaskName("Kitchen Flooring");
+
+                // When/Then: The task at the index is not changed
+                mockMvc.perform(patch("/api/rooms/{roomId}/task/{index}", room1.getId(), 0)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(task)))
+                                .andExpect(status().isPreconditionRequired());
+
+                mockMvc.perform(delete("/api/rooms/{id}/inventory/{index}", room2.getId(), 0))
+                                .andExpect(status().isPreconditionRequired());
+
+        }
+
+        @Test
+        @DisplayName("EditTask: Stale index after a delete is refused")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testEditTask_StaleIndexAfterDelete() throws Exception {
+                // Given: Both editors read the room at version 0, the first deletes
+                // task 0 so the second task moves to index 0
+                mockMvc.perform(delete("/api/rooms/{id}/task/{index}", room2.getId(), 0)
+                                .header(HttpHeaders.IF_MATCH, "\"0\""))
+                                .andExpect(status().isNoContent());
+
+                task.setTaskName("Kitchen Flooring");
+
+                // When/Then: The second editor's change to index 0 is rejected
+                // instead of changing the task that moved there
+                mockMvc.perform(patch("/api/rooms/{roomId}/task/{index}", room2.getId(), 0)
+                                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(task)))
+                                .andExpect(status().isPreconditionFailed());
+
+                // Then: Only the delete changed the room
+                assertEquals(1L, roomRepository.findVersionById(room2.getId()).orElseThrow());
+
+        }
+
         @Test
         @DisplayName("AddItem: Created a new Item")
         @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
@@ -510,6 +619,7 @@ public class RoomControllerTest {
                 // When/Then
                 mockMvc.perform(patch("/api/rooms/{roomId}/inventory/{index}", room2
                                 .getId(), index)
+                                .header(HttpHeaders.IF_MATCH, "\"0\"")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(
                                                 item)))
@@ -530,9 +640,210 @@ public class RoomControllerTest {
                 // When/Then
                 mockMvc.perform(delete("/api/rooms/{id}/inventory/{index}", room2
                                 .getId(), index)
+                                .header(HttpHeaders.IF_MATCH, "\"0\"")
                                 .contentType(MediaType.APPLICATION_JSON))
                                 .andExpect(status().isNoContent());
 
         }
 
+        @Test
+        @DisplayName("CreateItem: Item is created with an id")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testCreateItem() throws Exception {
+                // Given
+                ItemDTO newItem = new ItemDTO();
+                newItem.setItemName("Barstools");
+                newItem.setDescription("Velvet seat and a sturdy metal frame");
+                newItem.setPrice(BigDecimal.valueOf(152.00));
+                newItem.setQuantity(2);
+                newItem.setDimensions("W: 47, D: 51, H: 88cm");
+                newItem.setLink("https://dusk.com/products/mollie-set-of-2-barstools-cappuccino");
+
+                // When/Then
+                mockMvc.perform(post("/api/rooms/{roomId}/items", room2.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(newItem)))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.id").exists())
+                                .andExpect(jsonPath("$.itemName", is("Barstools")));
+
+        }
+
+        @Test
+        @DisplayName("UpdateItem: Item is marked ordered by id")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testUpdateItem() throws Exception {
+
+                mockMvc.perform(patch("/api/rooms/{roomId}/items/{itemId}", room1.getId(), item2.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"ordered\": true}"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.id", is(item2.getId().intValue())))
+                                .andExpect(jsonPath("$.ordered", is(true)))
+                                .andExpect(jsonPath("$.quantity", is(5)));
+
+        }
+
+        @Test
+        @DisplayName("UpdateTask: Task of another room is not found")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testUpdateTask_OtherRoom_NotFound() throws Exception {
+
+                mockMvc.perform(patch("/api/rooms/{roomId}/tasks/{taskId}", room1.getId(), task3.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"completed\": true}"))
+                                .andExpect(status().isNotFound())
+                                .andExpect(jsonPath("$.message", is("Task is not found with taskId: " + task3.getId())));
+
+        }
+
+        @Test
+        @DisplayName("RemoveTask: Task is deleted by id")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testRemoveTask() throws Exception {
+
+                mockMvc.perform(delete("/api/rooms/{roomId}/tasks/{taskId}", room2.getId(), task3.getId())
+                                .contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isNoContent());
+
+        }
+
+        @Test
+        @DisplayName("ApplyOperations: Operations are applied in order")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testApplyOperations() throws Exception {
+
+                String batch = "{\"operations\": ["
+                                + "{\"type\": \"COMPLETE_TASK\", \"id\": " + task.getId() + ", \"value\": true},"
+                                + "{\"type\": \"MOVE_TASK\", \"id\": " + task.getId() + ", \"index\": 1},"
+                                + "{\"type\": \"DELETE_ITEM\", \"id\": " + item2.getId() + "}]}";
+
+                mockMvc.perform(patch("/api/rooms/{roomId}/batch", room1.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(batch))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.checklist", hasSize(2)))
+                                .andExpect(jsonPath("$.checklist[1].id", is(task.getId().intValue())))
+                                .andExpect(jsonPath("$.checklist[1].completed", is(true)))
+                                .andExpect(jsonPath("$.inventory", hasSize(0)));
+
+        }
+
+        @Test
+        @DisplayName("ApplyOperations: Batch with a task of another room is not found")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testApplyOperations_OtherRoom_NotFound() throws Exception {
+
+                String batch = "{\"operations\": ["
+                                + "{\"type\": \"COMPLETE_TASK\", \"id\": " + task.getId() + ", \"value\": true},"
+                                + "{\"type\": \"DELETE_TASK\", \"id\": " + task3.getId() + "}]}";
+
+                mockMvc.perform(patch("/api/rooms/{roomId}/batch", room1.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(batch))
+                                .andExpect(status().isNotFound())
+                                .andExpect(jsonPath("$.message", is("Task is not found with taskId: " + task3.getId())));
+
+        }
+
+        @Test
+        @DisplayName("ApplyOperations: Operation without its payload is invalid")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testApplyOperations_MissingPayload() throws Exception {
+
+                mockMvc.perform(patch("/api/rooms/{roomId}/batch", room1.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"operations\": [{\"type\": \"ADD_TASK\"}]}"))
+                                .andExpect(status().isBadRequest());
+
+        }
+
+        @Test
+        @DisplayName("ImportItems: CSV rows are imported and invalid rows reported")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testImportItemsCsv() throws Exception {
+
+                String csv = "Item Name,Description,Price,Quantity,Dimensions,Link,Ordered\n"
+                                + "Barstools,\"Velvet seat, metal frame\",152.00,2,W: 47 D: 51cm,https://dusk.com/barstools,true\n"
+                                + "Mirror,Round wall mirror,45.00,0,60x60cm,https://dusk.com/mirror,false\n";
+
+                mockMvc.perform(post("/api/rooms/{roomId}/items/import", room1.getId())
+                                .contentType("text/csv")
+                                .content(csv))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.imported", is(1)))
+                                .andExpect(jsonPath("$.rejected", is(1)))
+                                .andExpect(jsonPath("$.errors[0].line", is(3)))
+                                .andExpect(jsonPath("$.errors[0].field", is("quantity")));
+
+                // The imported item follows the room's item
+                assertEquals(2, itemRepository.findNextPosition(room1.getId()));
+
+        }
+
+        @Test
+        @DisplayName("ImportItems: JSON Lines for an unknown room is not found")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testImportItemsJsonLines_NotFound() throws Exception {
+
+                mockMvc.perform(post("/api/rooms/{roomId}/items/import", 999999)
+                                .contentType("application/x-ndjson")
+                                .content("{\"itemName\": \"Barstools\"}\n"))
+                                .andExpect(status().isNotFound());
+
+        }
+
+        @Test
+        @DisplayName("Budget: Created item puts the project over budget")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testCreateItem_OverBudget() throws Exception {
+                // Given
+                ItemDTO newItem = new ItemDTO();
+                newItem.setItemName("Corner sofa");
+                newItem.setDescription("Five seat corner sofa in boucle");
+                newItem.setPrice(BigDecimal.valueOf(3500.00));
+                newItem.setQuantity(2);
+                newItem.setDimensions("W: 300, D: 200cm");
+                newItem.setLink("https://dusk.com/products/corner-sofa");
+
+                mockMvc.perform(post("/api/rooms/{roomId}/items", room2.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(newItem)))
+                                .andExpect(status().isCreated());
+
+                // When/Then
+                mockMvc.perform(get("/api/projects/budget").param("overBudget", "true"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content", hasSize(1)))
+                                .andExpect(jsonPath("$.content[0].projectName", is("Modern Living Room")))
+                                .andExpect(jsonPath("$.content[0].plannedCost", is(7000.0)))
+                                .andExpect(jsonPath("$.content[0].itemCount", is(1)))
+                                .andExpect(jsonPath("$.content[0].overBudget", is(true)));
+
+                mockMvc.perform(get("/api/projects/budget/total"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.plannedCost", is(7000.0)))
+                                .andExpect(jsonPath("$.orderedCost", is(0.0)));
+
+        }
+
+        @Test
+        @DisplayName("Budget: Ordered item is added to the ordered cost")
+        @WithUserDetails(value = "sam", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void testUpdateItem_OrderedCost() throws Exception {
+
+                mockMvc.perform(patch("/api/rooms/{roomId}/batch", room1.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"operations\": [{\"type\": \"ORDER_ITEM\", \"id\": " + item2.getId()
+                                                + ", \"value\": true}]}"))
+                                .andExpect(status().isOk());
+
+                mockMvc.perform(get("/api/projects/budget"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].projectName", is("Coastal Escape")))
+                                .andExpect(jsonPath("$.content[0].orderedCost", is(399.75)))
+                                .andExpect(jsonPath("$.content[0].overBudget", is(false)));
+
+        }
+
 }
@@ -8,15 +8,20 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.interiordesignplanner.authentication.Roles;
@@ -39,7 +44,7 @@ import com.interiordesignplanner.project.ProjectStatus;
  * <p>
  * The tests use mocked repository behavior.
  */
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 @DisplayName(value = "Room Repository Test Suite")
 public class RoomRepositoryTest {
@@ -60,6 +65,15 @@ public class RoomRepositoryTest {
     @Autowired
     private DesignerRepository designerRepository;
 
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Project project2, project3;
     private Client client2;
 
@@ -190,8 +204,9 @@ public class RoomRepositoryTest {
         // Arrange: Mock repository to return test for type (BEDROOM).
         Pageable pageable = PageRequest.of(0, 3);
 
-        // Act: Query the repository with type (BEDROOM)
-        Page<Room> result = roomRepository.findRoomsByType(RoomType.BEDROOM, pageable);
+        // Act: Query the repository with the designer and type (BEDROOM)
+        Page<Room> result = roomRepository.findRoomsByDesignerIdAndType(designer1.getId(), RoomType.BEDROOM,
+                pageable);
 
         // Assert: Verify that the result does returns one test and is (BEDROOM)
         assertNotNull(result);
@@ -211,7 +226,8 @@ public class RoomRepositoryTest {
         Pageable pageable = PageRequest.of(0, 3);
 
         // Act: Query the repository with type (BEDROOM)
-        Page<Room> result = roomRepository.findRoomsByType(RoomType.DINING_ROOM, pageable);
+        Page<Room> result = roomRepository.findRoomsByDesignerIdAndType(designer1.getId(), RoomType.DINING_ROOM,
+                pageable);
 
         // Assert: Verify that the result doesnt return test
         assertNotNull(result);
@@ -219,4 +235,91 @@ public class RoomRepositoryTest {
 
     }
 
+    /**
+     * Tests another designer's rooms are not returned
+     */
+    @Test
+    @DisplayName("GetRoomsByType: Other designer's rooms are not found")
+    public void testGetRoomsByType_OtherDesigner_ReturnsEmptyList() {
+
+        // Arrange: Prepare pageable with page size
+        Pageable pageable = PageRequest.of(0, 3);
+
+        // Act: Query the repository with designer2 and type (BEDROOM)
+        Page<Room> result = roomRepository.findRoomsByDesignerIdAndType(designer2.getId(), RoomType.BEDROOM,
+                pageable);
+
+        // Assert: Verify that designer1's bedroom is not returned
+        assertTrue(result.isEmpty());
+        assertThat(room.getDesignerId()).isEqualTo(designer1.getId());
+
+    }
+
+    /**
+     * Tests the room's designer is found with one query
+     */
+    @Test
+    @DisplayName("FindDesignerIdById: Finds the room's designer")
+    public void testFindDesignerIdById_ReturnsDesigner() {
+
+        // Act: Query the repository with the saved and an unknown room
+        Optional<Long> owner = roomRepository.findDesignerIdById(room.getId());
+        Optional<Long> unknown = roomRepository.findDesignerIdById(900L);
+
+        // Assert: Verify that the owner is the room's designer
+        assertThat(owner).contains(designer1.getId());
+        assertTrue(unknown.isEmpty());
+
+    }
+
+    /**
+     * Tests tasks and items are stored as rows of the room
+     */
+    @Test
+    @DisplayName("Checklist: Tasks and items are linked to the room")
+    public void testChecklist_LinkedToRoom() {
+
+        // Act: Query the task and item through their room
+        Optional<Task> savedTask = taskRepository.findByIdAndRoomId(task.getId(), room.getId());
+        Optional<Item> otherRoom = itemRepository.findByIdAndRoomId(item.getId(), 900L);
+
+        // Assert: Verify the rows belong to the room and the next positions follow them
+        assertThat(savedTask).contains(task);
+        assertThat(task.getPosition()).isEqualTo(0);
+        assertTrue(otherRoom.isEmpty());
+        assertThat(taskRepository.findNextPosition(room.getId())).isEqualTo(1);
+        assertThat(itemRepository.findNextPosition(900L)).isEqualTo(0);
+
+    }
+
+    /**
+     * Tests the admin room list counts the checklist without loading rooms
+     */
+    @Test
+    @DisplayName("FindRoomList: Lists rooms with two queries")
+    public void testFindRoomList_CountsChecklist() {
+
+        // Arrange: Write the room and start counting statements
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act: Query a full page of bedrooms, so the total is counted
+        Page<RoomSummaryDTO> result = roomRepository.findRoomList(
+                (room, query, builder) -> builder.equal(room.get("type"), RoomType.BEDROOM),
+                PageRequest.of(0, 1, Sort.by("id")));
+
+        // Assert: Verify the summary and that only the page and count were queried
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).singleElement().satisfies(summary -> {
+            assertThat(summary.getProjectName()).isEqualTo("Luxury Master Bedroom");
+            assertThat(summary.getTaskCount()).isEqualTo(1L);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+    }
+
 }
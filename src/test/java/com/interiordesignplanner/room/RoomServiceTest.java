@@ -1,10 +1,13 @@
 package com.interiordesignplanner.room;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -27,26 +30,33 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.interiordesignplanner.FilterSpecifications;
+import com.interiordesignplanner.IfMatch;
 import com.interiordesignplanner.authentication.Roles;
 import com.interiordesignplanner.authentication.User;
 import com.interiordesignplanner.client.Client;
 import com.interiordesignplanner.designer.Designer;
+import com.interiordesignplanner.exceptions.ItemNotFoundException;
+import com.interiordesignplanner.exceptions.PreconditionFailedException;
 import com.interiordesignplanner.exceptions.RoomNotFoundException;
+import com.interiordesignplanner.exceptions.TaskNotFoundException;
 import com.interiordesignplanner.mapper.RoomMapper;
 import com.interiordesignplanner.project.Project;
 import com.interiordesignplanner.project.ProjectService;
+import com.interiordesignplanner.security.OwnershipService;
 import com.interiordesignplanner.project.ProjectStatus;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Unit tests for {@link RoomService}.
  *
@@ -80,6 +90,21 @@ public class RoomServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    // Mock ownership checks
+    @Mock
+    private OwnershipService ownershipService;
+
+    // Mock checklist and inventory repositories
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    // Mock inventory totals
+    @Mock
+    private SpendRollup spendRollup;
+
     private Client client1;
 
     private User user, admin;
@@ -102,21 +127,9 @@ public class RoomServiceTest {
     public void setUp() {
 
         // Added Room Mapper to convert dtos and entities
-        ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration()
-                .setMatchingStrategy(MatchingStrategies.STRICT);
-
-        modelMapper.createTypeMap(Room.class, RoomDTO.class).setPostConverter(convert -> {
-            Room source = convert.getSource();
-            RoomDTO destination = convert.getDestination();
-            if (source.getProject() != null) {
-                destination.setProjectName((source.getProject().getProjectName()));
-            }
-            return destination;
-        });
-
-        roomMapper = new RoomMapper(modelMapper);
-        roomService = new RoomService(roomRepository, projectService, roomMapper);
+        roomMapper = new RoomMapper();
+        roomService = new RoomService(roomRepository, taskRepository, itemRepository, projectService, roomMapper,
+                ownershipService, spendRollup, new FilterSpecifications(new SimpleMeterRegistry(), 100));
 
         user = new User();
         user.setId(1L);
@@ -265,22 +278,22 @@ public class RoomServiceTest {
         // rooms are returned
 
         Pageable pageable = PageRequest.of(0, 10);
-        List<Room> rooms = new ArrayList<>();
-        rooms.add(room1);
-        rooms.add(room2);
+        List<RoomSummaryDTO> rooms = new ArrayList<>();
+        rooms.add(summary(room1));
+        rooms.add(summary(room2));
 
-        Page<Room> mockPage = new PageImpl<>(rooms);
+        Page<RoomSummaryDTO> mockPage = new PageImpl<>(rooms);
 
-        when(roomRepository.findAll(pageable)).thenReturn(mockPage);
+        when(roomRepository.findRoomList(null, pageable)).thenReturn(mockPage);
 
         // Act: Query the service layer the if all projects are returnes
-        Page<RoomDTO> result = roomService.getAllRooms(null, pageable);
+        Page<RoomSummaryDTO> result = roomService.getAllRooms(null, pageable);
 
         // Assert: Verifies that the result is not null and projects are retrieved
         assertNotNull(result);
         assertEquals(result.getNumberOfElements(), 2);
-        assertThat(result).extracting(RoomDTO::getType).containsExactly(RoomType.BEDROOM, RoomType.HALLWAY);
-        verify(roomRepository).findAll(any(Pageable.class));
+        assertThat(result).extracting(RoomSummaryDTO::getType).containsExactly(RoomType.BEDROOM, RoomType.HALLWAY);
+        verify(roomRepository).findRoomList(isNull(), any(Pageable.class));
         verifyNoMoreInteractions(roomRepository);
 
     }
@@ -294,28 +307,26 @@ public class RoomServiceTest {
         // Arrange: A page created with rooms, pageable and mock Repository to test
         // if all projects are returned
 
-        String filter = "filter=height===4.5";
+        String filter = "type==BEDROOM";
 
         Pageable pageable = PageRequest.of(2, 2);
-        List<Room> rooms = new ArrayList<>();
-        rooms.add(room1);
+        List<RoomSummaryDTO> rooms = new ArrayList<>();
+        rooms.add(summary(room1));
 
-        Page<Room> mockPage = new PageImpl<>(rooms);
+        Page<RoomSummaryDTO> mockPage = new PageImpl<>(rooms);
 
-        when(roomRepository.findAll(ArgumentMatchers.<Specification<Room>>any(), any(
-                Pageable.class)))
+        when(roomRepository.findRoomList(ArgumentMatchers.<Specification<Room>>notNull(), any(Pageable.class)))
                 .thenReturn(mockPage);
 
         // Act: Query the service layer the if all rooms are returned
-        Page<RoomDTO> result = roomService.getAllRooms(filter, pageable);
+        Page<RoomSummaryDTO> result = roomService.getAllRooms(filter, pageable);
 
         // Assert: Verifies that the result is not null and rooms are retrieved
         assertNotNull(result);
         assertEquals(result.getContent().size(), 1);
-        assertThat(result).extracting(RoomDTO::getId).containsExactly(1L);
-        assertThat(result).extracting(RoomDTO::getProjectName).containsExactly("Industrial Loft Redesign");
-        verify(roomRepository).findAll(ArgumentMatchers.<Specification<Room>>any(), any(
-                Pageable.class));
+        assertThat(result).extracting(RoomSummaryDTO::getId).containsExactly(1L);
+        assertThat(result).extracting(RoomSummaryDTO::getProjectName).containsExactly("Industrial Loft Redesign");
+        verify(roomRepository).findRoomList(ArgumentMatchers.<Specification<Room>>notNull(), any(Pageable.class));
         verifyNoMoreInteractions(roomRepository);
 
     }
@@ -328,19 +339,56 @@ public class RoomServiceTest {
     public void testGetAllRooms_ReturnsEmptyList() {
         // Arrange: Empty list is created and Mock Repository to test if it returns a
         // empty list
-        String filter = "filter=width==null";
+        String filter = "type==KITCHEN";
         Pageable pageable = PageRequest.of(2, 2);
-        Page<Room> rooms = Page.empty();
-        when(roomRepository.findAll(ArgumentMatchers.<Specification<Room>>any(), any(
-                Pageable.class))).thenReturn(rooms);
+        Page<RoomSummaryDTO> rooms = Page.empty();
+        when(roomRepository.findRoomList(ArgumentMatchers.<Specification<Room>>notNull(), any(Pageable.class))).thenReturn(rooms);
 
         // Act: Query the service layer the if a empty list is returned
-        Page<RoomDTO> result = roomService.getAllRooms(filter, pageable);
+        Page<RoomSummaryDTO> result = roomService.getAllRooms(filter, pageable);
 
         // Assert: Verifies that the result empty
         assertThat(result).isEqualTo(rooms);
     }
 
+    /**
+     * Tests the checklists and inventories of a page of rooms are read together
+     */
+    @Test
+    @DisplayName("GetRoomsByType: Reads the page's checklists and inventories with one query each")
+    public void testGetRoomsByType_ReadsListsForPage() {
+        // Arrange: Two rooms on a page, with their tasks and items returned by
+        // the batched queries
+        room2.setId(2L);
+        task.setRoom(room1);
+        task2.setRoom(room1);
+        task3.setRoom(room2);
+        item.setRoom(room2);
+
+        Pageable pageable = PageRequest.of(0, 10);
+        when(roomRepository.findRoomsByDesignerIdAndType(designer.getId(), RoomType.BEDROOM, pageable))
+                .thenReturn(new PageImpl<>(List.of(room1, room2)));
+        when(taskRepository.findByRoomIds(List.of(1L, 2L))).thenReturn(List.of(task, task2, task3));
+        when(itemRepository.findByRoomIds(List.of(1L, 2L))).thenReturn(List.of(item));
+
+        // Act: Query the service layer for the page of rooms
+        Page<RoomDTO> result = roomService.getRoomsByType(RoomType.BEDROOM, pageable, designer.getId());
+
+        // Assert: Verifies each room has its own tasks and items, read with one
+        // query each
+        assertThat(result.getContent().get(0).getChecklist()).extracting(TaskDTO::getTaskName)
+                .containsExactly("Flooring", "Order Tiles");
+        assertThat(result.getContent().get(0).getInventory()).isEmpty();
+        assertThat(result.getContent().get(1).getChecklist()).extracting(TaskDTO::getTaskName)
+                .containsExactly("Contractors");
+        assertThat(result.getContent().get(1).getInventory()).extracting(ItemDTO::getItemName)
+                .containsExactly("Coffee Table");
+        assertThat(result.getContent().get(1).getProjectName()).isEqualTo("Industrial Hallway Redesign");
+        verify(taskRepository, times(1)).findByRoomIds(List.of(1L, 2L));
+        verify(itemRepository, times(1)).findByRoomIds(List.of(1L, 2L));
+
+    }
+
     /**
      * Tests for when the room is found with the room id
      */
@@ -415,7 +463,7 @@ public class RoomServiceTest {
         when(roomRepository.save(any(Room.class))).thenReturn(savedRoom);
 
         // Act: Query the service layer the if room is there
-        RoomDTO result = roomService.addRoom(roomDTO, project3.getId(), user.getUsername());
+        RoomDTO result = roomService.addRoom(roomDTO, project3.getId(), designer.getId());
 
         // Assert: Verifies that the result is not null and room has been created
         assertNotNull(result);
@@ -437,13 +485,12 @@ public class RoomServiceTest {
         RoomUpdateDTO updatedRoom = new RoomUpdateDTO();
         updatedRoom.setType(RoomType.LIVING_ROOM);
 
-        when(projectService.findProject(2L)).thenReturn(project2);
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(room2));
-        when(roomRepository.save(any(Room.class))).thenReturn(room2);
+        when(roomRepository.saveAndFlush(any(Room.class))).thenReturn(room2);
 
         // Act: Query the service layer to return the Room with the id and update the
         // Room's details
-        RoomDTO result = roomService.updateRoom(roomId, updatedRoom, user.getUsername());
+        RoomDTO result = roomService.updateRoom(roomId, updatedRoom, designer.getId(), null);
 
         // Assert: Verifies that the Room was updated
         assertNotNull(result);
@@ -470,7 +517,7 @@ public class RoomServiceTest {
 
         // Act: Queries if the exception is thrown if Room is not found when updating
         RoomNotFoundException exception = assertThrows(RoomNotFoundException.class, () -> {
-            roomService.updateRoom(roomId, updateRoom, user.getUsername());
+            roomService.updateRoom(roomId, updateRoom, designer.getId(), null);
         });
 
         // Assert: Verifies exception matches the thrown exception
@@ -480,6 +527,32 @@ public class RoomServiceTest {
 
     }
 
+    /**
+     * Tests for updating a Room with an If-Match header for an older version
+     */
+    @Test
+    @DisplayName("UpdateRoom: Stale If-Match is rejected")
+    public void testUpdateRoom_StaleIfMatch_PreconditionFailed() {
+
+        // Arrange: Room at version 3, the client last read version 2
+        Long roomId = 2L;
+        room2.setVersion(3L);
+        when(roomRepository.findById(roomId)).thenReturn(Optional.of(room2));
+
+        RoomUpdateDTO updateRoom = new RoomUpdateDTO();
+        updateRoom.setHeight(4.0);
+
+        // Act & Assert: Verifies the update is rejected and nothing is saved,
+        // while the current version or a wildcard is accepted
+        assertThrows(PreconditionFailedException.class,
+                () -> roomService.updateRoom(roomId, updateRoom, designer.getId(), "\"2\""));
+        verify(roomRepository, never()).saveAndFlush(any(Room.class));
+        assertDoesNotThrow(() -> IfMatch.check("\"2\", \"3\"", 3L));
+        assertDoesNotThrow(() -> IfMatch.check("*", 3L));
+        assertThrows(PreconditionFailedException.class, () -> IfMatch.check("W/\"3\"", 3L));
+
+    }
+
     /**
      * Tests for deleting a Room
      */
@@ -488,12 +561,11 @@ public class RoomServiceTest {
     public void testDeleteRoom_ReturnsDeleted() {
         // Arrange: Sets the roomId and mocks the repository
         Long roomId = 2L;
-        when(projectService.findProject(2L)).thenReturn(project2);
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(room2));
 
         // Act: Query the service layer to return the Room with the id and delete the
         // Room
-        roomService.deleteRoom(roomId, user.getUsername());
+        roomService.deleteRoom(roomId, designer.getId());
 
         // Assert: Verifies that the Room was deleted and is not found
         verify(roomRepository).delete(room2);
@@ -514,7 +586,7 @@ public class RoomServiceTest {
 
         // Act: Queries if the exception is thrown if room is not found when deleting
         RoomNotFoundException exception = assertThrows(RoomNotFoundException.class, () -> {
-            roomService.deleteRoom(roomId, user.getUsername());
+            roomService.deleteRoom(roomId, designer.getId());
         });
 
         // Assert: Verifies exception matches the thrown exception
@@ -523,6 +595,27 @@ public class RoomServiceTest {
 
     }
 
+    /**
+     * Tests for deleting another designer's Room
+     */
+    @Test
+    @DisplayName("DeleteRoom: Room belongs to another designer")
+    public void testDeleteRoom_ReturnsForbidden() {
+        // Arrange: Mocks the ownership check failing for the room
+        Long roomId = 2L;
+        Long otherDesignerId = 2L;
+        doThrow(new AccessDeniedException("User does not have authorization")).when(ownershipService)
+                .checkRoom(roomId, otherDesignerId);
+
+        // Act & Assert: Verifies the room is neither loaded nor deleted
+        assertThrows(AccessDeniedException.class, () -> {
+            roomService.deleteRoom(roomId, otherDesignerId);
+        });
+        verify(roomRepository, never()).findById(roomId);
+        verify(roomRepository, never()).delete(any(Room.class));
+
+    }
+
     /**
      * Tests adding a new Task successfully
      */
@@ -534,23 +627,23 @@ public class RoomServiceTest {
 
         Long roomId = room1.getId();
 
-        Task newTask = new Task();
+        TaskDTO newTask = new TaskDTO();
         newTask.setTaskName("Bed");
         newTask.setTask("Find a double sized bed with a wooden frame");
         newTask.setDate(LocalDate.of(2026, 4, 5));
 
-        when(projectService.findProject(1L)).thenReturn(project1);
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(room1));
-        when(roomRepository.save(room1)).thenReturn(room1);
 
-        // Act: Query the service layer the if room exists, adds a new task, saves room
-        RoomDTO result = roomService.addTask(roomId, newTask, user.getUsername());
+        // Act: Query the service layer the if room exists, adds a new task, saves task
+        RoomDTO result = roomService.addTask(roomId, newTask, designer.getId());
 
-        // Assert: Verifies that the result is not null and task has been created
+        // Assert: Verifies that the task has been created and only the task is saved
         assertNotNull(result);
         assertEquals(room1.getChecklist().size(), 3);
         assertThat(result.getChecklist().get(2).getDate()).isEqualTo(LocalDate.of(2026, 4, 5));
-        verify(roomRepository, times(1)).save(any(Room.class));
+        assertThat(room1.getChecklist().get(2).getRoom()).isSameAs(room1);
+        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(roomRepository, never()).save(any(Room.class));
 
     }
 
@@ -567,20 +660,22 @@ public class RoomServiceTest {
 
         int index = 1;
 
-        task4.setDate(LocalDate.of(2026, 3, 10));
+        TaskDTO editedTask = roomMapper.toDto(task4);
+        editedTask.setDate(LocalDate.of(2026, 3, 12));
 
-        when(projectService.findProject(2L)).thenReturn(project2);
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(room2));
-        when(roomRepository.save(room2)).thenReturn(room2);
+        when(roomRepository.findVersionById(roomId)).thenReturn(Optional.of(0L));
+        when(roomRepository.incrementVersion(roomId, 0L)).thenReturn(1);
 
-        // Act: Query the service layer the if room exists, adds a new task, saves room
-        RoomDTO result = roomService.editTask(roomId, task4, index, user.getUsername());
+        // Act: Query the service layer the if room exists, edits the task, saves task
+        RoomDTO result = roomService.editTask(roomId, editedTask, index, designer.getId(), "\"0\"");
 
-        // Assert: Verifies that the result is not null and task has been updated
+        // Assert: Verifies that the task has been updated and only the task is saved
         assertNotNull(result);
         assertEquals(room2.getInventory().size(), 1);
-        assertThat(result.getChecklist().get(1).getDate()).isEqualTo(LocalDate.of(2026, 3, 10));
-        verify(roomRepository, times(1)).save(any(Room.class));
+        assertThat(result.getChecklist().get(1).getDate()).isEqualTo(LocalDate.of(2026, 3, 12));
+        verify(taskRepository, times(1)).save(task4);
+        verify(roomRepository, never()).save(any(Room.class));
 
     }
 
@@ -595,17 +690,18 @@ public class RoomServiceTest {
         Long roomId = 1L;
         int index = 1;
 
-        when(projectService.findProject(1L)).thenReturn(project1);
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(room1));
-        when(roomRepository.save(room1)).thenReturn(room1);
+        when(roomRepository.findVersionById(roomId)).thenReturn(Optional.of(0L));
+        when(roomRepository.incrementVersion(roomId, 0L)).thenReturn(1);
 
         // Act: Query the service layer to return the Room with the id and delete the
-        // task and save the room
-        roomService.deleteTask(roomId, index, user.getUsername());
+        // task
+        roomService.deleteTask(roomId, index, designer.getId(), "\"0\"");
 
         // Assert: Verifies that the task was deleted, the size of the list is now 1
         assertEquals(room1.getChecklist().size(), 1);
-        verify(roomRepository, times(1)).save(any(Room.class));
+        verify(taskRepository, times(1)).delete(task2);
+        verify(roomRepository, never()).save(any(Room.class));
 
     }
 
@@ -620,7 +716,7 @@ public class RoomServiceTest {
 
         Long roomId = room1.getId();
 
-        Item newItem = new Item();
+        ItemDTO newItem = new ItemDTO();
         newItem.setImageUrl("/img/product3.png");
         newItem.setItemName("Barstools");
         newItem.setDescription(
@@ -631,18 +727,18 @@ public class RoomServiceTest {
         newItem.setLink(
                 "https://dusk.com/products/mollie-set-of-2-barstools-cappuccino?variant=55388585918842&gad_source=1&gad_campaignid=21757503987&gbraid=0AAAAADNOeOVm_QYZzEg2oFlbs2I2wuZmD&gclid=CjwKCAjwjtTNBhB0EiwAuswYhjSsFcuAfKf4TY-c07OEm4GAnFZXefbe5Uv5vgGlEPwFGe4lq3lmUxoCJbIQAvD_BwE");
 
-        when(projectService.findProject(1L)).thenReturn(project1);
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(room1));
-        when(roomRepository.save(room1)).thenReturn(room1);
 
-        // Act: Query the service layer the if room exists, adds a new item, saves room
-        RoomDTO result = roomService.addItem(roomId, newItem, user.getUsername());
+        // Act: Query the service layer the if room exists, adds a new item, saves item
+        RoomDTO result = roomService.addItem(roomId, newItem, designer.getId());
 
-        // Assert: Verifies that the result is not null and item has been added
+        // Assert: Verifies that the item has been added after the last item
         assertNotNull(result);
         assertEquals(room1.getInventory().size(), 2);
         assertThat(result.getInventory().get(1).getPrice()).isEqualTo(BigDecimal.valueOf(152.00));
-        verify(roomRepository, times(1)).save(any(Room.class));
+        assertThat(room1.getInventory().get(1).getPosition()).isEqualTo(1);
+        verify(itemRepository, times(1)).save(any(Item.class));
+        verify(roomRepository, never()).save(any(Room.class));
 
     }
 
@@ -659,21 +755,23 @@ public class RoomServiceTest {
 
         int index = 0;
 
-        item.setPrice(BigDecimal.valueOf(239.80));
-        item.setQuantity(2);
+        ItemDTO editedItem = roomMapper.toDto(item);
+        editedItem.setPrice(BigDecimal.valueOf(239.80));
+        editedItem.setQuantity(2);
 
-        when(projectService.findProject(1L)).thenReturn(project1);
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(room1));
-        when(roomRepository.save(room1)).thenReturn(room1);
+        when(roomRepository.findVersionById(roomId)).thenReturn(Optional.of(0L));
+        when(roomRepository.incrementVersion(roomId, 0L)).thenReturn(1);
 
-        // Act: Query the service layer the if room exists, adds a new item, saves room
-        RoomDTO result = roomService.editItem(roomId, item, index, user.getUsername());
+        // Act: Query the service layer the if room exists, edits the item, saves item
+        RoomDTO result = roomService.editItem(roomId, editedItem, index, designer.getId(), "\"0\"");
 
-        // Assert: Verifies that the result is not null and item has been updated
+        // Assert: Verifies that the item has been updated and only the item is saved
         assertNotNull(result);
         assertEquals(room1.getInventory().size(), 1);
         assertThat(result.getInventory().get(0).getPrice()).isEqualTo(BigDecimal.valueOf(239.80));
-        verify(roomRepository, times(1)).save(any(Room.class));
+        verify(itemRepository, times(1)).save(item2);
+        verify(roomRepository, never()).save(any(Room.class));
 
     }
 
@@ -688,18 +786,198 @@ public class RoomServiceTest {
         Long roomId = 1L;
         int index = 0;
 
-        when(projectService.findProject(1L)).thenReturn(project1);
         when(roomRepository.findById(roomId)).thenReturn(Optional.of(room1));
-        when(roomRepository.save(room1)).thenReturn(room1);
+        when(roomRepository.findVersionById(roomId)).thenReturn(Optional.of(0L));
+        when(roomRepository.incrementVersion(roomId, 0L)).thenReturn(1);
 
         // Act: Query the service layer to return the Room with the id and delete the
-        // item and save the room
-        roomService.deleteItem(roomId, index, user.getUsername());
+        // item
+        roomService.deleteItem(roomId, index, designer.getId(), "\"0\"");
 
-        // Assert: Verifies that the task was deleted, the size of the list is now 0
+        // Assert: Verifies that the item was deleted, the size of the list is now 0
         assertEquals(room1.getInventory().size(), 0);
-        verify(roomRepository, times(1)).save(any(Room.class));
+        verify(itemRepository, times(1)).delete(item2);
+        verify(roomRepository, never()).save(any(Room.class));
+
+    }
+
+    /**
+     * Tests updating one field of an item by its id
+     */
+    @Test
+    @DisplayName("UpdateItem: Marks Item ordered")
+    public void testUpdateItem_ReturnsUpdatedItem() {
+
+        // Arrange: Item in room1 with an id, only ordered is sent
+        Long roomId = room1.getId();
+        item2.setId(7L);
+
+        ItemUpdateDTO itemUpdateDTO = new ItemUpdateDTO();
+        itemUpdateDTO.setOrdered(true);
+
+        when(itemRepository.findByIdAndRoomId(7L, roomId)).thenReturn(Optional.of(item2));
+        when(itemRepository.saveAndFlush(item2)).thenReturn(item2);
+
+        // Act: Query the service layer with the item's id
+        ItemDTO result = roomService.updateItem(roomId, 7L, itemUpdateDTO, designer.getId(), null);
+
+        // Assert: Verifies ordered changed, the other fields were kept and the
+        // room was not loaded
+        assertThat(result.isOrdered()).isTrue();
+        assertThat(result.getId()).isEqualTo(7L);
+        assertThat(result.getQuantity()).isEqualTo(5);
+        verify(roomRepository, never()).findById(any());
+        verify(spendRollup).add(ArgumentMatchers.eq(roomId), ArgumentMatchers.<Spend>argThat(
+                spend -> spend.planned().signum() == 0 && spend.ordered().compareTo(new BigDecimal("399.75")) == 0
+                        && spend.items() == 0));
+
+    }
+
+    /**
+     * Tests an item of another room is not found
+     */
+    @Test
+    @DisplayName("RemoveItem: Item not in the room")
+    public void testRemoveItem_NotFound() {
+
+        // Arrange: No item with the id in room1
+        Long roomId = room1.getId();
+        when(itemRepository.findByIdAndRoomId(9L, roomId)).thenReturn(Optional.empty());
+
+        // Act & Assert: Verifies the item is reported as not found and nothing is
+        // deleted
+        ItemNotFoundException exception = assertThrows(ItemNotFoundException.class,
+                () -> roomService.removeItem(roomId, 9L, designer.getId()));
+        assertThat(exception.getMessage()).isEqualTo("Item is not found with itemId: 9");
+        verify(itemRepository, never()).delete(any(Item.class));
+
+    }
+
+    /**
+     * Tests a task is created after the room's last task
+     */
+    @Test
+    @DisplayName("CreateTask: Creates Task at the end of the checklist")
+    public void testCreateTask_ReturnsTask() {
+
+        // Arrange: Room with tasks up to position 4
+        Long roomId = room1.getId();
+
+        TaskDTO newTask = new TaskDTO();
+        newTask.setTaskName("Paint");
+        newTask.setTask("Choose a paint colour");
+        newTask.setDate(LocalDate.of(2026, 4, 5));
+
+        when(roomRepository.getReferenceById(roomId)).thenReturn(room1);
+        when(taskRepository.findNextPosition(roomId)).thenReturn(5);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act: Query the service layer to create the task
+        TaskDTO result = roomService.createTask(roomId, newTask, designer.getId());
+
+        // Assert: Verifies the task is saved at the next position without loading
+        // the checklist
+        assertThat(result.getTaskName()).isEqualTo("Paint");
+        verify(taskRepository).save(ArgumentMatchers.<Task>argThat(task -> task.getPosition() == 5
+                && task.getRoom() == room1));
+        verify(roomRepository, never()).findById(any());
+
+    }
+
+    /**
+     * Tests a batch of operations is applied in order with one flush
+     */
+    @Test
+    @DisplayName("ApplyOperations: Applies every operation in one flush")
+    public void testApplyOperations_ReturnsUpdatedRoom() {
+
+        // Arrange: Complete the first task, move it last, add a task and mark
+        // the item ordered
+        Long roomId = room1.getId();
+        task.setId(1L);
+        task2.setId(2L);
+        task2.setPosition(1);
+        item2.setId(7L);
+
+        RoomOperationDTO complete = new RoomOperationDTO();
+        complete.setType(RoomOperationType.COMPLETE_TASK);
+        complete.setId(1L);
+        complete.setValue(true);
+
+        RoomOperationDTO move = new RoomOperationDTO();
+        move.setType(RoomOperationType.MOVE_TASK);
+        move.setId(1L);
+        move.setIndex(1);
+
+        TaskDTO newTask = new TaskDTO();
+        newTask.setTaskName("Paint");
+        newTask.setTask("Choose a paint colour");
+        newTask.setDate(LocalDate.of(2026, 4, 5));
+
+        RoomOperationDTO add = new RoomOperationDTO();
+        add.setType(RoomOperationType.ADD_TASK);
+        add.setTask(newTask);
+
+        RoomOperationDTO order = new RoomOperationDTO();
+        order.setType(RoomOperationType.ORDER_ITEM);
+        order.setId(7L);
+        order.setValue(true);
+
+        RoomBatchDTO batch = new RoomBatchDTO();
+        batch.setOperations(List.of(complete, move, add, order));
+
+        when(roomRepository.findById(roomId)).thenReturn(Optional.of(room1));
+
+        // Act: Query the service layer with the batch
+        RoomDTO result = roomService.applyOperations(roomId, batch, designer.getId(), null);
+
+        // Assert: Verifies the operations were applied in order, ownership was
+        // checked once and the changes were flushed once without a save
+        assertThat(result.getChecklist()).extracting(TaskDTO::getTaskName)
+                .containsExactly("Order Tiles", "Flooring", "Paint");
+        assertThat(result.getChecklist().get(1).isCompleted()).isTrue();
+        assertThat(room1.getChecklist()).extracting(Task::getPosition).containsExactly(0, 1, 2);
+        assertThat(result.getInventory().get(0).isOrdered()).isTrue();
+        verify(ownershipService, times(1)).checkRoom(roomId, designer.getId());
+        verify(roomRepository, times(1)).flush();
+        verify(roomRepository, never()).save(any(Room.class));
+
+    }
+
+    /**
+     * Tests a batch with an unknown task is rejected before anything is written
+     */
+    @Test
+    @DisplayName("ApplyOperations: Task not in the room")
+    public void testApplyOperations_NotFound() {
+
+        // Arrange: Delete a task that is not in room1
+        Long roomId = room1.getId();
+
+        RoomOperationDTO delete = new RoomOperationDTO();
+        delete.setType(RoomOperationType.DELETE_TASK);
+        delete.setId(9L);
+
+        RoomBatchDTO batch = new RoomBatchDTO();
+        batch.setOperations(List.of(delete));
+
+        when(roomRepository.findById(roomId)).thenReturn(Optional.of(room1));
+
+        // Act & Assert: Verifies the task is reported as not found and nothing is
+        // flushed
+        TaskNotFoundException exception = assertThrows(TaskNotFoundException.class,
+                () -> roomService.applyOperations(roomId, batch, designer.getId(), null));
+        assertThat(exception.getMessage()).isEqualTo("Task is not found with taskId: 9");
+        assertThat(room1.getChecklist()).hasSize(2);
+        verify(roomRepository, never()).flush();
+
+    }
 
+    // The summary the repository selects for a room
+    private RoomSummaryDTO summary(Room room) {
+        return new RoomSummaryDTO(room.getId(), room.getProject().getProjectName(), room.getType(), room.getLength(),
+                room.getHeight(), room.getWidth(), room.getUnit(), (long) room.getChecklist().size(),
+                room.getInventory().size());
     }
 
     // Reset all mock objects
@@ -0,0 +1,162 @@
+package com.interiordesignplanner.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.interiordesignplanner.authentication.Roles;
+import com.interiordesignplanner.authentication.User;
+import com.interiordesignplanner.authentication.UserRepository;
+import com.interiordesignplanner.designer.DesignerRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link ApplicationUserDetailsService}.
+ *
+ * <p>
+ * Verifies users and unknown usernames are cached and evicted.
+ * <p>
+ * The tests use mocked repository behavior.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName(value = "Application User Details Service Test Suite")
+public class ApplicationUserDetailsServiceTest {
+
+    // Mock user repository
+    @Mock
+    private UserRepository userRepository;
+
+    // Mock designer repository
+    @Mock
+    private DesignerRepository designerRepository;
+
+    private ApplicationUserDetailsService applicationUserDetailsService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        applicationUserDetailsService = new ApplicationUserDetailsService(userRepository, designerRepository, meterRegistry);
+
+        // Mocked env variables - cache size and ttl
+        ReflectionTestUtils.setField(applicationUserDetailsService, "cacheSize", 100L);
+        ReflectionTestUtils.setField(applicationUserDetailsService, "ttl", 300000L);
+        ReflectionTestUtils.setField(applicationUserDetailsService, "notFoundTtl", 10000L);
+        applicationUserDetailsService.init();
+
+        // Mocked new user
+        user = new User();
+        user.setId(5L);
+        user.setUsername("jessica79");
+        user.setRoles(Roles.DESIGNER);
+
+    }
+
+    /**
+     * Tests a loaded user is cached
+     */
+    @Test
+    @DisplayName("LoadUserByUsername: Returns cached User")
+    public void testLoadUserByUsername_ReturnsCachedUser() {
+
+        // Arrange: Mock existing user and their designer id
+        when(userRepository.findByUsername("jessica79")).thenReturn(Optional.of(user));
+        when(designerRepository.findIdByUserId(5L)).thenReturn(Optional.of(2L));
+
+        // Act: Loading the same user twice
+        ApplicationUserDetails first = applicationUserDetailsService.loadUserByUsername("jessica79");
+        ApplicationUserDetails second = applicationUserDetailsService.loadUserByUsername("jessica79");
+
+        // Assert: Verifies the database is only queried once and a hit is recorded
+        assertSame(first, second);
+        assertThat(first.getDesignerId()).isEqualTo(2L);
+        verify(userRepository, times(1)).findByUsername("jessica79");
+        verify(designerRepository, times(1)).findIdByUserId(5L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+
+    }
+
+    /**
+     * Tests an unknown username is cached
+     */
+    @Test
+    @DisplayName("LoadUserByUsername: Caches User not found")
+    public void testLoadUserByUsername_CachesUserNotFound() {
+
+        // Arrange: Mock unknown user
+        when(userRepository.findByUsername("unknown")).thenReturn(Optional.empty());
+
+        // Act & Assert: Both lookups throw but only the first reaches the database
+        assertThrows(UsernameNotFoundException.class,
+                () -> applicationUserDetailsService.loadUserByUsername("unknown"));
+        assertThrows(UsernameNotFoundException.class,
+                () -> applicationUserDetailsService.loadUserByUsername("unknown"));
+        verify(userRepository, times(1)).findByUsername("unknown");
+
+    }
+
+    /**
+     * Tests an evicted user is loaded again
+     */
+    @Test
+    @DisplayName("Evict: Reloads User")
+    public void testEvict_ReloadsUser() {
+
+        // Arrange: Mock existing user and cache it
+        when(userRepository.findByUsername("jessica79")).thenReturn(Optional.of(user));
+        applicationUserDetailsService.loadUserByUsername("jessica79");
+
+        // Act: Changing the role and evicting the user
+        user.setRoles(Roles.ADMIN);
+        applicationUserDetailsService.evict("jessica79");
+        ApplicationUserDetails reloaded = applicationUserDetailsService.loadUserByUsername("jessica79");
+
+        // Assert: Verifies the user is queried again
+        verify(userRepository, times(2)).findByUsername("jessica79");
+        assertThat(reloaded.getRoles()).isEqualTo(Roles.ADMIN);
+
+    }
+
+    /**
+     * Tests a re-encoded password is stored
+     */
+    @Test
+    @DisplayName("UpdatePassword: Saves new hash")
+    public void testUpdatePassword_SavesNewHash() {
+
+        // Arrange: Mock existing user with an old hash
+        user.setPassword("$2a$12$old");
+        when(userRepository.findByUsername("jessica79")).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+
+        // Act: Storing the re-encoded password
+        ApplicationUserDetails updated = applicationUserDetailsService
+                .updatePassword(new ApplicationUserDetails(user), "$2a$10$new");
+
+        // Assert: Verifies the new hash is saved
+        assertThat(updated.getPassword()).isEqualTo("$2a$10$new");
+        verify(userRepository, times(1)).save(user);
+
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.interiordesignplanner.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.interiordesignplanner.exceptions.ServiceBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link BoundedPasswordEncoder}.
+ *
+ * <p>
+ * Verifies hashing is delegated to the pool and rejected
+ * once the pool and its queue are full.
+ */
+@DisplayName(value = "Bounded Password Encoder Test Suite")
+public class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    public void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    /**
+     * Tests hashing is delegated and timed
+     */
+    @Test
+    @DisplayName("Matches: Delegates to encoder")
+    @SuppressWarnings("deprecation")
+    public void testMatches_DelegatesToEncoder() {
+
+        // Arrange: Pool with a plain text encoder
+        passwordEncoder = new BoundedPasswordEncoder(NoOpPasswordEncoder.getInstance(), 1, 1, 1, meterRegistry);
+
+        // Act: Encoding and matching a password
+        String encoded = passwordEncoder.encode("huwa71egyw");
+
+        // Assert: Verifies the delegate result and the hash latency metric
+        assertTrue(passwordEncoder.matches("huwa71egyw", encoded));
+        assertFalse(passwordEncoder.matches("wgdsuygdqw93", encoded));
+        assertThat(meterRegistry.get("password.encoder.hash").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+
+    }
+
+    /**
+     * Tests a saturated pool rejects hashing
+     */
+    @Test
+    @DisplayName("Encode: Saturated pool ReturnsException")
+    public void testEncode_SaturatedPool_ReturnsException() throws Exception {
+
+        // Arrange: One thread blocked on a slow hash and one queued hash
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slowEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        passwordEncoder = new BoundedPasswordEncoder(slowEncoder, 1, 1, 3, meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("first"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("second"));
+        while (meterRegistry.get("executor.queued").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Act: A third hash while the pool is full
+        ServiceBusyException exception = assertThrows(ServiceBusyException.class,
+                () -> passwordEncoder.encode("third"));
+        release.countDown();
+
+        // Assert: Verifies it was rejected with a retry time and the others finish
+        assertThat(exception.getRetryAfterSeconds()).isEqualTo(3);
+        assertThat(meterRegistry.get("password.encoder.rejected").counter().count()).isEqualTo(1);
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.interiordesignplanner.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Unit tests for {@link CalibratedPasswordEncoder}.
+ *
+ * <p>
+ * Verifies the cost calibration and that hashes with a different
+ * cost are re-encoded.
+ */
+@DisplayName(value = "Calibrated Password Encoder Test Suite")
+public class CalibratedPasswordEncoderTest {
+
+    /**
+     * Tests hashes with a different cost are re-encoded
+     */
+    @Test
+    @DisplayName("UpgradeEncoding: Different cost ReturnsTrue")
+    public void testUpgradeEncoding_DifferentCost_ReturnsTrue() {
+
+        // Arrange: Target cost of 5 and hashes with lower, equal and higher costs
+        CalibratedPasswordEncoder passwordEncoder = new CalibratedPasswordEncoder(5);
+        String lower = new BCryptPasswordEncoder(4).encode("huwa71egyw");
+        String equal = passwordEncoder.encode("huwa71egyw");
+        String higher = new BCryptPasswordEncoder(6).encode("huwa71egyw");
+
+        // Act & Assert: Upgrades and downgrades, and every hash still matches
+        assertTrue(passwordEncoder.upgradeEncoding(lower));
+        assertFalse(passwordEncoder.upgradeEncoding(equal));
+        assertTrue(passwordEncoder.upgradeEncoding(higher));
+        assertTrue(passwordEncoder.matches("huwa71egyw", higher));
+
+    }
+
+    /**
+     * Tests the calibration stays within its bounds
+     */
+    @Test
+    @DisplayName("Calibrate: Returns cost within bounds")
+    public void testCalibrate_ReturnsCostWithinBounds() {
+
+        // Act: Calibrating with a generous and an impossible budget
+        int generous = CalibratedPasswordEncoder.calibrate(10000, 4, 5);
+        int impossible = CalibratedPasswordEncoder.calibrate(-1, 4, 5);
+
+        // Assert: Verifies the highest cost or the minimum is picked
+        assertThat(generous).isEqualTo(5);
+        assertThat(impossible).isEqualTo(4);
+
+    }
+
+}
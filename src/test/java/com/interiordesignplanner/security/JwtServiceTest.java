@@ -3,6 +3,7 @@ package com.interiordesignplanner.security;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -10,13 +11,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.interiordesignplanner.authentication.Roles;
 import com.interiordesignplanner.authentication.User;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Unit tests for {@link JwtService}.
  *
@@ -29,8 +31,7 @@ import com.interiordesignplanner.authentication.User;
 @DisplayName(value = "Jwt Service Test Suite")
 public class JwtServiceTest {
 
-    // Mock jwt service
-    @InjectMocks
+    // Jwt service under test
     private JwtService jwtService;
 
     // Mock user details
@@ -41,10 +42,15 @@ public class JwtServiceTest {
     @BeforeEach
     public void setUp() {
 
+        jwtService = new JwtService(new SimpleMeterRegistry());
+
         // Mocked env variables - secret and expiration
         ReflectionTestUtils.setField(jwtService, "secretKey",
                 "1829964f4474365ddff9271dfa7652c37aef848c96f11c12701f2d4077f3dc50");
-        ReflectionTestUtils.setField(jwtService, "expiration", 3600000L);
+        ReflectionTestUtils.setField(jwtService, "expiration", 900000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 1209600000L);
+        ReflectionTestUtils.setField(jwtService, "cacheSize", 16);
+        jwtService.init();
 
         // Mocked new user
         user = new User();
@@ -155,6 +161,110 @@ public class JwtServiceTest {
 
     }
 
+    /**
+     * Tests a verified token is reused
+     */
+    @Test
+    @DisplayName("ParseToken: Returns cached Token")
+    public void testParseToken_ReturnsCachedToken() {
+
+        // Arrange: Generating new token
+        String token = jwtService.generateJwtToken(applicationUserDetails);
+
+        // Act: Parsing the same token twice
+        JwtToken first = jwtService.parseToken(token);
+        JwtToken second = jwtService.parseToken(token);
+
+        // Assert: Verifies that the claims are read and the second parse is cached
+        assertThat(first.username()).isEqualTo(user.getUsername());
+        assertThat(first.expiration()).isAfter(first.issuedAt());
+        assertSame(first, second);
+
+    }
+
+    /**
+     * Tests the role and ids are signed into the token
+     */
+    @Test
+    @DisplayName("ParseToken: Returns authority claims")
+    public void testParseToken_ReturnsAuthorityClaims() {
+
+        // Arrange: Generating new token for a designer
+        user.setId(4L);
+        user.setTokenVersion(2);
+        String token = jwtService.generateJwtToken(new ApplicationUserDetails(user, 7L));
+
+        // Act: Parsing the token
+        JwtToken jwtToken = jwtService.parseToken(token);
+
+        // Assert: Verifies the claims rebuild the same user details
+        assertTrue(jwtToken.hasAuthorityClaims());
+        ApplicationUserDetails fromToken = ApplicationUserDetails.fromToken(jwtToken);
+        assertThat(fromToken.getUsername()).isEqualTo("jessica79");
+        assertThat(fromToken.getUserId()).isEqualTo(4L);
+        assertThat(fromToken.getDesignerId()).isEqualTo(7L);
+        assertThat(fromToken.getTokenVersion()).isEqualTo(2);
+        assertThat(fromToken.getAuthorities()).extracting("authority").containsExactly("ROLE_DESIGNER");
+
+    }
+
+    /**
+     * Tests a revoked token is invalid
+     */
+    @Test
+    @DisplayName("IsTokenValid: Revoked Token ReturnsFalse")
+    public void testIsTokenValid_RevokedToken_ReturnsFalse() {
+
+        // Arrange: Generating a token, then incrementing the user's version
+        String token = jwtService.generateJwtToken(applicationUserDetails);
+        user.setTokenVersion(1);
+
+        // Act & Assert: The old token no longer matches the user
+        assertFalse(jwtService.isTokenValid(token, applicationUserDetails));
+
+    }
+
+    /**
+     * Tests a token with a reused signature
+     */
+    @Test
+    @DisplayName("ParseToken: Tampered Token ReturnsException")
+    public void testParseToken_TamperedToken_ReturnsException() {
+
+        // Arrange: Caching a valid token and swapping its payload
+        String token = jwtService.generateJwtToken(applicationUserDetails);
+        jwtService.parseToken(token);
+
+        user2 = new User();
+        user2.setUsername("sam620");
+        user2.setRoles(Roles.ADMIN);
+        String otherToken = jwtService.generateJwtToken(new ApplicationUserDetails(user2));
+
+        String[] parts = token.split("\\.");
+        String[] otherParts = otherToken.split("\\.");
+        String tampered = parts[0] + "." + otherParts[1] + "." + parts[2];
+
+        // Act & Assert: The cached signature is not trusted for a different payload
+        assertThrows(Exception.class, () -> jwtService.parseToken(tampered));
+
+    }
+
+    /**
+     * Tests an access token lifetime that is not shorter than the refresh
+     * token's fails startup
+     */
+    @Test
+    @DisplayName("Init: Long access token lifetime ReturnsException")
+    public void testInit_AccessNotShorterThanRefresh_ReturnsException() {
+
+        // Arrange: Access tokens living as long as refresh tokens
+        ReflectionTestUtils.setField(jwtService, "expiration", 1209600000L);
+
+        // Act & Assert: Verifies startup is refused
+        assertThrows(IllegalStateException.class, () -> jwtService.init());
+
+    }
+
     /**
      * Tests invalid token
      */
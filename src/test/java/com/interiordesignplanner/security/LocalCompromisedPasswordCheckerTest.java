@@ -0,0 +1,169 @@
+package com.interiordesignplanner.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for {@link LocalCompromisedPasswordChecker}.
+ *
+ * <p>
+ * Verifies passwords are checked against a local breach corpus
+ * and the corpus is reloaded when the file changes.
+ */
+@DisplayName(value = "Local Compromised Password Checker Test Suite")
+public class LocalCompromisedPasswordCheckerTest {
+
+    // SHA-1 of "password" and "letmein"
+    private static final String PASSWORD_HASH = "5BAA61E4C9B93F3F0682250B6CF8331B7EE68FD8:9545824";
+    private static final String LETMEIN_HASH = "B7A875FC1EA228B9061041B7CEC4BD3C52AB3CE3:3";
+
+    @TempDir
+    private Path directory;
+
+    private Path corpus;
+
+    private LocalCompromisedPasswordChecker checker;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+
+        // Breach corpus file with a single hash
+        corpus = directory.resolve("breached-passwords.txt");
+        Files.writeString(corpus, PASSWORD_HASH + "\n");
+
+        checker = new LocalCompromisedPasswordChecker();
+        ReflectionTestUtils.setField(checker, "file", new FileSystemResource(corpus));
+        ReflectionTestUtils.setField(checker, "minCount", 1);
+
+    }
+
+    /**
+     * Tests a breached password is compromised
+     */
+    @Test
+    @DisplayName("Check: Returns compromised")
+    public void testCheck_ReturnsCompromised() throws IOException {
+
+        // Arrange: Loading the corpus
+        checker.init();
+
+        // Act & Assert: Only the breached password is compromised
+        assertTrue(checker.check("password").isCompromised());
+        assertFalse(checker.check("huwa71egyw").isCompromised());
+
+    }
+
+    /**
+     * Tests a changed corpus is reloaded
+     */
+    @Test
+    @DisplayName("Refresh: Reloads changed file")
+    public void testRefresh_ReloadsChangedFile() throws IOException {
+
+        // Arrange: Loading the corpus, then adding a hash to the file
+        checker.init();
+        Files.writeString(corpus, PASSWORD_HASH + "\n" + LETMEIN_HASH + "\n");
+        Files.setLastModifiedTime(corpus, FileTime.fromMillis(System.currentTimeMillis() + 60000));
+
+        // Act: Refreshing in the background
+        checker.refresh();
+
+        // Assert: Verifies the new hash is loaded
+        assertThat(checker.size()).isEqualTo(2);
+        assertTrue(checker.check("letmein").isCompromised());
+
+    }
+
+    /**
+     * Tests malformed lines are skipped and counted
+     */
+    @Test
+    @DisplayName("Init: Skips malformed lines")
+    public void testInit_SkipsMalformedLines() throws IOException {
+
+        // Arrange: Corpus with a hash that is not hex and a count that is not a number
+        Files.writeString(corpus, "ZZZZZZZZZZZZZZZZZZZZZZZZZZZZZZZZZZZZZZZZ:3\n" + PASSWORD_HASH + "\n"
+                + LETMEIN_HASH.substring(0, 40) + ":many\n");
+        ReflectionTestUtils.setField(checker, "minCount", 2);
+
+        // Act: Loading the corpus
+        checker.init();
+
+        // Assert: Verifies the valid hash is loaded and both bad lines counted
+        assertThat(checker.size()).isEqualTo(1);
+        assertThat(checker.skipped()).isEqualTo(2);
+        assertTrue(checker.check("password").isCompromised());
+
+    }
+
+    /**
+     * Tests a refresh that reads no hashes keeps the loaded corpus
+     */
+    @Test
+    @DisplayName("Refresh: Keeps corpus when the file has no hashes")
+    public void testRefresh_EmptyFile_KeepsCorpus() throws IOException {
+
+        // Arrange: Loading the corpus, then emptying the file
+        checker.init();
+        Files.writeString(corpus, "");
+        Files.setLastModifiedTime(corpus, FileTime.fromMillis(System.currentTimeMillis() + 60000));
+
+        // Act: Refreshing in the background
+        checker.refresh();
+
+        // Assert: Verifies the previous hash is still loaded
+        assertThat(checker.size()).isEqualTo(1);
+        assertTrue(checker.check("password").isCompromised());
+
+    }
+
+    /**
+     * Tests rarely breached passwords are skipped
+     */
+    @Test
+    @DisplayName("Init: Skips hashes below minimum count")
+    public void testInit_SkipsHashesBelowMinCount() throws IOException {
+
+        // Arrange: Corpus with a rarely breached password
+        Files.writeString(corpus, PASSWORD_HASH + "\n" + LETMEIN_HASH + "\n");
+        ReflectionTestUtils.setField(checker, "minCount", 10);
+
+        // Act: Loading the corpus
+        checker.init();
+
+        // Assert: Verifies only the common password is loaded
+        assertThat(checker.size()).isEqualTo(1);
+        assertFalse(checker.check("letmein").isCompromised());
+
+    }
+
+    /**
+     * Tests a missing corpus fails startup
+     */
+    @Test
+    @DisplayName("Init: Missing file ReturnsException")
+    public void testInit_MissingFile_ReturnsException() {
+
+        // Arrange: Pointing at a file that does not exist
+        ReflectionTestUtils.setField(checker, "file", new FileSystemResource(directory.resolve("missing.txt")));
+
+        // Act & Assert: The checker does not start
+        assertThrows(IllegalStateException.class, () -> checker.init());
+
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.interiordesignplanner.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LongLongHashMap}.
+ *
+ * <p>
+ * Verifies entries are stored, replaced and removed, and that the map
+ * matches a {@link HashMap} after a random mix of changes.
+ */
+@DisplayName(value = "Long Long Hash Map Test Suite")
+public class LongLongHashMapTest {
+
+    /**
+     * Tests entries are stored and replaced
+     */
+    @Test
+    @DisplayName("Put: Stores and replaces values")
+    public void testPut_StoresAndReplaces() {
+
+        // Arrange: Small map that has to grow
+        LongLongHashMap map = new LongLongHashMap(4);
+
+        // Act: Adding 1000 rooms and moving one to another designer
+        for (long roomId = 1; roomId <= 1000; roomId++) {
+            map.put(roomId, roomId % 7 + 1);
+        }
+        long previous = map.put(500L, 99L);
+
+        // Assert: Verifies every entry is found and the size is unchanged
+        assertThat(map.size()).isEqualTo(1000);
+        assertThat(previous).isEqualTo(500 % 7 + 1);
+        assertThat(map.get(500L)).isEqualTo(99L);
+        assertThat(map.get(1L)).isEqualTo(2L);
+        assertThat(map.get(1001L)).isEqualTo(LongLongHashMap.NO_VALUE);
+        assertThat(map.memoryBytes()).isEqualTo(16L * map.capacity());
+
+    }
+
+    /**
+     * Tests the map matches a HashMap after random changes
+     */
+    @Test
+    @DisplayName("Remove: Keeps other entries reachable")
+    public void testRemove_KeepsOtherEntries() {
+
+        // Arrange: Map and reference map with random puts and removes
+        LongLongHashMap map = new LongLongHashMap();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // Act: Changing a small key range so probe runs overlap
+        for (int i = 0; i < 100000; i++) {
+            long key = random.nextInt(5000) + 1;
+            if (random.nextBoolean()) {
+                long value = random.nextInt(100) + 1;
+                map.put(key, value);
+                expected.put(key, value);
+            } else {
+                map.remove(key);
+                expected.remove(key);
+            }
+        }
+
+        // Assert: Verifies every key has the same value
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 5000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, LongLongHashMap.NO_VALUE));
+        }
+
+    }
+
+    /**
+     * Tests keys and values must be positive
+     */
+    @Test
+    @DisplayName("Put: Rejects empty marker")
+    public void testPut_RejectsZero() {
+
+        LongLongHashMap map = new LongLongHashMap();
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, 1L));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1L, 0L));
+
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.interiordesignplanner.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.interiordesignplanner.client.ClientRepository;
+import com.interiordesignplanner.project.ProjectRepository;
+import com.interiordesignplanner.room.RoomRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link OwnershipIndex}.
+ *
+ * <p>
+ * Verifies owners are served from memory after loading, unknown ids fall
+ * back to the database and the verifier repairs differences.
+ * <p>
+ * The tests use mocked repository behavior.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName(value = "Ownership Index Test Suite")
+public class OwnershipIndexTest {
+
+    // Mock client repository
+    @Mock
+    private ClientRepository clientRepository;
+
+    // Mock project repository
+    @Mock
+    private ProjectRepository projectRepository;
+
+    // Mock room repository
+    @Mock
+    private RoomRepository roomRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OwnershipIndex ownershipIndex;
+
+    @BeforeEach
+    public void setUp() {
+
+        meterRegistry = new SimpleMeterRegistry();
+        ownershipIndex = new OwnershipIndex(clientRepository, projectRepository, roomRepository, meterRegistry);
+
+        // Two rooms owned by designer 1, no clients or projects
+        when(clientRepository.streamOwners()).thenReturn(Stream.empty());
+        when(projectRepository.streamOwners()).thenReturn(Stream.empty());
+        when(roomRepository.streamOwners())
+                .thenReturn(Stream.of(new ResourceOwner(1L, 1L), new ResourceOwner(2L, 1L)));
+        ownershipIndex.load();
+
+    }
+
+    /**
+     * Tests a loaded room is found without a query
+     */
+    @Test
+    @DisplayName("RoomOwner: Loaded room skips database")
+    public void testRoomOwner_Loaded_SkipsDatabase() {
+
+        // Act: Finding the owner of a loaded room
+        long owner = ownershipIndex.roomOwner(2L);
+
+        // Assert: Verifies the owner and the size metric
+        assertThat(owner).isEqualTo(1L);
+        verify(roomRepository, never()).findDesignerIdById(2L);
+        assertThat(meterRegistry.get("ownership.index.size").tag("resource", "room").gauge().value())
+                .isEqualTo(2);
+
+    }
+
+    /**
+     * Tests an unknown room is read from the database once
+     */
+    @Test
+    @DisplayName("RoomOwner: New room is indexed")
+    public void testRoomOwner_NewRoom_Indexed() {
+
+        // Arrange: Room created on another instance
+        when(roomRepository.findDesignerIdById(3L)).thenReturn(Optional.of(4L));
+
+        // Act: Finding the owner twice
+        ownershipIndex.roomOwner(3L);
+        long owner = ownershipIndex.roomOwner(3L);
+
+        // Assert: Verifies the database is only queried once
+        assertThat(owner).isEqualTo(4L);
+        verify(roomRepository, times(1)).findDesignerIdById(3L);
+
+    }
+
+    /**
+     * Tests a room read in a transaction that rolls back is not indexed
+     */
+    @Test
+    @DisplayName("RoomOwner: Rolled back room is not indexed")
+    public void testRoomOwner_RolledBack_NotIndexed() {
+
+        // Arrange: Room seen by a transaction that is then rolled back
+        when(roomRepository.findDesignerIdById(3L)).thenReturn(Optional.of(4L));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ownershipIndex.roomOwner(3L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Act: Finding the owner again outside the transaction
+        long owner = ownershipIndex.roomOwner(3L);
+
+        // Assert: Verifies the room was read from the database again
+        assertThat(owner).isEqualTo(4L);
+        verify(roomRepository, times(2)).findDesignerIdById(3L);
+
+    }
+
+    /**
+     * Tests the verifier repairs a stale and a removed room
+     */
+    @Test
+    @DisplayName("Verify: Repairs differences")
+    public void testVerify_RepairsDifferences() {
+
+        // Arrange: Room 1 moved to designer 2 and room 2 removed without an update
+        when(clientRepository.streamOwners()).thenReturn(Stream.empty());
+        when(projectRepository.streamOwners()).thenReturn(Stream.empty());
+        when(roomRepository.streamOwners()).thenReturn(Stream.of(new ResourceOwner(1L, 2L)));
+        when(roomRepository.findDesignerIdById(1L)).thenReturn(Optional.of(2L));
+        when(roomRepository.findDesignerIdById(2L)).thenReturn(Optional.empty());
+
+        // Act: Verifying the index
+        int mismatches = ownershipIndex.verify();
+
+        // Assert: Verifies both rooms are repaired and counted
+        assertThat(mismatches).isEqualTo(2);
+        assertThat(ownershipIndex.roomOwner(1L)).isEqualTo(2L);
+        assertThat(meterRegistry.get("ownership.index.mismatches").tag("resource", "room").counter().count())
+                .isEqualTo(2);
+
+    }
+
+}
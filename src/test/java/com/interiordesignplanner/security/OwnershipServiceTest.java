@@ -0,0 +1,92 @@
+package com.interiordesignplanner.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import com.interiordesignplanner.exceptions.ProjectNotFoundException;
+
+/**
+ * Unit tests for {@link OwnershipService}.
+ *
+ * <p>
+ * Verifies the owning designer is compared with the logged in designer
+ * and that unknown resources are still reported as not found.
+ * <p>
+ * The tests use mocked index behavior.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName(value = "Ownership Service Test Suite")
+public class OwnershipServiceTest {
+
+    // Mock ownership index
+    @Mock
+    private OwnershipIndex ownershipIndex;
+
+    private OwnershipService ownershipService;
+
+    @BeforeEach
+    public void setUp() {
+        ownershipService = new OwnershipService(ownershipIndex);
+    }
+
+    /**
+     * Tests the owner passes the check
+     */
+    @Test
+    @DisplayName("CheckRoom: Owner is authorized")
+    public void testCheckRoom_Owner_Authorized() {
+
+        // Arrange: Room owned by designer 1000, outside the Long cache
+        when(ownershipIndex.roomOwner(1L)).thenReturn(1000L);
+
+        // Act & Assert: Verifies the ids are compared by value
+        assertDoesNotThrow(() -> ownershipService.checkRoom(1L, Long.valueOf(1000L)));
+
+    }
+
+    /**
+     * Tests another designer is denied
+     */
+    @Test
+    @DisplayName("CheckClient: Other designer is denied")
+    public void testCheckClient_OtherDesigner_Denied() {
+
+        // Arrange: Client belonging to another designer
+        when(ownershipIndex.clientOwner(1L)).thenReturn(2L);
+
+        // Act & Assert: Verifies access is denied, also for a user without a designer
+        assertThrows(AccessDeniedException.class, () -> ownershipService.checkClient(1L, 1L));
+        assertThrows(AccessDeniedException.class, () -> ownershipService.checkClient(1L, null));
+
+    }
+
+    /**
+     * Tests an unknown resource is not found
+     */
+    @Test
+    @DisplayName("CheckProject: Unknown project is not found")
+    public void testCheckProject_Unknown_NotFound() {
+
+        // Arrange: No project with the id
+        when(ownershipIndex.projectOwner(9L)).thenReturn(LongLongHashMap.NO_VALUE);
+
+        // Act: Checking the unknown project
+        ProjectNotFoundException exception = assertThrows(ProjectNotFoundException.class,
+                () -> ownershipService.checkProject(9L, 1L));
+
+        // Assert: Verifies the message matches the not found message
+        assertThat(exception.getMessage()).isEqualTo("Project is not found with projectId: 9");
+
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.interiordesignplanner.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link RateLimiter}.
+ *
+ * <p>
+ * Verifies each key has its own bucket, requests over the capacity
+ * are rejected and refilled buckets are evicted.
+ */
+@DisplayName(value = "Rate Limiter Test Suite")
+public class RateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    /**
+     * Tests requests over the capacity are rejected
+     */
+    @Test
+    @DisplayName("TryAcquire: Over capacity ReturnsWait")
+    public void testTryAcquire_OverCapacity_ReturnsWait() {
+
+        // Arrange: Three requests per minute
+        RateLimiter rateLimiter = new RateLimiter("ip", 3, 60000, meterRegistry);
+
+        // Act: Four requests from one IP and one from another
+        long first = rateLimiter.tryAcquire("10.0.0.1");
+        rateLimiter.tryAcquire("10.0.0.1");
+        rateLimiter.tryAcquire("10.0.0.1");
+        long fourth = rateLimiter.tryAcquire("10.0.0.1");
+        long otherKey = rateLimiter.tryAcquire("10.0.0.2");
+
+        // Assert: Only the fourth request waits, for up to one refill period
+        assertThat(first).isZero();
+        assertThat(fourth).isPositive().isLessThanOrEqualTo(60_000_000_000L);
+        assertThat(otherKey).isZero();
+        assertThat(meterRegistry.get("rate.limit.rejected").tag("limiter", "ip").counter().count())
+                .isEqualTo(1);
+
+    }
+
+    /**
+     * Tests peeking does not take a token and a reset refills the bucket
+     */
+    @Test
+    @DisplayName("Peek: Checks without taking, Reset refills")
+    public void testPeekAndReset() {
+
+        // Arrange: Two failed logins per minute
+        RateLimiter rateLimiter = new RateLimiter("username", 2, 60000, meterRegistry);
+
+        // Act & Assert: Peeking leaves the tokens, two acquires empty the bucket
+        assertThat(rateLimiter.peek("samx823@10.0.0.1")).isZero();
+        assertThat(rateLimiter.size()).isZero();
+        rateLimiter.tryAcquire("samx823@10.0.0.1");
+        rateLimiter.tryAcquire("samx823@10.0.0.1");
+        assertThat(rateLimiter.peek("samx823@10.0.0.1")).isPositive();
+        assertThat(rateLimiter.peek("samx823@10.0.0.2")).isZero();
+
+        // Act & Assert: A reset refills the bucket
+        rateLimiter.reset("samx823@10.0.0.1");
+        assertThat(rateLimiter.peek("samx823@10.0.0.1")).isZero();
+
+    }
+
+    /**
+     * Tests refilled buckets are evicted
+     */
+    @Test
+    @DisplayName("EvictIdle: Removes refilled buckets")
+    public void testEvictIdle_RemovesRefilledBuckets() throws InterruptedException {
+
+        // Arrange: Bucket refilling in 1 millisecond and one refilling in a minute
+        RateLimiter fast = new RateLimiter("fast", 1, 1, meterRegistry);
+        RateLimiter slow = new RateLimiter("slow", 1, 60000, meterRegistry);
+        fast.tryAcquire("samx823");
+        slow.tryAcquire("samx823");
+        Thread.sleep(5);
+
+        // Act: Evicting idle buckets
+        fast.evictIdle();
+        slow.evictIdle();
+
+        // Assert: Verifies only the refilled bucket is removed
+        assertThat(fast.size()).isZero();
+        assertThat(slow.size()).isEqualTo(1);
+
+    }
+
+    /**
+     * Tests the wait is rounded up to whole seconds
+     */
+    @Test
+    @DisplayName("RetryAfterSeconds: Rounds up")
+    public void testRetryAfterSeconds_RoundsUp() {
+
+        assertThat(RateLimiter.retryAfterSeconds(1L)).isEqualTo(1);
+        assertThat(RateLimiter.retryAfterSeconds(1_000_000_000L)).isEqualTo(1);
+        assertThat(RateLimiter.retryAfterSeconds(1_000_000_001L)).isEqualTo(2);
+
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.interiordesignplanner.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for {@link TokenDenylist} and {@link BloomFilter}.
+ *
+ * <p>
+ * Verifies revoked tokens are rejected and that the database is only
+ * queried on a probable hit.
+ * <p>
+ * The tests use mocked repository behavior.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName(value = "Token Denylist Test Suite")
+public class TokenDenylistTest {
+
+    // Mock revoked token repository
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenDenylist tokenDenylist;
+
+    @BeforeEach
+    public void setUp() {
+
+        tokenDenylist = new TokenDenylist(revokedTokenRepository);
+        ReflectionTestUtils.setField(tokenDenylist, "falsePositiveRate", 0.001);
+
+    }
+
+    /**
+     * Tests an unknown token is accepted without a query
+     */
+    @Test
+    @DisplayName("IsRevoked: Unknown token skips database")
+    public void testIsRevoked_UnknownToken_SkipsDatabase() {
+
+        // Arrange: Table with one revoked token
+        when(revokedTokenRepository.findUnexpiredJtis(any())).thenReturn(List.of("revoked-jti"));
+        tokenDenylist.init();
+
+        // Act & Assert: Only the revoked token reaches the table
+        assertFalse(tokenDenylist.isRevoked("valid-jti"));
+        verify(revokedTokenRepository, never()).existsByJti(anyString());
+
+        when(revokedTokenRepository.existsByJti("revoked-jti")).thenReturn(true);
+        assertTrue(tokenDenylist.isRevoked("revoked-jti"));
+
+    }
+
+    /**
+     * Tests a token revoked on this instance is rejected before the next rebuild
+     */
+    @Test
+    @DisplayName("Revoke: Rejects token")
+    public void testRevoke_RejectsToken() {
+
+        // Arrange: Empty table
+        when(revokedTokenRepository.findUnexpiredJtis(any())).thenReturn(List.of());
+        tokenDenylist.init();
+
+        // Act: Revoking a token
+        tokenDenylist.revoke("logout-jti", Instant.now().plusSeconds(900));
+
+        // Assert: Verifies the token is stored and rejected
+        verify(revokedTokenRepository, times(1)).save(any(RevokedToken.class));
+        assertTrue(tokenDenylist.isRevoked("logout-jti"));
+
+    }
+
+    /**
+     * Tests the Bloom filter false positive rate
+     */
+    @Test
+    @DisplayName("BloomFilter: Stays within false positive rate")
+    public void testBloomFilter_FalsePositiveRate() {
+
+        // Arrange: Filter sized for 10000 entries at 1%
+        BloomFilter bloomFilter = new BloomFilter(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            bloomFilter.put(UUID.randomUUID().toString());
+        }
+
+        // Act: Checking 10000 tokens that were never added
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (bloomFilter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // Assert: Verifies the rate is close to the configured one
+        assertThat(falsePositives).isLessThan(200);
+
+    }
+
+}